@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -231,6 +231,38 @@ public final class Atomics
         return new RemoteAtomicLong(map, sName);
         }
 
+    /**
+     * Return {@link RemoteLongAdder} instance for the specified name, with
+     * the {@link RemoteLongAdder#DEFAULT_STRIPES default} number of stripes.
+     *
+     * @param sName  the name of the adder
+     *
+     * @return a {@code RemoteLongAdder} instance for the specified name
+     */
+    public static RemoteLongAdder remoteLongAdder(String sName)
+        {
+        return remoteLongAdder(sName, RemoteLongAdder.DEFAULT_STRIPES);
+        }
+
+    /**
+     * Return {@link RemoteLongAdder} instance for the specified name and
+     * number of stripes.
+     * <p>
+     * The number of stripes will only be used if an adder with the specified
+     * name has not already been obtained by this process, and must be the same
+     * on all the members using the adder.
+     *
+     * @param sName     the name of the adder
+     * @param cStripes  the number of stripes
+     *
+     * @return a {@code RemoteLongAdder} instance for the specified name
+     */
+    public static RemoteLongAdder remoteLongAdder(String sName, int cStripes)
+        {
+        return REMOTE_ADDERS.computeIfAbsent(sName, name ->
+                new RemoteLongAdder(atomics().getMap("atomic-long-adder"), name, cStripes));
+        }
+
     /**
      * Return {@link LocalAtomicReference} instance for the specified name.
      *
@@ -566,6 +598,7 @@ public final class Atomics
         LOCAL_REFS.clear();
         LOCAL_MARKABLE_REFS.clear();
         LOCAL_STAMPED_REFS.clear();
+        REMOTE_ADDERS.clear();
         }
 
     // ----- constants ------------------------------------------------------
@@ -604,4 +637,10 @@ public final class Atomics
      * Map of {@link LocalAtomicStampedReference}s.
      */
     private static final Map<String, LocalAtomicStampedReference> LOCAL_STAMPED_REFS = new ConcurrentHashMap<>();
+
+    /**
+     * Map of {@link RemoteLongAdder}s, shared by all the threads of this
+     * process so that their updates can be combined.
+     */
+    private static final Map<String, RemoteLongAdder> REMOTE_ADDERS = new ConcurrentHashMap<>();
     }
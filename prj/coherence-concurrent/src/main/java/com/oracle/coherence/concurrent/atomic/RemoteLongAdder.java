@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.concurrent.atomic;
+
+import com.tangosol.net.NamedMap;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A distributed counter, similar to {@link LongAdder}, backed by a number of
+ * Coherence {@code NamedMap} entries (stripes) spread across partitions.
+ * <p>
+ * Unlike {@link RemoteAtomicLong}, whose every update is a network call to the
+ * single owner of the backing value, a {@code RemoteLongAdder} spreads the
+ * updates across its stripes, and combines the updates made concurrently by
+ * local threads to the same stripe into a single request. While a request for
+ * a stripe is in flight, further updates to that stripe are accumulated
+ * locally and sent as one request once the previous one completes. Each call
+ * to {@link #add(long)} returns once the request containing its update has
+ * completed.
+ * <p>
+ * The {@link #sum()} is computed from the values of the stripes read
+ * independently of each other, so it is only exact in the absence of
+ * concurrent updates. Each stripe is read and reset atomically by
+ * {@link #sumThenReset()}, so that every update is counted by exactly one of
+ * the calls to it.
+ * <p>
+ * {@code RemoteLongAdder} is appropriate for frequently updated counters
+ * that are read rarely, such as statistics; use {@link RemoteAtomicLong}
+ * when every update needs to observe the current value.
+ *
+ * @since 25.03
+ */
+public class RemoteLongAdder
+        extends Number
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct {@code RemoteLongAdder} instance.
+     *
+     * @param mapAdder  the map that holds the stripes of this adder
+     * @param sName     the name of this adder
+     * @param cStripes  the number of stripes
+     */
+    RemoteLongAdder(NamedMap<String, Long> mapAdder, String sName, int cStripes)
+        {
+        if (cStripes <= 0)
+            {
+            throw new IllegalArgumentException("Invalid number of stripes: " + cStripes);
+            }
+
+        Stripe[]    aStripe = new Stripe[cStripes];
+        Set<String> setKey  = new LinkedHashSet<>();
+        for (int i = 0; i < cStripes; i++)
+            {
+            String sKey = sName + '$' + i;
+
+            aStripe[i] = new Stripe(sKey);
+            setKey.add(sKey);
+            }
+
+        f_mapAdder = mapAdder;
+        f_sName    = sName;
+        f_aStripe  = aStripe;
+        f_setKey   = Collections.unmodifiableSet(setKey);
+        }
+
+    // ----- RemoteLongAdder methods ----------------------------------------
+
+    /**
+     * Adds the given value.
+     *
+     * @param lDelta  the value to add
+     */
+    public void add(long lDelta)
+        {
+        addAsync(lDelta).join();
+        }
+
+    /**
+     * Adds the given value asynchronously.
+     *
+     * @param lDelta  the value to add
+     *
+     * @return a {@link CompletableFuture} that completes once the value
+     *         has been added
+     */
+    public CompletableFuture<Void> addAsync(long lDelta)
+        {
+        Stripe[] aStripe = f_aStripe;
+
+        return aStripe[(int) (Thread.currentThread().getId() % aStripe.length)].add(lDelta);
+        }
+
+    /**
+     * Equivalent to {@code add(1)}.
+     */
+    public void increment()
+        {
+        add(1L);
+        }
+
+    /**
+     * Equivalent to {@code add(-1)}.
+     */
+    public void decrement()
+        {
+        add(-1L);
+        }
+
+    /**
+     * Returns the current sum. The returned value is <em>NOT</em> an atomic
+     * snapshot; invocation in the absence of concurrent updates returns an
+     * accurate result, but concurrent updates that occur while the sum is
+     * being calculated might not be incorporated.
+     *
+     * @return the sum
+     */
+    public long sum()
+        {
+        long lSum = 0L;
+        for (Long l : f_mapAdder.getAll(f_setKey).values())
+            {
+            if (l != null)
+                {
+                lSum += l;
+                }
+            }
+        return lSum;
+        }
+
+    /**
+     * Resets the stripes maintaining the sum to zero.
+     */
+    public void reset()
+        {
+        sumThenReset();
+        }
+
+    /**
+     * Equivalent in effect to {@link #sum} followed by {@link #reset}, except
+     * that each stripe is read and reset atomically, so that an update made
+     * concurrently is either included in the returned sum, or retained for
+     * the next one.
+     *
+     * @return the sum
+     */
+    public long sumThenReset()
+        {
+        Map<String, Long> mapSum = f_mapAdder.invokeAll(f_setKey, entry ->
+                {
+                Long l = entry.getValue();
+                if (l != null)
+                    {
+                    entry.remove(false);
+                    }
+                return l;
+                });
+
+        long lSum = 0L;
+        for (Long l : mapSum.values())
+            {
+            if (l != null)
+                {
+                lSum += l;
+                }
+            }
+        return lSum;
+        }
+
+    /**
+     * Return the name of this adder.
+     *
+     * @return the name of this adder
+     */
+    public String getName()
+        {
+        return f_sName;
+        }
+
+    /**
+     * Return the number of stripes of this adder.
+     *
+     * @return the number of stripes
+     */
+    public int getStripeCount()
+        {
+        return f_aStripe.length;
+        }
+
+    // ----- Number methods -------------------------------------------------
+
+    @Override
+    public int intValue()
+        {
+        return (int) sum();
+        }
+
+    @Override
+    public long longValue()
+        {
+        return sum();
+        }
+
+    @Override
+    public float floatValue()
+        {
+        return (float) sum();
+        }
+
+    @Override
+    public double doubleValue()
+        {
+        return (double) sum();
+        }
+
+    // ----- Object methods -------------------------------------------------
+
+    /**
+     * Returns the String representation of the {@link #sum}.
+     *
+     * @return the String representation of the {@link #sum}
+     */
+    @Override
+    public String toString()
+        {
+        return Long.toString(sum());
+        }
+
+    // ----- inner class: Stripe --------------------------------------------
+
+    /**
+     * A stripe of the adder, which combines the concurrent local updates to
+     * its backing entry, so that at most one request per stripe is in flight
+     * at any time.
+     */
+    protected class Stripe
+        {
+        /**
+         * Construct a {@code Stripe}.
+         *
+         * @param sKey  the key of the entry backing this stripe
+         */
+        protected Stripe(String sKey)
+            {
+            f_sKey = sKey;
+            }
+
+        /**
+         * Add the specified value to this stripe.
+         *
+         * @param lDelta  the value to add
+         *
+         * @return a {@link CompletableFuture} that completes once the value
+         *         has been added to the backing entry
+         */
+        protected CompletableFuture<Void> add(long lDelta)
+            {
+            CompletableFuture<Void> future;
+            boolean                 fSend;
+            synchronized (this)
+                {
+                future = m_futurePending;
+                if (future == null)
+                    {
+                    m_futurePending = future = new CompletableFuture<>();
+                    }
+                m_lPending += lDelta;
+
+                fSend = !m_fInFlight;
+                m_fInFlight = true;
+                }
+
+            if (fSend)
+                {
+                flush();
+                }
+            return future;
+            }
+
+        /**
+         * Send the pending updates to the backing entry, if any, and keep
+         * sending them as they accumulate until there are none.
+         */
+        protected void flush()
+            {
+            CompletableFuture<Void> future;
+            long                    lDelta;
+            synchronized (this)
+                {
+                future = m_futurePending;
+                lDelta = m_lPending;
+                if (future == null)
+                    {
+                    m_fInFlight = false;
+                    return;
+                    }
+                m_futurePending = null;
+                m_lPending      = 0L;
+                }
+
+            try
+                {
+                f_mapAdder.async().invoke(f_sKey, entry ->
+                        {
+                        Long l = entry.getValue();
+                        entry.setValue(l == null ? lDelta : l + lDelta);
+                        return null;
+                        })
+                    .whenComplete((r, e) ->
+                        {
+                        if (e == null)
+                            {
+                            future.complete(null);
+                            }
+                        else
+                            {
+                            future.completeExceptionally(e);
+                            }
+                        flush();
+                        });
+                }
+            catch (Throwable e)
+                {
+                future.completeExceptionally(e);
+                flush();
+                }
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The key of the entry backing this stripe.
+         */
+        private final String f_sKey;
+
+        /**
+         * The sum of the updates not yet sent.
+         */
+        private long m_lPending;
+
+        /**
+         * The future for the updates not yet sent, or {@code null} if there
+         * are none.
+         */
+        private CompletableFuture<Void> m_futurePending;
+
+        /**
+         * {@code true} while a request for this stripe is in flight.
+         */
+        private boolean m_fInFlight;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The default number of stripes.
+     */
+    public static final int DEFAULT_STRIPES = 16;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The map that holds the stripes of this adder.
+     */
+    private final NamedMap<String, Long> f_mapAdder;
+
+    /**
+     * The name of this adder.
+     */
+    private final String f_sName;
+
+    /**
+     * The stripes of this adder.
+     */
+    private final Stripe[] f_aStripe;
+
+    /**
+     * The keys of the entries backing the stripes.
+     */
+    private final Set<String> f_setKey;
+    }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -11,6 +11,8 @@ import com.oracle.coherence.concurrent.config.ConcurrentServicesSessionConfigura
 import com.oracle.coherence.concurrent.locks.internal.ExclusiveLockHolder;
 import com.oracle.coherence.concurrent.locks.internal.ReadWriteLockHolder;
 
+import com.tangosol.coherence.config.Config;
+
 import com.tangosol.net.Coherence;
 import com.tangosol.net.NamedMap;
 import com.tangosol.net.Session;
@@ -46,6 +48,10 @@ public class Locks
     /**
      * Return a singleton instance of a remote {@link RemoteLock}
      * with a specified name.
+     * <p>
+     * The lock is acquired with a lease if the {@value #PROPERTY_LEASE}
+     * system property is set to {@code true}, and all the members of the
+     * locks service support leases.
      *
      * @param sName  the cluster-wide, unique name of the lock
      *
@@ -53,7 +59,7 @@ public class Locks
      */
     public static RemoteLock remoteLock(String sName)
         {
-        return f_mapExclusive.computeIfAbsent(sName, n -> new RemoteLock(n, exclusiveLocksMap()));
+        return f_mapExclusive.computeIfAbsent(sName, n -> new RemoteLock(n, exclusiveLocksMap(), isLeaseEnabled()));
         }
 
     /**
@@ -84,6 +90,16 @@ public class Locks
 
     // ----- helper methods -------------------------------------------------
 
+    /**
+     * Return {@code true} if remote locks should be acquired with a lease.
+     *
+     * @return {@code true} if remote locks should be acquired with a lease
+     */
+    protected static boolean isLeaseEnabled()
+        {
+        return Config.getBoolean(PROPERTY_LEASE, false);
+        }
+
     /**
      * Return Coherence {@link Session} for the Locks module.
      *
@@ -123,6 +139,11 @@ public class Locks
      */
     public static final String SESSION_NAME = ConcurrentServicesSessionConfiguration.SESSION_NAME;
 
+    /**
+     * The system property that enables acquiring remote locks with a lease.
+     */
+    public static final String PROPERTY_LEASE = "coherence.concurrent.locks.lease";
+
     /**
      * A process-wide cache of named local locks.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -8,11 +8,14 @@ package com.oracle.coherence.concurrent.locks;
 
 import com.oracle.coherence.concurrent.locks.internal.ExclusiveLockHolder;
 
+import com.oracle.coherence.common.base.Logger;
+
 import com.tangosol.net.Member;
 import com.tangosol.net.NamedMap;
 
 import com.tangosol.util.MapEvent;
 import com.tangosol.util.Processors;
+import com.tangosol.util.UUID;
 
 import com.tangosol.util.listener.SimpleMapListener;
 
@@ -67,6 +70,15 @@ import java.util.concurrent.locks.ReentrantLock;
  * the same thread. Attempts to exceed this limit result in {@link Error} throws
  * from locking methods.
  *
+ * <p>If the lock is created with a <em>lease</em>, the member that acquires it
+ * keeps it after its last thread unlocks it, so that any of its threads can
+ * lock and unlock it again without a network call. The lease is revoked as
+ * soon as another member attempts to acquire the lock: the member holding it
+ * gives the lock up once none of its threads holds it, and from then on
+ * competes for the lock on the same terms as the other members until another
+ * member has acquired it. While a member holds a lease the lock is reported
+ * as locked, even if none of the member's threads holds it.
+ *
  * @author Aleks Seovic  2021.10.19
  * @since 21.12
  */
@@ -81,7 +93,19 @@ public class RemoteLock
      */
     RemoteLock(String sName, NamedMap<String, ExclusiveLockHolder> locks)
         {
-        f_sync = new Sync(sName, locks);
+        this(sName, locks, false);
+        }
+
+    /**
+     * Create an instance of {@code DistributedLock}.
+     *
+     * @param sName   the name of the lock
+     * @param locks   the {@link NamedMap} that stores this lock's state
+     * @param fLease  {@code true} to acquire the lock with a lease
+     */
+    RemoteLock(String sName, NamedMap<String, ExclusiveLockHolder> locks, boolean fLease)
+        {
+        f_sync = new Sync(sName, locks, fLease);
         locks.addMapListener(new SimpleMapListener<String, ExclusiveLockHolder>()
                                      .addInsertHandler(f_sync::onHolderChange)
                                      .addUpdateHandler(f_sync::onHolderChange),
@@ -424,6 +448,17 @@ public class RemoteLock
         return f_sync.getQueueLength();
         }
 
+    /**
+     * Queries whether this member holds a lease on this lock, which allows
+     * its threads to acquire the lock without a network call.
+     *
+     * @return {@code true} if this member holds a lease on this lock
+     */
+    public boolean isLeased()
+        {
+        return f_sync.isLeased();
+        }
+
     /**
      * Returns a string identifying this lock, as well as its lock state. The
      * state, in brackets, includes either the String {@code "Unlocked"} or the
@@ -454,16 +489,18 @@ public class RemoteLock
         /**
          * Construct a {@code Sync} instance.
          *
-         * @param sName  the name of the lock
-         * @param locks  the {@link NamedMap} that stores this lock's state
+         * @param sName   the name of the lock
+         * @param locks   the {@link NamedMap} that stores this lock's state
+         * @param fLease  {@code true} to acquire the lock with a lease
          */
-        Sync(String sName, NamedMap<String, ExclusiveLockHolder> locks)
+        Sync(String sName, NamedMap<String, ExclusiveLockHolder> locks, boolean fLease)
             {
             Member localMember = locks.getService().getCluster().getLocalMember();
 
             f_sName       = sName;
             f_locks       = locks;
             f_localMember = localMember;
+            f_fLease      = fLease;
             }
 
         // ---- AbstractQueuedLongSynchronizer methods ----------------------
@@ -482,21 +519,38 @@ public class RemoteLock
                 }
 
             long c = getState();
-            if (c == 0)
+            if (c == 0 && m_fLeased && !m_fRevoked)
+                {
+                // this process holds a lease on the lock, so no need to make
+                // network call to the server
+                if (compareAndSetState(0, acquires))
+                    {
+                    setExclusiveOwnerThread(thread);
+                    return true;
+                    }
+                }
+            else if (c == 0)
                 {
                 // no thread in this process owns the lock; try to obtain it
-                final LockOwner owner = new LockOwner(f_localMember, thread.getId());
-                boolean fLocked = f_locks.invoke(f_sName, entry ->
+                final LockOwner owner  = new LockOwner(f_localMember, thread.getId());
+                final boolean   fLease = f_fLease
+                                         && ExclusiveLockHolder.isLeaseSupported(f_locks.getService());
+                ExclusiveLockHolder holder = f_locks.invoke(f_sName, entry ->
                         {
                         ExclusiveLockHolder lock = entry.getValue(ExclusiveLockHolder::new);
-                        boolean fRes = lock.lock(owner);
+                        boolean fRes = lock.lock(owner, fLease);
                         entry.setValue(lock);
-                        return fRes;
+                        return fRes ? lock : null;
                         });
 
-                if (fLocked && compareAndSetState(0, acquires))
+                if (holder != null && compareAndSetState(0, acquires))
                     {
                     setExclusiveOwnerThread(thread);
+                    if (holder.isLeased() && !holder.isLeaseRevoked())
+                        {
+                        m_fRevoked = false;
+                        m_fLeased  = true;
+                        }
                     return true;
                     }
                 }
@@ -522,8 +576,10 @@ public class RemoteLock
             if (releases == -1)
                 {
                 // we are releasing this special lock from an event dispatcher thread
-                // because another member has released the lock
-                if (thread == getExclusiveOwnerThread())
+                // because another member (or this one, by releasing its lease)
+                // has released the lock
+                Thread threadOwner = getExclusiveOwnerThread();
+                if (thread == threadOwner || threadOwner == null && getState() == -1)
                     {
                     setState(0);
                     setExclusiveOwnerThread(null);
@@ -537,7 +593,20 @@ public class RemoteLock
                 throw new IllegalMonitorStateException(thread + " != " + getExclusiveOwnerThread());
                 }
             boolean fFree = false;
-            if (c == 0)
+            if (c == 0 && m_fLeased && !m_fRevoked)
+                {
+                // final release of the lock, but this process holds a lease,
+                // so we keep the lock on the server
+                setExclusiveOwnerThread(null);
+                setState(0);
+                if (m_fRevoked)
+                    {
+                    // another member asked for the lock while we were releasing it
+                    revokeLease();
+                    }
+                return true;
+                }
+            else if (c == 0)
                 {
                 // final release of the lock; we should release the lock on the server
                 final LockOwner owner = new LockOwner(f_localMember, thread.getId());
@@ -553,7 +622,8 @@ public class RemoteLock
                         });
                 if (fUnlocked)
                     {
-                    fFree = true;
+                    fFree     = true;
+                    m_fLeased = false;
                     setExclusiveOwnerThread(null);
                     }
                 else
@@ -592,6 +662,55 @@ public class RemoteLock
                 {
                 release(-1);
                 }
+            else if (holder.isLeaseRevoked())
+                {
+                // another member wants the lock; give it up as soon as no
+                // thread in this process holds it
+                m_fRevoked = true;
+                revokeLease();
+                }
+            }
+
+        /**
+         * Release the lease on this lock, and the lock itself, on the server,
+         * unless a thread in this process holds the lock, in which case the
+         * lease is released by its final unlock.
+         * <p>
+         * The state is set to {@code -1} while the lease is being released, so
+         * that local threads wait for the lock to be released on the server,
+         * and is reset by the resulting map event.
+         */
+        private void revokeLease()
+            {
+            if (m_fLeased && compareAndSetState(0, -1))
+                {
+                m_fLeased = false;
+
+                // release asynchronously, as we may be on the event dispatcher thread
+                final UUID memberId = f_localMember.getUuid();
+                f_locks.async().invoke(f_sName, entry ->
+                        {
+                        ExclusiveLockHolder lock = entry.getValue();
+                        if (lock != null && lock.releaseLease(memberId))
+                            {
+                            entry.setValue(lock);
+                            return true;
+                            }
+                        return false;
+                        })
+                    .whenComplete((fReleased, e) ->
+                        {
+                        if (e != null || !fReleased)
+                            {
+                            // there will be no event to reset the state
+                            if (e != null)
+                                {
+                                Logger.err("Failed to release the lease on lock " + f_sName, e);
+                                }
+                            release(-1);
+                            }
+                        });
+                }
             }
 
         final LockOwner getOwner()
@@ -604,6 +723,11 @@ public class RemoteLock
             return isHeldExclusively() ? getState() : 0;
             }
 
+        final boolean isLeased()
+            {
+            return m_fLeased;
+            }
+
         final boolean isLocked()
             {
             return f_locks.invoke(f_sName, Processors.extract(ExclusiveLockHolder::isLocked));
@@ -625,6 +749,21 @@ public class RemoteLock
          * The NamedMap containing the remote locks.
          */
         private final NamedMap<String, ExclusiveLockHolder> f_locks;
+
+        /**
+         * Whether to acquire the lock with a lease.
+         */
+        private final boolean f_fLease;
+
+        /**
+         * {@code true} if this process holds a lease on the lock.
+         */
+        private volatile boolean m_fLeased;
+
+        /**
+         * {@code true} if another member has asked for the lease to be revoked.
+         */
+        private volatile boolean m_fRevoked;
         }
 
     // ---- data members ----------------------------------------------------
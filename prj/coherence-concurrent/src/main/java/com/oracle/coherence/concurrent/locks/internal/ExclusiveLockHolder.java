@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -8,13 +8,21 @@ package com.oracle.coherence.concurrent.locks.internal;
 
 import com.oracle.coherence.concurrent.locks.LockOwner;
 
+import com.tangosol.internal.util.VersionHelper;
+
+import com.tangosol.io.AbstractEvolvable;
 import com.tangosol.io.ExternalizableLite;
+import com.tangosol.io.InputStreaming;
+import com.tangosol.io.WrapperBufferInput;
+import com.tangosol.io.WrapperBufferOutput;
 
+import com.tangosol.io.pof.EvolvablePortableObject;
 import com.tangosol.io.pof.PofReader;
 import com.tangosol.io.pof.PofWriter;
 import com.tangosol.io.pof.PortableObject;
 
 import com.tangosol.net.Member;
+import com.tangosol.net.Service;
 import com.tangosol.net.ServiceInfo;
 
 import com.tangosol.util.BinaryEntry;
@@ -32,12 +40,21 @@ import java.util.stream.Collectors;
 
 /**
  * A data structure that encapsulates server-side exclusive locking logic.
+ * <p>
+ * A lock may be acquired with a <em>lease</em>, which allows the owning member
+ * to release and re-acquire the lock locally, without updating this holder,
+ * for as long as no other member attempts to acquire it. Another member's
+ * attempt to acquire a leased lock fails, but marks the lease as revoked, and
+ * the resulting update event tells the lease holder to give the lock up as
+ * soon as none of its threads holds it. A lease is not granted again to the
+ * member it was revoked from until another member has acquired the lock.
  *
  * @since 21.12
  * @author Aleks Seovic  2021.10.19
  */
 public class ExclusiveLockHolder
-        implements ExternalizableLite, PortableObject
+        extends AbstractEvolvable
+        implements ExternalizableLite, EvolvablePortableObject
     {
     // ----- constructors ---------------------------------------------------
 
@@ -105,17 +122,57 @@ public class ExclusiveLockHolder
      */
     public boolean lock(LockOwner owner)
         {
-        if (isLockedBy(owner))
+        return lock(owner, false);
+        }
+
+    /**
+     * Attempt to acquire the lock, optionally with a lease.
+     * <p>
+     * If the lock is leased by the owner's member, and the lease has not been
+     * revoked, the lock is re-acquired by the specified owner. If the lock is
+     * leased by another member, the lease is revoked. Once the lease has been
+     * revoked the lock cannot be acquired, not even by its current owner,
+     * until the lease is released.
+     *
+     * @param owner   the lock owner to acquire the lock for
+     * @param fLease  {@code true} to request a lease
+     *
+     * @return {@code true} if the lock was successfully acquired
+     */
+    public boolean lock(LockOwner owner, boolean fLease)
+        {
+        UUID memberId = owner.getMemberId();
+        if (isLeaseRevoked())
+            {
+            // the lease holder must release the lock before anyone,
+            // including the owner, may acquire it again
+            return false;
+            }
+        else if (isLockedBy(owner))
             {
             return true;
             }
+        else if (isLockedByMember(memberId) && m_fLeased)
+            {
+            m_lockOwner = owner;
+            return true;
+            }
         else if (isLocked())
             {
+            if (m_fLeased)
+                {
+                m_fRevoked = true;
+                }
             return false;
             }
         else
             {
-            m_lockOwner = owner;
+            boolean fRevokedFrom = memberId.equals(m_revokedFrom);
+
+            m_lockOwner   = owner;
+            m_fLeased     = fLease && !fRevokedFrom;
+            m_fRevoked    = false;
+            m_revokedFrom = fRevokedFrom ? memberId : null;
             return true;
             }
         }
@@ -130,14 +187,61 @@ public class ExclusiveLockHolder
      */
     public boolean unlock(LockOwner owner)
         {
-        if (isLockedBy(owner))
+        if (isLockedBy(owner) || m_fLeased && isLockedByMember(owner.getMemberId()))
+            {
+            if (m_fRevoked)
+                {
+                m_revokedFrom = owner.getMemberId();
+                }
+            clear();
+            return true;
+            }
+        return false;
+        }
+
+    /**
+     * Release the lease held by the specified member, along with the lock.
+     *
+     * @param memberId  the UUID of the member releasing the lease
+     *
+     * @return {@code true} if the specified member held the lease, and the
+     *                      lease was successfully released
+     */
+    public boolean releaseLease(UUID memberId)
+        {
+        if (m_fLeased && isLockedByMember(memberId))
             {
-            m_lockOwner = null;
+            if (m_fRevoked)
+                {
+                m_revokedFrom = memberId;
+                }
+            clear();
             return true;
             }
         return false;
         }
 
+    /**
+     * Return {@code true} if the lock is held with a lease.
+     *
+     * @return {@code true} if the lock is held with a lease
+     */
+    public boolean isLeased()
+        {
+        return isLocked() && m_fLeased;
+        }
+
+    /**
+     * Return {@code true} if the lock is held with a lease that another member
+     * has asked to be revoked.
+     *
+     * @return {@code true} if the lease has been revoked
+     */
+    public boolean isLeaseRevoked()
+        {
+        return isLeased() && m_fRevoked;
+        }
+
     /**
      * Return the current lock owner, if any.
      *
@@ -159,7 +263,7 @@ public class ExclusiveLockHolder
         {
         if (isLockedByMember(memberId))
             {
-            m_lockOwner = null;
+            clear();
             return true;
             }
 
@@ -178,22 +282,54 @@ public class ExclusiveLockHolder
         {
         if (isLocked() && !isLockedByClient() && !setMemberIds.contains(m_lockOwner.getMemberId()))
             {
-            m_lockOwner = null;
+            clear();
             return true;
             }
 
         return false;
         }
 
+    /**
+     * Release the lock and the lease, if any.
+     */
+    protected void clear()
+        {
+        m_lockOwner = null;
+        m_fLeased   = false;
+        m_fRevoked  = false;
+        }
+
     @Override
     public String toString()
         {
         return "ExclusiveLockHolder{" +
                "locked=" + isLocked() +
                ", owner=" + getOwner() +
+               (isLeased() ? ", leased=true, revoked=" + m_fRevoked : "") +
                '}';
         }
 
+    /**
+     * Return {@code true} if the members of the specified service support
+     * lock leases.
+     *
+     * @param service  the service
+     *
+     * @return {@code true} if all the members of the service support leases
+     */
+    public static boolean isLeaseSupported(Service service)
+        {
+        return service.isVersionCompatible(LEASE_VERSION);
+        }
+
+    // ----- Evolvable interface --------------------------------------------
+
+    @Override
+    public int getImplVersion()
+        {
+        return VERSION;
+        }
+
     // ----- ExternalizableLite interface -----------------------------------
 
     @Override
@@ -201,6 +337,13 @@ public class ExclusiveLockHolder
             throws IOException
         {
         m_lockOwner = ExternalizableHelper.readObject(in);
+
+        if (isLeaseStatePresent(in))
+            {
+            m_fLeased     = in.readBoolean();
+            m_fRevoked    = in.readBoolean();
+            m_revokedFrom = ExternalizableHelper.readObject(in);
+            }
         }
 
     @Override
@@ -208,6 +351,14 @@ public class ExclusiveLockHolder
             throws IOException
         {
         ExternalizableHelper.writeObject(out, m_lockOwner);
+
+        if (!(out instanceof WrapperBufferOutput.VersionAwareBufferOutput)
+                || ExternalizableHelper.isVersionCompatible(out, LEASE_VERSION))
+            {
+            out.writeBoolean(m_fLeased);
+            out.writeBoolean(m_fRevoked);
+            ExternalizableHelper.writeObject(out, m_revokedFrom);
+            }
         }
 
     // ----- PortableObject interface ---------------------------------------
@@ -217,6 +368,13 @@ public class ExclusiveLockHolder
             throws IOException
         {
         m_lockOwner = in.readObject(0);
+
+        if (in.getVersionId() >= VERSION)
+            {
+            m_fLeased     = in.readBoolean(1);
+            m_fRevoked    = in.readBoolean(2);
+            m_revokedFrom = in.readObject(3);
+            }
         }
 
     @Override
@@ -224,6 +382,34 @@ public class ExclusiveLockHolder
             throws IOException
         {
         out.writeObject(0, m_lockOwner);
+        out.writeBoolean(1, m_fLeased);
+        out.writeBoolean(2, m_fRevoked);
+        out.writeObject(3, m_revokedFrom);
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Return {@code true} if the lease state follows the lock owner in the
+     * specified stream.
+     * <p>
+     * The sender's version is used for the messages between members; the
+     * values stored by the members that did not support leases, which may
+     * be read after a partition transfer or a restore from persistence, end
+     * with the lock owner.
+     *
+     * @param in  the stream to read from
+     *
+     * @return {@code true} if the lease state is present in the stream
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private static boolean isLeaseStatePresent(DataInput in)
+            throws IOException
+        {
+        return in instanceof WrapperBufferInput.VersionAwareBufferInput
+               ? ExternalizableHelper.isVersionCompatible(in, LEASE_VERSION)
+               : !(in instanceof InputStreaming) || ((InputStreaming) in).available() > 0;
         }
 
     // ----- inner class: RemoveLocks ---------------------------------------
@@ -327,10 +513,39 @@ public class ExclusiveLockHolder
         protected UUID m_memberId;
         }
 
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The {@link EvolvablePortableObject} version of this class that added
+     * the lease state.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The encoded version of the first release that supports lock leases.
+     */
+    public static final int LEASE_VERSION = VersionHelper.encodeVersion(25, 3, 0);
+
     // ---- data members ----------------------------------------------------
 
     /**
      * The current owner of this lock.
      */
     private LockOwner m_lockOwner;
+
+    /**
+     * {@code true} if the lock is held with a lease.
+     */
+    private boolean m_fLeased;
+
+    /**
+     * {@code true} if another member has asked for the lease to be revoked.
+     */
+    private boolean m_fRevoked;
+
+    /**
+     * The UUID of the member the last lease was revoked from, which will not
+     * be granted a lease until another member acquires the lock.
+     */
+    private UUID m_revokedFrom;
     }
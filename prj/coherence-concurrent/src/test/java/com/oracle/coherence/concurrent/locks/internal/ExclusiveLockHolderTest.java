@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -8,8 +8,16 @@ package com.oracle.coherence.concurrent.locks.internal;
 
 import com.oracle.coherence.concurrent.locks.LockOwner;
 
+import com.tangosol.io.pof.ConfigurablePofContext;
+
 import com.tangosol.net.Member;
 
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryWriteBuffer;
+import com.tangosol.util.ExternalizableHelper;
+
+import java.io.IOException;
+
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 
@@ -105,6 +113,133 @@ public class ExclusiveLockHolderTest
         assertThat(lock.isLocked(), is(false));
         }
 
+    @Test
+    public void shouldReacquireLeaseForSameMember()
+        {
+        LockOwner o1 = new LockOwner(SINGLETON_MEMBER_1, 1);
+        LockOwner o2 = new LockOwner(SINGLETON_MEMBER_1, 2);
+        ExclusiveLockHolder lock = new ExclusiveLockHolder();
+        assertThat(lock.lock(o1, true), is(true));
+        assertThat(lock.isLeased(), is(true));
+        assertThat(lock.lock(o2, true), is(true));
+        assertThat(lock.isLockedBy(o2), is(true));
+        assertThat(lock.unlock(o1), is(true));
+        assertThat(lock.isLocked(), is(false));
+        assertThat(lock.isLeased(), is(false));
+        }
+
+    @Test
+    public void shouldRevokeLeaseForOtherMember()
+        {
+        LockOwner o1 = new LockOwner(SINGLETON_MEMBER_1, 1);
+        LockOwner o2 = new LockOwner(SINGLETON_MEMBER_2, 2);
+        ExclusiveLockHolder lock = new ExclusiveLockHolder();
+        assertThat(lock.lock(o1, true), is(true));
+        assertThat(lock.isLeaseRevoked(), is(false));
+        assertThat(lock.lock(o2, true), is(false));
+        assertThat(lock.isLeaseRevoked(), is(true));
+
+        // the revoked lease cannot be used to re-acquire the lock
+        assertThat(lock.lock(new LockOwner(SINGLETON_MEMBER_1, 3), true), is(false));
+
+        assertThat(lock.releaseLease(o2.getMemberId()), is(false));
+        assertThat(lock.releaseLease(o1.getMemberId()), is(true));
+        assertThat(lock.isLocked(), is(false));
+        assertThat(lock.lock(o2, true), is(true));
+        assertThat(lock.isLeased(), is(true));
+        assertThat(lock.isLeaseRevoked(), is(false));
+        }
+
+    @Test
+    public void shouldNotReacquireRevokedLeaseForOwner()
+        {
+        LockOwner o1 = new LockOwner(SINGLETON_MEMBER_1, 1);
+        LockOwner o2 = new LockOwner(SINGLETON_MEMBER_2, 2);
+        ExclusiveLockHolder lock = new ExclusiveLockHolder();
+        assertThat(lock.lock(o1, true), is(true));
+
+        // the lease is revoked before the owner asks for the lock again
+        assertThat(lock.lock(o2, true), is(false));
+        assertThat(lock.lock(o1, true), is(false));
+        assertThat(lock.isLockedBy(o1), is(true));
+        assertThat(lock.isLeaseRevoked(), is(true));
+
+        assertThat(lock.unlock(o1), is(true));
+        assertThat(lock.lock(o2, true), is(true));
+        assertThat(lock.isLeaseRevoked(), is(false));
+        }
+
+    @Test
+    public void shouldNotGrantLeaseToRevokedMember()
+        {
+        LockOwner o1 = new LockOwner(SINGLETON_MEMBER_1, 1);
+        LockOwner o2 = new LockOwner(SINGLETON_MEMBER_2, 2);
+        ExclusiveLockHolder lock = new ExclusiveLockHolder();
+        assertThat(lock.lock(o1, true), is(true));
+        assertThat(lock.lock(o2, true), is(false));
+        assertThat(lock.releaseLease(o1.getMemberId()), is(true));
+
+        // the member the lease was revoked from gets the lock, but no lease
+        assertThat(lock.lock(o1, true), is(true));
+        assertThat(lock.isLeased(), is(false));
+        assertThat(lock.unlock(o1), is(true));
+
+        // until another member has acquired the lock
+        assertThat(lock.lock(o2, false), is(true));
+        assertThat(lock.unlock(o2), is(true));
+        assertThat(lock.lock(o1, true), is(true));
+        assertThat(lock.isLeased(), is(true));
+        }
+
+    @Test
+    public void shouldRemoveLeaseForMember()
+        {
+        LockOwner o1 = new LockOwner(SINGLETON_MEMBER_1, 1);
+        ExclusiveLockHolder lock = new ExclusiveLockHolder();
+        assertThat(lock.lock(o1, true), is(true));
+        assertThat(lock.removeLocksFor(o1.getMemberId()), is(true));
+        assertThat(lock.isLocked(), is(false));
+        assertThat(lock.isLeased(), is(false));
+        }
+
+    @Test
+    public void shouldSerializeLeaseState()
+        {
+        LockOwner o1 = new LockOwner(SINGLETON_MEMBER_1, 1);
+        LockOwner o2 = new LockOwner(SINGLETON_MEMBER_2, 2);
+        ExclusiveLockHolder lock = new ExclusiveLockHolder();
+        lock.lock(o1, true);
+        lock.lock(o2, true);
+
+        ExclusiveLockHolder lockCopy = ExternalizableHelper.fromBinary(ExternalizableHelper.toBinary(lock));
+        assertThat(lockCopy.isLockedBy(o1), is(true));
+        assertThat(lockCopy.isLeased(), is(true));
+        assertThat(lockCopy.isLeaseRevoked(), is(true));
+
+        ConfigurablePofContext ctx = new ConfigurablePofContext("coherence-concurrent-pof-config.xml");
+        lockCopy = ExternalizableHelper.fromBinary(ExternalizableHelper.toBinary(lock, ctx), ctx);
+        assertThat(lockCopy.isLockedBy(o1), is(true));
+        assertThat(lockCopy.isLeased(), is(true));
+        assertThat(lockCopy.isLeaseRevoked(), is(true));
+        }
+
+    @Test
+    public void shouldReadHolderWithoutLeaseState() throws IOException
+        {
+        LockOwner o1 = new LockOwner(SINGLETON_MEMBER_1, 1);
+
+        // the form written by the members that do not support leases
+        BinaryWriteBuffer buf = new BinaryWriteBuffer(64);
+        ExternalizableHelper.writeObject(buf.getBufferOutput(), o1);
+        Binary bin = buf.toBinary();
+
+        ExclusiveLockHolder lock = new ExclusiveLockHolder();
+        lock.readExternal(bin.getBufferInput());
+        assertThat(lock.isLockedBy(o1), is(true));
+        assertThat(lock.isLeased(), is(false));
+        assertThat(lock.isLeaseRevoked(), is(false));
+        }
+
     @Test
     public void shoudReturnDetailsFromToString()
         {
@@ -518,6 +518,30 @@ public class ClusterNodeMBean
                 });
             }
         
+        // property PacketBundleSizes
+            {
+            mapInfo.put("PacketBundleSizes", new Object[]
+                {
+                "A histogram of the number of packets in each transmitted bundle since the node statistics were last reset. Each element describes a range of bundle sizes and the number of bundles in that range.",
+                "getPacketBundleSizes",
+                null,
+                "[Ljava/lang/String;",
+                null,
+                });
+            }
+        
+        // property PacketBundleWaits
+            {
+            mapInfo.put("PacketBundleWaits", new Object[]
+                {
+                "A histogram of the number of microseconds each transmitted bundle was deferred for to allow more packets to be bundled into it, since the node statistics were last reset. Each element describes a range of deferral times and the number of bundles in that range.",
+                "getPacketBundleWaits",
+                null,
+                "[Ljava/lang/String;",
+                null,
+                });
+            }
+        
         // property PacketDeliveryEfficiency
             {
             mapInfo.put("PacketDeliveryEfficiency", new Object[]
@@ -1390,6 +1414,31 @@ public class ClusterNodeMBean
         return 0L;
         }
     
+    // Accessor for the property "PacketBundleSizes"
+    /**
+     * Getter for property PacketBundleSizes.<p>
+    * A histogram of the number of packets in each transmitted bundle since the
+    * node statistics were last reset. Each element describes a range of bundle
+    * sizes and the number of bundles in that range.
+     */
+    public String[] getPacketBundleSizes()
+        {
+        return null;
+        }
+    
+    // Accessor for the property "PacketBundleWaits"
+    /**
+     * Getter for property PacketBundleWaits.<p>
+    * A histogram of the number of microseconds each transmitted bundle was
+    * deferred for to allow more packets to be bundled into it, since the node
+    * statistics were last reset. Each element describes a range of deferral
+    * times and the number of bundles in that range.
+     */
+    public String[] getPacketBundleWaits()
+        {
+        return null;
+        }
+    
     // Accessor for the property "PacketDeliveryEfficiency"
     /**
      * Getter for property PacketDeliveryEfficiency.<p>
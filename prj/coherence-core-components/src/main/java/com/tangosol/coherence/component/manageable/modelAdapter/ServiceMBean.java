@@ -1,6 +1,6 @@
 
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -747,6 +747,18 @@ public class ServiceMBean
                 });
             }
         
+        // property TaskAverageQueueMillis
+            {
+            mapInfo.put("TaskAverageQueueMillis", new Object[]
+                {
+                "The average time (in milliseconds) that the executed tasks have spent in the queue awaiting execution since the last time the statistics were reset.",
+                "getTaskAverageQueueMillis",
+                null,
+                "F",
+                "metrics.value=_default",
+                });
+            }
+        
         // property TaskBacklog
             {
             mapInfo.put("TaskBacklog", new Object[]
@@ -831,6 +843,30 @@ public class ServiceMBean
                 });
             }
         
+        // property TaskSamples
+            {
+            mapInfo.put("TaskSamples", new Object[]
+                {
+                "The most frequently sampled tasks executed by the service thread pool, with the number of samples of each task, the minimum number of samples it is guaranteed to have (the number of samples may be overestimated for tasks that entered the table late) and the percentage of the samples of busy threads it represents.",
+                "getTaskSamples",
+                null,
+                "[Ljava/lang/String;",
+                null,
+                });
+            }
+        
+        // property TaskStealCount
+            {
+            mapInfo.put("TaskStealCount", new Object[]
+                {
+                "The total number of tasks executed by a thread other than the thread(s) serving the queue the task was posted to since the last time the statistics were reset.",
+                "getTaskStealCount",
+                null,
+                "J",
+                "rest.collector=sum,metrics.value=_default",
+                });
+            }
+        
         // property TaskTimeoutCount
             {
             mapInfo.put("TaskTimeoutCount", new Object[]
@@ -1083,6 +1119,18 @@ public class ServiceMBean
                 });
             }
         
+        // property WorkerStatistics
+            {
+            mapInfo.put("WorkerStatistics", new Object[]
+                {
+                "An array of statistics for each thread in the service thread pool.",
+                "getWorkerStatistics",
+                null,
+                "[Ljava/lang/String;",
+                null,
+                });
+            }
+        
         return mapInfo;
         }
     /**
@@ -1807,6 +1855,20 @@ public class ServiceMBean
         return 0.0F;
         }
     
+    // Accessor for the property "TaskAverageQueueMillis"
+    /**
+     * Getter for property TaskAverageQueueMillis.<p>
+    * The average time (in milliseconds) that the executed tasks have spent in
+    * the queue awaiting execution since the last time the statistics were
+    * reset.
+    * 
+    * @descriptor metrics.value=_default
+     */
+    public float getTaskAverageQueueMillis()
+        {
+        return 0.0F;
+        }
+    
     // Accessor for the property "TaskBacklog"
     /**
      * Getter for property TaskBacklog.<p>
@@ -1896,6 +1958,34 @@ public class ServiceMBean
         return 0;
         }
     
+    // Accessor for the property "TaskSamples"
+    /**
+     * Getter for property TaskSamples.<p>
+    * The most frequently sampled tasks executed by the service thread pool,
+    * with the number of samples of each task, the minimum number of samples
+    * it is guaranteed to have (the number of samples may be overestimated
+    * for tasks that entered the table late) and the percentage of the
+    * samples of busy threads it represents.
+     */
+    public String[] getTaskSamples()
+        {
+        return null;
+        }
+    
+    // Accessor for the property "TaskStealCount"
+    /**
+     * Getter for property TaskStealCount.<p>
+    * The total number of tasks executed by a thread other than the thread(s)
+    * serving the queue the task was posted to since the last time the
+    * statistics were reset.
+    * 
+    * @descriptor rest.collector=sum,metrics.value=_default
+     */
+    public long getTaskStealCount()
+        {
+        return 0L;
+        }
+    
     // Accessor for the property "TaskTimeoutCount"
     /**
      * Getter for property TaskTimeoutCount.<p>
@@ -2159,6 +2249,16 @@ public class ServiceMBean
         return null;
         }
     
+    // Accessor for the property "WorkerStatistics"
+    /**
+     * Getter for property WorkerStatistics.<p>
+    * An array of statistics for each thread in the service thread pool.
+     */
+    public String[] getWorkerStatistics()
+        {
+        return null;
+        }
+    
     // Accessor for the property "Running"
     /**
      * Getter for property Running.<p>
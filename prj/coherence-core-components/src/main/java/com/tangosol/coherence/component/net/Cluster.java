@@ -1415,6 +1415,7 @@ public class Cluster
     public com.oracle.coherence.common.net.exabus.MessageBus createMessageBus(String sServiceType, String sTransport, com.oracle.coherence.common.net.exabus.Depot depot, String sAddr, int nPort, boolean fMultiplexed)
         {
         // import com.oracle.coherence.common.internal.Platform;
+        // import com.tangosol.coherence.config.Config;
         
         // deprecated "imb" and "imbs" support, map to "tmb" and "tmbs"
         if (sTransport != null && !sTransport.isEmpty())
@@ -1439,16 +1440,23 @@ public class Cluster
         
         if (sTransport == null && getTransportService().getServiceType().equals(sServiceType))
             {
+            boolean fSecure = getSocketManager().getUnicastUdpSocketProvider().isSecure();
             if (Platform.getPlatform().isExaEnabled())
                 {
                 // deprecated "imb" and "imbs" support, default to "tmb" and "tmbs" on Exalogic platform
-                sTransport = getSocketManager().getUnicastUdpSocketProvider().isSecure()
+                sTransport = fSecure
                     ? "tmbs" // will trigger fall-through to other encrypted transports if unavailble (doesn't exist yet)
                     : "tmb";
                 }
+            else if (!fSecure && Config.getBoolean("coherence.transport.shm", false))
+                {
+                // shared memory for members on the same machine, tmb for all others; requires
+                // all members to use it, hence opt-in
+                sTransport = "smb";
+                }
             else
                 {
-                sTransport = getSocketManager().getUnicastUdpSocketProvider().isSecure() ? "tmbs" : "tmb";
+                sTransport = fSecure ? "tmbs" : "tmb";
                 }
             }
         
@@ -1462,7 +1470,8 @@ public class Cluster
             else if (sTransport.equals("tmb")   ||
                      sTransport.equals("tmbs")  ||
                      sTransport.equals("sdmb")  ||
-                     sTransport.equals("sdmbs"))
+                     sTransport.equals("sdmbs") ||
+                     sTransport.equals("smb"))
                 {
                 // If configured to use sdmb and ephemeral ports, we further relax what ports the bus can listen on,
                 // i.e. double ephemeral. This is critical for SDMB which could end up hitting a port
@@ -1495,6 +1504,7 @@ public class Cluster
                     // still trying to autoselect best bus impl
                     sTransport = sTransport.startsWith("sdmbs") ? "tmbs"
                                 : sTransport.startsWith("sdmb" ) ? "tmb"
+                                : sTransport.startsWith("smb"  ) ? "tmb"
                                 : null;
                     }
                 else
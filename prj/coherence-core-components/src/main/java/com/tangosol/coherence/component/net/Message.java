@@ -17,12 +17,15 @@ import com.tangosol.coherence.component.net.packet.MessagePacket;
 import com.tangosol.coherence.component.net.packet.messagePacket.Directed;
 import com.tangosol.coherence.component.net.packet.messagePacket.Sequel;
 import com.oracle.coherence.common.base.Disposable;
+import com.oracle.coherence.common.net.exabus.Event;
+import com.tangosol.internal.io.ZeroCopyBinaries;
 import com.tangosol.internal.tracing.SpanContext;
 import com.tangosol.internal.tracing.TracingHelper;
 import com.tangosol.io.MultiBufferReadBuffer;
 import com.tangosol.io.ReadBuffer;
 import com.tangosol.io.nio.ByteBufferReadBuffer;
 import com.tangosol.util.Base;
+import com.tangosol.util.Binary;
 import com.tangosol.util.ExternalizableHelper;
 import java.util.Map;
 
@@ -117,6 +120,19 @@ public class Message
      */
     private long __m_FromMessageId;
     
+    /**
+     * Property IncomingBufferRetained
+     *
+     * True if one or more Binary values read by this incoming message share
+     * the memory of the buffer(s) the message was received into, in which case
+     * the buffers must not be returned to the buffer pool when the message is
+     * released.
+     * 
+     * @see #readBinary
+     * @since 25.03
+     */
+    private transient boolean __m_IncomingBufferRetained;
+    
     /**
      * Property MASK_DESER_REQ
      *
@@ -806,6 +822,22 @@ public class Message
         return (get_StateAux() & MASK_DESER_REQ) != 0;
         }
     
+    // Accessor for the property "IncomingBufferRetained"
+    /**
+     * Getter for property IncomingBufferRetained.<p>
+    * True if one or more Binary values read by this incoming message share
+    * the memory of the buffer(s) the message was received into, in which case
+    * the buffers must not be returned to the buffer pool when the message is
+    * released.
+    * 
+    * @see #readBinary
+    * @since 25.03
+     */
+    public boolean isIncomingBufferRetained()
+        {
+        return __m_IncomingBufferRetained;
+        }
+    
     // Accessor for the property "Internal"
     /**
      * Getter for property Internal.<p>
@@ -1113,6 +1145,61 @@ public class Message
         {
         }
     
+    /**
+     * Read a Binary value written by writeObject from the specified
+    * BufferInput.
+    * 
+    * Unlike readObject, this method may return a Binary that shares the
+    * memory of the buffer this incoming message was received into rather
+    * than a copy of it; such buffer is then retained by the Binary instead of
+    * being returned to the buffer pool when this message is released.
+    * 
+    * @param input the BufferInput containing the serialized Binary
+    * 
+    * @return the deserialized Binary
+    * 
+    * @see com.tangosol.internal.io.ZeroCopyBinaries
+    * @since 25.03
+     */
+    public com.tangosol.util.Binary readBinary(com.tangosol.io.ReadBuffer.BufferInput input)
+            throws java.io.IOException
+        {
+        // import Component.Util.Daemon.QueueProcessor.Service.Grid as com.tangosol.coherence.component.util.daemon.queueProcessor.service.Grid;
+        // import com.oracle.coherence.common.net.exabus.Event;
+        // import com.tangosol.internal.io.ZeroCopyBinaries;
+        // import com.tangosol.io.ReadBuffer;
+        // import com.tangosol.util.Binary;
+        
+        com.tangosol.coherence.component.util.daemon.queueProcessor.service.Grid service = getService();
+        
+        // the buffers can only be shared if this message controls their life
+        // cycle, which is only the case for messages received over the bus
+        if (ZeroCopyBinaries.isEnabled() && getBufferController() instanceof Event
+                && !service.isProtocolFiltered())
+            {
+            int cb = ZeroCopyBinaries.readHeader(input, service.ensureSerializer());
+            if (cb == ZeroCopyBinaries.NULL)
+                {
+                return null;
+                }
+        
+            if (cb >= 0)
+                {
+                ReadBuffer buf = input.readBuffer(cb);
+                Binary     bin = ZeroCopyBinaries.share(buf);
+                if (bin == null)
+                    {
+                    return buf.toBinary();
+                    }
+        
+                setIncomingBufferRetained(true);
+                return bin;
+                }
+            }
+        
+        return (Binary) readObject(input);
+        }
+    
     public void readInternal(com.tangosol.io.ReadBuffer.BufferInput input)
             throws java.io.IOException
         {
@@ -1170,6 +1257,7 @@ public class Message
     public void releaseIncoming()
         {
         // import com.oracle.coherence.common.base.Disposable;
+        // import com.oracle.coherence.common.net.exabus.Event;
         
         // NOTE: releaseIncoming is only called by the deserializing thread, thus
         // this method does not need to be thread-safe.
@@ -1179,7 +1267,17 @@ public class Message
         Disposable controller = getBufferController();
         if (controller != null)
             {
-            controller.dispose();
+            if (isIncomingBufferRetained() && controller instanceof Event)
+                {
+                // the buffers are shared by the Binary values read by this
+                // message (see readBinary); release the event without returning
+                // the buffers to the pool and leave them to the garbage collector
+                ((Event) controller).dispose(/*fTakeContent*/ true);
+                }
+            else
+                {
+                controller.dispose();
+                }
             }
         
         setBufferUsageCounter(0);
@@ -1454,6 +1552,22 @@ public class Message
         setNullPacketCount(cPackets);
         }
     
+    // Accessor for the property "IncomingBufferRetained"
+    /**
+     * Setter for property IncomingBufferRetained.<p>
+    * True if one or more Binary values read by this incoming message share
+    * the memory of the buffer(s) the message was received into, in which case
+    * the buffers must not be returned to the buffer pool when the message is
+    * released.
+    * 
+    * @see #readBinary
+    * @since 25.03
+     */
+    protected void setIncomingBufferRetained(boolean fRetained)
+        {
+        __m_IncomingBufferRetained = fRetained;
+        }
+    
     // Accessor for the property "MessageType"
     /**
      * Setter for property MessageType.<p>
@@ -1,6 +1,6 @@
 
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -558,6 +558,7 @@ public class CacheServiceFactory
                 if (parentService instanceof ProxyService)
                     {
                     proxy.setDaemonPool(((ProxyService) parentService).getDaemonPool());
+                    proxy.setRequestMetrics(((ProxyService) parentService).getRequestMetrics());
                     }
                 }
             
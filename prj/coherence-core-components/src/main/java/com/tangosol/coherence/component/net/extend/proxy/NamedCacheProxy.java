@@ -1,6 +1,6 @@
 
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -11,10 +11,13 @@
 package com.tangosol.coherence.component.net.extend.proxy;
 
 import com.tangosol.coherence.component.net.extend.message.request.NamedCacheRequest;
+import com.tangosol.coherence.component.net.extend.messageFactory.NamedCacheFactory;
 import com.tangosol.coherence.component.net.extend.protocol.NamedCacheProtocol;
 
 import com.tangosol.coherence.component.util.DaemonPool;
 
+import com.tangosol.internal.metrics.ServiceRequestMetrics;
+
 import com.tangosol.net.AsyncNamedCache;
 import com.tangosol.net.CacheService;
 import com.tangosol.net.DistributedCacheService;
@@ -108,6 +111,14 @@ public class NamedCacheProxy
      */
     private boolean __m_ReadOnly;
     
+    /**
+     * Property RequestMetrics
+     *
+     * The direct metrics recorded for the requests executed by this
+     * NamedCacheProxy, or null if they are not recorded.
+     */
+    private transient com.tangosol.internal.metrics.ServiceRequestMetrics __m_RequestMetrics;
+    
     /**
      * Property TransferThreshold
      *
@@ -702,6 +713,53 @@ public class NamedCacheProxy
         return NamedCacheProtocol.getInstance();
         }
     
+    // Accessor for the property "RequestMetrics"
+    /**
+     * Getter for property RequestMetrics.<p>
+    * The direct metrics recorded for the requests executed by this
+    * NamedCacheProxy, or null if they are not recorded.
+     */
+    public com.tangosol.internal.metrics.ServiceRequestMetrics getRequestMetrics()
+        {
+        return __m_RequestMetrics;
+        }
+    
+    /**
+     * Return the type the specified Message is recorded as by the
+    * RequestMetrics, or null if it is not recorded.
+     */
+    protected static com.tangosol.internal.metrics.ServiceRequestMetrics.RequestType getRequestType(com.tangosol.net.messaging.Message message)
+        {
+        // import Component.Net.Extend.MessageFactory.NamedCacheFactory;
+        // import com.tangosol.internal.metrics.ServiceRequestMetrics$RequestType as com.tangosol.internal.metrics.ServiceRequestMetrics.RequestType;
+        
+        switch (message.getTypeId())
+            {
+            case NamedCacheFactory.GetRequest.TYPE_ID:
+            case NamedCacheFactory.GetAllRequest.TYPE_ID:
+                return com.tangosol.internal.metrics.ServiceRequestMetrics.RequestType.GET;
+        
+            case NamedCacheFactory.PutRequest.TYPE_ID:
+            case NamedCacheFactory.PutAllRequest.TYPE_ID:
+                return com.tangosol.internal.metrics.ServiceRequestMetrics.RequestType.PUT;
+        
+            case NamedCacheFactory.InvokeRequest.TYPE_ID:
+            case NamedCacheFactory.InvokeAllRequest.TYPE_ID:
+            case NamedCacheFactory.InvokeFilterRequest.TYPE_ID:
+                return com.tangosol.internal.metrics.ServiceRequestMetrics.RequestType.INVOKE;
+        
+            case NamedCacheFactory.QueryRequest.TYPE_ID:
+                return com.tangosol.internal.metrics.ServiceRequestMetrics.RequestType.QUERY;
+        
+            case NamedCacheFactory.AggregateAllRequest.TYPE_ID:
+            case NamedCacheFactory.AggregateFilterRequest.TYPE_ID:
+                return com.tangosol.internal.metrics.ServiceRequestMetrics.RequestType.AGGREGATE;
+        
+            default:
+                return null;
+            }
+        }
+    
     // Accessor for the property "TransferThreshold"
     /**
      * Getter for property TransferThreshold.<p>
@@ -796,6 +854,8 @@ public class NamedCacheProxy
     public void onMessage(com.tangosol.net.messaging.Message message)
         {
         // import Component.Net.Extend.Message.Request.NamedCacheRequest;
+        // import com.tangosol.internal.metrics.ServiceRequestMetrics;
+        // import com.tangosol.internal.metrics.ServiceRequestMetrics$RequestType as com.tangosol.internal.metrics.ServiceRequestMetrics.RequestType;
         
         if (message instanceof NamedCacheRequest)
             {
@@ -805,7 +865,24 @@ public class NamedCacheProxy
             request.setTransferThreshold(getTransferThreshold());
             }
         
-        message.run();
+        ServiceRequestMetrics metrics = getRequestMetrics();
+        com.tangosol.internal.metrics.ServiceRequestMetrics.RequestType type = metrics == null ? null : getRequestType(message);
+        if (type == null)
+            {
+            message.run();
+            }
+        else
+            {
+            long ldtStart = System.nanoTime();
+            try
+                {
+                message.run();
+                }
+            finally
+                {
+                metrics.onRequest(type, System.nanoTime() - ldtStart);
+                }
+            }
         }
     
     public void printLockDeprecatedMessage()
@@ -913,6 +990,17 @@ public class NamedCacheProxy
         __m_ReadOnly = fReadOnly;
         }
     
+    // Accessor for the property "RequestMetrics"
+    /**
+     * Setter for property RequestMetrics.<p>
+    * The direct metrics recorded for the requests executed by this
+    * NamedCacheProxy, or null if they are not recorded.
+     */
+    public void setRequestMetrics(com.tangosol.internal.metrics.ServiceRequestMetrics metrics)
+        {
+        __m_RequestMetrics = metrics;
+        }
+    
     // Accessor for the property "TransferThreshold"
     /**
      * Setter for property TransferThreshold.<p>
@@ -776,6 +776,62 @@ public class ClusterNodeModel
         return publisher == null ? -1L : publisher.getStatsNacksSent();
         }
     
+    /**
+     * Return a description of each bucket of the specified histogram of the
+    * speaker BundlingQueue.
+    * 
+    * @see BundlingQueue#getHistogramLabel
+     */
+    protected static String[] describeHistogram(long[] alCounts)
+        {
+        // import Component.Util.Queue.ConcurrentQueue.BalancedQueue.BundlingQueue;
+        
+        int      cBuckets = alCounts.length;
+        String[] asBucket = new String[cBuckets];
+        
+        for (int i = 0; i < cBuckets; i++)
+            {
+            asBucket[i] = BundlingQueue.getHistogramLabel(i, cBuckets) + ": " + alCounts[i];
+            }
+        
+        return asBucket;
+        }
+    
+    // Accessor for the property "PacketBundleSizes"
+    /**
+     * Getter for property PacketBundleSizes.<p>
+    * A histogram of the number of packets in each transmitted bundle since the
+    * node statistics were last reset. Each element describes a range of bundle
+    * sizes and the number of bundles in that range.
+     */
+    public String[] getPacketBundleSizes()
+        {
+        // import Component.Util.Daemon.QueueProcessor.PacketProcessor.PacketSpeaker as com.tangosol.coherence.component.util.daemon.queueProcessor.packetProcessor.PacketSpeaker;
+        // import Component.Util.Queue.ConcurrentQueue.BalancedQueue.BundlingQueue;
+        
+        com.tangosol.coherence.component.util.daemon.queueProcessor.packetProcessor.PacketSpeaker speaker = get_Speaker();
+        return speaker == null ? new String[0]
+                : describeHistogram(((BundlingQueue) speaker.getQueue()).getStatsBundleSizes());
+        }
+    
+    // Accessor for the property "PacketBundleWaits"
+    /**
+     * Getter for property PacketBundleWaits.<p>
+    * A histogram of the number of microseconds each transmitted bundle was
+    * deferred for to allow more packets to be bundled into it, since the node
+    * statistics were last reset. Each element describes a range of deferral
+    * times and the number of bundles in that range.
+     */
+    public String[] getPacketBundleWaits()
+        {
+        // import Component.Util.Daemon.QueueProcessor.PacketProcessor.PacketSpeaker as com.tangosol.coherence.component.util.daemon.queueProcessor.packetProcessor.PacketSpeaker;
+        // import Component.Util.Queue.ConcurrentQueue.BalancedQueue.BundlingQueue;
+        
+        com.tangosol.coherence.component.util.daemon.queueProcessor.packetProcessor.PacketSpeaker speaker = get_Speaker();
+        return speaker == null ? new String[0]
+                : describeHistogram(((BundlingQueue) speaker.getQueue()).getStatsBundleWaits());
+        }
+    
     // Accessor for the property "PacketDeliveryEfficiency"
     /**
      * Getter for property PacketDeliveryEfficiency.<p>
@@ -1700,6 +1756,12 @@ public class ClusterNodeModel
             {
             mapSnapshot.put("TracingSamplingRatio", Float.valueOf(ExternalizableHelper.readBigDecimal(in).floatValue()));
             }
+        // sender with older verion does not include the following fields
+        if (ExternalizableHelper.isVersionCompatible(in, 25, 3, 0))
+            {
+            mapSnapshot.put("PacketBundleSizes", ExternalizableHelper.readStringArray(in));
+            mapSnapshot.put("PacketBundleWaits", ExternalizableHelper.readStringArray(in));
+            }
         }
     
     /**
@@ -2177,5 +2239,10 @@ public class ClusterNodeModel
             {
             ExternalizableHelper.writeBigDecimal(out, BigDecimal.valueOf(getTracingSamplingRatio()));
             }
+        if (ExternalizableHelper.isVersionCompatible(out, 25, 3, 0))
+            {
+            ExternalizableHelper.writeStringArray(out, getPacketBundleSizes());
+            ExternalizableHelper.writeStringArray(out, getPacketBundleWaits());
+            }
         }
     }
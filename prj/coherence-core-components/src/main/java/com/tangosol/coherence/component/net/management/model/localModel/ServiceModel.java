@@ -1,6 +1,6 @@
 
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -29,6 +29,7 @@ import com.tangosol.coherence.component.util.safeService.SafeProxyService;
 import com.tangosol.internal.health.HealthCheckDependencies;
 import com.tangosol.internal.net.service.grid.PersistenceDependencies;
 import com.tangosol.internal.util.MessagePublisher;
+import com.tangosol.internal.util.TaskSampler;
 import com.tangosol.net.ActionPolicy;
 import com.tangosol.net.CacheFactory;
 import com.tangosol.net.CacheService;
@@ -1516,6 +1517,35 @@ public class ServiceModel
         return -1f;
         }
     
+    // Accessor for the property "TaskAverageQueueMillis"
+    /**
+     * Getter for property TaskAverageQueueMillis.<p>
+    * The average time (in milliseconds) that the executed tasks have spent in
+    * the queue awaiting execution since the last time the statistics were
+    * reset.
+     */
+    public float getTaskAverageQueueMillis()
+        {
+        // import Component.Util.DaemonPool;
+        
+        DaemonPool pool = get_DaemonPool();
+        if (pool != null && pool.isStarted())
+            {
+            long cQueueMillis;
+            long cTasks;
+        
+            synchronized (pool.STATS_MONITOR)
+                {
+                cQueueMillis = pool.getStatsQueueMillis();
+                cTasks       = pool.getStatsTaskCount();
+                }
+        
+            return cTasks == 0L ? 0.0f : (float) (((double) cQueueMillis) / ((double) cTasks));
+            }
+        
+        return -1f;
+        }
+    
     // Accessor for the property "TaskBacklog"
     /**
      * Getter for property TaskBacklog.<p>
@@ -1625,6 +1655,40 @@ public class ServiceModel
         return pool != null && pool.isStarted() ? pool.getStatsMaxBacklog() : -1;
         }
     
+    // Accessor for the property "TaskSamples"
+    /**
+     * Getter for property TaskSamples.<p>
+    * The most frequently sampled tasks executed by the service thread pool,
+    * with the number of samples of each task, the minimum number of samples
+    * it is guaranteed to have (the number of samples may be overestimated
+    * for tasks that entered the table late) and the percentage of the
+    * samples of busy threads it represents.
+     */
+    public String[] getTaskSamples()
+        {
+        // import Component.Util.DaemonPool;
+        // import com.tangosol.internal.util.TaskSampler;
+        
+        DaemonPool  pool    = get_DaemonPool();
+        TaskSampler sampler = pool == null ? null : pool.getTaskSampler();
+        
+        return sampler == null ? new String[0] : sampler.describeTopTasks(sampler.getCapacity());
+        }
+    
+    /**
+     * Getter for property TaskStealCount.<p>
+    * The total number of tasks executed by a thread other than the thread(s)
+    * serving the queue the task was posted to since the last time the
+    * statistics were reset.
+     */
+    public long getTaskStealCount()
+        {
+        // import Component.Util.DaemonPool;
+        
+        DaemonPool pool = get_DaemonPool();
+        return pool != null && pool.isStarted() ? pool.getStatsStealCount() : -1L;
+        }
+    
     // Accessor for the property "TaskTimeoutCount"
     /**
      * Getter for property TaskTimeoutCount.<p>
@@ -2069,6 +2133,39 @@ public class ServiceModel
         return canonicalString(sType);
         }
     
+    // Accessor for the property "WorkerStatistics"
+    /**
+     * Getter for property WorkerStatistics.<p>
+    * The statistics of each thread in the service thread pool: the thread
+    * name, the number of tasks in the queue served by the thread and the total
+    * number of tasks the thread has taken from other queues.
+     */
+    public String[] getWorkerStatistics()
+        {
+        // import Component.Util.DaemonPool;
+        
+        DaemonPool pool = get_DaemonPool();
+        if (pool == null || !pool.isStarted())
+            {
+            return new String[0];
+            }
+        
+        DaemonPool.Daemon[] aDaemon = pool.getDaemons();
+        int                 cDaemon = aDaemon.length;
+        String[]            asStats = new String[cDaemon];
+        
+        for (int i = 0; i < cDaemon; i++)
+            {
+            DaemonPool.Daemon daemon = aDaemon[i];
+        
+            asStats[i] = daemon.getThreadName()
+                       + "{QueueSize=" + daemon.getQueue().size()
+                       + ", StealCount=" + daemon.getStealCount() + '}';
+            }
+        
+        return asStats;
+        }
+    
     // Accessor for the property "HealthyReady"
     /**
      * Getter for property HealthyReady.<p>
@@ -2386,6 +2483,14 @@ public class ServiceModel
             mapSnapshot.put("PersistenceBackupSpaceTotal", Long.valueOf(ExternalizableHelper.readLong(in)));
             mapSnapshot.put("PersistenceBackupSpaceUsed", Long.valueOf(ExternalizableHelper.readLong(in)));
             }
+        
+        if (ExternalizableHelper.isVersionCompatible(in, 25, 3, 0))
+            {
+            mapSnapshot.put("TaskAverageQueueMillis", Float.valueOf(in.readFloat()));
+            mapSnapshot.put("TaskStealCount", Long.valueOf(ExternalizableHelper.readLong(in)));
+            mapSnapshot.put("WorkerStatistics", ExternalizableHelper.readStringArray(in));
+            mapSnapshot.put("TaskSamples", ExternalizableHelper.readStringArray(in));
+            }
         }
 
     /**
@@ -2794,5 +2899,14 @@ public class ServiceModel
             ExternalizableHelper.writeLong(out, getPersistenceBackupSpaceTotal());
             ExternalizableHelper.writeLong(out, getPersistenceBackupSpaceUsed());
             }
+        
+        // added in 25.03
+        if (ExternalizableHelper.isVersionCompatible(out, 25, 3, 0))
+            {
+            out.writeFloat(getTaskAverageQueueMillis());
+            ExternalizableHelper.writeLong(out, getTaskStealCount());
+            ExternalizableHelper.writeStringArray(out, getWorkerStatistics());
+            ExternalizableHelper.writeStringArray(out, getTaskSamples());
+            }
         }
     }
@@ -261,9 +261,10 @@ public class MapRequest
         
         for (int i = 0; i < cEntries; i++)
             {
-            // both key and value are Binary objects
+            // both key and value are Binary objects; the (potentially large)
+            // value may share the memory of the incoming buffer
             Object binKey = readObject(input);
-            Object binVal = readObject(input);
+            Object binVal = readBinary(input);
         
             mapEntries.put(binKey, binVal);
             }
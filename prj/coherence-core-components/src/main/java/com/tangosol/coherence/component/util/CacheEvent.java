@@ -1,6 +1,6 @@
 
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -30,6 +30,22 @@ public class CacheEvent
     {
     // ---- Fields declarations ----
     
+    /**
+     * Property ConflationKey
+     *
+     * The key this task is registered with in the PendingEvents map, or null
+     * if the task is not for a conflating listener.
+     */
+    private Object __m_ConflationKey;
+    
+    /**
+     * Property Dispatched
+     *
+     * Specifies whether the dispatch of this task has started, after which
+     * its MapEvent may no longer be replaced.
+     */
+    private boolean __m_Dispatched;
+    
     /**
      * Property Listeners
      *
@@ -65,6 +81,23 @@ public class CacheEvent
      */
     private com.tangosol.internal.tracing.Span __m_ParentTracingSpan;
     
+    /**
+     * Property PendingEvents
+     *
+     * The tasks for conflating listeners which are queued but have not yet
+     * been dispatched, keyed by an ImmutableArrayList of the listener, the
+     * source map and the key of the event.
+     */
+    private static java.util.Map __s_PendingEvents;
+    
+    // Static initializer (from _initStatic)
+    static
+        {
+        // import java.util.concurrent.ConcurrentHashMap;
+        
+        setPendingEvents(new java.util.concurrent.ConcurrentHashMap());
+        }
+    
     // Default constructor
     public CacheEvent()
         {
@@ -206,6 +239,10 @@ public class CacheEvent
                             }
                         }
                     }
+                else if (listener.isConflating() && event.getKey() != null)
+                    {
+                    dispatchConflating(event, listener, queue);
+                    }
                 else
                     {
                     queue.add(instantiate(event, listener));
@@ -214,6 +251,99 @@ public class CacheEvent
             }
         }
     
+    /**
+     * Add the specified MapEvent for the specified conflating listener to the
+    * specified Queue for deferred execution, unless an event for the same key
+    * of the same map is already queued for the listener, in which case the
+    * queued event is replaced instead.
+    * 
+    * The source map is part of the conflation key, as the same listener may
+    * be registered with several maps.
+     */
+    protected static void dispatchConflating(com.tangosol.util.MapEvent event, com.tangosol.util.MapListener listener, Queue queue)
+        {
+        // import com.tangosol.util.MapListenerSupport as com.tangosol.util.MapListenerSupport;
+        // import com.tangosol.util.MapListenerSupport$WrapperConflatingListener as com.tangosol.util.MapListenerSupport.WrapperConflatingListener;
+        // import com.tangosol.util.ImmutableArrayList;
+        // import java.util.Map;
+        
+        java.util.Map mapPending = getPendingEvents();
+        Object        oKey       = new com.tangosol.util.ImmutableArrayList(
+                new Object[] {listener, event.getMap(), event.getKey()});
+        boolean       fConflated;
+        
+        while (true)
+            {
+            CacheEvent task = (CacheEvent) mapPending.get(oKey);
+            if (task == null)
+                {
+                task = instantiate(event, listener);
+                task.setConflationKey(oKey);
+                if (mapPending.putIfAbsent(oKey, task) == null)
+                    {
+                    queue.add(task);
+                    fConflated = false;
+                    break;
+                    }
+                }
+            else if (task.conflate(event))
+                {
+                fConflated = true;
+                break;
+                }
+            else
+                {
+                // the task is being dispatched; it will remove itself shortly
+                mapPending.remove(oKey, task);
+                }
+            }
+        
+        com.tangosol.util.MapListenerSupport.WrapperConflatingListener listenerConflating =
+                com.tangosol.util.MapListenerSupport.getConflatingListener(listener);
+        if (listenerConflating != null)
+            {
+            listenerConflating.onEventRaised(fConflated);
+            }
+        }
+    
+    /**
+     * Replace the MapEvent of this task with the specified event, unless the
+    * dispatch of this task has already started.
+    * 
+    * @return true iff the event was replaced
+     */
+    protected synchronized boolean conflate(com.tangosol.util.MapEvent event)
+        {
+        if (isDispatched())
+            {
+            return false;
+            }
+        
+        setMapEvent(event);
+        return true;
+        }
+    
+    /**
+     * Mark the dispatch of this task as started, and return the MapEvent to
+    * dispatch.
+     */
+    protected synchronized com.tangosol.util.MapEvent startDispatch()
+        {
+        setDispatched(true);
+        return getMapEvent();
+        }
+    
+    // Accessor for the property "ConflationKey"
+    /**
+     * Getter for property ConflationKey.<p>
+    * The key this task is registered with in the PendingEvents map, or null
+    * if the task is not for a conflating listener.
+     */
+    public Object getConflationKey()
+        {
+        return __m_ConflationKey;
+        }
+    
     // Accessor for the property "Listeners"
     /**
      * Getter for property Listeners.<p>
@@ -234,6 +364,18 @@ public class CacheEvent
         return __m_ListenerSupport;
         }
     
+    // Accessor for the property "PendingEvents"
+    /**
+     * Getter for property PendingEvents.<p>
+    * The tasks for conflating listeners which are queued but have not yet
+    * been dispatched, keyed by an ImmutableArrayList of the listener, the
+    * source map and the key of the event.
+     */
+    protected static java.util.Map getPendingEvents()
+        {
+        return __s_PendingEvents;
+        }
+    
     // Accessor for the property "MapEvent"
     /**
      * Getter for property MapEvent.<p>
@@ -254,6 +396,17 @@ public class CacheEvent
         return __m_MapListener;
         }
     
+    // Accessor for the property "Dispatched"
+    /**
+     * Getter for property Dispatched.<p>
+    * Specifies whether the dispatch of this task has started, after which
+    * its MapEvent may no longer be replaced.
+     */
+    public boolean isDispatched()
+        {
+        return __m_Dispatched;
+        }
+    
     // Accessor for the property "ParentTracingSpan"
     /**
      * Getter for property ParentTracingSpan.<p>
@@ -309,7 +462,17 @@ public class CacheEvent
         // import com.tangosol.internal.tracing.Scope;
         // import com.tangosol.internal.tracing.TracingHelper;
         
-        MapEvent   event = getMapEvent();
+        MapEvent   event;
+        Object     oKey  = getConflationKey();
+        if (oKey == null)
+            {
+            event = getMapEvent();
+            }
+        else
+            {
+            event = startDispatch();
+            getPendingEvents().remove(oKey, this);
+            }
         NamedCache cache = (NamedCache) event.getSource();
         
         if (cache.isActive())
@@ -351,6 +514,38 @@ public class CacheEvent
                     }
                 }
             }
+        else if (oKey != null)
+            {
+            // the event is dropped; it is no longer pending delivery
+            com.tangosol.util.MapListenerSupport.WrapperConflatingListener listenerConflating =
+                    com.tangosol.util.MapListenerSupport.getConflatingListener(getMapListener());
+            if (listenerConflating != null)
+                {
+                listenerConflating.onEventDropped();
+                }
+            }
+        }
+    
+    // Accessor for the property "ConflationKey"
+    /**
+     * Setter for property ConflationKey.<p>
+    * The key this task is registered with in the PendingEvents map, or null
+    * if the task is not for a conflating listener.
+     */
+    protected void setConflationKey(Object oKey)
+        {
+        __m_ConflationKey = oKey;
+        }
+    
+    // Accessor for the property "Dispatched"
+    /**
+     * Setter for property Dispatched.<p>
+    * Specifies whether the dispatch of this task has started, after which
+    * its MapEvent may no longer be replaced.
+     */
+    protected void setDispatched(boolean fDispatched)
+        {
+        __m_Dispatched = fDispatched;
         }
     
     // Accessor for the property "Listeners"
@@ -393,6 +588,18 @@ public class CacheEvent
         __m_MapListener = listener;
         }
     
+    // Accessor for the property "PendingEvents"
+    /**
+     * Setter for property PendingEvents.<p>
+    * The tasks for conflating listeners which are queued but have not yet
+    * been dispatched, keyed by an ImmutableArrayList of the listener, the
+    * source map and the key of the event.
+     */
+    protected static void setPendingEvents(java.util.Map mapPending)
+        {
+        __s_PendingEvents = mapPending;
+        }
+    
     // Accessor for the property "ParentTracingSpan"
     /**
      * Setter for property ParentTracingSpan.<p>
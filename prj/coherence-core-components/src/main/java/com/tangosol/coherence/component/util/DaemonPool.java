@@ -1,6 +1,6 @@
 
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -25,11 +25,15 @@ import com.oracle.coherence.common.util.Timers;
 import com.tangosol.coherence.config.Config;
 
 import com.tangosol.internal.util.DefaultDaemonPoolDependencies;
+import com.tangosol.internal.util.QueueLatencySizingStrategy;
+import com.tangosol.internal.util.TaskSampler;
 import com.tangosol.internal.util.VirtualThreads;
 
 import com.tangosol.net.GuardSupport;
 import com.tangosol.net.Guardian;
 import com.tangosol.net.PriorityTask;
+import com.tangosol.net.ThreadPoolManager;
+import com.tangosol.net.ThreadPoolSizingStrategy;
 
 import com.tangosol.run.component.EventDeathException;
 
@@ -241,6 +245,16 @@ public class DaemonPool
      */
     private java.util.Set __m_ScheduledTasks;
     
+    /**
+     * Property SizingStrategy
+     *
+     * An optional ThreadPoolSizingStrategy used by the ResizeTask of a
+     * dynamic pool instead of the default throughput based analysis.
+     * 
+     * @see #instantiateSizingStrategy
+     */
+    private com.tangosol.net.ThreadPoolSizingStrategy __m_SizingStrategy;
+    
     /**
      * Property Started
      *
@@ -354,6 +368,24 @@ public class DaemonPool
      */
     private transient int __m_StatsMaxBacklog;
     
+    /**
+     * Property StatsQueueMillis
+     *
+     * The total number of milliseconds the tasks executed by Daemon threads
+     * have spent in the queue awaiting execution since the last time the
+     * statistics were reset.
+     */
+    private transient long __m_StatsQueueMillis;
+    
+    /**
+     * Property StatsStealCount
+     *
+     * The total number of tasks executed by Daemon threads other than the
+     * ones associated with the queue the task was added to since the last time
+     * the statistics were reset.
+     */
+    private transient long __m_StatsStealCount;
+    
     /**
      * Property StatsTaskAddCount
      *
@@ -378,6 +410,16 @@ public class DaemonPool
      */
     private transient int __m_StatsTimeoutCount;
     
+    /**
+     * Property TaskSampler
+     *
+     * The TaskSampler that aggregates the periodic samples of the tasks
+     * executed by the daemons, or null if task sampling is disabled.
+     * 
+     * @see #sampleTasks
+     */
+    private transient com.tangosol.internal.util.TaskSampler __m_TaskSampler;
+    
     /**
      * Property TaskTimeout
      *
@@ -767,6 +809,23 @@ public class DaemonPool
         return ao;
         }
     
+    /**
+     * Return the description of the specified task that is recorded by the
+    * TaskSampler.
+    * 
+    * @param task  the task being executed by a daemon
+    * 
+    * @see #sampleTasks
+     */
+    protected String describeTask(Runnable task)
+        {
+        // import com.tangosol.coherence.Component;
+        
+        return task instanceof Component
+                ? ((Component) task).get_Name()
+                : task.getClass().getName();
+        }
+    
     /**
      * Find a WorkSlot that has its queue associated with the largest number of
     * daemons. This method should only be called while holding synchronization
@@ -1224,6 +1283,19 @@ public class DaemonPool
         return __m_ScheduledTasks;
         }
     
+    // Accessor for the property "SizingStrategy"
+    /**
+     * Getter for property SizingStrategy.<p>
+    * An optional ThreadPoolSizingStrategy used by the ResizeTask of a dynamic
+    * pool instead of the default throughput based analysis.
+    * 
+    * @see #instantiateSizingStrategy
+     */
+    public com.tangosol.net.ThreadPoolSizingStrategy getSizingStrategy()
+        {
+        return __m_SizingStrategy;
+        }
+    
     // Accessor for the property "StatsAbandonedCount"
     /**
      * Getter for property StatsAbandonedCount.<p>
@@ -1351,6 +1423,30 @@ public class DaemonPool
         return __m_StatsMaxBacklog;
         }
     
+    // Accessor for the property "StatsQueueMillis"
+    /**
+     * Getter for property StatsQueueMillis.<p>
+    * The total number of milliseconds the tasks executed by Daemon threads
+    * have spent in the queue awaiting execution since the last time the
+    * statistics were reset.
+     */
+    public long getStatsQueueMillis()
+        {
+        return __m_StatsQueueMillis;
+        }
+    
+    // Accessor for the property "StatsStealCount"
+    /**
+     * Getter for property StatsStealCount.<p>
+    * The total number of tasks executed by Daemon threads other than the ones
+    * associated with the queue the task was added to since the last time the
+    * statistics were reset.
+     */
+    public long getStatsStealCount()
+        {
+        return __m_StatsStealCount;
+        }
+    
     // Accessor for the property "StatsTaskAddCount"
     /**
      * Getter for property StatsTaskAddCount.<p>
@@ -1384,6 +1480,19 @@ public class DaemonPool
         return __m_StatsTimeoutCount;
         }
     
+    // Accessor for the property "TaskSampler"
+    /**
+     * Getter for property TaskSampler.<p>
+    * The TaskSampler that aggregates the periodic samples of the tasks
+    * executed by the daemons, or null if task sampling is disabled.
+    * 
+    * @see #sampleTasks
+     */
+    public com.tangosol.internal.util.TaskSampler getTaskSampler()
+        {
+        return __m_TaskSampler;
+        }
+    
     // Accessor for the property "TaskTimeout"
     /**
      * Getter for property TaskTimeout.<p>
@@ -1573,6 +1682,44 @@ public class DaemonPool
         return new ConcurrentAssociationPile();
         }
     
+    /**
+     * Create the ThreadPoolSizingStrategy for this dynamic DaemonPool, as
+    * configured by the "coherence.daemonpool.sizing" system property, which
+    * could be set to "latency" or to the name of a ThreadPoolSizingStrategy
+    * implementation class.
+    * 
+    * @return the ThreadPoolSizingStrategy, or null if the default throughput
+    * based analysis of the ResizeTask should be used
+     */
+    protected com.tangosol.net.ThreadPoolSizingStrategy instantiateSizingStrategy()
+        {
+        // import com.tangosol.coherence.config.Config;
+        // import com.tangosol.internal.util.QueueLatencySizingStrategy;
+        // import com.tangosol.net.ThreadPoolSizingStrategy;
+        // import com.tangosol.util.Base;
+        // import com.tangosol.util.ClassHelper;
+        
+        String sStrategy = Config.getProperty(QueueLatencySizingStrategy.PROPERTY_STRATEGY);
+        if (sStrategy == null || sStrategy.isEmpty())
+            {
+            return null;
+            }
+        
+        try
+            {
+            return QueueLatencySizingStrategy.STRATEGY_LATENCY.equalsIgnoreCase(sStrategy)
+                ? new QueueLatencySizingStrategy()
+                : (ThreadPoolSizingStrategy) ClassHelper.newInstance(
+                        Class.forName(sStrategy, true, Base.getContextClassLoader()), null);
+            }
+        catch (Exception e)
+            {
+            _trace("DaemonPool \"" + getName() + "\": failed to instantiate the sizing strategy \""
+                 + sStrategy + "\"; using the default strategy\n" + getStackTrace(e), 2);
+            return null;
+            }
+        }
+    
     /**
      * Factory method: create a new WrapperTask component.
      */
@@ -1867,6 +2014,7 @@ public class DaemonPool
     public void onInit()
         {
         // import com.tangosol.coherence.config.Config;
+        // import com.tangosol.internal.util.TaskSampler;
         
         String sCount = Config.getProperty("coherence.pool.interruptcount");
         if (sCount != null)
@@ -1874,6 +2022,11 @@ public class DaemonPool
             setAbandonThreshold(Integer.parseInt(sCount));
             }
         
+        if (TaskSampler.isEnabled())
+            {
+            setTaskSampler(new TaskSampler());
+            }
+        
         super.onInit();
         
         if (isAutoStart())
@@ -1936,6 +2089,7 @@ public class DaemonPool
     
     public void resetStats()
         {
+        // import com.tangosol.internal.util.TaskSampler;
         // import com.tangosol.util.Base;
         
         synchronized (STATS_MONITOR)
@@ -1950,10 +2104,18 @@ public class DaemonPool
             setStatsLastTaskAddCount(0L);
             setStatsLastTaskCount(0L);
             setStatsMaxBacklog(0);
+            setStatsQueueMillis(0L);
+            setStatsStealCount(0L);
             getStatsTaskAddCount().set(Math.max(0L, getStatsTaskAddCount().get() - getStatsTaskCount()));
             setStatsTaskCount(0L);
             setStatsTimeoutCount(0);
         
+            TaskSampler sampler = getTaskSampler();
+            if (sampler != null)
+                {
+                sampler.reset();
+                }
+        
             // update the reset timestamp
             setStatsLastResetMillis(Base.getSafeTimeMillis());
             }
@@ -1975,6 +2137,47 @@ public class DaemonPool
         catch (RuntimeException ignored) {}
         }
     
+    /**
+     * Record a sample of the task being executed by each daemon with the
+    * TaskSampler, if task sampling is enabled.
+    * 
+    * This method is called periodically on the service thread.
+     */
+    public void sampleTasks()
+        {
+        // import com.tangosol.internal.util.TaskSampler;
+        
+        TaskSampler         sampler = getTaskSampler();
+        DaemonPool.Daemon[] aDaemon = getDaemons();
+        
+        if (sampler == null || aDaemon == null)
+            {
+            return;
+            }
+        
+        for (int i = 0, c = aDaemon.length; i < c; i++)
+            {
+            DaemonPool.WrapperTask wrapper = aDaemon[i].getWrapperTask();
+            Runnable               task    = wrapper == null ? null : wrapper.getTask();
+            String                 sTask   = null;
+        
+            if (task != null && !wrapper.isManagementTask())
+                {
+                try
+                    {
+                    sTask = describeTask(task);
+                    }
+                catch (RuntimeException e)
+                    {
+                    // the task state is read while it executes
+                    sTask = task.getClass().getName();
+                    }
+                }
+        
+            sampler.sample(sTask);
+            }
+        }
+    
     // From interface: com.tangosol.internal.util.DaemonPool
     public void schedule(Runnable task, long cMillis)
         {
@@ -2309,6 +2512,19 @@ public class DaemonPool
         __m_ScheduledTasks = setTasks;
         }
     
+    // Accessor for the property "SizingStrategy"
+    /**
+     * Setter for property SizingStrategy.<p>
+    * An optional ThreadPoolSizingStrategy used by the ResizeTask of a dynamic
+    * pool instead of the default throughput based analysis.
+    * 
+    * @see #instantiateSizingStrategy
+     */
+    protected void setSizingStrategy(com.tangosol.net.ThreadPoolSizingStrategy strategy)
+        {
+        __m_SizingStrategy = strategy;
+        }
+    
     // Accessor for the property "Started"
     /**
      * Setter for property Started.<p>
@@ -2453,6 +2669,30 @@ public class DaemonPool
         __m_StatsMaxBacklog = cTasks;
         }
     
+    // Accessor for the property "StatsQueueMillis"
+    /**
+     * Setter for property StatsQueueMillis.<p>
+    * The total number of milliseconds the tasks executed by Daemon threads
+    * have spent in the queue awaiting execution since the last time the
+    * statistics were reset.
+     */
+    protected void setStatsQueueMillis(long cMillis)
+        {
+        __m_StatsQueueMillis = cMillis;
+        }
+    
+    // Accessor for the property "StatsStealCount"
+    /**
+     * Setter for property StatsStealCount.<p>
+    * The total number of tasks executed by Daemon threads other than the ones
+    * associated with the queue the task was added to since the last time the
+    * statistics were reset.
+     */
+    protected void setStatsStealCount(long cTasks)
+        {
+        __m_StatsStealCount = cTasks;
+        }
+    
     // Accessor for the property "StatsTaskAddCount"
     /**
      * Setter for property StatsTaskAddCount.<p>
@@ -2486,6 +2726,19 @@ public class DaemonPool
         __m_StatsTimeoutCount = cTasks;
         }
     
+    // Accessor for the property "TaskSampler"
+    /**
+     * Setter for property TaskSampler.<p>
+    * The TaskSampler that aggregates the periodic samples of the tasks
+    * executed by the daemons, or null if task sampling is disabled.
+    * 
+    * @see #sampleTasks
+     */
+    protected void setTaskSampler(com.tangosol.internal.util.TaskSampler sampler)
+        {
+        __m_TaskSampler = sampler;
+        }
+    
     // Accessor for the property "TaskTimeout"
     /**
      * Setter for property TaskTimeout.<p>
@@ -2698,6 +2951,13 @@ public class DaemonPool
                 DaemonPool.ResizeTask task = (DaemonPool.ResizeTask) _newChild("ResizeTask");
                 setResizeTask(task);
         
+                ThreadPoolSizingStrategy strategy = instantiateSizingStrategy();
+                if (strategy != null)
+                    {
+                    strategy.init(task);
+                    setSizingStrategy(strategy);
+                    }
+        
                 schedule(task, task.getPeriodMillis());
                 }
             }
@@ -2932,21 +3192,30 @@ public class DaemonPool
     * 
     * @param daemon  the Daemon that is reporting the statistics
     * @param cTasks  the number of tasks that were executed
+    * @param cSteals  the number of tasks that were taken from other queues
+    * @param cQueueMillis  the total time the tasks spent in the queue
     * @param ldtStart  the timestamp when the execution began
     * 
     * @return current time
      */
-    public long updateStats(DaemonPool.Daemon daemon, int cTasks, long ldtStart)
+    public long updateStats(DaemonPool.Daemon daemon, int cTasks, int cSteals, long cQueueMillis, long ldtStart)
         {
         // import com.tangosol.util.Base;
         
         long ldtNow = Base.getSafeTimeMillis();
-        if (cTasks > 0 && daemon.getDaemonType() == DAEMON_STANDARD)
+        if ((cTasks > 0 || cSteals > 0) && daemon.getDaemonType() == DAEMON_STANDARD)
             {
             synchronized (STATS_MONITOR)
                 {
-                setStatsTaskCount(getStatsTaskCount() + cTasks);
-                setStatsActiveMillis(getStatsActiveMillis() + ldtNow - ldtStart);
+                // a task is counted as stolen before it is executed, so the
+                // steals may be reported ahead of the corresponding tasks
+                if (cTasks > 0)
+                    {
+                    setStatsTaskCount(getStatsTaskCount() + cTasks);
+                    setStatsActiveMillis(getStatsActiveMillis() + ldtNow - ldtStart);
+                    setStatsQueueMillis(getStatsQueueMillis() + cQueueMillis);
+                    }
+                setStatsStealCount(getStatsStealCount() + cSteals);
                 }
             }
         
@@ -3002,6 +3271,16 @@ public class DaemonPool
          */
         private com.oracle.coherence.common.util.AssociationPile __m_Queue;
         
+        /**
+         * Property StealCount
+         *
+         * The number of tasks this daemon has taken from queues associated
+         * with other daemons since it was started.
+         * 
+         * @volatile
+         */
+        private volatile transient long __m_StealCount;
+        
         /**
          * Property WrapperTask
          *
@@ -3267,6 +3546,19 @@ public class DaemonPool
             return __m_Queue;
             }
         
+        // Accessor for the property "StealCount"
+        /**
+         * Getter for property StealCount.<p>
+        * The number of tasks this daemon has taken from queues associated with
+        * other daemons since it was started.
+        * 
+        * @volatile
+         */
+        public long getStealCount()
+            {
+            return __m_StealCount;
+            }
+        
         // Declared at the super level
         /**
          * Getter for property WaitMillis.<p>
@@ -3437,10 +3729,12 @@ public class DaemonPool
             // import com.tangosol.run.component.EventDeathException;
             // import com.tangosol.util.Base;
             
-            DaemonPool pool     = (DaemonPool) get_Parent();
-            boolean fOnce    = getQueue() == null;
-            long    ldtStart = 0L;
-            int     cTasks   = 0;
+            DaemonPool pool         = (DaemonPool) get_Parent();
+            boolean fOnce        = getQueue() == null;
+            long    ldtStart     = 0L;
+            int     cTasks       = 0;
+            int     cSteals      = 0;
+            long    cQueueMillis = 0L;
             
             DaemonPool.WrapperTask wrapper = getWrapperTask(); // not null only if fOnce
             try
@@ -3458,6 +3752,8 @@ public class DaemonPool
                                 {
                                 return;
                                 }
+                            cSteals++;
+                            setStealCount(getStealCount() + 1L);
                             }
             
                         // this marks the thread as "active"
@@ -3468,8 +3764,10 @@ public class DaemonPool
                             {
                             // make sure that we register at least every 256 tasks,
                             // so the stats are updated even if the queue is never empty
-                            ldtStart = pool.updateStats(this, cTasks, ldtStart);
-                            cTasks   = 0;
+                            ldtStart     = pool.updateStats(this, cTasks, cSteals, cQueueMillis, ldtStart);
+                            cTasks       = 0;
+                            cSteals      = 0;
+                            cQueueMillis = 0L;
                             }
                         }
                     else
@@ -3503,6 +3801,7 @@ public class DaemonPool
                     if (!wrapper.isManagementTask())
                         {
                         cTasks++;
+                        cQueueMillis += Math.max(0L, Base.getLastSafeTimeMillis() - wrapper.getPostTime());
                         }
             
                     try
@@ -3538,9 +3837,9 @@ public class DaemonPool
             finally
                 {
                 // account for all the work done before return or "stop"
-                if (cTasks > 0)
+                if (cTasks > 0 || cSteals > 0)
                     {
-                    pool.updateStats(this, cTasks, ldtStart);
+                    pool.updateStats(this, cTasks, cSteals, cQueueMillis, ldtStart);
                     }
             
                 release(wrapper);
@@ -3735,6 +4034,19 @@ public class DaemonPool
                }
             }
         
+        // Accessor for the property "StealCount"
+        /**
+         * Setter for property StealCount.<p>
+        * The number of tasks this daemon has taken from queues associated with
+        * other daemons since it was started.
+        * 
+        * @volatile
+         */
+        protected void setStealCount(long cTasks)
+            {
+            __m_StealCount = cTasks;
+            }
+        
         // Accessor for the property "WrapperTask"
         /**
          * Setter for property WrapperTask.<p>
@@ -4125,7 +4437,8 @@ public class DaemonPool
     @SuppressWarnings({"deprecation", "rawtypes", "unused", "unchecked", "ConstantConditions", "DuplicatedCode", "ForLoopReplaceableByForEach", "IfCanBeSwitch", "RedundantArrayCreation", "RedundantSuppression", "SameParameterValue", "TryFinallyCanBeTryWithResources", "TryWithIdenticalCatches", "UnnecessaryBoxing", "UnnecessaryUnboxing", "UnusedAssignment"})
     public static class ResizeTask
             extends    com.tangosol.coherence.component.Util
-            implements Runnable
+            implements ThreadPoolManager,
+                       Runnable
         {
         // ---- Fields declarations ----
         
@@ -4137,6 +4450,16 @@ public class DaemonPool
          */
         private transient double __m_ActiveCountAverage;
         
+        /**
+         * Property AverageQueueMillis
+         *
+         * The average time (in milliseconds) that the tasks executed since the
+         * last run of this task have spent in the queue, or -1 if unknown.
+         * This property is only maintained if the DaemonPool has a
+         * SizingStrategy.
+         */
+        private transient double __m_AverageQueueMillis;
+        
         /**
          * Property ADJUST_FASTER
          *
@@ -4179,6 +4502,14 @@ public class DaemonPool
          */
         private long __m_LastActiveMillis;
         
+        /**
+         * Property LastQueueMillis
+         *
+         * The last DaemonPool total queue time (see StatsQueueMillis) measured
+         * by this task.
+         */
+        private long __m_LastQueueMillis;
+        
         /**
          * Property LastResize
          *
@@ -4496,6 +4827,62 @@ public class DaemonPool
             return __m_ActiveCountAverage;
             }
         
+        // From interface: com.tangosol.net.ThreadPoolManager
+        // Accessor for the property "AverageQueueMillis"
+        /**
+         * Getter for property AverageQueueMillis.<p>
+        * The average time (in milliseconds) that the tasks executed since the
+        * last run of this task have spent in the queue, or -1 if unknown. This
+        * property is only maintained if the DaemonPool has a SizingStrategy.
+         */
+        public double getAverageQueueMillis()
+            {
+            return __m_AverageQueueMillis;
+            }
+        
+        // From interface: com.tangosol.net.ThreadPoolManager
+        public int getBacklog()
+            {
+            return getDaemonPool().getBacklog();
+            }
+        
+        // From interface: com.tangosol.net.ThreadPoolManager
+        public int getIdleThreadCount()
+            {
+            DaemonPool pool = getDaemonPool();
+            return Math.max(0, pool.getDaemonCount() - pool.getActiveDaemonCount());
+            }
+        
+        // From interface: com.tangosol.net.ThreadPoolManager
+        public int getMaxPoolSize()
+            {
+            return getDaemonPool().getDaemonCountMax();
+            }
+        
+        // From interface: com.tangosol.net.ThreadPoolManager
+        public int getMinPoolSize()
+            {
+            return getDaemonPool().getDaemonCountMin();
+            }
+        
+        // From interface: com.tangosol.net.ThreadPoolManager
+        public int getPoolSize()
+            {
+            return getDaemonPool().getDaemonCount();
+            }
+        
+        // From interface: com.tangosol.net.ThreadPoolManager
+        public long getThreadDecreaseInterval()
+            {
+            return getPeriodMillis();
+            }
+        
+        // From interface: com.tangosol.net.ThreadPoolManager
+        public long getThreadIncreaseInterval()
+            {
+            return getPeriodMillis();
+            }
+        
         // Accessor for the property "DaemonCount"
         /**
          * Getter for property DaemonCount.<p>
@@ -4591,6 +4978,17 @@ public class DaemonPool
             return __m_LastActiveMillis;
             }
         
+        // Accessor for the property "LastQueueMillis"
+        /**
+         * Getter for property LastQueueMillis.<p>
+        * The last DaemonPool total queue time (see StatsQueueMillis) measured
+        * by this task.
+         */
+        public long getLastQueueMillis()
+            {
+            return __m_LastQueueMillis;
+            }
+        
         // Accessor for the property "LastResize"
         /**
          * Getter for property LastResize.<p>
@@ -4923,6 +5321,66 @@ public class DaemonPool
             return cNew;
             }
         
+        /**
+         * Resize the DaemonPool as suggested by the specified
+        * ThreadPoolSizingStrategy, using the queue latency measured since the
+        * last run of this task, and reschedule this task.
+        * 
+        * @param pool      the DaemonPool
+        * @param strategy  the SizingStrategy of the pool
+         */
+        protected void runSizingStrategy(DaemonPool pool, ThreadPoolSizingStrategy strategy)
+            {
+            // import com.tangosol.util.Base;
+            
+            long ldtNow = Base.getSafeTimeMillis();
+            long cTasks;
+            long cQueueMillis;
+            
+            synchronized (pool.STATS_MONITOR)
+                {
+                cTasks       = pool.getStatsTaskCount();
+                cQueueMillis = pool.getStatsQueueMillis();
+                }
+            
+            long cTasksDelta  = cTasks       - getLastTaskCount();
+            long cMillisDelta = cQueueMillis - getLastQueueMillis();
+            
+            try
+                {
+                // the deltas could be negative if the stats were reset
+                setAverageQueueMillis(cTasksDelta <= 0L || cMillisDelta < 0L
+                        ? (cTasksDelta == 0L && pool.getBacklog() > 0 ? Double.MAX_VALUE : -1.0)
+                        : (double) cMillisDelta / cTasksDelta);
+            
+                if (!pool.isInTransition())
+                    {
+                    int cThreads = pool.getDaemonCount();
+                    int cNew     = strategy.adjustPoolSize();
+            
+                    if (cNew > 0 && cNew != cThreads &&
+                        resizeDaemonPool(cNew - cThreads, strategy.getDescription()) != cThreads)
+                        {
+                        setLastResizeMillis(ldtNow);
+                        }
+                    }
+                }
+            catch (RuntimeException e)
+                {
+                _trace("DaemonPool \"" + pool.getName() + "\": sizing strategy failed\n"
+                     + getStackTrace(e), 2);
+                }
+            finally
+                {
+                setLastRunMillis(ldtNow);
+                setLastTaskCount(cTasks);
+                setLastQueueMillis(cQueueMillis);
+                setLastThreadCount(pool.getDaemonCount());
+            
+                pool.schedule(this, getPeriodMillis());
+                }
+            }
+        
         // From interface: java.lang.Runnable
         public synchronized void run()
             {
@@ -4940,6 +5398,13 @@ public class DaemonPool
             
             pool.flushStats();
             
+            ThreadPoolSizingStrategy strategy = pool.getSizingStrategy();
+            if (strategy != null)
+                {
+                runSizingStrategy(pool, strategy);
+                return;
+                }
+            
             long ldtNow        = Base.getSafeTimeMillis();
             long cPeriod       = getPeriodMillis();
             long cTasks        = 0L;
@@ -5158,6 +5623,18 @@ public class DaemonPool
             __m_ActiveCountAverage = dflAverage;
             }
         
+        // Accessor for the property "AverageQueueMillis"
+        /**
+         * Setter for property AverageQueueMillis.<p>
+        * The average time (in milliseconds) that the tasks executed since the
+        * last run of this task have spent in the queue, or -1 if unknown. This
+        * property is only maintained if the DaemonPool has a SizingStrategy.
+         */
+        protected void setAverageQueueMillis(double dflMillis)
+            {
+            __m_AverageQueueMillis = dflMillis;
+            }
+        
         // Accessor for the property "Debug"
         /**
          * Setter for property Debug.<p>
@@ -5196,6 +5673,17 @@ public class DaemonPool
             __m_LastActiveMillis = cMillis;
             }
         
+        // Accessor for the property "LastQueueMillis"
+        /**
+         * Setter for property LastQueueMillis.<p>
+        * The last DaemonPool total queue time (see StatsQueueMillis) measured
+        * by this task.
+         */
+        protected void setLastQueueMillis(long cMillis)
+            {
+            __m_LastQueueMillis = cMillis;
+            }
+        
         // Accessor for the property "LastResize"
         /**
          * Setter for property LastResize.<p>
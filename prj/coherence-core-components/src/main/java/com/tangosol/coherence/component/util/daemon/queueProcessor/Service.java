@@ -1,6 +1,6 @@
 
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -388,6 +388,21 @@ public abstract class Service
         setServiceConfig(xml);
         }
     
+    /**
+     * Return the description of the specified task that is recorded by the
+    * TaskSampler of the service thread pool, or null to use the default
+    * description.
+    * 
+    * @param task  the task being executed by a thread of the service thread
+    * pool
+    * 
+    * @see DaemonPool#sampleTasks
+     */
+    public String describeTask(Runnable task)
+        {
+        return null;
+        }
+    
     /**
      * Dispatch the given event to the EventDispatcher.
     * 
@@ -1351,6 +1366,7 @@ public abstract class Service
         if (pool.isStarted())
             {
             pool.checkHungTasks();
+            pool.sampleTasks();
             }
         
         super.onInterval();
@@ -2232,6 +2248,22 @@ public abstract class Service
             return __mapChildren;
             }
         
+        // Declared at the super level
+        /**
+         * Return the description of the specified task that is recorded by
+        * the TaskSampler.
+        * 
+        * @param task  the task being executed by a daemon
+        * 
+        * @see #sampleTasks
+         */
+        protected String describeTask(Runnable task)
+            {
+            String sTask = ((Service) get_Module()).describeTask(task);
+            
+            return sTask == null ? super.describeTask(task) : sTask;
+            }
+        
         // Declared at the super level
         /**
          * Getter for property Name.<p>
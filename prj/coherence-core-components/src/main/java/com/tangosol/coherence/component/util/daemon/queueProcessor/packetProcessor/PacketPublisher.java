@@ -1995,6 +1995,8 @@ public class PacketPublisher
         // import java.util.Iterator;
         // import java.util.List;
         
+        recordAckLatency(member, collAcknowledged);
+        
         com.tangosol.coherence.component.net.Member.FlowControl flowControl = member.getFlowControl();
         if (flowControl != null)
             {
@@ -2062,6 +2064,55 @@ public class PacketPublisher
             }
         }
     
+    /**
+     * Feed the acknowledgement latency of the specified newly ack'd packets to
+    * the adaptive bundling of the speaker queue.  Only packets which were
+    * sent exactly once are sampled, as the ack of a resent packet cannot be
+    * matched to a particular transmission.
+    * 
+    * @param member            the member which ack'd the packets
+    * @param collAcknowledged  the newly ack'd packets
+     */
+    protected void recordAckLatency(com.tangosol.coherence.component.net.Member member, java.util.Collection collAcknowledged)
+        {
+        // import Component.Net.Packet.MessagePacket;
+        // import Component.Util.Daemon.QueueProcessor.PacketProcessor.PacketSpeaker$BundlingQueue as PacketSpeaker.BundlingQueue;
+        // import com.tangosol.util.Base;
+        // import java.util.Iterator;
+        
+        com.tangosol.coherence.component.util.Queue queueSend = getSendQueue();
+        if (!(queueSend instanceof PacketSpeaker.BundlingQueue)
+            || !((PacketSpeaker.BundlingQueue) queueSend).isBundlingAdaptive())
+            {
+            return;
+            }
+        
+        long ldtNow     = Base.getSafeTimeMillis();
+        long cMillisMin = Long.MAX_VALUE;
+        for (Iterator iter = collAcknowledged.iterator(); iter.hasNext(); )
+            {
+            MessagePacket packet  = (MessagePacket) iter.next();
+            long          ldtSent = packet.getSentMillis();
+        
+            if (packet.getSentCount() == 1 && ldtSent > 0L)
+                {
+                // the quickest ack of the batch is the least affected by ack delay
+                cMillisMin = Math.min(cMillisMin, ldtNow - ldtSent);
+                }
+            }
+        
+        if (cMillisMin != Long.MAX_VALUE)
+            {
+            // the packets could have been addressed to either of the member's
+            // addresses; the speaker ignores a target it has not sent to
+            PacketSpeaker.BundlingQueue queueSpeaker = (PacketSpeaker.BundlingQueue) queueSend;
+            long                        cNanos       = Math.max(1L, cMillisMin) * 1000000L;
+        
+            queueSpeaker.recordAckLatency(member.getSocketAddress(), cNanos);
+            queueSpeaker.recordAckLatency(member.getPreferredSocketAddress(), cNanos);
+            }
+        }
+    
     /**
      * Process Ack packet received from other members.
      */
@@ -982,6 +982,9 @@ public class PacketSpeaker
             setBundlingEnabled(Boolean.valueOf(Config.getProperty(
                     "coherence.speaker.bundling.enabled", "true")).booleanValue());
             
+            setBundlingAdaptive(Boolean.valueOf(Config.getProperty(
+                    "coherence.speaker.bundling.adaptive", "false")).booleanValue());
+            
             setBatchSize(Integer.parseInt(Config.getProperty(
                     "coherence.speaker.batch", "8")));
             
@@ -18,6 +18,7 @@ import com.tangosol.coherence.config.Config;
 import com.tangosol.internal.net.security.AccessAdapter;
 import com.tangosol.internal.net.service.peer.DefaultPeerDependencies;
 import com.tangosol.internal.net.service.peer.PeerDependencies;
+import com.tangosol.internal.util.VirtualThreadExecutor;
 import com.tangosol.io.ByteArrayReadBuffer;
 import com.tangosol.io.ByteArrayWriteBuffer;
 import com.tangosol.io.ReadBuffer;
@@ -30,6 +31,7 @@ import com.tangosol.io.WriteBuffer;
 import com.tangosol.license.LicenseException;
 import com.tangosol.net.Guardian;
 import com.tangosol.net.Member;
+import com.tangosol.net.PriorityTask;
 import com.tangosol.net.RequestTimeoutException;
 import com.tangosol.net.messaging.ConnectionEvent;
 import com.tangosol.net.messaging.ConnectionException;
@@ -54,6 +56,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import javax.security.auth.Subject;
 
 /**
@@ -228,6 +231,14 @@ public abstract class Peer
      */
     private transient java.util.Map __m_ReceiverMap;
     
+    /**
+     * Property RequestExecutor
+     *
+     * The optional Executor used to execute received Messages instead of the
+     * DaemonPool, for example to run each request on a virtual thread.
+     */
+    private transient java.util.concurrent.Executor __m_RequestExecutor;
+    
     /**
      * Property RequestTimeout
      *
@@ -1411,6 +1422,17 @@ public abstract class Peer
             }
         }
     
+    // Accessor for the property "RequestExecutor"
+    /**
+     * Getter for property RequestExecutor.<p>
+    * The optional Executor used to execute received Messages instead of the
+    * DaemonPool, for example to run each request on a virtual thread.
+     */
+    public java.util.concurrent.Executor getRequestExecutor()
+        {
+        return __m_RequestExecutor;
+        }
+    
     // Accessor for the property "RequestTimeout"
     /**
      * Getter for property RequestTimeout.<p>
@@ -1795,6 +1817,33 @@ public abstract class Peer
         super.onInit();
         }
     
+    // Declared at the super level
+    /**
+     * Event notification for performing low frequency periodic maintenance
+    * tasks.  The interval is dictated by the WaitMillis property, 
+    * 
+    * This is used for tasks which have a high enough cost that it is not
+    * reasonable to perform them on every call to onWait() since it could be
+    * called with a high frequency in the presence of work-loads with fast
+    * oscillation between onWait() and onNotify().  As an example a single
+    * threaded client could produce such a load.
+     */
+    protected void onInterval()
+        {
+        // import com.tangosol.internal.util.VirtualThreadExecutor;
+        // import java.util.concurrent.Executor;
+        
+        // enforce the task timeout and hung threshold for requests that
+        // bypass the daemon pool
+        Executor executor = getRequestExecutor();
+        if (executor instanceof VirtualThreadExecutor)
+            {
+            ((VirtualThreadExecutor) executor).checkTasks();
+            }
+        
+        super.onInterval();
+        }
+    
     // From interface: com.tangosol.net.messaging.Channel$Receiver
     /**
      * Called on the service thread.
@@ -1919,11 +1968,13 @@ public abstract class Peer
         // import com.tangosol.net.messaging.Message;
         // import com.tangosol.util.Base;
         // import java.io.IOException;
+        // import java.util.concurrent.Executor;
         
         long       ldtStart  = Base.getSafeTimeMillis();
         long       cMessage  = getStatsReceived();
         long       cbReceive = getStatsBytesReceived();
         com.tangosol.coherence.component.util.DaemonPool pool      = getDaemonPool();
+        Executor   executor  = getRequestExecutor();
         
         while (!isExiting())
             {
@@ -2007,13 +2058,35 @@ public abstract class Peer
         
             // execute the Message
             if (this == channel.getReceiver() ||
-                !pool.isStarted()             ||
                 message.isExecuteInOrder())
                 {
                 // (1) the Message is an internal Message; or
                 // (2) the Message is a "Channel0" Message; or
-                // (3) the daemon pool has not been started; or
-                // (4) the Message calls for in-order execution
+                // (3) the Message calls for in-order execution
+                channel.receive(message);
+                }
+            else if (executor instanceof VirtualThreadExecutor)
+                {
+                // (4) the Message is executed by the request executor, subject
+                //     to the task timeout of the daemon pool; should the
+                //     executor fail to start a thread, the daemon pool runs it
+                Message messageExec = message;
+                long    cTimeout    = message instanceof PriorityTask
+                        ? ((PriorityTask) message).getExecutionTimeoutMillis()
+                        : PriorityTask.TIMEOUT_DEFAULT;
+        
+                ((VirtualThreadExecutor) executor).execute(() -> channel.receive(messageExec), cTimeout,
+                        () -> onRequestRejected(messageExec));
+                }
+            else if (executor != null)
+                {
+                // (5) the Message is executed by a custom request executor
+                Message messageExec = message;
+                executor.execute(() -> channel.receive(messageExec));
+                }
+            else if (!pool.isStarted())
+                {
+                // (6) the daemon pool has not been started
                 channel.receive(message);
                 }
             else
@@ -2043,6 +2116,29 @@ public abstract class Peer
         super.onNotify();
         }
     
+    /**
+     * Called when the request executor failed to start a thread for the
+    * specified Message. The Message is executed by the daemon pool instead,
+    * or on the calling thread if the daemon pool has not been started.
+    * 
+    * @param message  the rejected Message
+     */
+    protected void onRequestRejected(com.tangosol.net.messaging.Message message)
+        {
+        // import Component.Net.Extend.Channel;
+        // import Component.Util.DaemonPool as com.tangosol.coherence.component.util.DaemonPool;
+        
+        com.tangosol.coherence.component.util.DaemonPool pool = getDaemonPool();
+        if (pool.isStarted())
+            {
+            pool.add(message);
+            }
+        else
+            {
+            ((Channel) message.getChannel()).receive(message);
+            }
+        }
+    
     // Declared at the super level
     /**
      * The default implementation of this method sets AcceptingClients to true.
@@ -2724,6 +2820,17 @@ public abstract class Peer
         __m_ReceiverMap = map;
         }
     
+    // Accessor for the property "RequestExecutor"
+    /**
+     * Setter for property RequestExecutor.<p>
+    * The optional Executor used to execute received Messages instead of the
+    * DaemonPool, for example to run each request on a virtual thread.
+     */
+    protected void setRequestExecutor(java.util.concurrent.Executor executor)
+        {
+        __m_RequestExecutor = executor;
+        }
+    
     // Accessor for the property "RequestTimeout"
     /**
      * Setter for property RequestTimeout.<p>
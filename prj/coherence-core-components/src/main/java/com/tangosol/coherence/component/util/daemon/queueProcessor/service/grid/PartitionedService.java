@@ -39,6 +39,7 @@ import com.oracle.coherence.persistence.PersistentStoreInfo;
 import com.tangosol.coherence.component.util.daemon.queueProcessor.service.Grid;
 import com.tangosol.coherence.config.Config;
 import com.tangosol.coherence.config.builder.ParameterizedBuilder;
+import com.tangosol.internal.metrics.DirectMetricRegistry;
 import com.tangosol.internal.net.service.grid.DefaultPartitionedServiceDependencies;
 import com.tangosol.internal.net.service.grid.PartitionedServiceDependencies;
 import com.tangosol.internal.net.service.grid.PersistenceDependencies;
@@ -1524,6 +1525,44 @@ public abstract class PartitionedService
         return cPartitionsThis;
         }
     
+    /**
+     * Calculate the size threshold for a transfer to the specified member.
+    * 
+    * The configured TransferThreshold is reduced when the heap headroom on
+    * this member is low, so that the transfer snapshot does not push the
+    * member towards an OutOfMemoryError, and when the packet flow control
+    * reports that the recipient is not keeping up with the traffic sent to
+    * it.  Note that at least one partition is always transferred regardless
+    * of the threshold.
+    * 
+    * @param member  the member to transfer to
+    * 
+    * @return the number of bytes to limit the transfer to
+    * 
+    * @see TransferControl#isTransferFull
+     */
+    public long calculateTransferThreshold(com.tangosol.coherence.component.net.Member member)
+        {
+        // import Component.Net.Member$FlowControl as com.tangosol.coherence.component.net.Member.FlowControl;
+        
+        long    cbLimit = getTransferThreshold();
+        Runtime runtime = Runtime.getRuntime();
+        long    cbFree  = runtime.maxMemory() - runtime.totalMemory() + runtime.freeMemory();
+        
+        // a transfer is held in memory by both the sender and the recipient
+        // until it is acknowledged; limit it to a fraction of the headroom
+        cbLimit = Math.min(cbLimit, cbFree / 16L);
+        
+        com.tangosol.coherence.component.net.Member.FlowControl flowControl = member == null ? null : member.getFlowControl();
+        if (flowControl != null && (flowControl.isPaused() || flowControl.isDeferring()))
+            {
+            // the recipient is falling behind; avoid adding to the backlog
+            cbLimit >>>= 2;
+            }
+        
+        return Math.max(cbLimit, 1L);
+        }
+    
     /**
      * Calculate the total number of unbalanced partitions. Used by the JMX and
     * tests.
@@ -2467,6 +2506,18 @@ public abstract class PartitionedService
             }
         }
     
+    // Declared at the super level
+    /**
+     * @return a human-readable description of the Service statistics
+     */
+    public String formatStats()
+        {
+        String sStats = super.formatStats();
+        
+        PartitionedService.TransferControl ctrlTransfer = getTransferControl();
+        return ctrlTransfer == null ? sStats : sStats + ctrlTransfer.formatStats();
+        }
+    
     // Accessor for the property "AsyncBackupInterval"
     /**
      * Getter for property AsyncBackupInterval.<p>
@@ -5230,6 +5281,13 @@ public abstract class PartitionedService
         // detach the partition and service config listeners
         getServiceConfigMap()  .getConfig().removeConfigListener();
         getPartitionConfigMap().getConfig().removeConfigListener();
+        
+        // unregister the transfer metrics
+        PartitionedService.TransferControl ctrlTransfer = getTransferControl();
+        if (ctrlTransfer != null)
+            {
+            ctrlTransfer.resetStats();
+            }
         }
     
     /**
@@ -9038,6 +9096,11 @@ public abstract class PartitionedService
             getPartitionEvents().clear();
             }
         
+        if (getTransferControl() != null)
+            {
+            getTransferControl().resetStats();
+            }
+        
         super.resetStats();
         }
     
@@ -10269,7 +10332,7 @@ public abstract class PartitionedService
         
         // we have successfully locked some partitions for transfer;
         // prepare the TransferControl with the appropriate transfer limit
-        ctrlTransfer.prepareBackupTransfer(member, getTransferThreshold(),
+        ctrlTransfer.prepareBackupTransfer(member, calculateTransferThreshold(member),
             Math.min(cPartsLimit, cPartitions));
         
         int cSent = 0;
@@ -10370,7 +10433,8 @@ public abstract class PartitionedService
             }
         else
             {
-            getTransferControl().preparePrimaryTransfer(msgRequest, getTransferThreshold());
+            getTransferControl().preparePrimaryTransfer(msgRequest,
+                calculateTransferThreshold(msgRequest.getFromMember()));
         
             onFinalizeSendPrimary(parts);
             return true;
@@ -32005,6 +32069,92 @@ public abstract class PartitionedService
          * to.
          */
         private long __m_TransferSizeLimit;
+        
+        /**
+         * Property TransferStartMillis
+         *
+         * The time at which the first partition of this logical distribution
+         * was recorded for transfer, or 0 if there is no outgoing transfer.
+         */
+        private long __m_TransferStartMillis;
+        
+        /**
+         * Property TransferStats
+         *
+         * The statistics of the completed outgoing transfers, keyed by the id
+         * of the recipient member.  The values are long[] holding the number
+         * of distributions, partitions, bytes and milliseconds (see the
+         * STAT_* constants).
+         */
+        private java.util.Map __m_TransferStats;
+        
+        /**
+         * Property TransferredPartitions
+         *
+         * The number of partition transfers of this logical distribution that
+         * have been acknowledged by the recipient.
+         */
+        private int __m_TransferredPartitions;
+        
+        /**
+         * Property STAT_BYTES
+         *
+         * The index of the number of bytes in the TransferStats values.
+         */
+        public static final int STAT_BYTES = 2;
+        
+        /**
+         * Property STAT_DISTRIBUTIONS
+         *
+         * The index of the number of distributions in the TransferStats
+         * values.
+         */
+        public static final int STAT_DISTRIBUTIONS = 0;
+        
+        /**
+         * Property STAT_MILLIS
+         *
+         * The index of the total transfer duration in the TransferStats
+         * values.
+         */
+        public static final int STAT_MILLIS = 3;
+        
+        /**
+         * Property STAT_PARTITIONS
+         *
+         * The index of the number of partitions in the TransferStats values.
+         */
+        public static final int STAT_PARTITIONS = 1;
+        
+        /**
+         * Property METRIC_TRANSFER_DURATION
+         *
+         * The name of the metric holding the total duration, in milliseconds,
+         * of the completed outgoing transfers to a member.
+         */
+        public static final String METRIC_TRANSFER_DURATION = "Coherence.Service.TransferDuration";
+        
+        /**
+         * Property METRIC_TRANSFER_THROUGHPUT
+         *
+         * The name of the metric holding the average throughput, in bytes per
+         * second, of the completed outgoing transfers to a member.
+         */
+        public static final String METRIC_TRANSFER_THROUGHPUT = "Coherence.Service.TransferThroughput";
+        
+        /**
+         * Property TAG_MEMBER
+         *
+         * The metric tag holding the id of the recipient member.
+         */
+        public static final String TAG_MEMBER = "member";
+        
+        /**
+         * Property TAG_SERVICE
+         *
+         * The metric tag holding the service name.
+         */
+        public static final String TAG_SERVICE = "name";
         private static com.tangosol.util.ListMap __mapChildren;
         
         // Static initializer
@@ -32049,6 +32199,7 @@ public abstract class PartitionedService
                 {
                 setIncomingTransfers(new java.util.HashMap());
                 setPartitionsOut(new com.tangosol.util.PrimitiveSparseArray());
+                setTransferStats(new java.util.concurrent.ConcurrentSkipListMap());
                 }
             catch (java.lang.Exception e)
                 {
@@ -32173,6 +32324,54 @@ public abstract class PartitionedService
             setTransferState(msgTransferLast.getPartition(), PartitionedService.PartitionControl.XFER_SENT);
             }
         
+        /**
+         * @return a human-readable description of the outgoing transfer
+        * statistics per recipient member, or an empty string if no transfers
+        * have completed since the statistics were reset
+         */
+        public String formatStats()
+            {
+            // import java.util.Iterator;
+            // import java.util.Map;
+            // import java.util.Map$Entry as java.util.Map.Entry;
+            
+            Map mapStats = getTransferStats();
+            if (mapStats.isEmpty())
+                {
+                return "";
+                }
+            
+            StringBuilder sb = new StringBuilder(", Transfers={");
+            for (Iterator iter = mapStats.entrySet().iterator(); iter.hasNext(); )
+                {
+                java.util.Map.Entry  entry   = (java.util.Map.Entry) iter.next();
+                long[] alStat  = (long[]) entry.getValue();
+                long   cMillis = alStat[STAT_MILLIS];
+                long   cb      = alStat[STAT_BYTES];
+            
+                sb.append("Member=")
+                  .append(entry.getKey())
+                  .append("(Distributions=")
+                  .append(alStat[STAT_DISTRIBUTIONS])
+                  .append(", Partitions=")
+                  .append(alStat[STAT_PARTITIONS])
+                  .append(", Bytes=")
+                  .append(cb)
+                  .append(", Duration=")
+                  .append(cMillis)
+                  .append("ms, Throughput=")
+                  .append(getTransferThroughput((Integer) entry.getKey()))
+                  .append("bytes/sec)");
+            
+                if (iter.hasNext())
+                    {
+                    sb.append(", ");
+                    }
+                }
+            
+            return sb.append('}').toString();
+            }
+        
         // Accessor for the property "DistributionRequest"
         /**
          * Getter for property DistributionRequest.<p>
@@ -32290,6 +32489,41 @@ public abstract class PartitionedService
             return __m_TransferSizeLimit;
             }
         
+        // Accessor for the property "TransferStartMillis"
+        /**
+         * Getter for property TransferStartMillis.<p>
+        * The time at which the first partition of this logical distribution
+        * was recorded for transfer, or 0 if there is no outgoing transfer.
+         */
+        public long getTransferStartMillis()
+            {
+            return __m_TransferStartMillis;
+            }
+        
+        // Accessor for the property "TransferStats"
+        /**
+         * Getter for property TransferStats.<p>
+        * The statistics of the completed outgoing transfers, keyed by the id
+        * of the recipient member.  The values are long[] holding the number
+        * of distributions, partitions, bytes and milliseconds (see the
+        * STAT_* constants).
+         */
+        public java.util.Map getTransferStats()
+            {
+            return __m_TransferStats;
+            }
+        
+        // Accessor for the property "TransferredPartitions"
+        /**
+         * Getter for property TransferredPartitions.<p>
+        * The number of partition transfers of this logical distribution that
+        * have been acknowledged by the recipient.
+         */
+        public int getTransferredPartitions()
+            {
+            return __m_TransferredPartitions;
+            }
+        
         /**
          * Return true iff there is a pending incoming transfer from the
         * specified member.
@@ -32391,6 +32625,12 @@ public abstract class PartitionedService
          */
         public void onMemberLeft(com.tangosol.coherence.component.net.Member member)
             {
+            Integer IMember = Integer.valueOf(member.getId());
+            if (getTransferStats().remove(IMember) != null)
+                {
+                unregisterMetrics(IMember);
+                }
+            
             if (isIncompleteTransfer(member))
                 {
                 // rollback the receipt of the incoming transfer
@@ -32495,6 +32735,8 @@ public abstract class PartitionedService
             int iStoreXfer = (int) saInProgress.removePrimitive(iPartition);
             _assert(iStoreXfer == iStore);
             
+            setTransferredPartitions(getTransferredPartitions() + 1);
+            
             if (saInProgress.isEmpty())
                 {
                 // all outgoing transfers are finished
@@ -32574,6 +32816,7 @@ public abstract class PartitionedService
             {
             // import Component.Net.Member;
             // import Component.Net.Message.RequestMessage;
+            // import com.tangosol.util.Base;
             
             RequestMessage msgRequest = getDistributionRequest();
             Member         member     = getToMember();
@@ -32592,6 +32835,11 @@ public abstract class PartitionedService
             int iPartition = msgTransfer.getPartition();
             int iStore     = msgTransfer.getStore();
             
+            if (getTransferStartMillis() == 0L)
+                {
+                setTransferStartMillis(Base.getSafeTimeMillis());
+                }
+            
             setTransferredBytes(getTransferredBytes() + cbTransfer);
             getPartitionsOut().setPrimitive(iPartition, iStore);
             
@@ -32638,11 +32886,34 @@ public abstract class PartitionedService
          */
         protected void reset()
             {
+            // import Component.Net.Member;
+            // import com.tangosol.util.Base;
+            
+            Member member       = getToMember();
+            int    cTransferred = getTransferredPartitions();
+            if (member != null && cTransferred > 0)
+                {
+                Integer IMember = Integer.valueOf(member.getId());
+                long[]  alStat  = (long[]) getTransferStats().get(IMember);
+                if (alStat == null)
+                    {
+                    getTransferStats().put(IMember, alStat = new long[4]);
+                    registerMetrics(IMember);
+                    }
+            
+                alStat[STAT_DISTRIBUTIONS]++;
+                alStat[STAT_PARTITIONS] += cTransferred;
+                alStat[STAT_BYTES]      += getTransferredBytes();
+                alStat[STAT_MILLIS]     += Base.getSafeTimeMillis() - getTransferStartMillis();
+                }
+            
             setDistributionRequest(null);
             getPartitionsOut().clear();
             setToMember(null);
             setTransferCountLimit(0);
             setTransferredBytes(0L);
+            setTransferredPartitions(0);
+            setTransferStartMillis(0L);
             
             // shouldn't be necessary, but...
             PartitionedService.PartitionControl[] aCtrlPartition = ((PartitionedService) get_Module()).getPartitionControl();
@@ -32659,6 +32930,107 @@ public abstract class PartitionedService
                 }
             }
         
+        /**
+         * Reset the outgoing transfer statistics, unregistering the transfer
+        * metrics of each recipient member.
+         */
+        public void resetStats()
+            {
+            // import java.util.Iterator;
+            
+            for (Iterator iter = getTransferStats().keySet().iterator(); iter.hasNext(); )
+                {
+                unregisterMetrics((Integer) iter.next());
+                iter.remove();
+                }
+            }
+        
+        /**
+         * Return the total duration of the completed outgoing transfers to the
+        * specified member.
+        * 
+        * @param IMember  the id of the recipient member
+        * 
+        * @return the transfer duration in milliseconds
+         */
+        public long getTransferDuration(Integer IMember)
+            {
+            long[] alStat = (long[]) getTransferStats().get(IMember);
+            return alStat == null ? 0L : alStat[STAT_MILLIS];
+            }
+        
+        /**
+         * Return the average throughput of the completed outgoing transfers to
+        * the specified member.
+        * 
+        * @param IMember  the id of the recipient member
+        * 
+        * @return the transfer throughput in bytes per second
+         */
+        public long getTransferThroughput(Integer IMember)
+            {
+            long[] alStat  = (long[]) getTransferStats().get(IMember);
+            long   cMillis = alStat == null ? 0L : alStat[STAT_MILLIS];
+            
+            return cMillis == 0L ? 0L : alStat[STAT_BYTES] * 1000L / cMillis;
+            }
+        
+        /**
+         * Return the metric tags for the transfers to the specified member.
+        * 
+        * @param IMember  the id of the recipient member
+        * 
+        * @return the metric tags
+         */
+        protected java.util.Map getMetricTags(Integer IMember)
+            {
+            // import java.util.HashMap;
+            // import java.util.Map;
+            
+            Map mapTag = new HashMap();
+            mapTag.put(TAG_SERVICE, ((PartitionedService) get_Module()).getServiceName());
+            mapTag.put(TAG_MEMBER, String.valueOf(IMember));
+            return mapTag;
+            }
+        
+        /**
+         * Register the transfer metrics of the specified recipient member.
+        * 
+        * @param IMember  the id of the recipient member
+         */
+        protected void registerMetrics(Integer IMember)
+            {
+            // import com.tangosol.internal.metrics.DirectMetricRegistry;
+            // import java.util.Map;
+            
+            DirectMetricRegistry registry = DirectMetricRegistry.getRegistry();
+            Map                  mapTag   = getMetricTags(IMember);
+            
+            registry.gauge(METRIC_TRANSFER_DURATION, mapTag,
+                    "The total duration in milliseconds of the partition transfers to the member",
+                    () -> getTransferDuration(IMember));
+            registry.gauge(METRIC_TRANSFER_THROUGHPUT, mapTag,
+                    "The average throughput in bytes per second of the partition transfers to the member",
+                    () -> getTransferThroughput(IMember));
+            }
+        
+        /**
+         * Unregister the transfer metrics of the specified recipient member.
+        * 
+        * @param IMember  the id of the recipient member
+         */
+        protected void unregisterMetrics(Integer IMember)
+            {
+            // import com.tangosol.internal.metrics.DirectMetricRegistry;
+            // import java.util.Map;
+            
+            DirectMetricRegistry registry = DirectMetricRegistry.getRegistry();
+            Map                  mapTag   = getMetricTags(IMember);
+            
+            registry.remove(METRIC_TRANSFER_DURATION, mapTag);
+            registry.remove(METRIC_TRANSFER_THROUGHPUT, mapTag);
+            }
+        
         /**
          * Send a backup ANNOUNCE for the specified partition backup index to
         * the specified member.
@@ -32816,6 +33188,41 @@ public abstract class PartitionedService
             __m_TransferSizeLimit = cbLimit;
             }
         
+        // Accessor for the property "TransferStartMillis"
+        /**
+         * Setter for property TransferStartMillis.<p>
+        * The time at which the first partition of this logical distribution
+        * was recorded for transfer, or 0 if there is no outgoing transfer.
+         */
+        protected void setTransferStartMillis(long ldt)
+            {
+            __m_TransferStartMillis = ldt;
+            }
+        
+        // Accessor for the property "TransferStats"
+        /**
+         * Setter for property TransferStats.<p>
+        * The statistics of the completed outgoing transfers, keyed by the id
+        * of the recipient member.  The values are long[] holding the number
+        * of distributions, partitions, bytes and milliseconds (see the
+        * STAT_* constants).
+         */
+        protected void setTransferStats(java.util.Map mapStats)
+            {
+            __m_TransferStats = mapStats;
+            }
+        
+        // Accessor for the property "TransferredPartitions"
+        /**
+         * Setter for property TransferredPartitions.<p>
+        * The number of partition transfers of this logical distribution that
+        * have been acknowledged by the recipient.
+         */
+        protected void setTransferredPartitions(int cPartitions)
+            {
+            __m_TransferredPartitions = cPartitions;
+            }
+        
         /**
          * Set the transfer state of the specified partition.
          */
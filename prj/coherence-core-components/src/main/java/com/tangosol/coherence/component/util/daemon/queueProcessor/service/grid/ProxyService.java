@@ -1,6 +1,6 @@
 
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -26,6 +26,7 @@ import com.tangosol.coherence.component.util.daemon.queueProcessor.service.peer.
 import com.oracle.coherence.common.net.InetSocketAddress32;
 import com.oracle.coherence.common.net.SSLSocketProvider;
 import com.tangosol.coherence.config.builder.ServiceLoadBalancerBuilder;
+import com.tangosol.internal.metrics.ServiceRequestMetrics;
 import com.tangosol.internal.net.service.grid.DefaultProxyServiceDependencies;
 import com.tangosol.internal.net.service.grid.ProxyServiceDependencies;
 import com.tangosol.net.ActionPolicy;
@@ -142,6 +143,14 @@ public class ProxyService
      */
     private java.util.NavigableSet __m_MemberListenAddresses;
     
+    /**
+     * Property RequestMetrics
+     *
+     * The direct metrics recorded for the requests executed by the proxies
+     * of this ProxyService.
+     */
+    private transient com.tangosol.internal.metrics.ServiceRequestMetrics __m_RequestMetrics;
+    
     /**
      * Property ResolveAllAddresses
      *
@@ -1290,6 +1299,17 @@ public class ProxyService
         return false;
         }
     
+    // Accessor for the property "RequestMetrics"
+    /**
+     * Getter for property RequestMetrics.<p>
+    * The direct metrics recorded for the requests executed by the proxies of
+    * this ProxyService.
+     */
+    public com.tangosol.internal.metrics.ServiceRequestMetrics getRequestMetrics()
+        {
+        return __m_RequestMetrics;
+        }
+    
     // Accessor for the property "ResolveAllAddresses"
     /**
      * Getter for property ResolveAllAddresses.<p>
@@ -1833,10 +1853,13 @@ public class ProxyService
         // import Component.Util.Daemon.QueueProcessor.Service.Peer.Acceptor.HttpAcceptor;
         // import Component.Util.Daemon.QueueProcessor.Service.Peer.Acceptor.TcpAcceptor;
         // import com.tangosol.net.NameService;
+        // import com.tangosol.internal.metrics.ServiceRequestMetrics;
         // import com.tangosol.net.messaging.ConnectionAcceptor;
         // import com.tangosol.util.Base;
         // import java.util.Iterator;
         
+        setRequestMetrics(new ServiceRequestMetrics(ServiceRequestMetrics.PREFIX_PROXY, getServiceName()));
+        
         com.tangosol.coherence.component.net.Member memberThis = getThisMember();
         for (Iterator iter = getServiceMemberSet().iterator(); iter.hasNext(); )
             {
@@ -2021,12 +2044,20 @@ public class ProxyService
         // import Component.Util.Daemon.QueueProcessor.Service.Peer.Acceptor.GrpcAcceptor;
         // import Component.Util.Daemon.QueueProcessor.Service.Peer.Acceptor.HttpAcceptor;
         // import Component.Util.Daemon.QueueProcessor.Service.Peer.Acceptor.TcpAcceptor;
+        // import com.tangosol.internal.metrics.ServiceRequestMetrics;
         // import com.tangosol.net.NameService;
         // import com.tangosol.net.management.Registry;
         // import com.tangosol.net.messaging.ConnectionAcceptor;
         
         super.onServiceStopped();
         
+        ServiceRequestMetrics metrics = getRequestMetrics();
+        if (metrics != null)
+            {
+            metrics.close();
+            setRequestMetrics(null);
+            }
+        
         // force the ConnectionAcceptor to stop if it is still running
         ConnectionAcceptor acceptor = getAcceptor();
         acceptor.stop();
@@ -2252,6 +2283,17 @@ public class ProxyService
         __m_MemberListenAddresses = setMember;
         }
     
+    // Accessor for the property "RequestMetrics"
+    /**
+     * Setter for property RequestMetrics.<p>
+    * The direct metrics recorded for the requests executed by the proxies of
+    * this ProxyService.
+     */
+    protected void setRequestMetrics(com.tangosol.internal.metrics.ServiceRequestMetrics metrics)
+        {
+        __m_RequestMetrics = metrics;
+        }
+    
     // Accessor for the property "ResolveAllAddresses"
     /**
      * Setter for property ResolveAllAddresses.<p>
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -48,6 +48,7 @@ import com.tangosol.coherence.config.Config;
 import com.tangosol.coherence.config.ResolvableParameterList;
 import com.tangosol.coherence.config.unit.Millis;
 import com.tangosol.config.expression.Parameter;
+import com.tangosol.internal.metrics.ServiceRequestMetrics;
 import com.tangosol.internal.net.NamedCacheDeactivationListener;
 import com.tangosol.internal.net.service.grid.DefaultPartitionedCacheDependencies;
 import com.tangosol.internal.net.service.grid.PartitionedCacheDependencies;
@@ -105,6 +106,7 @@ import com.tangosol.util.BinaryEntry;
 import com.tangosol.util.BinaryWriteBuffer;
 import com.tangosol.util.ChainedCollection;
 import com.tangosol.util.ChainedMap;
+import com.tangosol.util.ChainedSet;
 import com.tangosol.util.ClassFilter;
 import com.tangosol.util.ConcurrentMap;
 import com.tangosol.util.Converter;
@@ -161,6 +163,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
@@ -228,6 +231,20 @@ public class PartitionedCache
      */
     private int __m_AddedDaemons;
     
+    /**
+     * Property AggregateSplitThreshold
+     *
+     * Specifies the number of entries above which it becomes beneficial to
+     * split a parallel streaming aggregation across the partitions into
+     * fork-join sub-tasks, even if the aggregator is not BY_PARTITION.
+     * 
+     * Configured via coherence.distributed.aggregate.splitthreshold, see
+     * onInit
+     * 
+     * @since 25.03
+     */
+    private int __m_AggregateSplitThreshold;
+    
     /**
      * Property BackingMapContext
      *
@@ -451,6 +468,14 @@ public class PartitionedCache
      */
     private PartitionedCache.RequestCoordinator __m_RequestCoordinator;
     
+    /**
+     * Property RequestMetrics
+     *
+     * The direct metrics recorded for the requests executed by the storage,
+     * or null if the storage is not enabled.
+     */
+    private transient com.tangosol.internal.metrics.ServiceRequestMetrics __m_RequestMetrics;
+    
     /**
      * Property ResourceCoordinator
      *
@@ -480,6 +505,26 @@ public class PartitionedCache
      */
     private MemorySize __m_MaxPartialResponseSize;
 
+    /**
+     * Property TransferChunkSize
+     *
+     * Specifies the size in bytes after which the resources of a cache that
+     * are being transferred with a partition will be split across multiple
+     * transfer messages. This bounds the size of the buffer required to
+     * serialize or deserialize each transfer message, and the memory used
+     * by the sender.
+     *
+     * It does not bound the memory used by the recipient, which holds all
+     * the transfer messages for a partition (or, for a primary transfer, for
+     * the whole distribution) until the last one has been received, so that
+     * its storage is only modified once the transfer can be committed; see
+     * receivePartition.
+     *
+     * Undocumented: configured via
+     * coherence.distributed.transfer.chunk.size, see onInit
+     */
+    private MemorySize __m_TransferChunkSize;
+
     /**
      * Property ScopedCacheStore
      *
@@ -1368,6 +1413,88 @@ public class PartitionedCache
         _trace("Deferring the backup request for " + parts + ", cache id=" + lCacheId, 3);
         }
     
+    // Declared at the super level
+    /**
+     * Return the description of the specified task that is recorded by the
+    * TaskSampler of the service thread pool, or null to use the default
+    * description.
+    * 
+    * For requests against a cache the description includes the class of the
+    * executed entry processor, aggregator or filter (if known) and the cache
+    * name.
+    * 
+    * @param task  the task being executed by a thread of the service thread
+    * pool
+     */
+    public String describeTask(Runnable task)
+        {
+        // import Component.Net.Message.RequestMessage.DistributedCacheKeyRequest;
+        // import Component.Net.Message.RequestMessage.DistributedCacheRequest;
+        // import Component.Net.Message.RequestMessage.DistributedCacheRequest.PartialRequest.FilterRequest;
+        // import Component.Net.Message;
+        // import Component.Util.PartialJob;
+        
+        if (task instanceof PartialJob)
+            {
+            task = ((PartialJob) task).getRequest();
+            }
+        
+        long lCacheId;
+        if (task instanceof com.tangosol.coherence.component.net.message.requestMessage.DistributedCacheRequest)
+            {
+            lCacheId = ((com.tangosol.coherence.component.net.message.requestMessage.DistributedCacheRequest) task).getCacheId();
+            }
+        else if (task instanceof DistributedCacheKeyRequest)
+            {
+            lCacheId = ((DistributedCacheKeyRequest) task).getCacheId();
+            }
+        else
+            {
+            return null;
+            }
+        
+        Message msg     = (Message) task;
+        Object  oDetail = null;
+        if (msg instanceof PartitionedCache.InvokeRequest)
+            {
+            oDetail = ((PartitionedCache.InvokeRequest) msg).getProcessor();
+            }
+        else if (msg instanceof PartitionedCache.InvokeAllRequest)
+            {
+            oDetail = ((PartitionedCache.InvokeAllRequest) msg).getProcessor();
+            }
+        else if (msg instanceof PartitionedCache.InvokeFilterRequest)
+            {
+            oDetail = ((PartitionedCache.InvokeFilterRequest) msg).getProcessor();
+            }
+        else if (msg instanceof PartitionedCache.AggregateAllRequest)
+            {
+            oDetail = ((PartitionedCache.AggregateAllRequest) msg).getAggregator();
+            }
+        else if (msg instanceof PartitionedCache.AggregateFilterRequest)
+            {
+            oDetail = ((PartitionedCache.AggregateFilterRequest) msg).getAggregator();
+            }
+        else if (msg instanceof FilterRequest)
+            {
+            oDetail = ((FilterRequest) msg).getFilter();
+            }
+        
+        StringBuilder sb = new StringBuilder(msg.get_Name());
+        if (oDetail != null)
+            {
+            sb.append('(').append(oDetail.getClass().getName()).append(')');
+            }
+        
+        String sCache = getCacheName(lCacheId);
+        if (sCache != null)
+            {
+            sb.append(" Cache=").append(sCache);
+            }
+        
+        return sb.toString();
+        }
+    
     /**
      * Serialize the specified message.
     * 
@@ -2621,6 +2748,23 @@ public class PartitionedCache
         return __m_AddedDaemons;
         }
     
+    // Accessor for the property "AggregateSplitThreshold"
+    /**
+     * Getter for property AggregateSplitThreshold.<p>
+    * Specifies the number of entries above which it becomes beneficial to
+    * split a parallel streaming aggregation across the partitions into
+    * fork-join sub-tasks, even if the aggregator is not BY_PARTITION.
+    * 
+    * Configured via coherence.distributed.aggregate.splitthreshold, see
+    * onInit
+    * 
+    * @since 25.03
+     */
+    public int getAggregateSplitThreshold()
+        {
+        return __m_AggregateSplitThreshold;
+        }
+    
     // Accessor for the property "BackingMapContext"
     /**
      * Getter for property BackingMapContext.<p>
@@ -3100,6 +3244,17 @@ public class PartitionedCache
         return __m_RequestCoordinator;
         }
     
+    // Accessor for the property "RequestMetrics"
+    /**
+     * Getter for property RequestMetrics.<p>
+    * The direct metrics recorded for the requests executed by the storage, or
+    * null if the storage is not enabled.
+     */
+    public com.tangosol.internal.metrics.ServiceRequestMetrics getRequestMetrics()
+        {
+        return __m_RequestMetrics;
+        }
+    
     // Accessor for the property "ResourceCoordinator"
     /**
      * Getter for property ResourceCoordinator.<p>
@@ -3164,6 +3319,29 @@ public class PartitionedCache
         return __m_MaxPartialResponseSize;
         }
 
+    /**
+     * Getter for property TransferChunkSize.
+     *
+     * Specifies the size in bytes after which the resources of a cache that
+     * are being transferred with a partition will be split across multiple
+     * transfer messages. This bounds the size of the buffer required to
+     * serialize or deserialize each transfer message, and the memory used
+     * by the sender.
+     *
+     * It does not bound the memory used by the recipient, which holds all
+     * the transfer messages for a partition (or, for a primary transfer, for
+     * the whole distribution) until the last one has been received, so that
+     * its storage is only modified once the transfer can be committed; see
+     * receivePartition.
+     *
+     * Undocumented: configured via
+     * coherence.distributed.transfer.chunk.size, see onInit
+     */
+    public MemorySize getTransferChunkSize()
+        {
+        return __m_TransferChunkSize;
+        }
+
     // Accessor for the property "ScopedCacheStore"
     /**
      * Getter for property ScopedCacheStore.<p>
@@ -4664,6 +4842,8 @@ public class PartitionedCache
      */
     protected void onExit()
         {
+        // import com.tangosol.internal.metrics.ServiceRequestMetrics;
+        
         releaseAllCache();
         releaseAllStorage();
         
@@ -4674,6 +4854,13 @@ public class PartitionedCache
         getEventsHelper().unregisterServiceDispatcher();
         
         getRequestCoordinator().clearBacklog();
+        
+        ServiceRequestMetrics metrics = getRequestMetrics();
+        if (metrics != null)
+            {
+            metrics.close();
+            setRequestMetrics(null);
+            }
         }
     
     // Declared at the super level
@@ -5081,8 +5268,10 @@ public class PartitionedCache
         setRequestCoordinator((PartitionedCache.RequestCoordinator) _findChild("RequestCoordinator"));
         setResourceCoordinator((PartitionedCache.ResourceCoordinator) _findChild("ResourceCoordinator"));
         setTaskSplitThreshold(Integer.parseInt(Config.getProperty("coherence.distributed.tasksplitthreshold", "1")));
+        setAggregateSplitThreshold(Config.getInteger("coherence.distributed.aggregate.splitthreshold", 10000).intValue());
         setScheduledBackupsThreshold(Integer.parseInt(Config.getProperty("coherence.distributed.scheduledbackupsthreshold", "60")));
         setMaxPartialResponseSize(Config.getMemorySize("coherence.distributed.max.response.size", "1m"));
+        setTransferChunkSize(Config.getMemorySize("coherence.distributed.transfer.chunk.size", "1m"));
         setEventResendInterval(Config.getDuration("coherence.distributed.event.resend.interval", new Duration("30s")).as(Duration.Magnitude.MILLI));
         }
 
@@ -7871,6 +8060,7 @@ public class PartitionedCache
     public void onServiceStarted()
         {
         // import Component.Net.Cluster;
+        // import com.tangosol.internal.metrics.ServiceRequestMetrics;
         // import com.tangosol.net.BackingMapManager;
         // import com.tangosol.net.cache.LocalCache;
         // import com.tangosol.util.SparseArray;
@@ -7893,6 +8083,8 @@ public class PartitionedCache
             //           timeout to protect against a delayed destroyCache update
             long cExpiry = ((Cluster) getCluster()).getClusterService().getDeliveryTimeoutMillis();
             setStorageGraveyard(new LocalCache(LocalCache.DEFAULT_UNITS, (int) cExpiry));
+        
+            setRequestMetrics(new ServiceRequestMetrics(ServiceRequestMetrics.PREFIX_STORAGE, getServiceName()));
             }
          
         // call super.onServiceStarted() last as it will finalizeStartup
@@ -10066,6 +10258,11 @@ public class PartitionedCache
         
         try
             {
+            // Note: the resources of a large partition may arrive in several
+            //       chunks (see TransferChunkSize); all of them have been queued
+            //       by the TransferControl and are only inserted here, once the
+            //       transfer is complete, so the recipient's memory is not
+            //       bounded by the chunk size
             for (Iterator iter = listXferRequests.iterator(); iter.hasNext(); )
                 {
                 PartitionedCache.TransferRequest msgTransfer = (PartitionedCache.TransferRequest) iter.next();
@@ -10357,6 +10554,25 @@ public class PartitionedCache
         super.recoverPartitions(job, mapStoresFrom, mapStoresTo, partsFail, partsFailEvents);
         }
     
+    /**
+     * Record the execution of a request of the specified type by the storage.
+    * 
+    * Called on the service or a daemon pool thread.
+    * 
+    * @param type      the request type
+    * @param ldtStart  the System.nanoTime() at which the execution started
+     */
+    public void recordRequest(com.tangosol.internal.metrics.ServiceRequestMetrics.RequestType type, long ldtStart)
+        {
+        // import com.tangosol.internal.metrics.ServiceRequestMetrics;
+        
+        ServiceRequestMetrics metrics = getRequestMetrics();
+        if (metrics != null)
+            {
+            metrics.onRequest(type, System.nanoTime() - ldtStart);
+            }
+        }
+    
     /**
      * Register (backup) events represented by the specified event holder sent
     * by the specified primary node. Called on the service thread.
@@ -10979,6 +11195,23 @@ public class PartitionedCache
         __m_AddedDaemons = nDaemons;
         }
     
+    // Accessor for the property "AggregateSplitThreshold"
+    /**
+     * Setter for property AggregateSplitThreshold.<p>
+    * Specifies the number of entries above which it becomes beneficial to
+    * split a parallel streaming aggregation across the partitions into
+    * fork-join sub-tasks, even if the aggregator is not BY_PARTITION.
+    * 
+    * Configured via coherence.distributed.aggregate.splitthreshold, see
+    * onInit
+    * 
+    * @since 25.03
+     */
+    public void setAggregateSplitThreshold(int cEntries)
+        {
+        __m_AggregateSplitThreshold = cEntries;
+        }
+    
     // Accessor for the property "BackingMapContext"
     /**
      * Setter for property BackingMapContext.<p>
@@ -11323,6 +11556,17 @@ public class PartitionedCache
         __m_RequestCoordinator = coordinator;
         }
     
+    // Accessor for the property "RequestMetrics"
+    /**
+     * Setter for property RequestMetrics.<p>
+    * The direct metrics recorded for the requests executed by the storage, or
+    * null if the storage is not enabled.
+     */
+    protected void setRequestMetrics(com.tangosol.internal.metrics.ServiceRequestMetrics metrics)
+        {
+        __m_RequestMetrics = metrics;
+        }
+    
     // Accessor for the property "ResourceCoordinator"
     /**
      * Setter for property ResourceCoordinator.<p>
@@ -11361,6 +11605,29 @@ public class PartitionedCache
         __m_MaxPartialResponseSize = size;
         }
 
+    /**
+     * Setter for property TransferChunkSize
+     *
+     * Specifies the size in bytes after which the resources of a cache that
+     * are being transferred with a partition will be split across multiple
+     * transfer messages. This bounds the size of the buffer required to
+     * serialize or deserialize each transfer message, and the memory used
+     * by the sender.
+     *
+     * It does not bound the memory used by the recipient, which holds all
+     * the transfer messages for a partition (or, for a primary transfer, for
+     * the whole distribution) until the last one has been received, so that
+     * its storage is only modified once the transfer can be committed; see
+     * receivePartition.
+     *
+     * Undocumented: configured via
+     * coherence.distributed.transfer.chunk.size, see onInit
+     */
+    public void setTransferChunkSize(MemorySize size)
+        {
+        __m_TransferChunkSize = size;
+        }
+
     // Accessor for the property "ScopedCacheStore"
     /**
      * Setter for property ScopedCacheStore.<p>
@@ -11647,15 +11914,21 @@ public class PartitionedCache
         else
             {
             List listTransfer = fInterceptor ? new ArrayList(aStorage.getSize()) : null;
+            long cbChunkMax   = getTransferChunkSize().getByteCount();
         
             for (Iterator iterStore = aStorage.iterator(); iterStore.hasNext();)
                 {
                 // the storage must be valid since we only update on the service thread
                 Storage storage = (Storage) iterStore.next();
         
-                // resource data
+                // resource data; split into chunks of at most TransferChunkSize bytes,
+                // each sent as a separate TransferRequest, so that a large partition
+                // does not need to be serialized into a single message
+                List             listChunk    = new ArrayList();
+                List             listChunkCb  = new ArrayList();
                 List             listResource = new ArrayList();
                 int              cbResource   = 0;
+                int              cResources   = 0;
                 com.tangosol.net.cache.ConfigurableCacheMap.EvictionApprover approver     = null;
                 com.tangosol.net.cache.ConfigurableCacheMap              mapCCM       = storage.getConfigurableCacheMap(iPartition);
         
@@ -11689,7 +11962,17 @@ public class PartitionedCache
         
                         if (bufValue != null)
                             {
-                            cbResource += binKey.length() + bufValue.length();
+                            int cbEntry = binKey.length() + bufValue.length();
+                            if (cbResource + cbEntry > cbChunkMax && !listResource.isEmpty())
+                                {
+                                listChunk.add(listResource.toArray(new java.util.Map.Entry[listResource.size()]));
+                                listChunkCb.add(Integer.valueOf(cbResource));
+                                listResource = new ArrayList();
+                                cbResource   = 0;
+                                }
+        
+                            cbResource += cbEntry;
+                            cResources++;
                             listResource.add(new SimpleMapEntry(binKey, bufValue));
                             }
                         }
@@ -11765,62 +12048,107 @@ public class PartitionedCache
                 //       to send the store's data to the new owner in a PersistentStore
                 //       agnostic way
         
-                int     cbTransfer  = cbResource + cbLease + cbListen;
-                boolean fLastInPart = !iterStore.hasNext();
-        
-                PartitionedCache.TransferRequest msgTransfer = (PartitionedCache.TransferRequest) instantiateMessage("TransferRequest");
-                msgTransfer.setPartition(iPartition);
-                msgTransfer.setPartitionVersion(lVersion);
-                msgTransfer.setStore(iStore);
-                msgTransfer.setOwners(owners);
-                msgTransfer.setCacheId(storage.getCacheId());
-                msgTransfer.setCacheName(storage.getCacheName());
-                msgTransfer.setResource((java.util.Map.Entry[]) listResource.toArray(new java.util.Map.Entry[listResource.size()]));
-                msgTransfer.setLease((Lease[]) listLease.toArray(new Lease[listLease.size()]));
-                msgTransfer.setListener((java.util.Map.Entry[]) listListen.toArray(new java.util.Map.Entry[listListen.size()]));
-                msgTransfer.setMapEventVersion(storage.getVersion().getSubmittedVersion(iPartition));
-        
-                fLastInTransfer |= control.recordTransfer(msgTransfer, cbTransfer);
-        
-                msgTransfer.setLastInPartition(fLastInPart);
-                msgTransfer.setLastInTransfer(fLastInPart && fLastInTransfer);
-        
-                if (fLastInPart)
-                    {
-                    msgTransfer.setPendingResults(collectPendingResults(iPartition));
-                    msgTransfer.setPendingEvents(collectPendingEvents(iPartition));
-        
-                    // events data
-                    if (fPrimary && isPersistEvents())
+                // index state; sent along with the primary partition, so that the new
+                // owner could restore (rather than rebuild) the partition indexes,
+                // unless the indexes are not yet complete or could be affected by
+                // the departing entries interceptors
+                Map mapIndexState = null;
+                int cbIndexState  = 0;
+                if (fPrimary && !fInterceptor && storage.isIndexed() &&
+                    !getIndexPendingPartitions().contains(iPartition))
+                    {
+                    mapIndexState = storage.collectIndexState(iPartition);
+                    if (mapIndexState != null)
                         {
-                        // _assert(ctrlPartition.getPersistentEventsStore() != null);
-        
-                        // serialize the store into a Binary
-                        msgTransfer.setEventsStoreBinary(
-                            serializeStore(ctrlPartition.getPersistentEventsStore()));
+                        for (Iterator iterState = mapIndexState.values().iterator(); iterState.hasNext(); )
+                            {
+                            cbIndexState += ((Binary) iterState.next()).length();
+                            }
                         }
-        
-                    control.onTransmitCommitted(msgTransfer);
                     }
         
-                if (fInterceptor)
-                    {
-                    // COH-8423: we need to hold the entire set of entries to pass to UEM;
-                    //           post all transfer requests for a given partition only after
-                    //           UEM has finished to avoid eager "clean-up" of the resources
-                    //           on the message serialization (see $TransferRequest#write)
-                    listTransfer.add(msgTransfer);
-        
+                // the last chunk (which could be empty) carries the leases, listeners
+                // and index state; if they don't fit within TransferChunkSize along
+                // with the remaining resources, send the resources in a chunk of their own
+                int cbTail = cbLease + cbListen + cbIndexState;
+                if (cbResource + cbTail > cbChunkMax && !listResource.isEmpty())
+                    {
+                    listChunk.add(listResource.toArray(new java.util.Map.Entry[listResource.size()]));
+                    listChunkCb.add(Integer.valueOf(cbResource));
+                    listResource = new ArrayList();
+                    cbResource   = 0;
+                    }
+                listChunk.add(listResource.toArray(new java.util.Map.Entry[listResource.size()]));
+                listChunkCb.add(Integer.valueOf(cbResource + cbTail));
+        
+                for (int iChunk = 0, cChunks = listChunk.size(); iChunk < cChunks; iChunk++)
+                    {
+                    boolean fLastChunk  = iChunk == cChunks - 1;
+                    int     cbTransfer  = ((Integer) listChunkCb.get(iChunk)).intValue();
+                    boolean fLastInPart = fLastChunk && !iterStore.hasNext();
+            
+                    PartitionedCache.TransferRequest msgTransfer = (PartitionedCache.TransferRequest) instantiateMessage("TransferRequest");
+                    msgTransfer.setPartition(iPartition);
+                    msgTransfer.setPartitionVersion(lVersion);
+                    msgTransfer.setStore(iStore);
+                    msgTransfer.setOwners(owners);
+                    msgTransfer.setCacheId(storage.getCacheId());
+                    msgTransfer.setCacheName(storage.getCacheName());
+                    msgTransfer.setResource((java.util.Map.Entry[]) listChunk.get(iChunk));
+                    msgTransfer.setLease(fLastChunk
+                            ? (Lease[]) listLease.toArray(new Lease[listLease.size()]) : new Lease[0]);
+                    msgTransfer.setListener(fLastChunk
+                            ? (java.util.Map.Entry[]) listListen.toArray(new java.util.Map.Entry[listListen.size()]) : new java.util.Map.Entry[0]);
+                    msgTransfer.setMapEventVersion(storage.getVersion().getSubmittedVersion(iPartition));
+                    if (fLastChunk && mapIndexState != null)
+                        {
+                        msgTransfer.setIndexState(mapIndexState);
+                        msgTransfer.setIndexEntryCount(cResources);
+                        }
+                    listChunk.set(iChunk, null); // cleanup
+            
+                    fLastInTransfer |= control.recordTransfer(msgTransfer, cbTransfer);
+            
+                    msgTransfer.setLastInPartition(fLastInPart);
+                    msgTransfer.setLastInTransfer(fLastInPart && fLastInTransfer);
+            
                     if (fLastInPart)
                         {
-                        // transfer message posted as a continuation
-                        evtHelper.onEntriesDeparting(
-                                listTransfer, getContinuations().instantiateMessagePost(listTransfer));
+                        msgTransfer.setPendingResults(collectPendingResults(iPartition));
+                        msgTransfer.setPendingEvents(collectPendingEvents(iPartition));
+            
+                        // events data
+                        if (fPrimary && isPersistEvents())
+                            {
+                            // _assert(ctrlPartition.getPersistentEventsStore() != null);
+            
+                            // serialize the store into a Binary
+                            msgTransfer.setEventsStoreBinary(
+                                serializeStore(ctrlPartition.getPersistentEventsStore()));
+                            }
+            
+                        control.onTransmitCommitted(msgTransfer);
+                        }
+            
+                    if (fInterceptor)
+                        {
+                        // COH-8423: we need to hold the entire set of entries to pass to UEM;
+                        //           post all transfer requests for a given partition only after
+                        //           UEM has finished to avoid eager "clean-up" of the resources
+                        //           on the message serialization (see $TransferRequest#write)
+                        listTransfer.add(msgTransfer);
+            
+                        if (fLastInPart)
+                            {
+                            // transfer message posted as a continuation
+                            evtHelper.onEntriesDeparting(
+                                    listTransfer, getContinuations().instantiateMessagePost(listTransfer));
+                            }
+                        }
+                    else
+                        {
+                        post(msgTransfer);
                         }
-                    }
-                else
-                    {
-                    post(msgTransfer);
                     }
                 }
             }
@@ -12396,7 +12724,19 @@ public class PartitionedCache
         // Declared at the super level
         public void run()
             {
-            ((PartitionedCache) getService()).onAggregateAllRequest(this);
+            // import com.tangosol.internal.metrics.ServiceRequestMetrics;
+            
+            PartitionedCache service  = (PartitionedCache) getService();
+            long             ldtStart = System.nanoTime();
+            
+            try
+                {
+                service.onAggregateAllRequest(this);
+                }
+            finally
+                {
+                service.recordRequest(ServiceRequestMetrics.RequestType.AGGREGATE, ldtStart);
+                }
             }
         
         // Accessor for the property "Aggregator"
@@ -12825,7 +13165,19 @@ public class PartitionedCache
         // Declared at the super level
         public void run()
             {
-            ((PartitionedCache) getService()).onAggregateFilterRequest(this);
+            // import com.tangosol.internal.metrics.ServiceRequestMetrics;
+            
+            PartitionedCache service  = (PartitionedCache) getService();
+            long             ldtStart = System.nanoTime();
+            
+            try
+                {
+                service.onAggregateFilterRequest(this);
+                }
+            finally
+                {
+                service.recordRequest(ServiceRequestMetrics.RequestType.AGGREGATE, ldtStart);
+                }
             }
         
         // Declared at the super level
@@ -20175,11 +20527,13 @@ public class PartitionedCache
          */
         protected com.tangosol.util.LongArray getPartitionedMapEntries(java.util.List listTransfer)
             {
+            // import com.tangosol.util.ChainedSet;
             // import com.tangosol.util.LongArray;
             // import com.tangosol.util.SparseArray;
             // import java.util.HashMap;
             // import java.util.Iterator;
             // import java.util.Map;
+            // import java.util.Set;
             
             PartitionedCache   service = getService();
             LongArray laParts = new SparseArray();
@@ -20203,7 +20557,13 @@ public class PartitionedCache
                 //       cache was concurrently destroyed
                 if (storage != null)
                     {
-                    mapCaches.put(storage.getCacheName(), getBinaryEntries(storage, msg));
+                    // a large partition is transferred in multiple chunks per cache
+                    String sCacheName = storage.getCacheName();
+                    Set    setPrev    = (Set) mapCaches.get(sCacheName);
+                    Set    setEntries = getBinaryEntries(storage, msg);
+            
+                    mapCaches.put(sCacheName, setPrev == null
+                            ? setEntries : new ChainedSet(setPrev, setEntries));
                     }
                 }
             
@@ -21638,7 +21998,19 @@ public class PartitionedCache
         // Declared at the super level
         public void run()
             {
-            ((PartitionedCache) getService()).onGetAllRequest(this);
+            // import com.tangosol.internal.metrics.ServiceRequestMetrics;
+            
+            PartitionedCache service  = (PartitionedCache) getService();
+            long             ldtStart = System.nanoTime();
+            
+            try
+                {
+                service.onGetAllRequest(this);
+                }
+            finally
+                {
+                service.recordRequest(ServiceRequestMetrics.RequestType.GET, ldtStart);
+                }
             }
         
         // Accessor for the property "AllowBackupRead"
@@ -22003,7 +22375,19 @@ public class PartitionedCache
         // Declared at the super level
         public void run()
             {
-            ((PartitionedCache) getService()).onGetRequest(this);
+            // import com.tangosol.internal.metrics.ServiceRequestMetrics;
+            
+            PartitionedCache service  = (PartitionedCache) getService();
+            long             ldtStart = System.nanoTime();
+            
+            try
+                {
+                service.onGetRequest(this);
+                }
+            finally
+                {
+                service.recordRequest(ServiceRequestMetrics.RequestType.GET, ldtStart);
+                }
             }
         
         // Accessor for the property "AllowBackupRead"
@@ -24176,6 +24560,19 @@ public class PartitionedCache
          */
         private transient com.tangosol.util.InvocableMap.EntryProcessor __m_Processor;
         
+        /**
+         * Property Parallelism
+         *
+         * The maximum number of InvokeJobs of this request that could be
+         * concurrently executed by the daemon pool, or zero (the default) if
+         * the number is not limited. The value of one causes the jobs to be
+         * executed one at a time.
+         * 
+         * @see com.tangosol.net.PriorityTask#getParallelism()
+         * @since 25.03
+         */
+        private int __m_Parallelism;
+        
         /**
          * Property ProcessorBinary
          *
@@ -24320,10 +24717,22 @@ public class PartitionedCache
             
             msg.setProcessorBinary(getProcessorBinary());
             msg.setOwnershipVersions(getOwnershipVersions());
+            msg.setParallelism(getParallelism());
             
             return msg;
             }
         
+        // Declared at the super level
+        public void copyPriorityAttributes(com.tangosol.net.PriorityTask task)
+            {
+            super.copyPriorityAttributes(task);
+            
+            if (task != null)
+                {
+                setParallelism(task.getParallelism());
+                }
+            }
+        
         public com.tangosol.util.InvocableMap.EntryProcessor deserializeProcessor()
             {
             // import com.tangosol.util.InvocableMap$EntryProcessor as com.tangosol.util.InvocableMap.EntryProcessor;
@@ -24351,6 +24760,22 @@ public class PartitionedCache
             return -1;
             }
         
+        // Accessor for the property "Parallelism"
+        /**
+         * Getter for property Parallelism.<p>
+        * The maximum number of InvokeJobs of this request that could be
+        * concurrently executed by the daemon pool, or zero (the default) if
+        * the number is not limited. The value of one causes the jobs to be
+        * executed one at a time.
+        * 
+        * @see com.tangosol.net.PriorityTask#getParallelism()
+        * @since 25.03
+         */
+        public int getParallelism()
+            {
+            return __m_Parallelism;
+            }
+        
         // Accessor for the property "Processor"
         /**
          * Getter for property Processor.<p>
@@ -24447,13 +24872,30 @@ public class PartitionedCache
                 setOwnershipVersions(versions);
                 }
             
+            if (getService().isVersionCompatible(getFromMember(), 25, 3, 0))
+                {
+                setParallelism(input.readPackedInt());
+                }
+            
             readTracing(input);
             }
         
         // Declared at the super level
         public void run()
             {
-            ((PartitionedCache) get_Module()).onInvokeAllRequest(this);
+            // import com.tangosol.internal.metrics.ServiceRequestMetrics;
+            
+            PartitionedCache service  = (PartitionedCache) get_Module();
+            long             ldtStart = System.nanoTime();
+            
+            try
+                {
+                service.onInvokeAllRequest(this);
+                }
+            finally
+                {
+                service.recordRequest(ServiceRequestMetrics.RequestType.INVOKE, ldtStart);
+                }
             }
         
         /**
@@ -24469,7 +24911,9 @@ public class PartitionedCache
             // import com.tangosol.util.SparseArray;
             // import java.util.Iterator;
             // import java.util.Map;
+            // import java.util.Queue as java.util.Queue;
             // import java.util.Set;
+            // import java.util.concurrent.ConcurrentLinkedQueue;
             
             PartitionedCache    service  = (PartitionedCache) getService();
             com.tangosol.coherence.component.util.DaemonPool pool     = service.getDaemonPool();
@@ -24527,7 +24971,16 @@ public class PartitionedCache
                 job.getMap().put(binKey, null);
                 }
             
-            ctxBatch.getOutstandingOperationCounter().set(laJob.getSize());
+            int cJobs     = laJob.getSize();
+            int cParallel = getParallelism();
+            
+            ctxBatch.getOutstandingOperationCounter().set(cJobs);
+            
+            // if the parallelism is limited, only the first cParallel jobs are
+            // scheduled up-front; each of them schedules the next pending job
+            // upon completion (see InvokeJob#run)
+            java.util.Queue queuePending = cParallel > 0 && cParallel < cJobs
+                ? new ConcurrentLinkedQueue() : null;
             
             int iEntry = 0;
             for (Iterator iter = laJob.iterator(); iter.hasNext();)
@@ -24537,10 +24990,40 @@ public class PartitionedCache
                 job.setResultIndex(iEntry);
                 iEntry += job.getMap().size();
             
-                pool.add(job);
+                if (queuePending == null)
+                    {
+                    pool.add(job);
+                    }
+                else
+                    {
+                    job.setPendingJobs(queuePending);
+                    queuePending.add(job);
+                    }
+                }
+            
+            // the pending queue must be fully populated before any job could complete
+            for (int i = 0; queuePending != null && i < cParallel; i++)
+                {
+                pool.add((Runnable) queuePending.poll());
                 }
             }
         
+        // Accessor for the property "Parallelism"
+        /**
+         * Setter for property Parallelism.<p>
+        * The maximum number of InvokeJobs of this request that could be
+        * concurrently executed by the daemon pool, or zero (the default) if
+        * the number is not limited. The value of one causes the jobs to be
+        * executed one at a time.
+        * 
+        * @see com.tangosol.net.PriorityTask#getParallelism()
+        * @since 25.03
+         */
+        public void setParallelism(int cParallel)
+            {
+            __m_Parallelism = cParallel;
+            }
+        
         // Accessor for the property "Processor"
         /**
          * Setter for property Processor.<p>
@@ -24598,6 +25081,11 @@ public class PartitionedCache
                 getOwnershipVersions().writeExternal(output);
                 }
             
+            if (getService().isVersionCompatible(getToMemberSet(), 25, 3, 0))
+                {
+                output.writePackedInt(getParallelism());
+                }
+            
             writeTracing(output);
             }
 
@@ -24629,6 +25117,18 @@ public class PartitionedCache
              */
             private transient java.util.Map __m_Map;
             
+            /**
+             * Property PendingJobs
+             *
+             * The queue of jobs of the same request that are yet to be
+             * scheduled with the daemon pool, or null if all the jobs were
+             * scheduled up-front.
+             * 
+             * @see InvokeAllRequest#getParallelism()
+             * @since 25.03
+             */
+            private transient java.util.Queue __m_PendingJobs;
+            
             /**
              * Property Processor
              *
@@ -24813,6 +25313,21 @@ public class PartitionedCache
                 return versions == null ? -1 : versions.getVersion(getPartition());
                 }
             
+            // Accessor for the property "PendingJobs"
+            /**
+             * Getter for property PendingJobs.<p>
+            * The queue of jobs of the same request that are yet to be
+            * scheduled with the daemon pool, or null if all the jobs were
+            * scheduled up-front.
+            * 
+            * @see InvokeAllRequest#getParallelism()
+            * @since 25.03
+             */
+            public java.util.Queue getPendingJobs()
+                {
+                return __m_PendingJobs;
+                }
+            
             // Accessor for the property "Processor"
             /**
              * Getter for property Processor.<p>
@@ -24861,7 +25376,25 @@ public class PartitionedCache
             // Declared at the super level
             public void run()
                 {
-                ((PartitionedCache) getResponse().getService()).onInvokeAllRequest(this);
+                // import java.util.Queue as java.util.Queue;
+                
+                try
+                    {
+                    ((PartitionedCache) getResponse().getService()).onInvokeAllRequest(this);
+                    }
+                finally
+                    {
+                    java.util.Queue queuePending = getPendingJobs();
+                    if (queuePending != null)
+                        {
+                        // limited parallelism; hand the next partition over to the pool
+                        Runnable job = (Runnable) queuePending.poll();
+                        if (job != null)
+                            {
+                            getService().getDaemonPool().add(job);
+                            }
+                        }
+                    }
                 }
             
             // Accessor for the property "Map"
@@ -24879,6 +25412,21 @@ public class PartitionedCache
                 __m_Map = set;
                 }
             
+            // Accessor for the property "PendingJobs"
+            /**
+             * Setter for property PendingJobs.<p>
+            * The queue of jobs of the same request that are yet to be
+            * scheduled with the daemon pool, or null if all the jobs were
+            * scheduled up-front.
+            * 
+            * @see InvokeAllRequest#getParallelism()
+            * @since 25.03
+             */
+            public void setPendingJobs(java.util.Queue queue)
+                {
+                __m_PendingJobs = queue;
+                }
+            
             // Accessor for the property "Processor"
             /**
              * Setter for property Processor.<p>
@@ -25890,7 +26438,19 @@ public class PartitionedCache
         // Declared at the super level
         public void run()
             {
-            ((PartitionedCache) getService()).onInvokeRequest(this);
+            // import com.tangosol.internal.metrics.ServiceRequestMetrics;
+            
+            PartitionedCache service  = (PartitionedCache) getService();
+            long             ldtStart = System.nanoTime();
+            
+            try
+                {
+                service.onInvokeRequest(this);
+                }
+            finally
+                {
+                service.recordRequest(ServiceRequestMetrics.RequestType.INVOKE, ldtStart);
+                }
             }
         
         // Accessor for the property "OrderId"
@@ -33516,7 +34076,19 @@ public class PartitionedCache
         // Declared at the super level
         public void run()
             {
-            ((PartitionedCache) get_Module()).onPutAllRequest(this);
+            // import com.tangosol.internal.metrics.ServiceRequestMetrics;
+            
+            PartitionedCache service  = (PartitionedCache) get_Module();
+            long             ldtStart = System.nanoTime();
+            
+            try
+                {
+                service.onPutAllRequest(this);
+                }
+            finally
+                {
+                service.recordRequest(ServiceRequestMetrics.RequestType.PUT, ldtStart);
+                }
             }
         
         // Declared at the super level
@@ -33871,7 +34443,7 @@ public class PartitionedCache
             super.read(input);
             
             setReturnRequired(input.readBoolean());
-            setValue((Binary) readObject(input));
+            setValue(readBinary(input));
             setExpiryDelay(com.tangosol.util.ExternalizableHelper.readLong(input));
             
             readTracing(input);
@@ -33880,7 +34452,19 @@ public class PartitionedCache
         // Declared at the super level
         public void run()
             {
-            ((PartitionedCache) getService()).onPutRequest(this);
+            // import com.tangosol.internal.metrics.ServiceRequestMetrics;
+            
+            PartitionedCache service  = (PartitionedCache) getService();
+            long             ldtStart = System.nanoTime();
+            
+            try
+                {
+                service.onPutRequest(this);
+                }
+            finally
+                {
+                service.recordRequest(ServiceRequestMetrics.RequestType.PUT, ldtStart);
+                }
             }
         
         // Accessor for the property "ExpiryDelay"
@@ -34232,7 +34816,19 @@ public class PartitionedCache
         // Declared at the super level
         public void run()
             {
-            ((PartitionedCache) getService()).onQueryRequest(this);
+            // import com.tangosol.internal.metrics.ServiceRequestMetrics;
+            
+            PartitionedCache service  = (PartitionedCache) getService();
+            long             ldtStart = System.nanoTime();
+            
+            try
+                {
+                service.onQueryRequest(this);
+                }
+            finally
+                {
+                service.recordRequest(ServiceRequestMetrics.RequestType.QUERY, ldtStart);
+                }
             }
         
         // Accessor for the property "KeysOnly"
@@ -34537,7 +35133,19 @@ public class PartitionedCache
         // Declared at the super level
         public void run()
             {
-            ((PartitionedCache) getService()).onQueryRequest(this);
+            // import com.tangosol.internal.metrics.ServiceRequestMetrics;
+            
+            PartitionedCache service  = (PartitionedCache) getService();
+            long             ldtStart = System.nanoTime();
+            
+            try
+                {
+                service.onQueryRequest(this);
+                }
+            finally
+                {
+                service.recordRequest(ServiceRequestMetrics.RequestType.QUERY, ldtStart);
+                }
             }
 
         // Declared at the super level
@@ -41831,11 +42439,11 @@ public class PartitionedCache
         // Declared at the super level
         public void finalizeReceivePartition(int iPartition, java.util.List listXferRequests)
             {
+            // import com.tangosol.util.CopyOnWriteMap;
             // import com.tangosol.util.MapEvent as com.tangosol.util.MapEvent;
-            // import com.tangosol.util.ValueExtractor;
-            // import java.util.Comparator;
+            // import java.util.HashMap;
             // import java.util.Iterator;
-            // import java.util.Map$Entry as java.util.Map.Entry;
+            // import java.util.Map;
             
             super.finalizeReceivePartition(iPartition, listXferRequests);
             
@@ -41844,33 +42452,89 @@ public class PartitionedCache
 
             if (service.isIndexed())
                 {
-                // create partition indices
+                boolean fStarted  = service.getDaemonPool().isStarted();
+                boolean fRestored = false;
+                Map     mapUpdate = new CopyOnWriteMap(HashMap.class);
+
+                // create partition indices, restoring the transferred index state if possible
                 for (Iterator iterStore = service.getStorageArray().iterator(); iterStore.hasNext();)
                     {
                     Storage storage = (Storage) iterStore.next();
                     if (storage.isIndexed())
                         {
-                        for (Iterator iterIndex = storage.getIndexExtractorMap().entrySet().iterator(); iterIndex.hasNext(); )
-                            {
-                            java.util.Map.Entry index      = (java.util.Map.Entry) iterIndex.next();
-                            ValueExtractor      extractor  = (ValueExtractor) index.getKey();
-                            Comparator          comparator = (Comparator) index.getValue();
+                        Map mapState   = getIndexState(storage, listXferRequests);
+                        Map mapRebuild = storage.restorePartitionIndex(iPartition, mapState);
 
-                            storage.createMapIndex(storage.getPartitionIndexMap(iPartition), extractor, comparator);
-                            }
-                        if (!service.getDaemonPool().isStarted())
+                        fRestored |= mapState != null;
+
+                        if (mapRebuild != null)
                             {
-                            // re-create partition index on service thread
-                            storage.createPartitionIndex(iPartition, null);
+                            if (fStarted)
+                                {
+                                mapUpdate.put(storage, mapRebuild);
+                                }
+                            else
+                                {
+                                // re-create partition index on service thread
+                                storage.createPartitionIndex(iPartition, mapState == null ? null : mapRebuild);
+                                }
                             }
                         }
                     }
 
-                if (service.getDaemonPool().isStarted())
+                if (fStarted)
+                    {
+                    if (!fRestored)
+                        {
+                        service.scheduleIndexUpdate(iPartition, com.tangosol.util.MapEvent.ENTRY_INSERTED);
+                        }
+                    else if (!mapUpdate.isEmpty())
+                        {
+                        // only rebuild the indexes that could not be restored
+                        service.scheduleIndexUpdate(iPartition, com.tangosol.util.MapEvent.ENTRY_INSERTED, mapUpdate);
+                        }
+                    }
+                }
+            }
+        
+        /**
+         * Return the index state transferred for the specified storage along
+        * with the partition, or null if there is none or it does not
+        * correspond to the received entries.
+        * 
+        * @param storage           the storage to return the index state for
+        * @param listXferRequests  the transfer messages for the partition
+        * 
+        * @return the map of the serialized index state keyed by the
+        * ValueExtractor, or null
+         */
+        protected java.util.Map getIndexState(Storage storage, java.util.List listXferRequests)
+            {
+            // import java.util.Iterator;
+            // import java.util.Map;
+            
+            long lCacheId  = storage.getCacheId();
+            Map  mapState  = null;
+            int  cExpected = 0;
+            int  cReceived = 0;
+            
+            for (Iterator iter = listXferRequests.iterator(); iter.hasNext(); )
+                {
+                PartitionedCache.TransferRequest msgTransfer = (PartitionedCache.TransferRequest) iter.next();
+                if (msgTransfer.getCacheId() == lCacheId)
                     {
-                    service.scheduleIndexUpdate(iPartition, com.tangosol.util.MapEvent.ENTRY_INSERTED);
+                    cReceived += msgTransfer.getResource().length;
+            
+                    if (msgTransfer.getIndexState() != null)
+                        {
+                        mapState  = msgTransfer.getIndexState();
+                        cExpected = msgTransfer.getIndexEntryCount();
+                        }
                     }
                 }
+            
+            // the index state is only valid if all the chunks have been received
+            return cExpected == cReceived ? mapState : null;
             }
         
         // Declared at the super level
@@ -42136,6 +42800,26 @@ public class PartitionedCache
          */
         private com.tangosol.io.ReadBuffer __m_EventsStoreBinary;
         
+        /**
+         * Property IndexEntryCount
+         *
+         * The total number of resource entries for this cache in the
+         * partition (across all chunks) that the IndexState corresponds to.
+         */
+        private int __m_IndexEntryCount;
+        
+        /**
+         * Property IndexState
+         *
+         * The serialized state of the partition indexes (ReadBuffer) keyed by
+         * the ValueExtractor, or null. Only the last transfer message for a
+         * given cache in a primary partition transfer may carry the index
+         * state.
+         * 
+         * See $Storage#collectIndexState, $Storage#restorePartitionIndex
+         */
+        private java.util.Map __m_IndexState;
+        
         /**
          * Property LastCache
          *
@@ -42342,6 +43026,32 @@ public class PartitionedCache
             return __m_EventsStoreBinary;
             }
         
+        // Accessor for the property "IndexEntryCount"
+        /**
+         * Getter for property IndexEntryCount.<p>
+        * The total number of resource entries for this cache in the partition
+        * (across all chunks) that the IndexState corresponds to.
+         */
+        public int getIndexEntryCount()
+            {
+            return __m_IndexEntryCount;
+            }
+        
+        // Accessor for the property "IndexState"
+        /**
+         * Getter for property IndexState.<p>
+        * The serialized state of the partition indexes (ReadBuffer) keyed by
+        * the ValueExtractor, or null. Only the last transfer message for a
+        * given cache in a primary partition transfer may carry the index
+        * state.
+        * 
+        * See $Storage#collectIndexState, $Storage#restorePartitionIndex
+         */
+        public java.util.Map getIndexState()
+            {
+            return __m_IndexState;
+            }
+        
         // Accessor for the property "Lease"
         /**
          * Getter for property Lease.<p>
@@ -42547,6 +43257,26 @@ public class PartitionedCache
                 {
                 setMapEventVersion(com.tangosol.util.ExternalizableHelper.readLong(input));
                 }
+            
+            // index state
+            if (service.isVersionCompatible(getFromMember(), 25, 3, 0))
+                {
+                int cIndexes = com.tangosol.util.ExternalizableHelper.readInt(input);
+                if (cIndexes > 0)
+                    {
+                    setIndexEntryCount(com.tangosol.util.ExternalizableHelper.readInt(input));
+            
+                    Map mapState = new HashMap(cIndexes);
+                    for (int i = 0; i < cIndexes; i++)
+                        {
+                        Object oExtractor = readObject(input);
+                        Object bufState   = com.tangosol.util.ExternalizableHelper.readObject(input);
+            
+                        mapState.put(oExtractor, bufState);
+                        }
+                    setIndexState(mapState);
+                    }
+                }
             }
         
         // Accessor for the property "Addendums"
@@ -42602,6 +43332,32 @@ public class PartitionedCache
             __m_EventsStoreBinary = bufBinary;
             }
         
+        // Accessor for the property "IndexEntryCount"
+        /**
+         * Setter for property IndexEntryCount.<p>
+        * The total number of resource entries for this cache in the partition
+        * (across all chunks) that the IndexState corresponds to.
+         */
+        public void setIndexEntryCount(int cEntries)
+            {
+            __m_IndexEntryCount = cEntries;
+            }
+        
+        // Accessor for the property "IndexState"
+        /**
+         * Setter for property IndexState.<p>
+        * The serialized state of the partition indexes (ReadBuffer) keyed by
+        * the ValueExtractor, or null. Only the last transfer message for a
+        * given cache in a primary partition transfer may carry the index
+        * state.
+        * 
+        * See $Storage#collectIndexState, $Storage#restorePartitionIndex
+         */
+        public void setIndexState(java.util.Map mapState)
+            {
+            __m_IndexState = mapState;
+            }
+        
         // Accessor for the property "LastCache"
         /**
          * Setter for property LastCache.<p>
@@ -42829,6 +43585,27 @@ public class PartitionedCache
             
             // latest event version @since 21.06
             com.tangosol.util.ExternalizableHelper.writeLong(output, getMapEventVersion());
+            
+            // index state @since 25.03
+                {
+                Map mapState = getIndexState();
+                int cIndexes = mapState == null ? 0 : mapState.size();
+            
+                com.tangosol.util.ExternalizableHelper.writeInt(output, cIndexes);
+                if (cIndexes > 0)
+                    {
+                    com.tangosol.util.ExternalizableHelper.writeInt(output, getIndexEntryCount());
+            
+                    for (Iterator iter = mapState.entrySet().iterator(); iter.hasNext(); )
+                        {
+                        java.util.Map.Entry entry = (java.util.Map.Entry) iter.next();
+            
+                        writeObject(output, entry.getKey());  // ValueExtractor
+                        com.tangosol.util.ExternalizableHelper.writeObject(output, entry.getValue()); // Binary state
+                        }
+                    setIndexState(null); // cleanup
+                    }
+                }
             }
         }
 
@@ -62,6 +62,7 @@ import com.tangosol.util.ConcurrentMap;
 import com.tangosol.util.Converter;
 import com.tangosol.util.ConverterCollections;
 import com.tangosol.util.CopyOnWriteLongArray;
+import com.tangosol.util.CopyOnWriteMap;
 import com.tangosol.util.ExternalizableHelper;
 import com.tangosol.util.Filter;
 import com.tangosol.util.FilterEnumerator;
@@ -1350,12 +1351,38 @@ public class Storage
             filter = null;
             }
 
+        // determine the number of partitions to be aggregated by each fork-join
+        // sub-task; zero indicates that the aggregation should run on this thread
+        int cPartsPerTask = 0;
+        if (agent.isParallel() && Daemons.isForkJoinPoolEnabled())
+            {
+            if (agent.isByPartition())
+                {
+                // run aggregator in parallel across individual partitions
+                cPartsPerTask = 1;
+                }
+            else
+                {
+                // split large aggregations into (roughly) as many sub-tasks as the
+                // ForkJoinPool has threads; each sub-task runs against a supply()'ed
+                // copy of the aggregator and the partial results are combine()'d
+                int cParts   = partMask.cardinality();
+                int cThreads = Daemons.forkJoinPool().getParallelism();
+                if (cParts > 1 && cThreads > 1 &&
+                    calculateSize(partMask, false) > getService().getAggregateSplitThreshold())
+                    {
+                    cPartsPerTask = (cParts + cThreads - 1) / cThreads;
+                    }
+                }
+            }
+
         Object result = null;
-        if (agent.isByPartition() && agent.isParallel() && Daemons.isForkJoinPoolEnabled())
+        if (cPartsPerTask > 0)
             {
-            // let's run aggregator in parallel across individual partitions using ForkJoinPool
+            // let's run aggregator in parallel across partition subsets using ForkJoinPool
 
-            Future<Object> future = Daemons.forkJoinPool().submit(new PartitionedAggregateTask<Object>(this, filter, agent, partMask));
+            Future<Object> future = Daemons.forkJoinPool().submit(
+                    new PartitionedAggregateTask<Object>(this, filter, agent, partMask, cPartsPerTask));
             try
                 {
                 result = cTimeoutMillis == 0L
@@ -1880,6 +1907,52 @@ public class Storage
         return extractKeysDirect(getBackingMapInternal(), partMask).toArray();
         }
 
+    /**
+     * Collect the state of the indexes for the specified partition, so that
+     * it could be transferred along with the partition and restored by the
+     * receiving member without an index rebuild. Called on the service thread
+     * only.
+     *
+     * @return the map of the serialized index state (Binary) keyed by the
+     * ValueExtractor, or null if none of the indexes are able to provide their
+     * state
+     *
+     * @see #restorePartitionIndex
+     */
+    public java.util.Map collectIndexState(int nPartition)
+        {
+        // import com.tangosol.internal.util.PartitionedIndexMap;
+        // import com.tangosol.io.Serializer;
+        // import com.tangosol.util.Binary;
+        // import java.util.HashMap;
+        // import java.util.Iterator;
+        // import java.util.Map;
+
+        // the partition is locked for the transfer; make sure that any
+        // in-flight index updates are complete
+        getVersion().waitForPendingCommit(nPartition);
+
+        Serializer serializer = getService().getSerializer();
+        Map        mapState   = null;
+
+        for (Iterator iter = getPartitionIndexMap(nPartition).entrySet().iterator(); iter.hasNext(); )
+            {
+            java.util.Map.Entry entry    = (java.util.Map.Entry) iter.next();
+            Binary              binState = PartitionedIndexMap.writeIndexState(
+                                               (MapIndex) entry.getValue(), serializer);
+            if (binState != null)
+                {
+                if (mapState == null)
+                    {
+                    mapState = new HashMap();
+                    }
+                mapState.put(entry.getKey(), binState);
+                }
+            }
+
+        return mapState;
+        }
+
     /**
      * Return a subset of the primary storage keys that belong to the
      * specified partition. The returned Set is a always an immutable
@@ -7999,13 +8072,15 @@ public class Storage
 
     /**
      * ForkJoinTask that splits the aggregate request targeting multiple partitions into
-     * multiple tasks (one per partition) that can be executed in parallel.
+     * multiple tasks (one per partition, or per a subset of partitions) that can be
+     * executed in parallel.
      */
     public static class PartitionedAggregateTask<P>
             extends RecursiveTask<P>
         {
         /**
-         * Construct {@link PartitionedAggregateTask}.
+         * Construct {@link PartitionedAggregateTask} that aggregates each partition
+         * in a separate sub-task.
          *
          * @param storage      the Storage instance to query
          * @param filter       the Filter to evaluate
@@ -8014,32 +8089,67 @@ public class Storage
          */
         public PartitionedAggregateTask(Storage storage, Filter filter, InvocableMap.StreamingAggregator<?, ?, P, ?> agent, PartitionSet parts)
             {
-            f_storage = storage;
-            f_filter  = filter;
-            f_agent   = agent;
-            f_parts   = parts;
+            this(storage, filter, agent, parts, 1);
+            }
+
+        /**
+         * Construct {@link PartitionedAggregateTask}.
+         *
+         * @param storage        the Storage instance to query
+         * @param filter         the Filter to evaluate
+         * @param agent          the agent to use for aggregation
+         * @param parts          the set of partitions to query
+         * @param cPartsPerTask  the maximum number of partitions to aggregate in
+         *                       each sub-task
+         */
+        public PartitionedAggregateTask(Storage storage, Filter filter, InvocableMap.StreamingAggregator<?, ?, P, ?> agent,
+                                        PartitionSet parts, int cPartsPerTask)
+            {
+            f_storage       = storage;
+            f_filter        = filter;
+            f_agent         = agent;
+            f_parts         = parts;
+            f_cPartsPerTask = Math.max(1, cPartsPerTask);
             }
 
         @Override
         protected P compute()
             {
-            if (f_parts.cardinality() == 1)
+            PartitionSet partMask      = f_parts;
+            int          cParts        = partMask.cardinality();
+            int          cPartsPerTask = f_cPartsPerTask;
+
+            if (cParts <= cPartsPerTask)
                 {
-                f_agent.accumulate(f_storage.createStreamer(f_filter, f_agent, f_parts));
+                f_agent.accumulate(f_storage.createStreamer(f_filter, f_agent, partMask));
                 return f_agent.getPartialResult();
                 }
             else
                 {
-                PartitionSet partMask = f_parts;
-
-                PartitionedAggregateTask<P>[] aTasks = new PartitionedAggregateTask[partMask.cardinality()];
-                int nPos = 0;
+                PartitionedAggregateTask<P>[] aTasks = new PartitionedAggregateTask[(cParts + cPartsPerTask - 1) / cPartsPerTask];
+                int          nPos   = 0;
+                PartitionSet parts  = null;
+                int          cSplit = 0;
                 for (int nPart : partMask)
                     {
-                    PartitionSet part = new PartitionSet(partMask.getPartitionCount(), nPart);
+                    if (parts == null)
+                        {
+                        parts = new PartitionSet(partMask.getPartitionCount());
+                        }
+                    parts.add(nPart);
+
+                    if (++cSplit == cPartsPerTask)
+                        {
+                        // create PartitionedAggregateTask for each subset of partitions
+                        aTasks[nPos++] = new PartitionedAggregateTask(f_storage, f_filter, f_agent.supply(), parts, cPartsPerTask);
+                        parts  = null;
+                        cSplit = 0;
+                        }
+                    }
 
-                    // create PartitionedAggregateTask for each partition
-                    aTasks[nPos++] = new PartitionedAggregateTask(f_storage, f_filter, f_agent.supply(), part);
+                if (parts != null)
+                    {
+                    aTasks[nPos++] = new PartitionedAggregateTask(f_storage, f_filter, f_agent.supply(), parts, cPartsPerTask);
                     }
 
                 invokeAll(aTasks);
@@ -8059,6 +8169,7 @@ public class Storage
         private final Filter f_filter;
         private final InvocableMap.StreamingAggregator<?, ?, P, ?> f_agent;
         private final PartitionSet f_parts;
+        private final int f_cPartsPerTask;
         }
 
     /**
@@ -8735,6 +8846,78 @@ public class Storage
             }
         }
 
+    /**
+     * Create the indexes for the specified partition that has just been
+     * received, restoring the index state that was transferred along with the
+     * partition where possible. Called on the service thread only.
+     *
+     * @param mapState  the map of the serialized index state (ReadBuffer)
+     * keyed by the ValueExtractor (see #collectIndexState), or null if no
+     * state was transferred
+     *
+     * @return the map of the indexes (keyed by the ValueExtractor) that could
+     * not be restored and need to be rebuilt, or null if all the indexes were
+     * restored
+     */
+    public java.util.Map restorePartitionIndex(int nPartition, java.util.Map mapState)
+        {
+        // import com.tangosol.internal.util.PartitionedIndexMap;
+        // import com.tangosol.io.ReadBuffer;
+        // import com.tangosol.io.Serializer;
+        // import com.tangosol.util.CopyOnWriteMap;
+        // import com.tangosol.util.MapIndex;
+        // import com.tangosol.util.ValueExtractor;
+        // import com.tangosol.util.extractor.IndexAwareExtractor;
+        // import java.util.Comparator;
+        // import java.util.HashMap;
+        // import java.util.Iterator;
+        // import java.util.Map;
+
+        Map        mapIndex   = getPartitionIndexMap(nPartition);
+        Map        mapRebuild = null;
+        Serializer serializer = getService().getSerializer();
+
+        for (Iterator iter = getIndexExtractorMap().entrySet().iterator(); iter.hasNext(); )
+            {
+            java.util.Map.Entry entry      = (java.util.Map.Entry) iter.next();
+            ValueExtractor      extractor  = (ValueExtractor) entry.getKey();
+            Comparator          comparator = (Comparator) entry.getValue();
+            MapIndex            index      = createMapIndex(mapIndex, extractor, comparator);
+            ReadBuffer          bufState   = mapState == null ? null : (ReadBuffer) mapState.get(extractor);
+
+            if (index == null ||
+                PartitionedIndexMap.readIndexState(index, bufState, serializer))
+                {
+                continue;
+                }
+
+            if (bufState != null)
+                {
+                // the index could have been partially restored; start over
+                if (extractor instanceof IndexAwareExtractor)
+                    {
+                    ((IndexAwareExtractor) extractor).destroyIndex(mapIndex);
+                    }
+                else
+                    {
+                    mapIndex.remove(extractor);
+                    }
+                index = createMapIndex(mapIndex, extractor, comparator);
+                }
+
+            if (index != null)
+                {
+                if (mapRebuild == null)
+                    {
+                    mapRebuild = new CopyOnWriteMap(HashMap.class);
+                    }
+                mapRebuild.put(extractor, index);
+                }
+            }
+
+        return mapRebuild;
+        }
+
     /**
      * Called on the service or a daemon pool thread after acquiring the key
      * lock.
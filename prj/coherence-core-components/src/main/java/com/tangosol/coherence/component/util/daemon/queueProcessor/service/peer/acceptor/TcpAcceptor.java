@@ -18,14 +18,17 @@ import com.tangosol.coherence.config.builder.ParameterizedBuilder;
 import com.tangosol.config.expression.NullParameterResolver;
 import com.tangosol.internal.net.service.peer.acceptor.DefaultTcpAcceptorDependencies;
 import com.tangosol.internal.net.service.peer.acceptor.TcpAcceptorDependencies;
+import com.tangosol.internal.util.VirtualThreadExecutor;
 import com.tangosol.io.WriteBuffer;
 import com.tangosol.io.nio.ByteBufferWriteBuffer;
+import com.tangosol.net.CacheFactory;
 import com.tangosol.net.InetAddressHelper;
 import com.tangosol.net.OperationalContext;
 import com.tangosol.net.Service;
 import com.tangosol.net.SocketAddressProvider;
 import com.tangosol.net.SocketOptions;
 import com.tangosol.net.SocketProviderFactory;
+import com.tangosol.net.management.Registry;
 import com.tangosol.net.messaging.Channel;
 import com.tangosol.net.messaging.ConnectionException;
 import com.tangosol.net.messaging.SuspectConnectionException;
@@ -1076,8 +1079,33 @@ public class TcpAcceptor
      */
     protected void onServiceStarting()
         {
+        // import Component.Util.DaemonPool as com.tangosol.coherence.component.util.DaemonPool;
+        // import com.tangosol.internal.util.VirtualThreadExecutor;
+        // import com.tangosol.net.CacheFactory;
+        // import com.tangosol.net.management.Registry;
+        
         super.onServiceStarting();
         
+        // optionally execute each request on its own virtual thread, applying
+        // the task timeout and hung threshold configured for the daemon pool
+        String sService = getRequestExecutorServiceName();
+        if (VirtualThreadExecutor.isEnabled(sService))
+            {
+            com.tangosol.coherence.component.util.DaemonPool pool = getDaemonPool();
+            VirtualThreadExecutor executor = new VirtualThreadExecutor(getServiceName(),
+                    VirtualThreadExecutor.getConfiguredConcurrency(sService),
+                    pool.getTaskTimeout(), pool.getHungThreshold());
+        
+            Registry registry = CacheFactory.getCluster().getManagement();
+            if (registry != null)
+                {
+                executor.registerMBean(registry, VirtualThreadExecutor.MBEAN_TYPE + ",name=" + sService);
+                }
+            setRequestExecutor(executor);
+        
+            _trace("TcpAcceptor executing requests on virtual threads: " + executor, 3);
+            }
+        
         TcpAcceptor.TcpProcessor processor = getProcessor();
         processor.start();
         
@@ -1096,9 +1124,32 @@ public class TcpAcceptor
         // stop accepting new Socket connections before closing open Connections
         TcpUtil.cancel(getProcessor().getServerSocketKey());
         
+        if (getRequestExecutor() != null)
+            {
+            Registry registry = CacheFactory.getCluster().getManagement();
+            if (registry != null)
+                {
+                registry.unregister(registry.ensureGlobalName(VirtualThreadExecutor.MBEAN_TYPE
+                        + ",name=" + getRequestExecutorServiceName()));
+                }
+            setRequestExecutor(null);
+            }
+        
         super.onServiceStopping();
         }
     
+    /**
+     * Return the name of the service used to configure the request executor;
+     * the name of the parent ProxyService if there is one.
+     */
+    protected String getRequestExecutorServiceName()
+        {
+        // import com.tangosol.net.Service;
+        
+        Service service = getParentService();
+        return service == null ? getServiceName() : service.getInfo().getServiceName();
+        }
+    
     // Declared at the super level
     /**
      * Release a ReadBuffer that contains an encode a Message. This method is
@@ -1,6 +1,6 @@
 
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -11,8 +11,10 @@
 package com.tangosol.coherence.component.util.queue.concurrentQueue.balancedQueue;
 
 import com.tangosol.coherence.component.util.Queue;
+import com.tangosol.internal.util.AdaptiveBundlingWindow;
 import com.tangosol.internal.util.MovingAverage;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A Queue which multiplexes and bundles enqueued items onto one of many
@@ -29,6 +31,14 @@ public abstract class BundlingQueue
     {
     // ---- Fields declarations ----
     
+    /**
+     * Property AdaptiveWindows
+     *
+     * Map of targets to their AdaptiveBundlingWindow.  The windows outlive the
+     * target queues, which are discarded whenever they become empty.
+     */
+    private transient java.util.Map __m_AdaptiveWindows;
+    
     /**
      * Property BundleAverage
      *
@@ -46,6 +56,16 @@ public abstract class BundlingQueue
      */
     private transient double __m_BundlingAggression;
     
+    /**
+     * Property BundlingAdaptive
+     *
+     * Flag indicating if the deferral window is adapted to the observed send
+     * rate and acknowledgement latency of each target, rather than always
+     * being the DeferralThresholdNanos.  The DeferralThresholdNanos remains
+     * the upper bound of the adaptive window.
+     */
+    private transient boolean __m_BundlingAdaptive;
+    
     /**
      * Property BundlingEnabled
      *
@@ -85,6 +105,41 @@ public abstract class BundlingQueue
      * The number of objects which were bundled prior to dequeueing.
      */
     private transient long __m_StatsBundled;
+    
+    /**
+     * Property StatsBundleSizes
+     *
+     * Histogram of the number of objects in each dequeued bundle; the count at
+     * index i is the number of bundles of [2^(i-1), 2^i) objects, with the
+     * last index including all larger bundles.
+     */
+    private transient long[] __m_StatsBundleSizes;
+    
+    /**
+     * Property StatsBundleWaits
+     *
+     * Histogram of the number of microseconds each dequeued bundle was
+     * deferred for; the count at index i is the number of bundles deferred for
+     * [2^(i-1), 2^i) microseconds, with the last index including all longer
+     * deferrals.
+     */
+    private transient long[] __m_StatsBundleWaits;
+    
+    /**
+     * The number of buckets in the StatsBundleSizes histogram.
+     */
+    public static final int BUNDLE_SIZE_BUCKETS = 9;
+    
+    /**
+     * The number of buckets in the StatsBundleWaits histogram.
+     */
+    public static final int BUNDLE_WAIT_BUCKETS = 16;
+    
+    /**
+     * The maximum number of AdaptiveWindows retained; the windows of departed
+     * targets are discarded once this is exceeded.
+     */
+    public static final int MAX_ADAPTIVE_WINDOWS = 4096;
     private static com.tangosol.util.ListMap __mapChildren;
     
     // Static initializer
@@ -172,6 +227,72 @@ public abstract class BundlingQueue
         return super.getAtomicFlushState();
         }
     
+    /**
+     * Return the AdaptiveBundlingWindow for the specified target, creating it
+    * if necessary.
+     */
+    public com.tangosol.internal.util.AdaptiveBundlingWindow ensureAdaptiveWindow(Object oTarget)
+        {
+        // import com.tangosol.internal.util.AdaptiveBundlingWindow;
+        // import java.util.Map;
+        
+        Map                    mapWindows = getAdaptiveWindows();
+        AdaptiveBundlingWindow window     = (AdaptiveBundlingWindow) mapWindows.get(oTarget);
+        
+        if (window == null)
+            {
+            if (mapWindows.size() >= MAX_ADAPTIVE_WINDOWS)
+                {
+                // the windows of departed targets are never removed individually;
+                // start over rather than growing without bound
+                mapWindows.clear();
+                }
+        
+            window = new AdaptiveBundlingWindow();
+        
+            AdaptiveBundlingWindow windowPrev = (AdaptiveBundlingWindow) mapWindows.putIfAbsent(oTarget, window);
+            if (windowPrev != null)
+                {
+                window = windowPrev;
+                }
+            }
+        
+        return window;
+        }
+    
+    // Declared at the super level
+    /**
+     * Return the queue associated with the target of the specified entry.
+     */
+    protected com.tangosol.coherence.component.util.Queue ensureTargetQueue(Object oElement)
+        {
+        // import Component.Util.Queue;
+        
+        Queue queue = super.ensureTargetQueue(oElement);
+        
+        if (isBundlingAdaptive() && queue instanceof BundlingQueue.TargetQueue)
+            {
+            BundlingQueue.TargetQueue queueTarget = (BundlingQueue.TargetQueue) queue;
+            if (queueTarget.getAdaptiveWindow() == null)
+                {
+                queueTarget.setAdaptiveWindow(ensureAdaptiveWindow(getTarget(oElement)));
+                }
+            }
+        
+        return queue;
+        }
+    
+    // Accessor for the property "AdaptiveWindows"
+    /**
+     * Getter for property AdaptiveWindows.<p>
+    * Map of targets to their AdaptiveBundlingWindow.  The windows outlive the
+    * target queues, which are discarded whenever they become empty.
+     */
+    public java.util.Map getAdaptiveWindows()
+        {
+        return __m_AdaptiveWindows;
+        }
+    
     // Accessor for the property "BundleAverage"
     /**
      * Getter for property BundleAverage.<p>
@@ -239,6 +360,63 @@ public abstract class BundlingQueue
         return __m_StatsBundled;
         }
     
+    // Accessor for the property "StatsBundleSizes"
+    /**
+     * Getter for property StatsBundleSizes.<p>
+    * Histogram of the number of objects in each dequeued bundle; the count at
+    * index i is the number of bundles of [2^(i-1), 2^i) objects, with the last
+    * index including all larger bundles.
+     */
+    public long[] getStatsBundleSizes()
+        {
+        return __m_StatsBundleSizes;
+        }
+    
+    // Accessor for the property "StatsBundleWaits"
+    /**
+     * Getter for property StatsBundleWaits.<p>
+    * Histogram of the number of microseconds each dequeued bundle was deferred
+    * for; the count at index i is the number of bundles deferred for [2^(i-1),
+    * 2^i) microseconds, with the last index including all longer deferrals.
+     */
+    public long[] getStatsBundleWaits()
+        {
+        return __m_StatsBundleWaits;
+        }
+    
+    /**
+     * Return the index of the histogram bucket for the specified value.
+    * 
+    * @param lValue    the (non-negative) value
+    * @param cBuckets  the number of buckets in the histogram
+    * 
+    * @see #getHistogramLabel
+     */
+    public static int getHistogramIndex(long lValue, int cBuckets)
+        {
+        return Math.min(cBuckets - 1, 64 - Long.numberOfLeadingZeros(lValue));
+        }
+    
+    /**
+     * Return a description of the range of values counted by the specified
+    * histogram bucket.
+    * 
+    * @param i         the index of the bucket
+    * @param cBuckets  the number of buckets in the histogram
+    * 
+    * @see #getHistogramIndex
+     */
+    public static String getHistogramLabel(int i, int cBuckets)
+        {
+        if (i <= 1)
+            {
+            return String.valueOf(i);
+            }
+        
+        long lMin = 1L << (i - 1);
+        return i == cBuckets - 1 ? lMin + "+" : lMin + "-" + ((lMin << 1) - 1);
+        }
+    
     // Declared at the super level
     /**
      * Instantiate a new target queue.
@@ -249,6 +427,19 @@ public abstract class BundlingQueue
                                    : super.instantiateTargetQueue();
         }
     
+    // Accessor for the property "BundlingAdaptive"
+    /**
+     * Getter for property BundlingAdaptive.<p>
+    * Flag indicating if the deferral window is adapted to the observed send
+    * rate and acknowledgement latency of each target, rather than always being
+    * the DeferralThresholdNanos.  The DeferralThresholdNanos remains the upper
+    * bound of the adaptive window.
+     */
+    public boolean isBundlingAdaptive()
+        {
+        return __m_BundlingAdaptive;
+        }
+    
     // Accessor for the property "BundlingEnabled"
     /**
      * Getter for property BundlingEnabled.<p>
@@ -296,8 +487,11 @@ public abstract class BundlingQueue
     public void onInit()
         {
         // import com.tangosol.internal.util.MovingAverage;
+        // import java.util.concurrent.ConcurrentHashMap;
         
         setBundleAverage(new MovingAverage(1000, 10));
+        setAdaptiveWindows(new ConcurrentHashMap());
+        resetStats();
         
         super.onInit();
         }
@@ -308,6 +502,47 @@ public abstract class BundlingQueue
     public void resetStats()
         {
         setStatsBundled(0L);
+        setStatsBundleSizes(new long[BUNDLE_SIZE_BUCKETS]);
+        setStatsBundleWaits(new long[BUNDLE_WAIT_BUCKETS]);
+        }
+    
+    /**
+     * Record an acknowledgement latency sample for the specified target.  The
+    * sample is ignored unless adaptive bundling is enabled and items have
+    * been sent to the target.
+    * 
+    * @param oTarget  the target
+    * @param cNanos   the time between the transmission of an item to the
+    * target and the receipt of its acknowledgement
+     */
+    public void recordAckLatency(Object oTarget, long cNanos)
+        {
+        // import com.tangosol.internal.util.AdaptiveBundlingWindow;
+        
+        if (isBundlingAdaptive())
+            {
+            AdaptiveBundlingWindow window = (AdaptiveBundlingWindow) getAdaptiveWindows().get(oTarget);
+            if (window != null)
+                {
+                window.onAckLatency(cNanos);
+                }
+            }
+        }
+    
+    /**
+     * Record the statistics of a dequeued bundle.
+    * 
+    * @param cItems      the number of objects in the bundle
+    * @param cWaitNanos  the number of nanoseconds the bundle was deferred for
+     */
+    protected void recordBundle(int cItems, long cWaitNanos)
+        {
+        // the histograms are replaced on reset; a concurrent update may be lost
+        long[] alSizes = getStatsBundleSizes();
+        long[] alWaits = getStatsBundleWaits();
+        
+        ++alSizes[getHistogramIndex(cItems, alSizes.length)];
+        ++alWaits[getHistogramIndex(cWaitNanos / 1000L, alWaits.length)];
         }
     
     // Declared at the super level
@@ -354,6 +589,17 @@ public abstract class BundlingQueue
             }
         }
     
+    // Accessor for the property "AdaptiveWindows"
+    /**
+     * Setter for property AdaptiveWindows.<p>
+    * Map of targets to their AdaptiveBundlingWindow.  The windows outlive the
+    * target queues, which are discarded whenever they become empty.
+     */
+    protected void setAdaptiveWindows(java.util.Map mapWindows)
+        {
+        __m_AdaptiveWindows = mapWindows;
+        }
+    
     // Accessor for the property "BundleAverage"
     /**
      * Setter for property BundleAverage.<p>
@@ -377,6 +623,19 @@ public abstract class BundlingQueue
         __m_BundlingAggression = (Math.max(0.0, dAggression));
         }
     
+    // Accessor for the property "BundlingAdaptive"
+    /**
+     * Setter for property BundlingAdaptive.<p>
+    * Flag indicating if the deferral window is adapted to the observed send
+    * rate and acknowledgement latency of each target, rather than always being
+    * the DeferralThresholdNanos.  The DeferralThresholdNanos remains the upper
+    * bound of the adaptive window.
+     */
+    public void setBundlingAdaptive(boolean fAdaptive)
+        {
+        __m_BundlingAdaptive = fAdaptive;
+        }
+    
     // Accessor for the property "BundlingEnabled"
     /**
      * Setter for property BundlingEnabled.<p>
@@ -432,6 +691,30 @@ public abstract class BundlingQueue
         __m_StatsBundled = cBundled;
         }
     
+    // Accessor for the property "StatsBundleSizes"
+    /**
+     * Setter for property StatsBundleSizes.<p>
+    * Histogram of the number of objects in each dequeued bundle; the count at
+    * index i is the number of bundles of [2^(i-1), 2^i) objects, with the last
+    * index including all larger bundles.
+     */
+    protected void setStatsBundleSizes(long[] alSizes)
+        {
+        __m_StatsBundleSizes = alSizes;
+        }
+    
+    // Accessor for the property "StatsBundleWaits"
+    /**
+     * Setter for property StatsBundleWaits.<p>
+    * Histogram of the number of microseconds each dequeued bundle was deferred
+    * for; the count at index i is the number of bundles deferred for [2^(i-1),
+    * 2^i) microseconds, with the last index including all longer deferrals.
+     */
+    protected void setStatsBundleWaits(long[] alWaits)
+        {
+        __m_StatsBundleWaits = alWaits;
+        }
+    
     // Declared at the super level
     public String toString()
         {
@@ -444,6 +727,12 @@ public abstract class BundlingQueue
           .append(", stddev=")
           .append(getBundleAverage().getStandardDeviation());
         
+        if (isBundlingAdaptive())
+            {
+            sb.append(", adaptive targets=")
+              .append(getAdaptiveWindows().size());
+            }
+        
         return sb.toString();
         }
 
@@ -460,6 +749,30 @@ public abstract class BundlingQueue
         {
         // ---- Fields declarations ----
         
+        /**
+         * Property AdaptiveWindow
+         *
+         * The AdaptiveBundlingWindow of this queue's target, or null if
+         * adaptive bundling is disabled.
+         */
+        private transient com.tangosol.internal.util.AdaptiveBundlingWindow __m_AdaptiveWindow;
+        
+        /**
+         * Property DeferralBundles
+         *
+         * The number of entries bundled in to the entry at the head of the
+         * queue when this queue entered the deferred state.
+         */
+        private transient int __m_DeferralBundles;
+        
+        /**
+         * Property DeferralNanoStamp
+         *
+         * The System.nanoTime() at which this queue entered the deferred
+         * state, or 0 if the queue is not currently deferred.
+         */
+        private transient long __m_DeferralNanoStamp;
+        
         /**
          * Property DeferralReadStamp
          *
@@ -583,6 +896,39 @@ public abstract class BundlingQueue
             return super.getAtomicFlushState();
             }
         
+        // Accessor for the property "AdaptiveWindow"
+        /**
+         * Getter for property AdaptiveWindow.<p>
+        * The AdaptiveBundlingWindow of this queue's target, or null if
+        * adaptive bundling is disabled.
+         */
+        public com.tangosol.internal.util.AdaptiveBundlingWindow getAdaptiveWindow()
+            {
+            return __m_AdaptiveWindow;
+            }
+        
+        // Accessor for the property "DeferralBundles"
+        /**
+         * Getter for property DeferralBundles.<p>
+        * The number of entries bundled in to the entry at the head of the
+        * queue when this queue entered the deferred state.
+         */
+        public int getDeferralBundles()
+            {
+            return __m_DeferralBundles;
+            }
+        
+        // Accessor for the property "DeferralNanoStamp"
+        /**
+         * Getter for property DeferralNanoStamp.<p>
+        * The System.nanoTime() at which this queue entered the deferred state,
+        * or 0 if the queue is not currently deferred.
+         */
+        public long getDeferralNanoStamp()
+            {
+            return __m_DeferralNanoStamp;
+            }
+        
         // Accessor for the property "DeferralReadStamp"
         /**
          * Getter for property DeferralReadStamp.<p>
@@ -646,6 +992,8 @@ public abstract class BundlingQueue
          */
         public boolean isDeferralTimeout()
             {
+            // import com.tangosol.internal.util.AdaptiveBundlingWindow;
+            
             BundlingQueue queueParent     = (BundlingQueue) get_Parent();
             long          cNanosThreshold = queueParent.getDeferralThresholdNanos();
             long          ldtDeferral     = getDeferralTimeStamp();
@@ -656,6 +1004,18 @@ public abstract class BundlingQueue
                 return true;
                 }
             
+            AdaptiveBundlingWindow window = getAdaptiveWindow();
+            if (window != null)
+                {
+                // the threshold is only the upper bound of the adaptive window
+                long cNanosWindow = window.getWindowNanos(cNanosThreshold,
+                        queueParent.getBundlingAggression());
+                long ldtNanos     = getDeferralNanoStamp();
+            
+                return cNanosWindow == 0L ||
+                       ldtNanos != 0L && System.nanoTime() - ldtNanos >= cNanosWindow;
+                }
+            
             if (ldtDeferral == 0L)
                 {
                 // the queue is not currently deferring
@@ -712,6 +1072,8 @@ public abstract class BundlingQueue
          */
         public Object removeNoWait()
             {
+            // import com.tangosol.internal.util.AdaptiveBundlingWindow;
+            
             BundlingQueue queueParent = (BundlingQueue) get_Parent();
             long          lReadCount  = queueParent.getReadAttemptCount() + 1L;
             
@@ -768,7 +1130,9 @@ public abstract class BundlingQueue
                         {
                         // first deferral of this bundle, record deferral time
                         setDeferralTimeStamp(System.currentTimeMillis());
+                        setDeferralNanoStamp(System.nanoTime());
                         setDeferralReadStamp(lReadCount);
+                        setDeferralBundles(cHeadBundles);
                         }
             
                     setHeadBundles(cHeadBundles);
@@ -777,10 +1141,25 @@ public abstract class BundlingQueue
                     }
                 else
                     {
-                    // allow oHead to be dequeued by not nulling it out;
+                    // allow oHead to be dequeued by not nulling it out
+                    AdaptiveBundlingWindow window      = getAdaptiveWindow();
+                    long                   ldtDeferral = getDeferralNanoStamp();
+                    long                   ldtNow      = window == null && ldtDeferral == 0L
+                                                            ? 0L : System.nanoTime();
+            
+                    if (window != null)
+                        {
+                        window.onRelease(ldtNow, cHeadBundles + 1, ldtDeferral != 0L,
+                                cHeadBundles > getDeferralBundles());
+                        }
+                    queueParent.recordBundle(cHeadBundles + 1,
+                            ldtDeferral == 0L ? 0L : ldtNow - ldtDeferral);
+            
                     // reset head trackers
                     setDeferralTimeStamp(0L);
+                    setDeferralNanoStamp(0L);
                     setDeferralReadStamp(0L);
+                    setDeferralBundles(0);
                     setHeadBundles(0);
             
                     // include the sample even for an empty bundle
@@ -798,6 +1177,39 @@ public abstract class BundlingQueue
             return oHead;
             }
         
+        // Accessor for the property "AdaptiveWindow"
+        /**
+         * Setter for property AdaptiveWindow.<p>
+        * The AdaptiveBundlingWindow of this queue's target, or null if
+        * adaptive bundling is disabled.
+         */
+        public void setAdaptiveWindow(com.tangosol.internal.util.AdaptiveBundlingWindow window)
+            {
+            __m_AdaptiveWindow = window;
+            }
+        
+        // Accessor for the property "DeferralBundles"
+        /**
+         * Setter for property DeferralBundles.<p>
+        * The number of entries bundled in to the entry at the head of the
+        * queue when this queue entered the deferred state.
+         */
+        protected void setDeferralBundles(int cBundles)
+            {
+            __m_DeferralBundles = cBundles;
+            }
+        
+        // Accessor for the property "DeferralNanoStamp"
+        /**
+         * Setter for property DeferralNanoStamp.<p>
+        * The System.nanoTime() at which this queue entered the deferred state,
+        * or 0 if the queue is not currently deferred.
+         */
+        protected void setDeferralNanoStamp(long ldtNanos)
+            {
+            __m_DeferralNanoStamp = ldtNanos;
+            }
+        
         // Accessor for the property "DeferralReadStamp"
         /**
          * Setter for property DeferralReadStamp.<p>
@@ -835,11 +1247,20 @@ public abstract class BundlingQueue
         // Declared at the super level
         public String toString()
             {
+            // import com.tangosol.internal.util.AdaptiveBundlingWindow;
+            
             StringBuilder sb = new StringBuilder(super.toString());
             
             sb.append(", head bundles=")
               .append(getHeadBundles());
             
+            AdaptiveBundlingWindow window = getAdaptiveWindow();
+            if (window != null)
+                {
+                sb.append(", ")
+                  .append(window);
+                }
+            
             long ldtDef = getDeferralTimeStamp();
             if (ldtDef != 0L)
                 {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -15,6 +15,9 @@ import com.oracle.coherence.ai.util.Vectors;
 
 import com.tangosol.io.AbstractEvolvable;
 import com.tangosol.io.ExternalizableLite;
+import com.tangosol.io.ReadBuffer;
+import com.tangosol.io.Serializer;
+import com.tangosol.io.WriteBuffer;
 import com.tangosol.io.pof.EvolvablePortableObject;
 import com.tangosol.io.pof.PofReader;
 import com.tangosol.io.pof.PofWriter;
@@ -28,6 +31,7 @@ import com.tangosol.util.Filter;
 import com.tangosol.util.InvocableMapHelper;
 import com.tangosol.util.MapIndex;
 import com.tangosol.util.NullImplementation;
+import com.tangosol.util.TransferableMapIndex;
 import com.tangosol.util.ValueExtractor;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectAVLTreeMap;
@@ -195,7 +199,7 @@ public class BinaryQuantIndex<K, V, T>
      */
     @SuppressWarnings("unchecked")
     public class BinaryQuantMapIndex
-            implements VectorIndex<K, V, Vector<T>>
+            implements VectorIndex<K, V, Vector<T>>, TransferableMapIndex<K, V, Vector<T>>
         {
         /**
          * Create a {@link BinaryQuantMapIndex}.
@@ -329,6 +333,38 @@ public class BinaryQuantIndex<K, V, T>
                    : Arrays.copyOfRange(aResults, 0, cAdded);
             }
 
+        // ----- TransferableMapIndex interface -----------------------------
+
+        @Override
+        public int getStateVersion()
+            {
+            return 0;
+            }
+
+        @Override
+        public boolean writeState(WriteBuffer.BufferOutput out, Serializer serializer)
+                throws IOException
+            {
+            ExternalizableHelper.writeInt(out, f_mapIndex.size());
+            for (Map.Entry<K, BitSet> entry : f_mapIndex.entrySet())
+                {
+                ExternalizableHelper.writeObject(out, entry.getKey());
+                ExternalizableHelper.writeLongArray(out, entry.getValue().toLongArray());
+                }
+            return true;
+            }
+
+        @Override
+        public void readState(ReadBuffer.BufferInput in, Serializer serializer)
+                throws IOException
+            {
+            for (int i = 0, c = ExternalizableHelper.readInt(in); i < c; i++)
+                {
+                K oKey = ExternalizableHelper.readObject(in);
+                f_mapIndex.put(oKey, BitSet.valueOf(ExternalizableHelper.readLongArray(in)));
+                }
+            }
+
         // ----- data members -----------------------------------------------
 
         /**
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.common.internal.net.shmbus;
+
+import com.oracle.coherence.common.net.exabus.Bus;
+import com.oracle.coherence.common.net.exabus.Depot;
+import com.oracle.coherence.common.net.exabus.EndPoint;
+import com.oracle.coherence.common.net.exabus.MessageBus;
+import com.oracle.coherence.common.net.exabus.spi.Driver;
+import com.oracle.coherence.common.net.exabus.util.UrlEndPoint;
+import com.oracle.coherence.common.util.MemorySize;
+
+import java.io.File;
+
+import java.net.SocketAddress;
+
+
+/**
+ * SharedMemoryBusDriver provides a {@link MessageBus} which exchanges
+ * messages with peers on the same machine through shared memory rings, and
+ * with all other peers through a delegate bus.
+ * <p>
+ * The EndPoints of the bus mirror those of the delegate bus, differing only
+ * in their protocol, i.e. <tt>smb://host:port</tt> is backed by a delegate
+ * bus bound to <tt>tmb://host:port</tt>. The delegate EndPoint is resolved
+ * and its bus created through the Depot this driver is registered with, so
+ * that the delegate uses the same configuration as directly created busses.
+ *
+ * @see SharedMemoryMessageBus
+ *
+ * @since 25.03
+ */
+public class SharedMemoryBusDriver
+        implements Driver
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a SharedMemoryBusDriver.
+     *
+     * @param sProtocol          the protocol of this driver's busses
+     * @param sDelegateProtocol  the protocol of the delegate busses
+     */
+    public SharedMemoryBusDriver(String sProtocol, String sDelegateProtocol)
+        {
+        f_sProtocol         = sProtocol;
+        f_sDelegateProtocol = sDelegateProtocol;
+        }
+
+
+    // ----- Driver interface -----------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    public void setDepot(Depot depot)
+        {
+        m_depot = depot;
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Depot getDepot()
+        {
+        return m_depot;
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public EndPoint resolveEndPoint(String sName)
+        {
+        String sPrefix = f_sProtocol + UrlEndPoint.PROTOCOL_DELIMITER;
+        if (sName == null || !sName.startsWith(sPrefix))
+            {
+            return null;
+            }
+
+        EndPoint pointDelegate = getDepot().resolveEndPoint(f_sDelegateProtocol +
+                sName.substring(f_sProtocol.length()));
+
+        if (pointDelegate instanceof UrlEndPoint)
+            {
+            return wrap(pointDelegate);
+            }
+
+        throw new IllegalArgumentException("unsupported EndPoint " + sName);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isSupported(EndPoint point)
+        {
+        return point instanceof SharedMemoryEndPoint &&
+               ((SharedMemoryEndPoint) point).getDriver() == this;
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Bus createBus(EndPoint pointLocal)
+        {
+        if (isSupported(pointLocal))
+            {
+            EndPoint pointDelegate = ((SharedMemoryEndPoint) pointLocal).getDelegate();
+
+            return new SharedMemoryMessageBus(this, getDepot().createMessageBus(pointDelegate));
+            }
+
+        throw new IllegalArgumentException("unsupported EndPoint " + pointLocal);
+        }
+
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Return the EndPoint of this driver which corresponds to the specified
+     * delegate EndPoint.
+     *
+     * @param pointDelegate  the delegate EndPoint
+     *
+     * @return the corresponding EndPoint, or null if pointDelegate is null
+     */
+    public SharedMemoryEndPoint wrap(EndPoint pointDelegate)
+        {
+        return pointDelegate == null ? null : new SharedMemoryEndPoint(this, (UrlEndPoint) pointDelegate);
+        }
+
+    /**
+     * Return the delegate EndPoint which corresponds to the specified
+     * EndPoint of this driver.
+     *
+     * @param point  the EndPoint
+     *
+     * @return the delegate EndPoint
+     *
+     * @throws IllegalArgumentException if the EndPoint is not supported
+     */
+    public UrlEndPoint unwrap(EndPoint point)
+        {
+        if (isSupported(point))
+            {
+            return ((SharedMemoryEndPoint) point).getDelegate();
+            }
+        throw new IllegalArgumentException("unsupported EndPoint " + point);
+        }
+
+    /**
+     * Return the protocol of this driver's busses.
+     *
+     * @return the protocol
+     */
+    public String getProtocol()
+        {
+        return f_sProtocol;
+        }
+
+    /**
+     * Return the directory in which the shared memory rings are created.
+     *
+     * @return the directory
+     */
+    public File getDirectory()
+        {
+        return m_dir;
+        }
+
+    /**
+     * Return the capacity of each shared memory ring.
+     *
+     * @return the capacity in bytes
+     */
+    public int getRingCapacity()
+        {
+        return m_cbRing;
+        }
+
+
+    // ----- inner class: SharedMemoryEndPoint ------------------------------
+
+    /**
+     * SharedMemoryEndPoint is the EndPoint of a SharedMemoryMessageBus, and
+     * is a thin wrapper around the EndPoint of its delegate bus.
+     */
+    public static class SharedMemoryEndPoint
+            implements EndPoint
+        {
+        /**
+         * Construct a SharedMemoryEndPoint.
+         *
+         * @param driver         the driver
+         * @param pointDelegate  the delegate EndPoint
+         */
+        protected SharedMemoryEndPoint(SharedMemoryBusDriver driver, UrlEndPoint pointDelegate)
+            {
+            f_driver        = driver;
+            f_pointDelegate = pointDelegate;
+            }
+
+        /**
+         * Return the driver which produced this EndPoint.
+         *
+         * @return the driver
+         */
+        public SharedMemoryBusDriver getDriver()
+            {
+            return f_driver;
+            }
+
+        /**
+         * Return the delegate EndPoint.
+         *
+         * @return the delegate EndPoint
+         */
+        public UrlEndPoint getDelegate()
+            {
+            return f_pointDelegate;
+            }
+
+        /**
+         * Return the SocketAddress represented by this EndPoint.
+         *
+         * @return the SocketAddress
+         */
+        public SocketAddress getAddress()
+            {
+            return f_pointDelegate.getAddress();
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        public String getCanonicalName()
+            {
+            UrlEndPoint pointDelegate = f_pointDelegate;
+            return f_driver.getProtocol() + pointDelegate.getCanonicalName()
+                    .substring(pointDelegate.getProtocol().length());
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(Object o)
+            {
+            return o == this || o instanceof SharedMemoryEndPoint &&
+                   f_pointDelegate.equals(((SharedMemoryEndPoint) o).f_pointDelegate);
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode()
+            {
+            return f_pointDelegate.hashCode();
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString()
+            {
+            return getCanonicalName();
+            }
+
+        /**
+         * The driver.
+         */
+        private final SharedMemoryBusDriver f_driver;
+
+        /**
+         * The delegate EndPoint.
+         */
+        private final UrlEndPoint f_pointDelegate;
+        }
+
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The protocol of this driver's busses.
+     */
+    protected final String f_sProtocol;
+
+    /**
+     * The protocol of the delegate busses.
+     */
+    protected final String f_sDelegateProtocol;
+
+    /**
+     * The directory in which the shared memory rings are created; a tmpfs
+     * mount is required to avoid the rings being written back to disk.
+     */
+    protected File m_dir = new File(System.getProperty(
+            SharedMemoryBusDriver.class.getName() + ".directory", "/dev/shm"));
+
+    /**
+     * The capacity of each shared memory ring.
+     */
+    protected int m_cbRing = (int) Math.min(1 << 30, new MemorySize(System.getProperty(
+            SharedMemoryBusDriver.class.getName() + ".ringSize", "4MB")).getByteCount());
+
+    /**
+     * The Depot the driver is registered with.
+     */
+    protected Depot m_depot;
+    }
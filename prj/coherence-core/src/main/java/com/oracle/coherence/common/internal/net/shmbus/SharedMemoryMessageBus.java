@@ -0,0 +1,1438 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.common.internal.net.shmbus;
+
+import com.oracle.coherence.common.base.Collector;
+import com.oracle.coherence.common.io.BufferSequence;
+import com.oracle.coherence.common.io.BufferSequenceInputStream;
+import com.oracle.coherence.common.io.MultiBufferSequence;
+import com.oracle.coherence.common.io.SingleBufferSequence;
+import com.oracle.coherence.common.net.InetAddresses;
+import com.oracle.coherence.common.net.exabus.EndPoint;
+import com.oracle.coherence.common.net.exabus.Event;
+import com.oracle.coherence.common.net.exabus.MessageBus;
+import com.oracle.coherence.common.net.exabus.util.SimpleEvent;
+import com.oracle.coherence.common.net.exabus.util.UrlEndPoint;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+import java.util.concurrent.locks.LockSupport;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+
+/**
+ * SharedMemoryMessageBus is a {@link MessageBus} which transfers messages to
+ * peers on the same machine through {@link SharedMemoryRing shared memory
+ * rings}, avoiding the copies, system calls and loopback network processing
+ * of a socket based bus.
+ * <p>
+ * The bus is layered on top of a delegate bus which is used to establish and
+ * monitor connections, to exchange messages with remote peers, and to carry
+ * the control messages of the shared memory protocol. Each message sent
+ * through the delegate is prefixed with a single byte identifying its type.
+ * <p>
+ * Upon connecting to a peer whose address is local, the bus creates a ring
+ * for the messages destined to the peer and offers it to the peer. A peer
+ * which is able to map the ring, i.e. which indeed runs on the same machine
+ * and shares the ring's directory, accepts the offer; any other outcome
+ * leaves the connection on the delegate bus. Once the offer is accepted, the
+ * sender emits a switch marker through the delegate and from then on writes
+ * all messages for the peer into the ring. The receiver only starts to
+ * consume the ring after having received the marker, which preserves the
+ * order of messages across the transition.
+ * <p>
+ * The receiving side polls its rings from a dedicated thread which spins
+ * briefly when idle before parking. A parked poller announces this through
+ * each of its rings, and a sender observing the announcement wakes it up by
+ * sending a doorbell through the delegate bus.
+ * <p>
+ * Sends never wait for the peer. A message which does not fit into a full
+ * ring is queued along with all subsequent messages for the peer, and the
+ * poller moves the queued messages into the ring as the peer frees space,
+ * emitting the usual BACKLOG_EXCESSIVE and BACKLOG_NORMAL events.
+ *
+ * @since 25.03
+ */
+public class SharedMemoryMessageBus
+        implements MessageBus
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a SharedMemoryMessageBus.
+     *
+     * @param driver       the driver which created the bus
+     * @param busDelegate  the delegate bus
+     */
+    public SharedMemoryMessageBus(SharedMemoryBusDriver driver, MessageBus busDelegate)
+        {
+        f_driver      = driver;
+        f_busDelegate = busDelegate;
+        f_lNonce      = ThreadLocalRandom.current().nextLong();
+
+        busDelegate.setEventCollector(new DelegateCollector());
+        }
+
+
+    // ----- Bus interface --------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    public EndPoint getLocalEndPoint()
+        {
+        return f_driver.wrap(f_busDelegate.getLocalEndPoint());
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void open()
+        {
+        Thread thread = new Thread(this::poll, "SharedMemoryMessageBus:" + getLocalEndPoint());
+        thread.setDaemon(true);
+        m_threadPoller = thread;
+
+        f_busDelegate.open();
+        thread.start();
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void close()
+        {
+        f_busDelegate.close();
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void connect(EndPoint peer)
+        {
+        UrlEndPoint point = f_driver.unwrap(peer);
+
+        f_busDelegate.connect(point);
+
+        Peer state = ensurePeer(point);
+        if (isLocal(point) && f_driver.getDirectory().isDirectory())
+            {
+            offer(state);
+            }
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void disconnect(EndPoint peer)
+        {
+        f_busDelegate.disconnect(f_driver.unwrap(peer));
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void release(EndPoint peer)
+        {
+        f_busDelegate.release(f_driver.unwrap(peer));
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void flush()
+        {
+        f_busDelegate.flush();
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void flush(boolean fSocketWrite)
+        {
+        f_busDelegate.flush(fSocketWrite);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void setEventCollector(Collector<Event> collector)
+        {
+        m_collector = collector;
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Collector<Event> getEventCollector()
+        {
+        return m_collector;
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString(EndPoint peer)
+        {
+        UrlEndPoint point = f_driver.unwrap(peer);
+        Peer        state = f_mapPeer.get(point);
+
+        return f_busDelegate.toString(point) + (state == null ? "" : ", " + state);
+        }
+
+
+    // ----- MessageBus interface -------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    public void send(EndPoint peer, BufferSequence bufseq, Object receipt)
+        {
+        send(peer, bufseq, receipt, /*fSocketWrite*/ false);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void send(EndPoint peer, BufferSequence bufseq, Object receipt, boolean fSocketWrite)
+        {
+        UrlEndPoint point = f_driver.unwrap(peer);
+        Peer        state = f_mapPeer.get(point);
+
+        if (state == null || state.m_nState == STATE_TCP)
+            {
+            sendData(point, bufseq, receipt, fSocketWrite);
+            return;
+            }
+
+        synchronized (state)
+            {
+            // while an offer is outstanding the lock orders the sends with the switch marker
+            if (state.m_nState == STATE_SHM)
+                {
+                writeRing(state, bufseq, receipt);
+                }
+            else
+                {
+                sendData(point, bufseq, receipt, fSocketWrite);
+                }
+            }
+        }
+
+
+    // ----- Object interface -----------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+        {
+        return "SharedMemoryMessageBus(" + getLocalEndPoint() + ", delegate=" + f_busDelegate + ")";
+        }
+
+
+    // ----- sending --------------------------------------------------------
+
+    /**
+     * Send a message through the delegate bus.
+     *
+     * @param point         the delegate EndPoint of the peer
+     * @param bufseq        the message
+     * @param receipt       the optional receipt
+     * @param fSocketWrite  true if the caller is willing to perform a socket write
+     */
+    protected void sendData(UrlEndPoint point, BufferSequence bufseq, Object receipt, boolean fSocketWrite)
+        {
+        f_busDelegate.send(point, new PrefixedBufferSequence(bufseq), receipt, fSocketWrite);
+        }
+
+    /**
+     * Send a control message through the delegate bus.
+     *
+     * @param point   the delegate EndPoint of the peer
+     * @param nType   the message type
+     * @param lNonce  the nonce of the ring the message refers to
+     * @param ring    the offered ring, for an OFFER message
+     */
+    protected void sendControl(UrlEndPoint point, int nType, long lNonce, SharedMemoryRing ring)
+        {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DataOutputStream dos = new DataOutputStream(out))
+            {
+            dos.writeByte(nType);
+            dos.writeLong(lNonce);
+            if (nType == MSG_OFFER)
+                {
+                dos.writeInt(ring.getCapacity());
+                dos.writeUTF(ring.getPath());
+                }
+            }
+        catch (IOException e)
+            {
+            throw new IllegalStateException(e);
+            }
+
+        f_busDelegate.send(point, new SingleBufferSequence(null, ByteBuffer.wrap(out.toByteArray())), null);
+        }
+
+    /**
+     * Write a message into the peer's ring, or queue it if the ring is full or
+     * earlier messages are already queued.
+     * <p>
+     * The caller must hold the peer's monitor.
+     *
+     * @param state    the peer
+     * @param bufseq   the message
+     * @param receipt  the optional receipt
+     */
+    protected void writeRing(Peer state, BufferSequence bufseq, Object receipt)
+        {
+        Queue<PendingMessage> queue     = state.f_queueBacklog;
+        ByteBuffer[]          aBuffer   = bufseq.getBuffers();
+        long                  cbMessage = bufseq.getLength();
+        long                  ofMessage = 0;
+
+        if (queue.isEmpty())
+            {
+            long of = writeRing(state, aBuffer, cbMessage, 0);
+            if (of == cbMessage)
+                {
+                onWritten(state, receipt);
+                return;
+                }
+            ofMessage = Math.max(0, of);
+            }
+
+        queue.add(new PendingMessage(aBuffer, cbMessage, ofMessage, receipt));
+        if (!state.m_fBacklog)
+            {
+            // the poller moves the queued messages into the ring as space frees up
+            state.m_fBacklog = true;
+            f_listBacklog.add(state);
+            emit(new SimpleEvent(Event.Type.BACKLOG_EXCESSIVE, state.f_pointWrapped));
+            LockSupport.unpark(m_threadPoller);
+            }
+        }
+
+    /**
+     * Write as much as possible of a message into the peer's ring, ringing
+     * the peer's doorbell if it is parked.
+     * <p>
+     * The caller must hold the peer's monitor.
+     *
+     * @param state      the peer
+     * @param aBuffer    the buffers holding the message
+     * @param cbMessage  the total length of the message
+     * @param ofMessage  the offset within the message to continue writing at
+     *
+     * @return the offset up to which the message has been written, or -1 if
+     *         nothing could be written
+     *
+     * @see SharedMemoryRing#write(ByteBuffer[], long, long)
+     */
+    protected long writeRing(Peer state, ByteBuffer[] aBuffer, long cbMessage, long ofMessage)
+        {
+        SharedMemoryRing ring = state.m_ringOut;
+        long             of   = ring.write(aBuffer, cbMessage, ofMessage);
+
+        if (of >= 0 && ring.clearConsumerWaiting())
+            {
+            sendControl(state.f_point, MSG_DOORBELL, ring.getNonce(), null);
+            f_busDelegate.flush();
+            }
+        return of;
+        }
+
+    /**
+     * Move as many of the peer's queued messages as possible into its ring.
+     * <p>
+     * The caller must hold the peer's monitor.
+     *
+     * @param state  the peer
+     *
+     * @return true if the peer no longer has any queued messages
+     */
+    protected boolean drainBacklog(Peer state)
+        {
+        Queue<PendingMessage> queue = state.f_queueBacklog;
+
+        for (PendingMessage msg = queue.peek(); msg != null; msg = queue.peek())
+            {
+            if (state.m_nState != STATE_SHM)
+                {
+                // the ring has failed; the disconnect discards the queue
+                return false;
+                }
+
+            long of = writeRing(state, msg.f_aBuffer, msg.f_cbMessage, msg.m_ofMessage);
+            if (of != msg.f_cbMessage)
+                {
+                msg.m_ofMessage = Math.max(msg.m_ofMessage, of);
+                return false;
+                }
+
+            queue.poll();
+            onWritten(state, msg.f_receipt);
+            }
+
+        if (state.m_fBacklog)
+            {
+            state.m_fBacklog = false;
+            emit(new SimpleEvent(Event.Type.BACKLOG_NORMAL, state.f_pointWrapped));
+            }
+        return true;
+        }
+
+    /**
+     * Schedule the receipt of a message which has been written into a ring,
+     * or which has been discarded.
+     *
+     * @param state    the peer
+     * @param receipt  the optional receipt
+     */
+    protected void onWritten(Peer state, Object receipt)
+        {
+        if (receipt != null)
+            {
+            f_queueReceipt.add(new SimpleEvent(Event.Type.RECEIPT, state.f_pointWrapped, receipt));
+            wakePoller();
+            }
+        }
+
+    /**
+     * Offer a new ring to the specified peer.
+     *
+     * @param state  the peer
+     */
+    protected void offer(Peer state)
+        {
+        synchronized (state)
+            {
+            try
+                {
+                SharedMemoryRing ring = SharedMemoryRing.create(f_driver.getDirectory(),
+                        f_driver.getRingCapacity(), f_lNonce ^ System.nanoTime());
+
+                closeQuietly(state.m_ringOffered);
+                state.m_ringOffered = ring;
+                state.m_nState      = STATE_PENDING;
+
+                sendControl(state.f_point, MSG_OFFER, ring.getNonce(), ring);
+                f_busDelegate.flush();
+                }
+            catch (IOException | RuntimeException e)
+                {
+                LOGGER.log(Level.FINE, "unable to offer a shared memory ring to " + state.f_point
+                        + "; continuing on the delegate bus", e);
+                state.m_nState = STATE_TCP;
+                }
+            }
+        }
+
+
+    // ----- receiving ------------------------------------------------------
+
+    /**
+     * Handle a message received through the delegate bus.
+     *
+     * @param event  the MESSAGE event
+     */
+    protected void onMessage(Event event)
+        {
+        UrlEndPoint    point  = (UrlEndPoint) event.getEndPoint();
+        BufferSequence bufseq = (BufferSequence) event.getContent();
+        int            nType  = readType(bufseq);
+
+        if (nType == MSG_DATA)
+            {
+            emit(new DataEvent(event, f_driver.wrap(point)));
+            return;
+            }
+
+        try
+            {
+            BufferSequenceInputStream in = new BufferSequenceInputStream(bufseq);
+            in.readByte();
+
+            long lNonce = in.readLong();
+            switch (nType)
+                {
+                case MSG_OFFER:
+                    onOffer(ensurePeer(point), lNonce, in.readInt(), in.readUTF());
+                    break;
+
+                case MSG_ACCEPT:
+                    onAccept(ensurePeer(point), lNonce);
+                    break;
+
+                case MSG_REJECT:
+                    onReject(ensurePeer(point), lNonce);
+                    break;
+
+                case MSG_SWITCH:
+                    onSwitch(ensurePeer(point), lNonce);
+                    break;
+
+                case MSG_DOORBELL:
+                    LockSupport.unpark(m_threadPoller);
+                    break;
+
+                default:
+                    LOGGER.log(Level.WARNING, "ignoring unknown message type " + nType + " from " + point);
+                    break;
+                }
+            }
+        catch (IOException e)
+            {
+            LOGGER.log(Level.WARNING, "ignoring malformed control message from " + point, e);
+            }
+        finally
+            {
+            event.dispose();
+            }
+        }
+
+    /**
+     * Handle a ring offered by the specified peer.
+     *
+     * @param state       the peer
+     * @param lNonce      the ring's nonce
+     * @param cbCapacity  the ring's capacity
+     * @param sPath       the ring's path
+     */
+    protected void onOffer(Peer state, long lNonce, int cbCapacity, String sPath)
+        {
+        SharedMemoryRing ring;
+        try
+            {
+            ring = SharedMemoryRing.open(f_driver.getDirectory(), sPath, cbCapacity, lNonce);
+            }
+        catch (IOException | RuntimeException e)
+            {
+            // most likely the peer is on another machine after all
+            LOGGER.log(Level.FINE, "unable to open the shared memory ring offered by " + state.f_point, e);
+
+            sendControl(state.f_point, MSG_REJECT, lNonce, null);
+            f_busDelegate.flush();
+            return;
+            }
+
+        synchronized (state.f_oInbound)
+            {
+            closeQuietly(state.m_ringInPending);
+            state.m_ringInPending = ring;
+            }
+
+        sendControl(state.f_point, MSG_ACCEPT, lNonce, null);
+        f_busDelegate.flush();
+        }
+
+    /**
+     * Handle the acceptance of the ring offered to the specified peer.
+     *
+     * @param state   the peer
+     * @param lNonce  the nonce of the accepted ring
+     */
+    protected void onAccept(Peer state, long lNonce)
+        {
+        synchronized (state)
+            {
+            SharedMemoryRing ring = state.m_ringOffered;
+            if (ring != null && ring.getNonce() == lNonce)
+                {
+                // all prior sends have been issued on the delegate; mark the transition
+                sendControl(state.f_point, MSG_SWITCH, lNonce, null);
+                f_busDelegate.flush();
+
+                closeQuietly(state.m_ringOut);
+                state.m_ringOffered = null;
+                state.m_ringOut     = ring;
+                state.m_nState      = STATE_SHM;
+                }
+            }
+        }
+
+    /**
+     * Handle the rejection of the ring offered to the specified peer.
+     *
+     * @param state   the peer
+     * @param lNonce  the nonce of the rejected ring
+     */
+    protected void onReject(Peer state, long lNonce)
+        {
+        synchronized (state)
+            {
+            SharedMemoryRing ring = state.m_ringOffered;
+            if (ring != null && ring.getNonce() == lNonce)
+                {
+                ring.close();
+                state.m_ringOffered = null;
+                state.m_nState      = STATE_TCP;
+                }
+            }
+        }
+
+    /**
+     * Handle the switch of the specified peer from the delegate bus to the
+     * accepted ring.
+     *
+     * @param state   the peer
+     * @param lNonce  the nonce of the ring
+     */
+    protected void onSwitch(Peer state, long lNonce)
+        {
+        synchronized (state.f_oInbound)
+            {
+            SharedMemoryRing ring = state.m_ringInPending;
+            if (ring == null || ring.getNonce() != lNonce)
+                {
+                return;
+                }
+
+            closeQuietly(state.m_ringIn);
+            state.m_ringInPending = null;
+            state.m_ringIn        = ring;
+            }
+
+        if (!f_listInbound.contains(state))
+            {
+            f_listInbound.add(state);
+            }
+        LockSupport.unpark(m_threadPoller);
+        }
+
+    /**
+     * Handle the disconnect of the specified peer, delivering any messages
+     * remaining in its inbound ring before the disconnect is emitted.
+     *
+     * @param point  the delegate EndPoint of the peer
+     */
+    protected void onDisconnect(UrlEndPoint point)
+        {
+        Peer state = f_mapPeer.get(point);
+        if (state == null)
+            {
+            return;
+            }
+
+        // fail the outbound ring before anything else, so that neither senders
+        // nor the poller use it any longer
+        state.m_nState = STATE_TCP;
+
+        synchronized (state.f_oInbound)
+            {
+            SharedMemoryRing ring = state.m_ringIn;
+            if (ring != null)
+                {
+                for (ByteBuffer buf = ring.poll(); buf != null; buf = ring.poll())
+                    {
+                    emitMessage(state, buf);
+                    }
+                }
+            closeQuietly(ring);
+            closeQuietly(state.m_ringInPending);
+            state.m_ringIn        = null;
+            state.m_ringInPending = null;
+            }
+        f_listInbound.remove(state);
+
+        synchronized (state)
+            {
+            state.m_nState = STATE_TCP;
+            closeQuietly(state.m_ringOut);
+            closeQuietly(state.m_ringOffered);
+            state.m_ringOut     = null;
+            state.m_ringOffered = null;
+
+            // as with the delegate bus, queued messages are lost but still receipted
+            Queue<PendingMessage> queue = state.f_queueBacklog;
+            for (PendingMessage msg = queue.poll(); msg != null; msg = queue.poll())
+                {
+                onWritten(state, msg.f_receipt);
+                }
+            if (state.m_fBacklog)
+                {
+                state.m_fBacklog = false;
+                emit(new SimpleEvent(Event.Type.BACKLOG_NORMAL, state.f_pointWrapped));
+                }
+            }
+        f_listBacklog.remove(state);
+        }
+
+    /**
+     * Poll the inbound rings and deliver their messages, along with the
+     * receipts for messages written into the outbound rings, and move queued
+     * messages into the outbound rings.
+     */
+    protected void poll()
+        {
+        Queue<Event> queueReceipt = f_queueReceipt;
+        List<Peer>   listInbound  = f_listInbound;
+        List<Peer>   listBacklog  = f_listBacklog;
+        int          cIdle        = 0;
+
+        while (!m_fClosed)
+            {
+            boolean fWork = false;
+
+            for (Event event = queueReceipt.poll(); event != null; event = queueReceipt.poll())
+                {
+                emit(event);
+                fWork = true;
+                }
+
+            for (Peer state : listInbound)
+                {
+                synchronized (state.f_oInbound)
+                    {
+                    SharedMemoryRing ring = state.m_ringIn;
+                    for (int i = 0; ring != null && i < MAX_POLL_BATCH; ++i)
+                        {
+                        ByteBuffer buf = ring.poll();
+                        if (buf == null)
+                            {
+                            break;
+                            }
+                        emitMessage(state, buf);
+                        fWork = true;
+                        }
+                    }
+                }
+
+            for (Peer state : listBacklog)
+                {
+                synchronized (state)
+                    {
+                    if (drainBacklog(state))
+                        {
+                        listBacklog.remove(state);
+                        fWork = true;
+                        }
+                    }
+                }
+
+            if (fWork)
+                {
+                cIdle = 0;
+                Collector<Event> collector = m_collector;
+                if (collector != null)
+                    {
+                    collector.flush();
+                    }
+                }
+            else if (++cIdle < SPIN_LIMIT)
+                {
+                Thread.onSpinWait();
+                }
+            else
+                {
+                // announce the intent to park, then re-check everything the announcement covers
+                m_fPollerWaiting = true;
+                boolean fEmpty = queueReceipt.isEmpty();
+                for (Peer state : listInbound)
+                    {
+                    SharedMemoryRing ring = state.m_ringIn;
+                    if (ring != null)
+                        {
+                        ring.setConsumerWaiting(true);
+                        fEmpty &= ring.isEmpty();
+                        }
+                    }
+
+                if (fEmpty && !m_fClosed)
+                    {
+                    // the peers do not announce freed space; poll the backlogs periodically
+                    LockSupport.parkNanos(listBacklog.isEmpty() ? MAX_POLLER_PARK_NANOS : MAX_BACKLOG_PARK_NANOS);
+                    }
+
+                m_fPollerWaiting = false;
+                for (Peer state : listInbound)
+                    {
+                    SharedMemoryRing ring = state.m_ringIn;
+                    if (ring != null)
+                        {
+                        ring.setConsumerWaiting(false);
+                        }
+                    }
+                cIdle = 0;
+                }
+            }
+        }
+
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Return the state for the specified peer, creating it if necessary.
+     *
+     * @param point  the delegate EndPoint of the peer
+     *
+     * @return the peer's state
+     */
+    protected Peer ensurePeer(UrlEndPoint point)
+        {
+        return f_mapPeer.computeIfAbsent(point, p -> new Peer(p, f_driver.wrap(p)));
+        }
+
+    /**
+     * Determine if the specified EndPoint may reside on this machine.
+     *
+     * @param point  the delegate EndPoint
+     *
+     * @return true if the EndPoint's address is local
+     */
+    protected boolean isLocal(UrlEndPoint point)
+        {
+        try
+            {
+            return InetAddresses.isLocalAddress(InetAddresses.getAddress(point.getAddress()));
+            }
+        catch (RuntimeException e)
+            {
+            return false;
+            }
+        }
+
+    /**
+     * Wake up the poller if it is parked.
+     */
+    protected void wakePoller()
+        {
+        if (m_fPollerWaiting)
+            {
+            LockSupport.unpark(m_threadPoller);
+            }
+        }
+
+    /**
+     * Emit a message received through a ring.
+     *
+     * @param state  the peer
+     * @param buf    the message
+     */
+    protected void emitMessage(Peer state, ByteBuffer buf)
+        {
+        emit(new SimpleEvent(Event.Type.MESSAGE, state.f_pointWrapped, new SingleBufferSequence(null, buf)));
+        }
+
+    /**
+     * Emit the specified event to the bus's collector.
+     *
+     * @param event  the event
+     */
+    protected void emit(Event event)
+        {
+        Collector<Event> collector = m_collector;
+        if (collector == null)
+            {
+            event.dispose();
+            }
+        else
+            {
+            collector.add(event);
+            }
+        }
+
+    /**
+     * Return the type of a message received through the delegate bus.
+     *
+     * @param bufseq  the message
+     *
+     * @return the type, or -1 if the message is empty
+     */
+    protected static int readType(BufferSequence bufseq)
+        {
+        for (int i = 0, c = bufseq.getBufferCount(); i < c; ++i)
+            {
+            if (bufseq.getBufferLength(i) > 0)
+                {
+                return bufseq.getUnsafeBuffer(i).get(bufseq.getBufferPosition(i));
+                }
+            }
+        return -1;
+        }
+
+    /**
+     * Return a BufferSequence which excludes the type prefix of the specified
+     * message.
+     *
+     * @param bufseq  the message
+     * @param fOwner  true if disposing the result should dispose the message
+     *
+     * @return the message contents
+     */
+    protected static BufferSequence stripType(BufferSequence bufseq, boolean fOwner)
+        {
+        ByteBuffer[] aBuffer = bufseq.getBuffers();
+        for (ByteBuffer buf : aBuffer)
+            {
+            if (buf.hasRemaining())
+                {
+                buf.position(buf.position() + 1);
+                break;
+                }
+            }
+
+        return new MultiBufferSequence(null, aBuffer)
+            {
+            @Override
+            public void dispose()
+                {
+                super.dispose();
+                if (fOwner)
+                    {
+                    bufseq.dispose();
+                    }
+                }
+            };
+        }
+
+    /**
+     * Close the specified ring, if any.
+     *
+     * @param ring  the ring, or null
+     */
+    protected static void closeQuietly(SharedMemoryRing ring)
+        {
+        if (ring != null)
+            {
+            ring.close();
+            }
+        }
+
+
+    // ----- inner class: DelegateCollector ---------------------------------
+
+    /**
+     * DelegateCollector receives the events of the delegate bus, handles the
+     * shared memory protocol and forwards all other events with translated
+     * EndPoints.
+     */
+    protected class DelegateCollector
+            implements Collector<Event>
+        {
+        /**
+         * {@inheritDoc}
+         */
+        public void add(Event event)
+            {
+            EndPoint point = event.getEndPoint();
+
+            switch (event.getType())
+                {
+                case MESSAGE:
+                    onMessage(event);
+                    return;
+
+                case DISCONNECT:
+                    onDisconnect((UrlEndPoint) point);
+                    break;
+
+                case RELEASE:
+                    {
+                    Peer state = f_mapPeer.remove(point);
+                    if (state != null)
+                        {
+                        f_listInbound.remove(state);
+                        f_listBacklog.remove(state);
+                        }
+                    }
+                    break;
+
+                case CLOSE:
+                    m_fClosed = true;
+                    LockSupport.unpark(m_threadPoller);
+                    for (Peer state : f_mapPeer.values())
+                        {
+                        onDisconnect(state.f_point);
+                        }
+                    f_mapPeer.clear();
+                    break;
+
+                default:
+                    break;
+                }
+
+            emit(new WrapperEvent(event, point instanceof UrlEndPoint ? f_driver.wrap(point) : point));
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        public void flush()
+            {
+            Collector<Event> collector = m_collector;
+            if (collector != null)
+                {
+                collector.flush();
+                }
+            }
+        }
+
+
+    // ----- inner class: WrapperEvent --------------------------------------
+
+    /**
+     * WrapperEvent is an event of the delegate bus with a translated
+     * EndPoint.
+     */
+    protected static class WrapperEvent
+            implements Event
+        {
+        /**
+         * Construct a WrapperEvent.
+         *
+         * @param event  the delegate event
+         * @param point  the translated EndPoint
+         */
+        protected WrapperEvent(Event event, EndPoint point)
+            {
+            f_event = event;
+            f_point = point;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Type getType()
+            {
+            return f_event.getType();
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        public EndPoint getEndPoint()
+            {
+            return f_point;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Object getContent()
+            {
+            return f_event.getContent();
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Object dispose(boolean fTakeContent)
+            {
+            return f_event.dispose(fTakeContent);
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        public void dispose()
+            {
+            f_event.dispose();
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString()
+            {
+            return getType() + " event for " + getEndPoint();
+            }
+
+        /**
+         * The delegate event.
+         */
+        protected final Event f_event;
+
+        /**
+         * The translated EndPoint.
+         */
+        protected final EndPoint f_point;
+        }
+
+
+    // ----- inner class: DataEvent -----------------------------------------
+
+    /**
+     * DataEvent is a MESSAGE event of the delegate bus whose content
+     * excludes the type prefix.
+     */
+    protected static class DataEvent
+            extends WrapperEvent
+        {
+        /**
+         * Construct a DataEvent.
+         *
+         * @param event  the delegate event
+         * @param point  the translated EndPoint
+         */
+        protected DataEvent(Event event, EndPoint point)
+            {
+            super(event, point);
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object getContent()
+            {
+            BufferSequence bufseq = m_bufseq;
+            if (bufseq == null)
+                {
+                m_bufseq = bufseq = stripType((BufferSequence) f_event.getContent(), /*fOwner*/ false);
+                }
+            return bufseq;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object dispose(boolean fTakeContent)
+            {
+            Object oContent = f_event.dispose(fTakeContent);
+            return oContent == null ? null : stripType((BufferSequence) oContent, /*fOwner*/ true);
+            }
+
+        /**
+         * The content excluding the type prefix.
+         */
+        protected BufferSequence m_bufseq;
+        }
+
+
+    // ----- inner class: PrefixedBufferSequence ----------------------------
+
+    /**
+     * PrefixedBufferSequence prepends the data message type to a message
+     * sent through the delegate bus.
+     */
+    protected static class PrefixedBufferSequence
+            extends MultiBufferSequence
+        {
+        /**
+         * Construct a PrefixedBufferSequence.
+         *
+         * @param bufseq  the message
+         */
+        protected PrefixedBufferSequence(BufferSequence bufseq)
+            {
+            super(null, prefix(bufseq));
+            }
+
+        /**
+         * Return the buffers of the specified message preceded by the data
+         * message type.
+         *
+         * @param bufseq  the message
+         *
+         * @return the buffers
+         */
+        private static ByteBuffer[] prefix(BufferSequence bufseq)
+            {
+            int          cBuffer = bufseq.getBufferCount();
+            ByteBuffer[] aBuffer = new ByteBuffer[cBuffer + 1];
+
+            aBuffer[0] = DATA_PREFIX.duplicate();
+            bufseq.getBuffers(0, cBuffer, aBuffer, 1);
+            return aBuffer;
+            }
+        }
+
+
+    // ----- inner class: PendingMessage ------------------------------------
+
+    /**
+     * PendingMessage is a message queued for a full ring.
+     */
+    protected static class PendingMessage
+        {
+        /**
+         * Construct a PendingMessage.
+         *
+         * @param aBuffer    the buffers holding the message
+         * @param cbMessage  the total length of the message
+         * @param ofMessage  the offset up to which the message has been written
+         * @param receipt    the optional receipt
+         */
+        protected PendingMessage(ByteBuffer[] aBuffer, long cbMessage, long ofMessage, Object receipt)
+            {
+            f_aBuffer   = aBuffer;
+            f_cbMessage = cbMessage;
+            f_receipt   = receipt;
+            m_ofMessage = ofMessage;
+            }
+
+        /**
+         * The buffers holding the message.
+         */
+        protected final ByteBuffer[] f_aBuffer;
+
+        /**
+         * The total length of the message.
+         */
+        protected final long f_cbMessage;
+
+        /**
+         * The optional receipt.
+         */
+        protected final Object f_receipt;
+
+        /**
+         * The offset up to which the message has been written into the ring.
+         */
+        protected long m_ofMessage;
+        }
+
+
+    // ----- inner class: Peer ----------------------------------------------
+
+    /**
+     * Peer holds the shared memory state of a connection.
+     * <p>
+     * The outbound state is guarded by the Peer's monitor, and the inbound
+     * state by {@link #f_oInbound}. A disconnect fails the outbound ring by
+     * resetting {@link #m_nState} before it acquires the monitor.
+     */
+    protected static class Peer
+        {
+        /**
+         * Construct a Peer.
+         *
+         * @param point         the delegate EndPoint
+         * @param pointWrapped  the EndPoint of this bus
+         */
+        protected Peer(UrlEndPoint point, EndPoint pointWrapped)
+            {
+            f_point        = point;
+            f_pointWrapped = pointWrapped;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString()
+            {
+            return "shm=" + (m_nState == STATE_SHM ? "active" : m_nState == STATE_PENDING ? "offered" : "inactive")
+                    + (m_ringIn == null ? "" : ", in=" + m_ringIn)
+                    + (m_ringOut == null ? "" : ", out=" + m_ringOut);
+            }
+
+        /**
+         * The delegate EndPoint of the peer.
+         */
+        protected final UrlEndPoint f_point;
+
+        /**
+         * The EndPoint of the peer on this bus.
+         */
+        protected final EndPoint f_pointWrapped;
+
+        /**
+         * The monitor guarding the inbound state.
+         */
+        protected final Object f_oInbound = new Object();
+
+        /**
+         * The outbound state, one of the STATE_* constants.
+         */
+        protected volatile int m_nState = STATE_TCP;
+
+        /**
+         * The ring offered to the peer and not yet accepted.
+         */
+        protected SharedMemoryRing m_ringOffered;
+
+        /**
+         * The ring messages to the peer are written to.
+         */
+        protected SharedMemoryRing m_ringOut;
+
+        /**
+         * True if a BACKLOG_EXCESSIVE event has been emitted for the peer.
+         */
+        protected boolean m_fBacklog;
+
+        /**
+         * The messages waiting for space in the outbound ring.
+         */
+        protected final Queue<PendingMessage> f_queueBacklog = new ArrayDeque<>();
+
+        /**
+         * The ring accepted from the peer and not yet switched to.
+         */
+        protected SharedMemoryRing m_ringInPending;
+
+        /**
+         * The ring messages from the peer are read from.
+         */
+        protected volatile SharedMemoryRing m_ringIn;
+        }
+
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * Outbound state in which messages are sent through the delegate bus
+     * without synchronization.
+     */
+    protected static final int STATE_TCP = 0;
+
+    /**
+     * Outbound state in which a ring has been offered and messages are sent
+     * through the delegate bus while holding the peer's monitor.
+     */
+    protected static final int STATE_PENDING = 1;
+
+    /**
+     * Outbound state in which messages are written into the ring.
+     */
+    protected static final int STATE_SHM = 2;
+
+    /**
+     * Message type of application messages sent through the delegate bus.
+     */
+    protected static final int MSG_DATA = 0;
+
+    /**
+     * Message type of a ring offer.
+     */
+    protected static final int MSG_OFFER = 1;
+
+    /**
+     * Message type of the acceptance of a ring offer.
+     */
+    protected static final int MSG_ACCEPT = 2;
+
+    /**
+     * Message type of the rejection of a ring offer.
+     */
+    protected static final int MSG_REJECT = 3;
+
+    /**
+     * Message type of the marker after which messages are read from the ring.
+     */
+    protected static final int MSG_SWITCH = 4;
+
+    /**
+     * Message type of a wake up request for a parked poller.
+     */
+    protected static final int MSG_DOORBELL = 5;
+
+    /**
+     * The prefix of application messages sent through the delegate bus.
+     */
+    private static final ByteBuffer DATA_PREFIX = ByteBuffer.wrap(new byte[] {MSG_DATA}).asReadOnlyBuffer();
+
+    /**
+     * The number of idle iterations to spin before parking; spinning is
+     * pointless if the other side cannot run concurrently.
+     */
+    protected static final int SPIN_LIMIT = Runtime.getRuntime().availableProcessors() > 1 ? 1000 : 1;
+
+    /**
+     * The maximum number of messages to deliver from a ring before moving on
+     * to the next one.
+     */
+    protected static final int MAX_POLL_BATCH = 64;
+
+    /**
+     * The maximum time the poller parks for, bounding the impact of a lost
+     * doorbell.
+     */
+    protected static final long MAX_POLLER_PARK_NANOS = 10_000_000L;
+
+    /**
+     * The maximum time the poller parks for while messages are waiting for
+     * ring space.
+     */
+    protected static final long MAX_BACKLOG_PARK_NANOS = 1_000_000L;
+
+    /**
+     * The Logger for the bus.
+     */
+    private static final Logger LOGGER = Logger.getLogger(SharedMemoryMessageBus.class.getName());
+
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The driver which created the bus.
+     */
+    protected final SharedMemoryBusDriver f_driver;
+
+    /**
+     * The delegate bus.
+     */
+    protected final MessageBus f_busDelegate;
+
+    /**
+     * The seed for the nonces of the rings offered by this bus.
+     */
+    protected final long f_lNonce;
+
+    /**
+     * The state of the connected peers, keyed by delegate EndPoint.
+     */
+    protected final Map<UrlEndPoint, Peer> f_mapPeer = new ConcurrentHashMap<>();
+
+    /**
+     * The peers with an inbound ring.
+     */
+    protected final List<Peer> f_listInbound = new CopyOnWriteArrayList<>();
+
+    /**
+     * The peers with messages waiting for ring space.
+     */
+    protected final List<Peer> f_listBacklog = new CopyOnWriteArrayList<>();
+
+    /**
+     * The receipts of messages written into rings, to be emitted by the
+     * poller.
+     */
+    protected final Queue<Event> f_queueReceipt = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The application's event collector.
+     */
+    protected volatile Collector<Event> m_collector;
+
+    /**
+     * The poller thread.
+     */
+    protected volatile Thread m_threadPoller;
+
+    /**
+     * True if the poller is about to park or is parked.
+     */
+    protected volatile boolean m_fPollerWaiting;
+
+    /**
+     * True once the delegate bus has been closed.
+     */
+    protected volatile boolean m_fClosed;
+    }
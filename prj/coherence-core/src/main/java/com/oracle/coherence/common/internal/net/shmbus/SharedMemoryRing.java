@@ -0,0 +1,672 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.common.internal.net.shmbus;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.StandardOpenOption;
+
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import java.util.Set;
+
+
+/**
+ * SharedMemoryRing is a single producer, single consumer ring buffer of
+ * messages residing in a memory mapped file, allowing two processes on the
+ * same machine to exchange messages without involving the network stack.
+ * <p>
+ * The file starts with a header holding the ring's identity and the
+ * producer and consumer positions, each on its own cache line, followed by
+ * the data area. Messages are stored as one or more 8 byte aligned records,
+ * each consisting of an int length, int flags and the record's payload.
+ * Messages which do not fit into the contiguous space which remains in the
+ * ring are fragmented, and the unusable space at the end of the data area is
+ * skipped using a padding record.
+ * <p>
+ * The producer publishes records by advancing the tail with release
+ * semantics, and the consumer frees space by advancing the head. A consumer
+ * which is about to block sets a "waiting" flag and re-checks the tail; a
+ * producer which observes the flag after publishing is responsible for waking
+ * the consumer up through some external means.
+ * <p>
+ * Each side of the ring is to be used by a single thread at a time.
+ *
+ * @since 25.03
+ */
+public final class SharedMemoryRing
+        implements Closeable
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a SharedMemoryRing over the specified mapped file.
+     *
+     * @param file        the backing file, or null if it has been unlinked
+     * @param buffer      the mapped file contents
+     * @param cbCapacity  the capacity of the data area
+     * @param lNonce      the nonce identifying the ring
+     */
+    private SharedMemoryRing(File file, MappedByteBuffer buffer, int cbCapacity, long lNonce)
+        {
+        f_file       = file;
+        f_buffer     = buffer;
+        f_cbCapacity = cbCapacity;
+        f_nMask      = cbCapacity - 1;
+        f_lNonce     = lNonce;
+        f_cbFragment = cbCapacity >>> 2;
+        }
+
+
+    // ----- factory methods ------------------------------------------------
+
+    /**
+     * Create a new ring in the specified directory, to be used by the
+     * calling process as the producer.
+     *
+     * @param dir         the directory to create the backing file in
+     * @param cbCapacity  the requested capacity, rounded up to a power of two
+     * @param lNonce      the nonce identifying the ring to the consumer
+     *
+     * @return the ring
+     *
+     * @throws IOException if the ring cannot be created
+     */
+    public static SharedMemoryRing create(File dir, int cbCapacity, long lNonce)
+            throws IOException
+        {
+        cbCapacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(cbCapacity - 1) << 1);
+
+        // the ring is readable and writable by the owner only, as it carries
+        // the messages exchanged between the two processes
+        File file;
+        try
+            {
+            file = Files.createTempFile(dir.toPath(), FILE_PREFIX, FILE_SUFFIX, OWNER_ONLY).toFile();
+            }
+        catch (UnsupportedOperationException e)
+            {
+            // the file system does not support POSIX permissions
+            file = Files.createTempFile(dir.toPath(), FILE_PREFIX, FILE_SUFFIX).toFile();
+            file.setReadable(false, false);
+            file.setWritable(false, false);
+            file.setReadable(true, true);
+            file.setWritable(true, true);
+            }
+        file.deleteOnExit();
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+            {
+            raf.setLength(HEADER_SIZE + cbCapacity);
+
+            MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + cbCapacity);
+            buffer.order(ByteOrder.nativeOrder());
+
+            buffer.putInt(OFFSET_CAPACITY, cbCapacity);
+            buffer.putLong(OFFSET_NONCE, lNonce);
+            LONG_HANDLE.setVolatile(buffer, OFFSET_MAGIC, MAGIC);
+
+            return new SharedMemoryRing(file, buffer, cbCapacity, lNonce);
+            }
+        catch (IOException | RuntimeException e)
+            {
+            file.delete();
+            throw e;
+            }
+        }
+
+    /**
+     * Open a ring created by another process, to be used by the calling
+     * process as the consumer.
+     * <p>
+     * As the path is supplied by the remote process, only an existing ring
+     * file residing directly within the specified directory is accepted. Once
+     * opened and verified the backing file is unlinked, leaving the mapping as
+     * the only reference to it, so that the file cannot outlive either process.
+     *
+     * @param dir         the directory the ring is expected to reside in
+     * @param sPath       the path of the backing file
+     * @param cbCapacity  the expected capacity
+     * @param lNonce      the expected nonce
+     *
+     * @return the ring
+     *
+     * @throws IOException if the ring cannot be opened or does not match the
+     *         expected location or identity
+     */
+    public static SharedMemoryRing open(File dir, String sPath, int cbCapacity, long lNonce)
+            throws IOException
+        {
+        File   file  = new File(sPath).getCanonicalFile();
+        String sName = file.getName();
+
+        if (!dir.getCanonicalFile().equals(file.getParentFile()) ||
+            !sName.startsWith(FILE_PREFIX) || !sName.endsWith(FILE_SUFFIX))
+            {
+            throw new IOException("illegal location of shared memory ring " + sPath);
+            }
+
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ,
+                StandardOpenOption.WRITE, LinkOption.NOFOLLOW_LINKS))
+            {
+            if (channel.size() != HEADER_SIZE + (long) cbCapacity)
+                {
+                throw new IOException("unexpected length of shared memory ring " + sPath);
+                }
+
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + cbCapacity);
+            buffer.order(ByteOrder.nativeOrder());
+            }
+
+        if ((long) LONG_HANDLE.getVolatile(buffer, OFFSET_MAGIC) != MAGIC ||
+            buffer.getInt(OFFSET_CAPACITY) != cbCapacity ||
+            buffer.getLong(OFFSET_NONCE) != lNonce)
+            {
+            throw new IOException("unexpected header of shared memory ring " + sPath);
+            }
+
+        // only a verified ring is unlinked; the mapping remains valid
+        file.delete();
+
+        return new SharedMemoryRing(null, buffer, cbCapacity, lNonce);
+        }
+
+
+    // ----- producer methods -----------------------------------------------
+
+    /**
+     * Write as much as possible of the specified message into the ring.
+     * <p>
+     * A message which does not fit into the free space of the ring is
+     * written in fragments over a number of calls, each continuing at the
+     * offset returned by the prior call. The consumer will not see the
+     * message until all of its fragments have been written.
+     *
+     * @param aBuffer    the buffers holding the message, starting at their
+     *                   positions; the buffers are not modified
+     * @param cbMessage  the total length of the message
+     * @param ofMessage  the offset within the message to continue writing at
+     *
+     * @return the offset up to which the message has been written, which is
+     *         equal to <tt>cbMessage</tt> once the message is complete, or
+     *         -1 if nothing could be written due to a lack of space
+     */
+    public long write(ByteBuffer[] aBuffer, long cbMessage, long ofMessage)
+        {
+        ByteBuffer buffer   = f_buffer;
+        int        cbCap    = f_cbCapacity;
+        long       lTail    = m_lTail;
+        long       lHead    = m_lHeadCache;
+        boolean    fEmpty   = cbMessage == 0;
+        long       ofStart  = ofMessage;
+        long       lTailOld = lTail;
+
+        while (ofMessage < cbMessage || fEmpty)
+            {
+            long cbRemain = cbMessage - ofMessage;
+            int  cbMin    = RECORD_HEADER_SIZE + (int) Math.min(cbRemain, MIN_FRAGMENT);
+            int  iTail    = (int) (lTail & f_nMask);
+            int  cbEnd    = cbCap - iTail;
+            long cbFree   = cbCap - (lTail - lHead);
+
+            if (cbFree < Math.min(cbMin, cbEnd))
+                {
+                lHead = m_lHeadCache = (long) LONG_HANDLE.getAcquire(buffer, OFFSET_HEAD);
+                cbFree = cbCap - (lTail - lHead);
+                if (cbFree < Math.min(cbMin, cbEnd))
+                    {
+                    break; // full
+                    }
+                }
+
+            int ofRecord = HEADER_SIZE + iTail;
+            if (cbEnd < cbMin)
+                {
+                // not worth fragmenting into the remaining space; skip to the start of the ring
+                buffer.putInt(ofRecord, 0);
+                buffer.putInt(ofRecord + 4, FLAG_PAD);
+                lTail += cbEnd;
+                continue;
+                }
+
+            int cb = (int) Math.min(Math.min(cbRemain, f_cbFragment),
+                                    Math.min(cbFree, cbEnd) - RECORD_HEADER_SIZE);
+
+            copy(aBuffer, ofMessage, buffer, ofRecord + RECORD_HEADER_SIZE, cb);
+
+            ofMessage += cb;
+            buffer.putInt(ofRecord, cb);
+            buffer.putInt(ofRecord + 4, ofMessage < cbMessage ? FLAG_MORE : 0);
+            lTail  += align(RECORD_HEADER_SIZE + cb);
+            fEmpty  = false;
+            }
+
+        if (lTail != lTailOld)
+            {
+            m_lTail = lTail;
+            LONG_HANDLE.setVolatile(buffer, OFFSET_TAIL, lTail);
+            }
+
+        return fEmpty || (ofMessage == ofStart && cbMessage > 0) ? -1 : ofMessage;
+        }
+
+    /**
+     * Determine if the consumer has announced that it is about to block and
+     * atomically clear the announcement.
+     * <p>
+     * This method must be called after every {@link #write} which made
+     * progress; if it returns true the caller must wake the consumer up.
+     *
+     * @return true if the consumer needs to be woken up
+     */
+    public boolean clearConsumerWaiting()
+        {
+        ByteBuffer buffer = f_buffer;
+        return (int) INT_HANDLE.getVolatile(buffer, OFFSET_WAITING) != 0 &&
+               INT_HANDLE.compareAndSet(buffer, OFFSET_WAITING, 1, 0);
+        }
+
+
+    // ----- consumer methods -----------------------------------------------
+
+    /**
+     * Remove the next complete message from the ring.
+     *
+     * @return the message, or null if no complete message is available
+     */
+    public ByteBuffer poll()
+        {
+        ByteBuffer buffer  = f_buffer;
+        int        cbCap   = f_cbCapacity;
+        long       lHead   = m_lHead;
+        long       lTail   = m_lTailCache;
+        long       lStart  = lHead;
+        ByteBuffer bufMsg  = null;
+
+        if (lHead == lTail)
+            {
+            lTail = m_lTailCache = (long) LONG_HANDLE.getAcquire(buffer, OFFSET_TAIL);
+            }
+
+        while (lHead != lTail && bufMsg == null)
+            {
+            int iHead    = (int) (lHead & f_nMask);
+            int ofRecord = HEADER_SIZE + iHead;
+            int cb       = buffer.getInt(ofRecord);
+            int nFlags   = buffer.getInt(ofRecord + 4);
+
+            if ((nFlags & FLAG_PAD) != 0)
+                {
+                lHead += cbCap - iHead;
+                continue;
+                }
+
+            byte[] ab  = m_abPartial;
+            int    cbP = m_cbPartial;
+            if (ab == null && (nFlags & FLAG_MORE) == 0)
+                {
+                // common case; single record message
+                ab = new byte[cb];
+                buffer.get(ofRecord + RECORD_HEADER_SIZE, ab, 0, cb);
+                bufMsg = ByteBuffer.wrap(ab);
+                }
+            else
+                {
+                if (ab == null || ab.length - cbP < cb)
+                    {
+                    byte[] abNew = new byte[Math.max(cbP + cb, ab == null ? f_cbFragment : ab.length << 1)];
+                    if (ab != null)
+                        {
+                        System.arraycopy(ab, 0, abNew, 0, cbP);
+                        }
+                    ab = abNew;
+                    }
+                buffer.get(ofRecord + RECORD_HEADER_SIZE, ab, cbP, cb);
+                cbP += cb;
+
+                if ((nFlags & FLAG_MORE) == 0)
+                    {
+                    bufMsg      = ByteBuffer.wrap(ab, 0, cbP);
+                    m_abPartial = null;
+                    m_cbPartial = 0;
+                    }
+                else
+                    {
+                    m_abPartial = ab;
+                    m_cbPartial = cbP;
+                    }
+                }
+
+            lHead += align(RECORD_HEADER_SIZE + cb);
+            }
+
+        if (lHead != lStart)
+            {
+            m_lHead = lHead;
+            LONG_HANDLE.setRelease(buffer, OFFSET_HEAD, lHead);
+            }
+
+        return bufMsg;
+        }
+
+    /**
+     * Announce that the consumer is about to block, or that it is no longer
+     * blocked.
+     * <p>
+     * After announcing its intent to block the consumer must check
+     * {@link #isEmpty} once more before blocking, as the producer may have
+     * published records before it observed the announcement.
+     *
+     * @param fWaiting  true if the consumer is about to block
+     */
+    public void setConsumerWaiting(boolean fWaiting)
+        {
+        INT_HANDLE.setVolatile(f_buffer, OFFSET_WAITING, fWaiting ? 1 : 0);
+        }
+
+    /**
+     * Determine if the ring holds no records which have not been consumed.
+     *
+     * @return true if the ring is empty
+     */
+    public boolean isEmpty()
+        {
+        return m_lHead == (long) LONG_HANDLE.getVolatile(f_buffer, OFFSET_TAIL);
+        }
+
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the path of the backing file.
+     *
+     * @return the path, or null if the file has already been unlinked
+     */
+    public String getPath()
+        {
+        File file = f_file;
+        return file == null ? null : file.getPath();
+        }
+
+    /**
+     * Return the capacity of the data area.
+     *
+     * @return the capacity in bytes
+     */
+    public int getCapacity()
+        {
+        return f_cbCapacity;
+        }
+
+    /**
+     * Return the nonce identifying the ring.
+     *
+     * @return the nonce
+     */
+    public long getNonce()
+        {
+        return f_lNonce;
+        }
+
+
+    // ----- Closeable interface --------------------------------------------
+
+    /**
+     * Close the ring, removing its backing file if it has not yet been
+     * unlinked.
+     * <p>
+     * The mapping itself is released once the ring becomes unreachable.
+     */
+    @Override
+    public void close()
+        {
+        File file = f_file;
+        if (file != null)
+            {
+            file.delete();
+            }
+        }
+
+
+    // ----- Object interface -----------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+        {
+        return "SharedMemoryRing(capacity=" + f_cbCapacity + ", head=" + m_lHead
+                + ", tail=" + m_lTail + (f_file == null ? "" : ", file=" + f_file) + ")";
+        }
+
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Copy the specified range of a message into the ring.
+     *
+     * @param aBuffer    the buffers holding the message
+     * @param ofMessage  the offset within the message to copy from
+     * @param bufDst     the ring buffer
+     * @param ofDst      the absolute offset within the ring buffer
+     * @param cb         the number of bytes to copy
+     */
+    private static void copy(ByteBuffer[] aBuffer, long ofMessage, ByteBuffer bufDst, int ofDst, int cb)
+        {
+        for (int i = 0, c = aBuffer.length; i < c && cb > 0; ++i)
+            {
+            ByteBuffer bufSrc  = aBuffer[i];
+            int        cbSrc   = bufSrc.remaining();
+            if (ofMessage >= cbSrc)
+                {
+                ofMessage -= cbSrc;
+                continue;
+                }
+
+            int cbCopy = Math.min(cb, cbSrc - (int) ofMessage);
+            bufDst.put(ofDst, bufSrc, bufSrc.position() + (int) ofMessage, cbCopy);
+
+            ofDst    += cbCopy;
+            cb       -= cbCopy;
+            ofMessage = 0;
+            }
+        }
+
+    /**
+     * Round the specified length up to the record alignment.
+     *
+     * @param cb  the length
+     *
+     * @return the aligned length
+     */
+    private static int align(int cb)
+        {
+        return (cb + RECORD_ALIGNMENT - 1) & -RECORD_ALIGNMENT;
+        }
+
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The value identifying an initialized ring.
+     */
+    private static final long MAGIC = 0x436F68536D52696EL;
+
+    /**
+     * The offset of the magic value.
+     */
+    private static final int OFFSET_MAGIC = 0;
+
+    /**
+     * The offset of the data area capacity.
+     */
+    private static final int OFFSET_CAPACITY = 8;
+
+    /**
+     * The offset of the nonce.
+     */
+    private static final int OFFSET_NONCE = 16;
+
+    /**
+     * The offset of the consumer's position, on its own cache line.
+     */
+    private static final int OFFSET_HEAD = 64;
+
+    /**
+     * The offset of the producer's position, on its own cache line.
+     */
+    private static final int OFFSET_TAIL = 128;
+
+    /**
+     * The offset of the consumer's waiting flag, on its own cache line.
+     */
+    private static final int OFFSET_WAITING = 192;
+
+    /**
+     * The size of the header, i.e. the offset of the data area.
+     */
+    private static final int HEADER_SIZE = 256;
+
+    /**
+     * The size of a record header.
+     */
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    /**
+     * The alignment of records within the data area.
+     */
+    private static final int RECORD_ALIGNMENT = 8;
+
+    /**
+     * The smallest fragment the producer will create rather than skipping
+     * the remaining space at the end of the data area.
+     */
+    private static final int MIN_FRAGMENT = 256;
+
+    /**
+     * The minimum data area capacity.
+     */
+    public static final int MIN_CAPACITY = 64 * 1024;
+
+    /**
+     * Record flag indicating that the message continues in the next record.
+     */
+    private static final int FLAG_MORE = 1;
+
+    /**
+     * Record flag indicating that the remainder of the data area is unused.
+     */
+    private static final int FLAG_PAD = 2;
+
+    /**
+     * The prefix of backing file names.
+     */
+    private static final String FILE_PREFIX = "coherence-bus-";
+
+    /**
+     * The suffix of backing file names.
+     */
+    private static final String FILE_SUFFIX = ".ring";
+
+    /**
+     * The permissions of backing files, which allow the owner to read and
+     * write them.
+     */
+    private static final FileAttribute<Set<PosixFilePermission>> OWNER_ONLY =
+            PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"));
+
+    /**
+     * VarHandle for ordered access to the long header fields.
+     */
+    private static final VarHandle LONG_HANDLE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    /**
+     * VarHandle for ordered access to the int header fields.
+     */
+    private static final VarHandle INT_HANDLE = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The backing file, or null if it has been unlinked.
+     */
+    private final File f_file;
+
+    /**
+     * The mapped file contents.
+     */
+    private final MappedByteBuffer f_buffer;
+
+    /**
+     * The capacity of the data area.
+     */
+    private final int f_cbCapacity;
+
+    /**
+     * The mask used to translate positions into data area offsets.
+     */
+    private final int f_nMask;
+
+    /**
+     * The largest record payload.
+     */
+    private final int f_cbFragment;
+
+    /**
+     * The nonce identifying the ring.
+     */
+    private final long f_lNonce;
+
+    /**
+     * The producer's position.
+     */
+    private long m_lTail;
+
+    /**
+     * The producer's last observed consumer position.
+     */
+    private long m_lHeadCache;
+
+    /**
+     * The consumer's position.
+     */
+    private long m_lHead;
+
+    /**
+     * The consumer's last observed producer position.
+     */
+    private long m_lTailCache;
+
+    /**
+     * The partially received message, if any.
+     */
+    private byte[] m_abPartial;
+
+    /**
+     * The length of the partially received message.
+     */
+    private int m_cbPartial;
+    }
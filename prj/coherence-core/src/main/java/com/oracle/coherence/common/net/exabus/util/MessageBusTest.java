@@ -2464,6 +2464,9 @@ public class MessageBusTest
         out.println("\t-warmup             time duration or message count which will be discarded for warmup");
         out.println("\t-single             if specified an outgoing connection will emit just one message, then reconnect");
         out.println("\t-verbose            to enable verbose debugging output");
+        out.println();
+        out.println("EndPoints are specified as protocol://host:port, for instance tmb://127.0.0.1:8000, or");
+        out.println("smb://127.0.0.1:8000 to exchange messages with peers on the same machine through shared memory");
         }
 
     /**
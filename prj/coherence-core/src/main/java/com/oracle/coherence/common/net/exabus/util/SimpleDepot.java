@@ -22,6 +22,7 @@ import com.oracle.coherence.common.net.exabus.spi.Driver;
 import com.oracle.coherence.common.net.exabus.MemoryBus;
 import com.oracle.coherence.common.net.SSLSettings;
 import com.oracle.coherence.common.net.SSLSocketProvider;
+import com.oracle.coherence.common.internal.net.shmbus.SharedMemoryBusDriver;
 import com.oracle.coherence.common.internal.net.socketbus.SocketBusDriver;
 
 import java.io.Closeable;
@@ -463,6 +464,8 @@ public class SimpleDepot
                             .setMessageBusProtocol(SDP_MESSAGE_BUS_PROTOCOL)
                             .setMemoryBusProtocol(SDP_MEMORY_BUS_PROTOCOL)
                             .setSocketProvider(SdpSocketProvider.MULTIPLEXED)));
+                mapDriver.put(SHM_MESSAGE_BUS, new SharedMemoryBusDriver(
+                        SHM_MESSAGE_BUS_PROTOCOL, TCP_MESSAGE_BUS_PROTOCOL));
 
                 SSLSettings settingsSSL = m_settingsSSL;
                 if (settingsSSL != null)
@@ -753,6 +756,17 @@ public class SimpleDepot
      */
     public static final String SDP_SECURE_MEMORY_BUS_PROTOCOL = "sdrbs";
 
+    /**
+     * Driver name for the shared memory bus.
+     */
+    private static final String SHM_MESSAGE_BUS = "SharedMemoryBus";
+
+    /**
+     * Protocol name for the shared memory message bus, which falls back on
+     * the TCP message bus for peers on other machines.
+     */
+    public static final String SHM_MESSAGE_BUS_PROTOCOL = "smb";
+
     /**
      * The default Logger for the depot.
      */
@@ -11,6 +11,7 @@ import com.tangosol.coherence.config.ParameterList;
 import com.tangosol.config.ConfigurationException;
 import com.tangosol.config.expression.ParameterResolver;
 
+import com.tangosol.net.partition.LoadAwareAssignmentStrategy;
 import com.tangosol.net.partition.MirroringAssignmentStrategy;
 import com.tangosol.net.partition.PartitionAssignmentStrategy;
 import com.tangosol.net.partition.SimpleAssignmentStrategy;
@@ -90,6 +91,10 @@ public class PartitionAssignmentStrategyBuilder
             {
             return new SimpleAssignmentStrategy();
             }
+        else if ("load-aware".equals(sPAS))
+            {
+            return new LoadAwareAssignmentStrategy();
+            }
         else if (sPAS != null && sPAS.startsWith("mirror:"))
             {
             return new MirroringAssignmentStrategy(sPAS.substring(7).trim());
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -18,6 +18,7 @@ import com.tangosol.coherence.dslquery.statement.DropCacheStatementBuilder;
 import com.tangosol.coherence.dslquery.statement.TruncateCacheStatementBuilder;
 import com.tangosol.coherence.dslquery.statement.DropIndexStatementBuilder;
 import com.tangosol.coherence.dslquery.statement.InsertStatementBuilder;
+import com.tangosol.coherence.dslquery.statement.LoadStatementBuilder;
 import com.tangosol.coherence.dslquery.statement.QueryRecorderStatementBuilder;
 import com.tangosol.coherence.dslquery.statement.RestoreStatementBuilder;
 import com.tangosol.coherence.dslquery.statement.SelectStatementBuilder;
@@ -67,6 +68,7 @@ import com.tangosol.coherence.dslquery.token.SQLDropCacheOPToken;
 import com.tangosol.coherence.dslquery.token.SQLDropIndexOPToken;
 import com.tangosol.coherence.dslquery.token.SQLExplainOPToken;
 import com.tangosol.coherence.dslquery.token.SQLInsertOPToken;
+import com.tangosol.coherence.dslquery.token.SQLLoadOPToken;
 import com.tangosol.coherence.dslquery.token.SQLPeekOPToken;
 import com.tangosol.coherence.dslquery.token.SQLRestoreOPToken;
 import com.tangosol.coherence.dslquery.token.SQLSelectOPToken;
@@ -218,6 +220,7 @@ public class CoherenceQueryLanguage
         tokens.addToken(new SQLTruncateCacheOPToken("truncate"));
         tokens.addToken(new SQLExplainOPToken("explain"));
         tokens.addToken(new SQLInsertOPToken("insert"));
+        tokens.addToken(new SQLLoadOPToken("load"));
         tokens.addToken(new SQLRestoreOPToken("restore"));
         tokens.addToken(new SQLSelectOPToken("select"));
         tokens.addToken(new SQLSourceOPToken("@"));
@@ -530,6 +533,7 @@ public class CoherenceQueryLanguage
         map.put(SQLBackupOPToken.FUNCTOR, BackupStatementBuilder.INSTANCE);
         map.put(SQLRestoreOPToken.FUNCTOR, RestoreStatementBuilder.INSTANCE);
         map.put(SQLInsertOPToken.FUNCTOR, InsertStatementBuilder.INSTANCE);
+        map.put(SQLLoadOPToken.FUNCTOR, LoadStatementBuilder.INSTANCE);
         map.put(SQLDeleteOPToken.FUNCTOR, DeleteStatementBuilder.INSTANCE);
         map.put(SQLUpdateOPToken.FUNCTOR, UpdateStatementBuilder.INSTANCE);
         map.put(SQLSelectOPToken.FUNCTOR, SelectStatementBuilder.INSTANCE);
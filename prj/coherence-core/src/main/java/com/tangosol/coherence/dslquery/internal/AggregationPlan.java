@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.coherence.dslquery.internal;
+
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.ValueExtractor;
+
+import com.tangosol.util.aggregator.AbstractAggregator;
+import com.tangosol.util.aggregator.CompositeAggregator;
+import com.tangosol.util.aggregator.GroupAggregator;
+
+import com.tangosol.util.extractor.AbstractExtractor;
+import com.tangosol.util.extractor.MultiExtractor;
+import com.tangosol.util.extractor.PofExtractor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An AggregationPlan describes how the {@link InvocableMap.EntryAggregator}
+ * created for a CohQL SELECT statement will be executed: whether it runs in
+ * parallel on the storage members, the extractor the entries are grouped by,
+ * the aggregators applied to the entries (or to each group) and the
+ * attributes read from each entry.
+ * <p>
+ * Attributes read from the entry key or by a {@link PofExtractor} are
+ * extracted without deserializing the entry value, as are attributes covered
+ * by an index; reading any other attribute deserializes the value of every
+ * entry selected by the query filter.
+ *
+ * @since 25.03
+ */
+public class AggregationPlan
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct an AggregationPlan for the specified aggregator.
+     *
+     * @param aggregator  the aggregator created for a SELECT statement
+     */
+    public AggregationPlan(InvocableMap.EntryAggregator aggregator)
+        {
+        f_aggregator = aggregator;
+
+        InvocableMap.EntryAggregator aggregatorGroup = aggregator;
+        if (aggregator instanceof GroupAggregator)
+            {
+            GroupAggregator group = (GroupAggregator) aggregator;
+
+            m_extractorGroupBy = group.getExtractor();
+            aggregatorGroup    = group.getAggregator();
+
+            addExtractor(m_extractorGroupBy);
+            }
+
+        addAggregator(aggregatorGroup);
+        }
+
+    // ----- AggregationPlan methods ----------------------------------------
+
+    /**
+     * Return the aggregator this plan describes.
+     *
+     * @return the aggregator
+     */
+    public InvocableMap.EntryAggregator getAggregator()
+        {
+        return f_aggregator;
+        }
+
+    /**
+     * Return true if the aggregator is executed in parallel by the storage
+     * members owning the selected entries.
+     *
+     * @return true if the aggregator is executed in parallel
+     */
+    public boolean isParallel()
+        {
+        InvocableMap.EntryAggregator aggregator = f_aggregator;
+
+        return aggregator instanceof InvocableMap.StreamingAggregator
+               ? ((InvocableMap.StreamingAggregator) aggregator).isParallel()
+               : aggregator instanceof InvocableMap.ParallelAwareAggregator;
+        }
+
+    /**
+     * Return the extractor the selected entries are grouped by.
+     *
+     * @return the group by extractor, or {@code null} if the entries are not
+     *         grouped
+     */
+    public ValueExtractor getGroupBy()
+        {
+        return m_extractorGroupBy;
+        }
+
+    /**
+     * Return the aggregators applied to the selected entries, or to each
+     * group of entries.
+     *
+     * @return the aggregators
+     */
+    public List<InvocableMap.EntryAggregator> getAggregators()
+        {
+        return Collections.unmodifiableList(f_listAggregator);
+        }
+
+    /**
+     * Return the extractors used to read attributes from each selected entry.
+     *
+     * @return the extractors
+     */
+    public Set<ValueExtractor> getExtractors()
+        {
+        return Collections.unmodifiableSet(f_setExtractor);
+        }
+
+    /**
+     * Return true if executing the aggregator deserializes the value of
+     * each selected entry, unless all the attributes read are indexed.
+     *
+     * @return true if executing the aggregator deserializes entry values
+     */
+    public boolean isDeserializing()
+        {
+        for (ValueExtractor extractor : f_setExtractor)
+            {
+            if (isDeserializing(extractor))
+                {
+                return true;
+                }
+            }
+        return false;
+        }
+
+    /**
+     * Return a description of this plan, suitable for printing as the
+     * result of a CohQL statement.
+     *
+     * @return a description of this plan
+     */
+    public Map<String, Object> describe()
+        {
+        Map<String, Object> mapPlan = new LinkedHashMap<>();
+
+        mapPlan.put("Aggregator", f_aggregator.getClass().getSimpleName());
+        mapPlan.put("Parallel", isParallel());
+        if (m_extractorGroupBy != null)
+            {
+            mapPlan.put("Group By", String.valueOf(m_extractorGroupBy));
+            }
+
+        List<String> listAggregator = new ArrayList<>(f_listAggregator.size());
+        for (InvocableMap.EntryAggregator aggregator : f_listAggregator)
+            {
+            listAggregator.add(String.valueOf(aggregator));
+            }
+        mapPlan.put("Aggregators", listAggregator);
+
+        List<String> listExtractor = new ArrayList<>(f_setExtractor.size());
+        for (ValueExtractor extractor : f_setExtractor)
+            {
+            listExtractor.add(extractor + (isDeserializing(extractor)
+                    ? " (deserializes value unless indexed)"
+                    : " (no deserialization)"));
+            }
+        mapPlan.put("Attributes", listExtractor);
+
+        return mapPlan;
+        }
+
+    // ----- Object methods -------------------------------------------------
+
+    @Override
+    public String toString()
+        {
+        return "AggregationPlan" + describe();
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Return true if the specified extractor deserializes the value of the
+     * entry it extracts from, unless there is an index for it.
+     *
+     * @param extractor  the extractor
+     *
+     * @return true if the extractor deserializes entry values
+     */
+    public static boolean isDeserializing(ValueExtractor extractor)
+        {
+        return !(extractor instanceof PofExtractor) && extractor.getTarget() != AbstractExtractor.KEY;
+        }
+
+    /**
+     * Add the specified aggregator, and the extractors it uses, to this plan.
+     *
+     * @param aggregator  the aggregator
+     */
+    protected void addAggregator(InvocableMap.EntryAggregator aggregator)
+        {
+        if (aggregator instanceof CompositeAggregator)
+            {
+            for (InvocableMap.EntryAggregator aggregatorPart : ((CompositeAggregator) aggregator).getAggregators())
+                {
+                addAggregator(aggregatorPart);
+                }
+            }
+        else if (aggregator != null)
+            {
+            f_listAggregator.add(aggregator);
+            if (aggregator instanceof AbstractAggregator)
+                {
+                addExtractor(((AbstractAggregator) aggregator).getValueExtractor());
+                }
+            }
+        }
+
+    /**
+     * Add the specified extractor to this plan.
+     *
+     * @param extractor  the extractor
+     */
+    protected void addExtractor(ValueExtractor extractor)
+        {
+        if (extractor instanceof MultiExtractor)
+            {
+            for (ValueExtractor extractorPart : ((MultiExtractor) extractor).getExtractors())
+                {
+                addExtractor(extractorPart);
+                }
+            }
+        else if (extractor != null)
+            {
+            f_setExtractor.add(extractor);
+            }
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The aggregator this plan describes.
+     */
+    protected final InvocableMap.EntryAggregator f_aggregator;
+
+    /**
+     * The extractor the entries are grouped by, if any.
+     */
+    protected ValueExtractor m_extractorGroupBy;
+
+    /**
+     * The aggregators applied to the entries, or to each group.
+     */
+    protected final List<InvocableMap.EntryAggregator> f_listAggregator = new ArrayList<>();
+
+    /**
+     * The extractors used to read attributes from each entry.
+     */
+    protected final Set<ValueExtractor> f_setExtractor = new LinkedHashSet<>();
+    }
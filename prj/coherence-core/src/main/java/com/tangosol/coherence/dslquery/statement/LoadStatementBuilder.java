@@ -0,0 +1,675 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.coherence.dslquery.statement;
+
+import com.tangosol.coherence.dslquery.CohQLException;
+import com.tangosol.coherence.dslquery.ExecutionContext;
+import com.tangosol.coherence.dslquery.StatementResult;
+
+import com.tangosol.coherence.dsltools.termtrees.NodeTerm;
+
+import com.tangosol.config.expression.ParameterResolver;
+
+import com.tangosol.net.CacheService;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.PartitionedService;
+
+import com.tangosol.util.Base;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import java.util.regex.Pattern;
+
+import static com.tangosol.net.cache.TypeAssertion.withoutTypeChecking;
+
+/**
+ * An implementation of a {@link com.tangosol.coherence.dslquery.StatementBuilder}
+ * that parses a CohQL term tree to produce an instance of a {@link LoadStatement}.
+ *
+ * @since 25.03
+ */
+public class LoadStatementBuilder
+        extends AbstractStatementBuilder<LoadStatementBuilder.LoadStatement>
+    {
+    // ----- StatementBuilder interface -------------------------------------
+
+    @Override
+    public LoadStatement realize(ExecutionContext ctx, NodeTerm term, List listBindVars,
+                                 ParameterResolver namedBindVars)
+        {
+        String sCacheName = getCacheName(term);
+
+        if (sCacheName == null || sCacheName.isEmpty())
+            {
+            throw new CohQLException("Cache name needed to load cache");
+            }
+
+        String sFile = getFile(term);
+
+        if (sFile == null || sFile.isEmpty())
+            {
+            throw new CohQLException("File name needed to load cache");
+            }
+
+        int cBatch   = getPositiveInt(term, "batch", DEFAULT_BATCH_SIZE);
+        int cThreads = getPositiveInt(term, "threads", DEFAULT_THREADS);
+
+        return new LoadStatement(sCacheName, sFile, cBatch, cThreads);
+        }
+
+    @Override
+    public String getSyntax()
+        {
+        return "LOAD INTO [CACHE] 'cache-name' FROM [FILE] 'filename'\n"
+               + "        [BATCH size] [THREADS count]";
+        }
+
+    @Override
+    public String getDescription()
+        {
+        return "Load the cache named 'cache-name' from the CSV file named 'filename'.\n"
+               + "The first line of the file names the columns; the first column of each\n"
+               + "following line is the key of an entry, and the value of the entry is a map\n"
+               + "of the remaining column names to the column values. Values are loaded as\n"
+               + "integers, longs, doubles or booleans where they can be parsed as such, and as\n"
+               + "strings otherwise. Entries are put in batches of 'size' entries (default "
+               + DEFAULT_BATCH_SIZE + ")\n"
+               + "grouped by the member that owns them, using 'count' concurrent loaders\n"
+               + "(default " + DEFAULT_THREADS + ").";
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Return the positive integer value of the specified attribute of the
+     * given AST node.
+     *
+     * @param sn        the syntax node
+     * @param sName     the attribute name
+     * @param nDefault  the value to return if the attribute is not present
+     *
+     * @return the value of the attribute
+     *
+     * @throws CohQLException if the attribute is not a positive integer
+     */
+    protected static int getPositiveInt(NodeTerm sn, String sName, int nDefault)
+        {
+        String sValue = atomicStringValueOf(sn.findAttribute(sName));
+
+        if (sValue == null)
+            {
+            return nDefault;
+            }
+
+        try
+            {
+            int n = Integer.parseInt(sValue);
+            if (n > 0)
+                {
+                return n;
+                }
+            }
+        catch (NumberFormatException e)
+            {
+            // fall through
+            }
+
+        throw new CohQLException("Invalid " + sName.toUpperCase() + " value: " + sValue);
+        }
+
+    // ----- inner class: LoadStatement -------------------------------------
+
+    /**
+     * Implementation of the CohQL "LOAD" command.
+     */
+    public static class LoadStatement
+            extends AbstractStatement
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Construct a LoadStatement that loads a cache from a given file.
+         *
+         * @param sCacheName  the name of the cache to load
+         * @param sFile       the file to load the cache from
+         * @param cBatch      the number of entries to put in each batch
+         * @param cThreads    the number of concurrent loaders
+         */
+        public LoadStatement(String sCacheName, String sFile, int cBatch, int cThreads)
+            {
+            f_sCacheName = sCacheName;
+            f_sFile      = sFile;
+            f_cBatch     = cBatch;
+            f_cThreads   = cThreads;
+            }
+
+        // ----- Statement interface ----------------------------------------
+
+        @Override
+        public StatementResult execute(ExecutionContext ctx)
+            {
+            NamedCache  cache    = ctx.getSession().getCache(f_sCacheName, withoutTypeChecking());
+            PrintWriter out      = ctx.isSilent() ? null : ctx.getWriter();
+            long        ldtStart = System.currentTimeMillis();
+            long        cLoaded;
+
+            try (BufferedReader reader = Files.newBufferedReader(Paths.get(f_sFile), StandardCharsets.UTF_8))
+                {
+                cLoaded = load(cache, reader, out);
+                }
+            catch (IOException e)
+                {
+                throw ensureRuntimeException(e, "Error in LOAD");
+                }
+
+            if (out != null)
+                {
+                out.printf("Loaded %d entries into cache %s in %d ms%n",
+                           cLoaded, f_sCacheName, System.currentTimeMillis() - ldtStart);
+                out.flush();
+                }
+
+            return StatementResult.NULL_RESULT;
+            }
+
+        @Override
+        public void showPlan(PrintWriter out)
+            {
+            out.printf("CacheFactory.getCache(\"%s\").putAll(batches of %d entries from \"%s\""
+                       + " grouped by owner, using %d loaders)",
+                       f_sCacheName, f_cBatch, f_sFile, f_cThreads);
+            }
+
+        // ----- helper methods ---------------------------------------------
+
+        /**
+         * Load the specified cache from the CSV content of the specified
+         * reader.
+         *
+         * @param cache   the cache to load
+         * @param reader  the reader to read the CSV content from
+         * @param out     the writer to report progress to, or null
+         *
+         * @return the number of entries loaded
+         *
+         * @throws IOException if an error occurs reading the content
+         */
+        protected long load(NamedCache cache, BufferedReader reader, PrintWriter out)
+                throws IOException
+            {
+            String sHeader = reader.readLine();
+            if (sHeader == null)
+                {
+                return 0L;
+                }
+
+            List<String> listColumn = parseLine(sHeader);
+            int          cColumns   = listColumn.size();
+            if (cColumns < 2)
+                {
+                throw new CohQLException("The first line of " + f_sFile
+                        + " must name a key column and at least one value column");
+                }
+
+            BatchLoader loader = new BatchLoader(cache, f_cBatch, f_cThreads, out);
+            try
+                {
+                for (String sLine = reader.readLine(); sLine != null; sLine = reader.readLine())
+                    {
+                    if (sLine.isEmpty())
+                        {
+                        continue;
+                        }
+
+                    List<String>        listValue = parseLine(sLine);
+                    int                 cValues   = listValue.size();
+                    Map<String, Object> mapValue  = new LinkedHashMap<>();
+
+                    for (int i = 1; i < cColumns; i++)
+                        {
+                        mapValue.put(listColumn.get(i), i < cValues ? convert(listValue.get(i)) : null);
+                        }
+
+                    loader.add(convert(listValue.get(0)), mapValue);
+                    }
+
+                loader.flush();
+                }
+            finally
+                {
+                loader.close();
+                }
+
+            return loader.getLoadedCount();
+            }
+
+        /**
+         * Parse a line of CSV content into its fields.
+         * <p>
+         * Fields are separated by commas and may be enclosed in double
+         * quotes, within which commas are not separators and a pair of
+         * double quotes represents a single double quote. Quoted fields
+         * may not span lines.
+         *
+         * @param sLine  the line to parse
+         *
+         * @return the fields of the line
+         */
+        public static List<String> parseLine(String sLine)
+            {
+            List<String>  listField = new ArrayList<>();
+            StringBuilder sb        = new StringBuilder();
+            boolean       fQuoted   = false;
+
+            for (int i = 0, c = sLine.length(); i < c; i++)
+                {
+                char ch = sLine.charAt(i);
+                if (fQuoted)
+                    {
+                    if (ch == '"')
+                        {
+                        if (i + 1 < c && sLine.charAt(i + 1) == '"')
+                            {
+                            sb.append('"');
+                            ++i;
+                            }
+                        else
+                            {
+                            fQuoted = false;
+                            }
+                        }
+                    else
+                        {
+                        sb.append(ch);
+                        }
+                    }
+                else if (ch == '"')
+                    {
+                    fQuoted = true;
+                    }
+                else if (ch == ',')
+                    {
+                    listField.add(sb.toString());
+                    sb.setLength(0);
+                    }
+                else
+                    {
+                    sb.append(ch);
+                    }
+                }
+            listField.add(sb.toString());
+
+            return listField;
+            }
+
+        /**
+         * Convert a CSV field to the value to load.
+         * <p>
+         * Empty fields are converted to null, and fields that can be parsed
+         * as an integer, long, double or boolean to the parsed value, using
+         * the same types as CohQL literals so that loaded values can be
+         * compared with literals in CohQL queries.
+         *
+         * @param sField  the field to convert
+         *
+         * @return the value to load
+         */
+        public static Object convert(String sField)
+            {
+            if (sField.isEmpty())
+                {
+                return null;
+                }
+            if (PATTERN_INTEGER.matcher(sField).matches())
+                {
+                try
+                    {
+                    long lValue = Long.parseLong(sField);
+                    return lValue == (int) lValue ? Integer.valueOf((int) lValue) : Long.valueOf(lValue);
+                    }
+                catch (NumberFormatException e)
+                    {
+                    return sField;
+                    }
+                }
+            if (PATTERN_DECIMAL.matcher(sField).matches())
+                {
+                return Double.valueOf(sField);
+                }
+            if (sField.equalsIgnoreCase("true") || sField.equalsIgnoreCase("false"))
+                {
+                return Boolean.valueOf(sField);
+                }
+            return sField;
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The name of the cache to load.
+         */
+        protected final String f_sCacheName;
+
+        /**
+         * The name of the file to load the cache from.
+         */
+        protected final String f_sFile;
+
+        /**
+         * The number of entries to put in each batch.
+         */
+        protected final int f_cBatch;
+
+        /**
+         * The number of concurrent loaders.
+         */
+        protected final int f_cThreads;
+        }
+
+    // ----- inner class: BatchLoader ---------------------------------------
+
+    /**
+     * A BatchLoader puts entries into a cache in batches, using a number of
+     * concurrent loader threads.
+     * <p>
+     * If the cache is managed by a {@link PartitionedService}, entries are
+     * batched by the member owning their partition, as determined by the
+     * service's {@link com.tangosol.net.partition.KeyPartitioningStrategy},
+     * so that the putAll of each batch is sent to a single member.
+     */
+    public static class BatchLoader
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Construct a BatchLoader.
+         *
+         * @param cache     the cache to load
+         * @param cBatch    the number of entries to put in each batch
+         * @param cThreads  the number of concurrent loaders
+         * @param out       the writer to report progress to, or null
+         */
+        public BatchLoader(NamedCache cache, int cBatch, int cThreads, PrintWriter out)
+            {
+            CacheService service = cache.getCacheService();
+
+            f_cache     = cache;
+            f_service   = service instanceof PartitionedService ? (PartitionedService) service : null;
+            f_cBatch    = cBatch;
+            f_cPermits  = cThreads * 2;
+            f_semaphore = new Semaphore(f_cPermits);
+            f_out       = out;
+            f_executor  = Executors.newFixedThreadPool(cThreads, runnable ->
+                {
+                Thread thread = Base.makeThread(null, runnable, "CohQL-Loader:" + cache.getCacheName());
+                thread.setDaemon(true);
+                return thread;
+                });
+            }
+
+        // ----- BatchLoader methods ----------------------------------------
+
+        /**
+         * Add an entry to be loaded, putting the batch it is added to if it
+         * is full.
+         *
+         * @param oKey    the entry key
+         * @param oValue  the entry value
+         */
+        public void add(Object oKey, Object oValue)
+            {
+            Object              oOwner   = getOwner(oKey);
+            Map<Object, Object> mapBatch = f_mapBatch.computeIfAbsent(oOwner, o -> new HashMap<>());
+
+            mapBatch.put(oKey, oValue);
+            if (mapBatch.size() >= f_cBatch)
+                {
+                f_mapBatch.remove(oOwner);
+                submit(mapBatch);
+                }
+            }
+
+        /**
+         * Put all the batches that are not yet full, and wait for all the
+         * batches to be put.
+         */
+        public void flush()
+            {
+            for (Map<Object, Object> mapBatch : f_mapBatch.values())
+                {
+                submit(mapBatch);
+                }
+            f_mapBatch.clear();
+
+            try
+                {
+                f_semaphore.acquire(f_cPermits);
+                f_semaphore.release(f_cPermits);
+                }
+            catch (InterruptedException e)
+                {
+                Thread.currentThread().interrupt();
+                throw Base.ensureRuntimeException(e, "Interrupted in LOAD");
+                }
+
+            checkError();
+            }
+
+        /**
+         * Stop the loader threads.
+         */
+        public void close()
+            {
+            f_executor.shutdownNow();
+            }
+
+        /**
+         * Return the number of entries loaded.
+         *
+         * @return the number of entries loaded
+         */
+        public long getLoadedCount()
+            {
+            return f_cLoaded.get();
+            }
+
+        // ----- helper methods ---------------------------------------------
+
+        /**
+         * Return the member owning the specified key, or null if the key is
+         * not owned or the cache is not partitioned.
+         *
+         * @param oKey  the key
+         *
+         * @return the owner of the key
+         */
+        protected Object getOwner(Object oKey)
+            {
+            PartitionedService service = f_service;
+
+            return service == null
+                   ? null
+                   : service.getPartitionOwner(service.getKeyPartitioningStrategy().getKeyPartition(oKey));
+            }
+
+        /**
+         * Asynchronously put the specified batch, blocking while the maximum
+         * number of batches are outstanding.
+         *
+         * @param mapBatch  the batch to put
+         */
+        protected void submit(Map<Object, Object> mapBatch)
+            {
+            checkError();
+
+            try
+                {
+                f_semaphore.acquire();
+                }
+            catch (InterruptedException e)
+                {
+                Thread.currentThread().interrupt();
+                throw Base.ensureRuntimeException(e, "Interrupted in LOAD");
+                }
+
+            f_executor.execute(() ->
+                {
+                try
+                    {
+                    f_cache.putAll(mapBatch);
+                    onLoaded(mapBatch.size());
+                    }
+                catch (Throwable e)
+                    {
+                    f_refError.compareAndSet(null, e);
+                    }
+                finally
+                    {
+                    f_semaphore.release();
+                    }
+                });
+            }
+
+        /**
+         * Record that the specified number of entries were loaded, and
+         * report progress every
+         * {@link LoadStatementBuilder#PROGRESS_INTERVAL} entries.
+         *
+         * @param cEntries  the number of entries loaded
+         */
+        protected void onLoaded(int cEntries)
+            {
+            long        cLoaded = f_cLoaded.addAndGet(cEntries);
+            PrintWriter out     = f_out;
+
+            if (out != null && cLoaded / PROGRESS_INTERVAL > (cLoaded - cEntries) / PROGRESS_INTERVAL)
+                {
+                synchronized (out)
+                    {
+                    out.println("Loaded " + cLoaded + " entries");
+                    out.flush();
+                    }
+                }
+            }
+
+        /**
+         * Throw the first error encountered putting a batch, if any.
+         */
+        protected void checkError()
+            {
+            Throwable e = f_refError.get();
+            if (e != null)
+                {
+                throw Base.ensureRuntimeException(e, "Error in LOAD");
+                }
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The cache to load.
+         */
+        protected final NamedCache f_cache;
+
+        /**
+         * The partitioned service of the cache, or null.
+         */
+        protected final PartitionedService f_service;
+
+        /**
+         * The number of entries to put in each batch.
+         */
+        protected final int f_cBatch;
+
+        /**
+         * The maximum number of outstanding batches.
+         */
+        protected final int f_cPermits;
+
+        /**
+         * The semaphore limiting the number of outstanding batches.
+         */
+        protected final Semaphore f_semaphore;
+
+        /**
+         * The writer to report progress to, or null.
+         */
+        protected final PrintWriter f_out;
+
+        /**
+         * The executor running the loader threads.
+         */
+        protected final ExecutorService f_executor;
+
+        /**
+         * The batches being filled, keyed by owner.
+         */
+        protected final Map<Object, Map<Object, Object>> f_mapBatch = new HashMap<>();
+
+        /**
+         * The number of entries loaded.
+         */
+        protected final AtomicLong f_cLoaded = new AtomicLong();
+
+        /**
+         * The first error encountered putting a batch.
+         */
+        protected final AtomicReference<Throwable> f_refError = new AtomicReference<>();
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The default number of entries to put in each batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * The default number of concurrent loaders.
+     */
+    public static final int DEFAULT_THREADS = 4;
+
+    /**
+     * The number of loaded entries between progress reports.
+     */
+    public static final long PROGRESS_INTERVAL = 100_000L;
+
+    /**
+     * The pattern of fields converted to an integer or long.
+     */
+    protected static final Pattern PATTERN_INTEGER = Pattern.compile("-?(0|[1-9][0-9]*)");
+
+    /**
+     * The pattern of fields converted to a double.
+     */
+    protected static final Pattern PATTERN_DECIMAL = Pattern.compile("-?(0|[1-9][0-9]*)\\.[0-9]+([eE][-+]?[0-9]+)?");
+
+    /**
+     * An instance of a LoadStatementBuilder.
+     */
+    public static final LoadStatementBuilder INSTANCE = new LoadStatementBuilder();
+    }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2021, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -10,16 +10,27 @@ import com.tangosol.coherence.dslquery.CohQLException;
 import com.tangosol.coherence.dslquery.ExecutionContext;
 import com.tangosol.coherence.dslquery.StatementResult;
 
+import com.tangosol.coherence.dslquery.internal.AggregationPlan;
+
+import com.tangosol.coherence.dslquery.token.SQLSelectOPToken;
+
 import com.tangosol.coherence.dsltools.termtrees.NodeTerm;
 
 import com.tangosol.config.expression.ParameterResolver;
 
+import com.tangosol.net.NamedCache;
+
 import com.tangosol.util.Filter;
+import com.tangosol.util.InvocableMap;
 
 import com.tangosol.util.aggregator.QueryRecorder;
 
 import java.io.PrintWriter;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import java.util.List;
 
 import static com.tangosol.net.cache.TypeAssertion.withoutTypeChecking;
@@ -63,8 +74,19 @@ public class QueryRecorderStatementBuilder
         String   sAlias    = getAlias(termStmt);
         NodeTerm termWhere = getWhere(termStmt);
         Filter   filter    = ensureFilter(termWhere, sCacheName, sAlias, listBindVars, namedBindVars, ctx);
+        NodeTerm termFields = getFields(termStmt);
 
-        return new QueryRecorderStatement(sCacheName, filter, m_recordType);
+        // a select statement that aggregates or projects the selected entries
+        // also has its aggregation planned (and for a trace, executed)
+        InvocableMap.EntryAggregator aggregator = null;
+        if (SQLSelectOPToken.FUNCTOR.equals(termStmt.getFunctor()) && termFields != null
+                && !SelectStatementBuilder.INSTANCE.isSelectStarQuery(sAlias, termFields))
+            {
+            aggregator = SelectStatementBuilder.INSTANCE
+                    .realize(ctx, termStmt, listBindVars, namedBindVars).getAggregator();
+            }
+
+        return new QueryRecorderStatement(sCacheName, filter, m_recordType, aggregator);
         }
 
     @Override
@@ -83,10 +105,15 @@ public class QueryRecorderStatementBuilder
         {
         if (m_recordType == QueryRecorder.RecordType.EXPLAIN)
             {
-            return "Shows what the CohQL command would do rather than executing it.";
+            return "Shows what the CohQL command would do rather than executing it.\n"
+                   + "For a SELECT that aggregates or projects the selected entries, also shows\n"
+                   + "how the aggregation will be executed and which attributes it reads.";
             }
 
-        return "Shows what the CohQL command would do rather than executing it.";
+        return "Shows what the CohQL command would do rather than executing it.\n"
+               + "For a SELECT that aggregates or projects the selected entries, also executes\n"
+               + "the aggregation and shows the estimated and actual cost of the filter along\n"
+               + "with the actual duration of the aggregation.";
         }
 
     // ----- inner class:  QueryRecorderStatement ---------------------------
@@ -110,9 +137,28 @@ public class QueryRecorderStatementBuilder
         public QueryRecorderStatement(String sCacheName, Filter filter,
                                       QueryRecorder.RecordType type)
             {
+            this(sCacheName, filter, type, null);
+            }
+
+        /**
+         * Construct a QueryRecorderStatement that produces a plan or trace
+         * of the specified filter query against the specified cache, and of
+         * the aggregation of the entries selected by the filter.
+         *
+         * @param sCacheName  the cache to be queried
+         * @param filter      the {@link Filter} to show the plan or trace for
+         * @param type        the type of query recorder - explain plan or trace
+         * @param aggregator  the {@link InvocableMap.EntryAggregator} of the
+         *                    query to show the plan or trace for, or null
+         */
+        public QueryRecorderStatement(String sCacheName, Filter filter,
+                                      QueryRecorder.RecordType type,
+                                      InvocableMap.EntryAggregator aggregator)
+            {
             f_sCacheName = sCacheName;
             f_filter     = filter;
             f_aggregator = new QueryRecorder<>(type);
+            f_plan       = aggregator == null ? null : new AggregationPlan(aggregator);
             }
 
         // ----- Statement interface ----------------------------------------
@@ -120,11 +166,32 @@ public class QueryRecorderStatementBuilder
         @Override
         public StatementResult execute(ExecutionContext ctx)
             {
-            Object oResult = ctx.getSession()
-                    .getCache(f_sCacheName, withoutTypeChecking())
-                    .aggregate(f_filter, f_aggregator);
-
-            return new DefaultStatementResult(oResult);
+            NamedCache      cache   = ctx.getSession().getCache(f_sCacheName, withoutTypeChecking());
+            Object          oResult = cache.aggregate(f_filter, f_aggregator);
+            AggregationPlan plan    = f_plan;
+
+            if (plan == null)
+                {
+                return new DefaultStatementResult(oResult);
+                }
+
+            Map<String, Object> mapResult = new LinkedHashMap<>();
+
+            if (f_aggregator.getType() == QueryRecorder.RecordType.EXPLAIN)
+                {
+                mapResult.put("Filter Plan", oResult);
+                mapResult.put("Aggregation Plan", plan.describe());
+                }
+            else
+                {
+                mapResult.put("Filter Plan (Estimated)",
+                              cache.aggregate(f_filter, new QueryRecorder<>(QueryRecorder.RecordType.EXPLAIN)));
+                mapResult.put("Filter Trace (Actual)", oResult);
+                mapResult.put("Aggregation Plan", plan.describe());
+                mapResult.put("Aggregation (Actual)", trace(cache, plan));
+                }
+
+            return new DefaultStatementResult(mapResult, true);
             }
 
         @Override
@@ -132,6 +199,12 @@ public class QueryRecorderStatementBuilder
             {
             out.printf("CacheFactory.getCache(\"%s\").aggregate(%s, %s)",
                        f_sCacheName, f_filter, f_aggregator);
+
+            if (f_plan != null)
+                {
+                out.printf("\nCacheFactory.getCache(\"%s\").aggregate(%s, %s)",
+                           f_sCacheName, f_filter, f_plan.getAggregator());
+                }
             }
 
         @Override
@@ -140,6 +213,33 @@ public class QueryRecorderStatementBuilder
             assertCacheName(f_sCacheName, ctx);
             }
 
+        // ----- helper methods ---------------------------------------------
+
+        /**
+         * Execute the aggregation described by the specified plan and return
+         * a description of its actual cost.
+         *
+         * @param cache  the cache to aggregate
+         * @param plan   the {@link AggregationPlan} to execute
+         *
+         * @return a description of the actual cost of the aggregation
+         */
+        protected Map<String, Object> trace(NamedCache cache, AggregationPlan plan)
+            {
+            long   ldtStart = System.nanoTime();
+            Object oResult  = cache.aggregate(f_filter, plan.getAggregator());
+            long   cMillis  = (System.nanoTime() - ldtStart) / 1_000_000L;
+
+            Map<String, Object> mapActual = new LinkedHashMap<>();
+
+            mapActual.put("Duration (ms)", cMillis);
+            mapActual.put("Results", oResult instanceof Map ? ((Map) oResult).size()
+                                   : oResult instanceof Collection ? ((Collection) oResult).size()
+                                   : oResult == null ? 0 : 1);
+
+            return mapActual;
+            }
+
         // ----- data members -----------------------------------------------
 
         /**
@@ -156,6 +256,12 @@ public class QueryRecorderStatementBuilder
          * The type of query recorder to run.
          */
         protected final QueryRecorder<Object,Object> f_aggregator;
+
+        /**
+         * The plan of the aggregation of the entries selected by the filter,
+         * or null if the query does not aggregate them.
+         */
+        protected final AggregationPlan f_plan;
         }
 
     // ----- constants ------------------------------------------------------
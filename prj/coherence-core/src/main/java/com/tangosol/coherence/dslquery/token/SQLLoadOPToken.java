@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.coherence.dslquery.token;
+
+import com.tangosol.coherence.dsltools.precedence.OPException;
+import com.tangosol.coherence.dsltools.precedence.OPParser;
+import com.tangosol.coherence.dsltools.precedence.OPScanner;
+
+import com.tangosol.coherence.dsltools.termtrees.AtomicTerm;
+import com.tangosol.coherence.dsltools.termtrees.Term;
+import com.tangosol.coherence.dsltools.termtrees.Terms;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQLLoadOPToken is used for parsing and specifying the AST
+ * used for bulk loading a cache from a file.
+ * <p>
+ * Syntax:
+ * <p>
+ * LOAD INTO [CACHE] 'cache-name' FROM [FILE] 'filename' [BATCH size] [THREADS count]
+ * <p>
+ * If LOAD is not followed by INTO it is parsed as an identifier, so that
+ * "load" remains usable as a property name.
+ *
+ * @since 25.03
+ */
+public class SQLLoadOPToken
+        extends SQLOPToken
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a new SQLLoadOPToken with the given parameters.
+     *
+     * @param id string identifier for this token
+     */
+    public SQLLoadOPToken(String id)
+        {
+        super(id, IDENTIFIER_NODE);
+        }
+
+    // ----- Operator Precedence API ----------------------------------------
+
+    @Override
+    public Term nud(OPParser parser)
+        {
+        OPScanner s = parser.getScanner();
+
+        if (!s.advanceWhenMatching("into"))
+            {
+            return super.nud(parser);
+            }
+
+        s.advanceWhenMatching("cache");
+
+        String cacheName = s.getCurrentAsStringWithAdvance();
+
+        if (!s.advanceWhenMatching("from"))
+            {
+            throw new OPException("Expected FROM but found " + s.getCurrentAsString());
+            }
+
+        s.advanceWhenMatching("file");
+
+        String     fileName = s.getCurrentAsStringWithAdvance();
+        List<Term> listTerm = new ArrayList<>();
+
+        listTerm.add(Terms.newTerm("from", AtomicTerm.createString(cacheName)));
+        listTerm.add(Terms.newTerm("file", AtomicTerm.createString(fileName)));
+
+        while (!s.isEndOfStatement())
+            {
+            if (s.advanceWhenMatching("batch"))
+                {
+                listTerm.add(Terms.newTerm("batch", AtomicTerm.createString(s.getCurrentAsStringWithAdvance())));
+                }
+            else if (s.advanceWhenMatching("threads"))
+                {
+                listTerm.add(Terms.newTerm("threads", AtomicTerm.createString(s.getCurrentAsStringWithAdvance())));
+                }
+            else
+                {
+                throw new OPException("Expected BATCH or THREADS but found " + s.getCurrentAsString());
+                }
+            }
+
+        return Terms.newTerm(FUNCTOR, listTerm.toArray(new Term[0]));
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The functor name used to represent this node in an AST
+     */
+    public static final String FUNCTOR = "sqlLoadCacheNode";
+    }
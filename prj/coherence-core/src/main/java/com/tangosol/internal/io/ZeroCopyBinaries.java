@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.io;
+
+import com.tangosol.coherence.config.Config;
+
+import com.tangosol.io.DefaultSerializer;
+import com.tangosol.io.ReadBuffer;
+import com.tangosol.io.Serializer;
+
+import com.tangosol.io.nio.ByteBufferReadBuffer;
+
+import com.tangosol.io.pof.ConfigurablePofContext;
+import com.tangosol.io.pof.PofConstants;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.Unsafe;
+
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Helpers used to read {@link Binary} values from incoming message buffers
+ * without copying their contents.
+ * <p>
+ * A Binary is always backed by a byte array, so the contents of a message
+ * can only be shared if the message has been received into heap buffers. A
+ * Binary that shares the memory of a message buffer keeps the entire buffer
+ * reachable for as long as the Binary itself is reachable; to bound the
+ * memory that is retained this way a Binary is only shared if it occupies the
+ * majority of the buffer (see {@link Binary#Binary(Binary)}).
+ * <p>
+ * The caller is responsible for never returning a buffer that has been
+ * shared to the buffer pool it was acquired from.
+ *
+ * @since 25.03
+ */
+public final class ZeroCopyBinaries
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Private constructor for the utility class.
+     */
+    private ZeroCopyBinaries()
+        {
+        }
+
+    // ----- public API -----------------------------------------------------
+
+    /**
+     * Determine whether the zero-copy deserialization of Binary values is
+     * enabled.
+     *
+     * @return true if the zero-copy deserialization is enabled
+     */
+    public static boolean isEnabled()
+        {
+        return ENABLED;
+        }
+
+    /**
+     * Read the header of a Binary value serialized by the specified
+     * Serializer, leaving the specified input positioned at the first byte of
+     * the Binary contents.
+     *
+     * @param in          the input to read from
+     * @param serializer  the Serializer that was used to serialize the value
+     *
+     * @return the length of the Binary contents, {@link #NULL} if the value
+     *         is null, or {@link #UNKNOWN} if the value is not a Binary or was
+     *         written in a format this method does not recognize, in which
+     *         case the position of the input is not changed
+     *
+     * @throws IOException  if an I/O error occurs
+     */
+    public static int readHeader(ReadBuffer.BufferInput in, Serializer serializer)
+            throws IOException
+        {
+        int of = in.getOffset();
+
+        if (serializer != null && serializer.getClass() == DefaultSerializer.class)
+            {
+            // see ExternalizableHelper#writeObject and Binary#writeExternal
+            switch (in.readUnsignedByte())
+                {
+                case ExternalizableHelper.FMT_NULL:
+                    return NULL;
+
+                case ExternalizableHelper.FMT_BINARY:
+                    return in.readInt();
+                }
+            }
+        else if (serializer instanceof ConfigurablePofContext)
+            {
+            // see PofBufferWriter#writeBinary
+            switch (in.readPackedInt())
+                {
+                case PofConstants.V_REFERENCE_NULL:
+                    return NULL;
+
+                case PofConstants.V_STRING_ZERO_LENGTH:
+                    return 0;
+
+                case PofConstants.T_OCTET_STRING:
+                    return in.readPackedInt();
+                }
+            }
+        else
+            {
+            return UNKNOWN;
+            }
+
+        in.setOffset(of);
+        return UNKNOWN;
+        }
+
+    /**
+     * Return a Binary that shares the memory of the specified ReadBuffer
+     * obtained from an incoming message.
+     *
+     * @param buf  the ReadBuffer containing the Binary contents
+     *
+     * @return a Binary sharing the memory of the specified buffer, or null if
+     *         the buffer is not heap based or if sharing it would retain too
+     *         much of the underlying memory
+     */
+    public static Binary share(ReadBuffer buf)
+        {
+        if (buf instanceof ByteBufferReadBuffer)
+            {
+            ByteBuffer bb = ((ByteBufferReadBuffer) buf).getByteBuffer();
+            int        cb = bb.remaining();
+
+            if (bb.hasArray() && !bb.isReadOnly() && cb >= MIN_SHARED_LENGTH)
+                {
+                byte[] ab      = bb.array();
+                int    cbAlloc = ab.length;
+
+                // tolerate the same waste as Binary(Binary) does
+                if (cbAlloc - 1024 <= cb || (cbAlloc >>> 1) + (cbAlloc >>> 2) <= cb)
+                    {
+                    return UNSAFE.newBinary(ab, bb.arrayOffset() + bb.position(), cb);
+                    }
+                }
+            }
+
+        return null;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The value returned by {@link #readHeader} for a null value.
+     */
+    public static final int NULL = -1;
+
+    /**
+     * The value returned by {@link #readHeader} for a value that is not a
+     * Binary in a recognized format.
+     */
+    public static final int UNKNOWN = -2;
+
+    /**
+     * The minimum length of a Binary worth sharing; copying smaller values
+     * is cheaper than retaining the buffer they were received in.
+     */
+    public static final int MIN_SHARED_LENGTH = 1024;
+
+    /**
+     * True if zero-copy deserialization is enabled; it can be disabled using
+     * the {@code coherence.zerocopy.enabled} system property.
+     */
+    private static final boolean ENABLED = Config.getBoolean("coherence.zerocopy.enabled", true);
+
+    /**
+     * Cached instance of Unsafe.
+     *
+     * @see Unsafe#getUnsafe()
+     */
+    private static final Unsafe UNSAFE = Unsafe.getUnsafe();
+    }
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.metrics;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.net.metrics.MBeanMetric;
+import com.tangosol.net.metrics.MBeanMetric.Identifier;
+import com.tangosol.net.metrics.MetricsRegistryAdapter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.function.Supplier;
+
+/**
+ * A registry of metrics which are recorded directly by Coherence components,
+ * rather than derived from MBean attributes.
+ * <p>
+ * Components record into {@link LongAdder striped counters} and
+ * {@link Histogram histograms} obtained from this registry, and the registry
+ * exposes them as {@link MBeanMetric}s to the same {@link MetricsRegistryAdapter}s
+ * as the MBean based metrics registered by {@link MetricSupport}, i.e. the
+ * {@link DefaultMetricRegistry} used by the metrics HTTP endpoint and any
+ * adapter discovered by the {@link java.util.ServiceLoader}, such as
+ * Micrometer. Reading the value of a direct metric does not involve JMX, so
+ * the cost of a scrape does not depend on the number of MBeans.
+ * <p>
+ * Each registration is identified by a name and a set of tags, to which the
+ * tags identifying the local member are added, and may be removed using the
+ * same name and tags.
+ *
+ * @since 25.03
+ */
+public class DirectMetricRegistry
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link DirectMetricRegistry} that registers metrics with the
+     * {@link MetricsRegistryAdapter}s provided by the specified supplier.
+     *
+     * @param suppAdapters  the supplier of the {@link MetricsRegistryAdapter}s
+     */
+    DirectMetricRegistry(Supplier<List<MetricsRegistryAdapter>> suppAdapters)
+        {
+        f_suppAdapters = suppAdapters;
+        }
+
+    // ----- DirectMetricRegistry methods -----------------------------------
+
+    /**
+     * Obtain the direct metrics registry.
+     *
+     * @return the direct metrics registry
+     */
+    public static DirectMetricRegistry getRegistry()
+        {
+        return INSTANCE;
+        }
+
+    /**
+     * Register a counter.
+     *
+     * @param sName         the metric name
+     * @param mapTag        the metric tags
+     * @param sDescription  the metric description
+     *
+     * @return the {@link LongAdder} to record into
+     */
+    public LongAdder counter(String sName, Map<String, String> mapTag, String sDescription)
+        {
+        LongAdder counter = new LongAdder();
+
+        register(sName, mapTag, Collections.singletonList(
+                new DirectMetric(createIdentifier(sName, mapTag, null), sDescription, counter::sum)));
+
+        return counter;
+        }
+
+    /**
+     * Register a gauge.
+     *
+     * @param sName         the metric name
+     * @param mapTag        the metric tags
+     * @param sDescription  the metric description
+     * @param supplier      the supplier of the gauge value
+     */
+    public void gauge(String sName, Map<String, String> mapTag, String sDescription, Supplier<Number> supplier)
+        {
+        register(sName, mapTag, Collections.singletonList(
+                new DirectMetric(createIdentifier(sName, mapTag, null), sDescription, supplier)));
+        }
+
+    /**
+     * Register a histogram.
+     * <p>
+     * The histogram is exposed as a metric per {@link #QUANTILES quantile},
+     * tagged with the quantile, and as {@code Count}, {@code Sum} and
+     * {@code Max} metrics whose names are suffixed accordingly. The quantiles
+     * are {@link Histogram#getRecentValueAtQuantile(double) recent}, so that
+     * they reflect the current latencies of a long-running member, while
+     * the count and sum are cumulative, so that rates and means can be
+     * derived from them over any interval.
+     *
+     * @param sName         the metric name
+     * @param mapTag        the metric tags
+     * @param sDescription  the metric description
+     *
+     * @return the {@link Histogram} to record into
+     */
+    public Histogram histogram(String sName, Map<String, String> mapTag, String sDescription)
+        {
+        Histogram         histogram  = new Histogram();
+        List<MBeanMetric> listMetric = new ArrayList<>();
+
+        for (double dQuantile : QUANTILES)
+            {
+            listMetric.add(new DirectMetric(createIdentifier(sName, mapTag, String.valueOf(dQuantile)),
+                    sDescription + " (quantile)", () -> histogram.getRecentValueAtQuantile(dQuantile)));
+            }
+        listMetric.add(new DirectMetric(createIdentifier(sName + "Count", mapTag, null),
+                sDescription + " (count)", histogram::getCount));
+        listMetric.add(new DirectMetric(createIdentifier(sName + "Sum", mapTag, null),
+                sDescription + " (sum)", histogram::getSum));
+        listMetric.add(new DirectMetric(createIdentifier(sName + "Max", mapTag, null),
+                sDescription + " (max)", histogram::getMax));
+
+        register(sName, mapTag, listMetric);
+
+        return histogram;
+        }
+
+    /**
+     * Remove the metrics registered with the specified name and tags.
+     *
+     * @param sName   the metric name
+     * @param mapTag  the metric tags
+     */
+    public void remove(String sName, Map<String, String> mapTag)
+        {
+        List<MBeanMetric> listMetric = f_mapMetric.remove(createKey(sName, mapTag));
+        if (listMetric != null)
+            {
+            for (MetricsRegistryAdapter adapter : getAdapters())
+                {
+                for (MBeanMetric metric : listMetric)
+                    {
+                    try
+                        {
+                        adapter.remove(metric.getIdentifier());
+                        }
+                    catch (Throwable e)
+                        {
+                        Logger.warn("Caught exception removing metric "
+                                + metric.getIdentifier() + " from " + adapter + ": " + e.getLocalizedMessage());
+                        }
+                    }
+                }
+            }
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Register the specified metrics, replacing any metrics previously
+     * registered with the same name and tags.
+     *
+     * @param sName       the metric name
+     * @param mapTag      the metric tags
+     * @param listMetric  the metrics to register
+     */
+    protected void register(String sName, Map<String, String> mapTag, List<MBeanMetric> listMetric)
+        {
+        remove(sName, mapTag);
+
+        f_mapMetric.put(createKey(sName, mapTag), listMetric);
+        for (MetricsRegistryAdapter adapter : getAdapters())
+            {
+            for (MBeanMetric metric : listMetric)
+                {
+                try
+                    {
+                    adapter.register(metric);
+                    }
+                catch (Throwable e)
+                    {
+                    Logger.warn("Caught exception registering metric "
+                            + metric.getIdentifier() + " with " + adapter + ": " + e.getLocalizedMessage());
+                    }
+                }
+            }
+        }
+
+    /**
+     * Create the {@link Identifier} of a metric.
+     *
+     * @param sName      the metric name
+     * @param mapTag     the metric tags
+     * @param sQuantile  the quantile tag, or {@code null}
+     *
+     * @return the {@link Identifier}
+     */
+    protected Identifier createIdentifier(String sName, Map<String, String> mapTag, String sQuantile)
+        {
+        Map<String, String> mapTagAll = new HashMap<>(mapTag);
+
+        MetricSupport.addGlobalTags(mapTagAll);
+        if (sQuantile != null)
+            {
+            mapTagAll.put(TAG_QUANTILE, sQuantile);
+            }
+
+        return new Identifier(MBeanMetric.Scope.VENDOR, sName, mapTagAll);
+        }
+
+    /**
+     * Create the key that the metrics registered with the specified name and
+     * tags are held by.
+     *
+     * @param sName   the metric name
+     * @param mapTag  the metric tags
+     *
+     * @return the key
+     */
+    protected Identifier createKey(String sName, Map<String, String> mapTag)
+        {
+        return new Identifier(MBeanMetric.Scope.VENDOR, sName, mapTag);
+        }
+
+    /**
+     * Return the {@link MetricsRegistryAdapter}s to register metrics with.
+     *
+     * @return the {@link MetricsRegistryAdapter}s
+     */
+    protected List<MetricsRegistryAdapter> getAdapters()
+        {
+        List<MetricsRegistryAdapter> listAdapter = m_listAdapter;
+        if (listAdapter == null)
+            {
+            synchronized (this)
+                {
+                listAdapter = m_listAdapter;
+                if (listAdapter == null)
+                    {
+                    m_listAdapter = listAdapter = f_suppAdapters.get();
+                    }
+                }
+            }
+        return listAdapter;
+        }
+
+    // ----- inner class: DirectMetric --------------------------------------
+
+    /**
+     * An {@link MBeanMetric} whose value is obtained directly from the
+     * component that records it.
+     */
+    public static class DirectMetric
+            extends BaseMBeanMetric
+        {
+        /**
+         * Create a {@link DirectMetric}.
+         *
+         * @param identifier    the metric {@link Identifier}
+         * @param sDescription  the metric description
+         * @param supplier      the supplier of the metric value
+         */
+        public DirectMetric(Identifier identifier, String sDescription, Supplier<Number> supplier)
+            {
+            super(identifier, null, sDescription);
+            f_supplier = supplier;
+            }
+
+        @Override
+        public Object getValue()
+            {
+            return f_supplier.get();
+            }
+
+        /**
+         * The supplier of the metric value.
+         */
+        private final Supplier<Number> f_supplier;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The quantiles that histograms are exposed at.
+     */
+    public static final double[] QUANTILES = {0.5, 0.75, 0.95, 0.99, 0.999};
+
+    /**
+     * The tag holding the quantile of a histogram metric.
+     */
+    public static final String TAG_QUANTILE = "quantile";
+
+    /**
+     * The singleton instance of {@link DirectMetricRegistry}.
+     */
+    private static final DirectMetricRegistry INSTANCE =
+            new DirectMetricRegistry(MetricSupport::loadRegistryAdapters);
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The supplier of the {@link MetricsRegistryAdapter}s.
+     */
+    private final Supplier<List<MetricsRegistryAdapter>> f_suppAdapters;
+
+    /**
+     * The {@link MetricsRegistryAdapter}s, loaded on first use.
+     */
+    private volatile List<MetricsRegistryAdapter> m_listAdapter;
+
+    /**
+     * The registered metrics, keyed by the name and tags they were
+     * registered with.
+     */
+    private final Map<Identifier, List<MBeanMetric>> f_mapMetric = new ConcurrentHashMap<>();
+    }
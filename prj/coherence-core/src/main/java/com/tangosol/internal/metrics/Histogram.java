@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.metrics;
+
+import com.oracle.coherence.common.base.TimeHelper;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative long values.
+ * <p>
+ * Values are counted in log-linear buckets, in the manner of an HDR
+ * histogram: each power of two range is split into {@link #SUB_BUCKETS}
+ * linear buckets, so that any recorded value can be reported with a
+ * relative error of at most {@code 1 / SUB_BUCKETS}, while the whole range
+ * of long values is covered by a fixed number of buckets. Values below
+ * {@link #SUB_BUCKETS} are counted exactly.
+ * <p>
+ * Recording a value only updates striped or atomic counters and never
+ * allocates, so a Histogram is suitable for recording on hot paths.
+ * The statistics reported by a Histogram are cumulative since it was
+ * created or last {@link #reset() reset}, except for the
+ * {@link #getRecentValueAtQuantile(double) recent quantiles}, which only
+ * cover the values recorded during the last one to two windows, so that
+ * they reflect changes in the distribution of a long-lived histogram.
+ * As the buckets are read without blocking writers, the statistics are only
+ * approximately consistent with each other while values are being recorded.
+ *
+ * @since 25.03
+ */
+public class Histogram
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a Histogram with the {@link #DEFAULT_WINDOW_MILLIS default}
+     * window for recent quantiles.
+     */
+    public Histogram()
+        {
+        this(DEFAULT_WINDOW_MILLIS);
+        }
+
+    /**
+     * Construct a Histogram with the specified window for recent quantiles.
+     *
+     * @param cWindowMillis  the duration of a window, in milliseconds
+     */
+    public Histogram(long cWindowMillis)
+        {
+        if (cWindowMillis <= 0L)
+            {
+            throw new IllegalArgumentException("Invalid window: " + cWindowMillis);
+            }
+        f_cWindowMillis = cWindowMillis;
+        }
+
+    // ----- Histogram methods ----------------------------------------------
+
+    /**
+     * Record the specified value; negative values are recorded as zero.
+     *
+     * @param lValue  the value to record
+     */
+    public void record(long lValue)
+        {
+        if (lValue < 0L)
+            {
+            lValue = 0L;
+            }
+
+        f_aBucket.incrementAndGet(indexOf(lValue));
+        f_cCount.increment();
+        f_cSum.add(lValue);
+        f_lMax.accumulate(lValue);
+        }
+
+    /**
+     * Return the number of recorded values.
+     *
+     * @return the number of recorded values
+     */
+    public long getCount()
+        {
+        return f_cCount.sum();
+        }
+
+    /**
+     * Return the sum of the recorded values.
+     *
+     * @return the sum of the recorded values
+     */
+    public long getSum()
+        {
+        return f_cSum.sum();
+        }
+
+    /**
+     * Return the largest recorded value, or zero if no values were recorded.
+     *
+     * @return the largest recorded value
+     */
+    public long getMax()
+        {
+        return f_lMax.get();
+        }
+
+    /**
+     * Return the mean of the recorded values, or zero if no values were
+     * recorded.
+     *
+     * @return the mean of the recorded values
+     */
+    public double getMean()
+        {
+        long cCount = getCount();
+        return cCount == 0L ? 0.0 : (double) getSum() / cCount;
+        }
+
+    /**
+     * Return the value at the specified quantile of the recorded values.
+     * <p>
+     * The returned value is the highest value equivalent to the bucket the
+     * quantile falls into, limited by the largest recorded value.
+     *
+     * @param dQuantile  the quantile, between 0.0 and 1.0
+     *
+     * @return the value at the specified quantile, or zero if no values were
+     *         recorded
+     */
+    public long getValueAtQuantile(double dQuantile)
+        {
+        return getValueAtQuantile(snapshot(), null, dQuantile);
+        }
+
+    /**
+     * Return the value at the specified quantile of the values recorded
+     * recently, i.e. since the start of the previous window.
+     * <p>
+     * A window starts with the first read of a recent quantile once the
+     * current window has elapsed, so when the quantiles are read less often
+     * than once per window, they cover the values recorded since the read
+     * before the last one.
+     * <p>
+     * The returned value is the highest value equivalent to the bucket the
+     * quantile falls into, limited by the largest value recorded since the
+     * histogram was created or last reset.
+     *
+     * @param dQuantile  the quantile, between 0.0 and 1.0
+     *
+     * @return the value at the specified quantile, or zero if no values were
+     *         recorded recently
+     */
+    public long getRecentValueAtQuantile(double dQuantile)
+        {
+        long[] alCount = snapshot();
+        long[] alBase;
+
+        synchronized (this)
+            {
+            long ldtNow = currentTimeMillis();
+            if (m_alWindowCurrent == null)
+                {
+                // the first read; the previous window covers all values
+                m_alWindowCurrent = alCount;
+                m_ldtWindow       = ldtNow;
+                }
+            else if (ldtNow - m_ldtWindow >= f_cWindowMillis)
+                {
+                m_alWindowPrevious = m_alWindowCurrent;
+                m_alWindowCurrent  = alCount;
+                m_ldtWindow        = ldtNow;
+                }
+            alBase = m_alWindowPrevious;
+            }
+
+        return getValueAtQuantile(alCount, alBase, dQuantile);
+        }
+
+    /**
+     * Discard all recorded values.
+     * <p>
+     * Values recorded concurrently with a reset may be partially discarded.
+     */
+    public void reset()
+        {
+        AtomicLongArray aBucket = f_aBucket;
+        for (int i = 0, c = aBucket.length(); i < c; ++i)
+            {
+            aBucket.set(i, 0L);
+            }
+        f_cCount.reset();
+        f_cSum.reset();
+        f_lMax.reset();
+
+        synchronized (this)
+            {
+            m_alWindowPrevious = m_alWindowCurrent = null;
+            }
+        }
+
+    // ----- Object methods -------------------------------------------------
+
+    @Override
+    public String toString()
+        {
+        return "Histogram(count=" + getCount()
+               + ", mean=" + getMean()
+               + ", p50=" + getValueAtQuantile(0.5)
+               + ", p99=" + getValueAtQuantile(0.99)
+               + ", max=" + getMax() + ')';
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Return the current bucket counts.
+     *
+     * @return the bucket counts
+     */
+    protected long[] snapshot()
+        {
+        AtomicLongArray aBucket = f_aBucket;
+        int             cBucket = aBucket.length();
+        long[]          alCount = new long[cBucket];
+
+        for (int i = 0; i < cBucket; ++i)
+            {
+            alCount[i] = aBucket.get(i);
+            }
+        return alCount;
+        }
+
+    /**
+     * Return the value at the specified quantile of the values counted by
+     * the specified buckets since the specified base counts.
+     *
+     * @param alCount    the bucket counts
+     * @param alBase     the base bucket counts, or null
+     * @param dQuantile  the quantile, between 0.0 and 1.0
+     *
+     * @return the value at the specified quantile, or zero if no values
+     *         were counted
+     */
+    protected long getValueAtQuantile(long[] alCount, long[] alBase, double dQuantile)
+        {
+        int  cBucket = alCount.length;
+        long cTotal  = 0L;
+
+        for (int i = 0; i < cBucket; ++i)
+            {
+            if (alBase != null)
+                {
+                // a concurrent reset may have made the base larger
+                alCount[i] = Math.max(0L, alCount[i] - alBase[i]);
+                }
+            cTotal += alCount[i];
+            }
+
+        if (cTotal == 0L)
+            {
+            return 0L;
+            }
+
+        long cTarget = Math.max(1L, (long) Math.ceil(Math.min(1.0, Math.max(0.0, dQuantile)) * cTotal));
+        long cSeen   = 0L;
+        for (int i = 0; i < cBucket; ++i)
+            {
+            cSeen += alCount[i];
+            if (cSeen >= cTarget)
+                {
+                return Math.min(highestEquivalentValue(i), getMax());
+                }
+            }
+        return getMax();
+        }
+
+    /**
+     * Return the current time used to rotate the windows.
+     *
+     * @return the current time, in milliseconds
+     */
+    protected long currentTimeMillis()
+        {
+        return TimeHelper.getSafeTimeMillis();
+        }
+
+    /**
+     * Return the index of the bucket the specified value is counted in.
+     *
+     * @param lValue  the non-negative value
+     *
+     * @return the bucket index
+     */
+    protected static int indexOf(long lValue)
+        {
+        if (lValue < SUB_BUCKETS)
+            {
+            return (int) lValue;
+            }
+
+        int nExp   = 63 - Long.numberOfLeadingZeros(lValue);
+        int nShift = nExp - SUB_BUCKET_BITS;
+
+        return ((nShift + 1) << SUB_BUCKET_BITS) + (int) ((lValue >>> nShift) & SUB_BUCKET_MASK);
+        }
+
+    /**
+     * Return the largest value counted in the specified bucket.
+     *
+     * @param nIndex  the bucket index
+     *
+     * @return the largest value counted in the bucket
+     */
+    protected static long highestEquivalentValue(int nIndex)
+        {
+        int nGroup = nIndex >>> SUB_BUCKET_BITS;
+        if (nGroup == 0)
+            {
+            return nIndex;
+            }
+
+        int  nShift = nGroup - 1;
+        long lLow   = (long) (SUB_BUCKETS + (nIndex & SUB_BUCKET_MASK)) << nShift;
+
+        return lLow + ((1L << nShift) - 1L);
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The number of bits used to index the linear buckets within each power
+     * of two range.
+     */
+    protected static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * The number of linear buckets within each power of two range.
+     */
+    public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The mask for the linear bucket index.
+     */
+    protected static final int SUB_BUCKET_MASK = SUB_BUCKETS - 1;
+
+    /**
+     * The total number of buckets.
+     */
+    protected static final int BUCKETS = indexOf(Long.MAX_VALUE) + 1;
+
+    /**
+     * The default duration of a window for recent quantiles.
+     */
+    public static final long DEFAULT_WINDOW_MILLIS = 60_000L;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The bucket counts.
+     */
+    private final AtomicLongArray f_aBucket = new AtomicLongArray(BUCKETS);
+
+    /**
+     * The number of recorded values.
+     */
+    private final LongAdder f_cCount = new LongAdder();
+
+    /**
+     * The sum of the recorded values.
+     */
+    private final LongAdder f_cSum = new LongAdder();
+
+    /**
+     * The largest recorded value.
+     */
+    private final LongAccumulator f_lMax = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * The duration of a window for recent quantiles.
+     */
+    private final long f_cWindowMillis;
+
+    /**
+     * The time the current window started.
+     */
+    private long m_ldtWindow;
+
+    /**
+     * The bucket counts at the start of the previous window, or null if
+     * the previous window started when the histogram was created or reset.
+     */
+    private long[] m_alWindowPrevious;
+
+    /**
+     * The bucket counts at the start of the current window, or null if
+     * recent quantiles have not been read.
+     */
+    private long[] m_alWindowCurrent;
+    }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -129,58 +129,7 @@ public class MetricSupport
      */
     MetricSupport(Supplier<Registry> supplier)
         {
-        this(supplier, () ->
-            {
-            List<MetricsRegistryAdapter> list = new ArrayList<>();
-
-            if (Config.getBoolean(MetricsHttpHelper.PROP_METRICS_ENABLED, false))
-                {
-                // add the default Coherence metrics registry
-                list.add(new DefaultMetricRegistry.Adapter());
-                }
-
-            ClassLoader[] classLoaders = new ClassLoader[]
-                {
-                Base.getContextClassLoader(),
-                MetricsRegistryAdapter.class.getClassLoader()   // fallback if context classloader fails
-                };
-
-            for (int i = 0, len = classLoaders.length; i < len; i++)
-                {
-                ClassLoader loader = classLoaders[i];
-                try
-                    {
-                    ServiceLoader<MetricsRegistryAdapter> serviceLoader =
-                            ServiceLoader.load(MetricsRegistryAdapter.class, loader);
-
-                    for (MetricsRegistryAdapter metricsRegistry : serviceLoader)
-                        {
-                        list.add(metricsRegistry);
-                        }
-                    break;
-                    }
-                catch (Throwable t)
-                    {
-                    list.clear();
-
-                    if (Logger.isEnabled(Logger.WARNING))
-                        {
-                        String msg = "Error loading MetricRegistryAdapter using the %s classloader:";
-                        if (i == 0)
-                            {
-                            Logger.warn(String.format(msg, "context"), t);
-                            Logger.warn("Attempting to load adapters using the fallback classloader.");
-                            }
-                        else
-                            {
-                            Logger.warn(String.format(msg, "fallback"), t);
-                            Logger.warn("Metrics failed to initialize.");
-                            }
-                        }
-                    }
-                }
-                return list;
-            });
+        this(supplier, MetricSupport::loadRegistryAdapters);
         }
 
     // ----- MetricsSupport methods -----------------------------------------
@@ -316,6 +265,113 @@ public class MetricSupport
             }
         }
 
+    /**
+     * Load the {@link MetricsRegistryAdapter}s that Coherence metrics should
+     * be registered with.
+     * <p>
+     * The {@link DefaultMetricRegistry} is included if Coherence metrics are
+     * enabled, and any other adapters are discovered using the
+     * {@link ServiceLoader}.
+     *
+     * @return the {@link List} of {@link MetricsRegistryAdapter}s
+     */
+    static List<MetricsRegistryAdapter> loadRegistryAdapters()
+        {
+        List<MetricsRegistryAdapter> list = new ArrayList<>();
+
+        if (Config.getBoolean(MetricsHttpHelper.PROP_METRICS_ENABLED, false))
+            {
+            // add the default Coherence metrics registry
+            list.add(new DefaultMetricRegistry.Adapter());
+            }
+
+        ClassLoader[] classLoaders = new ClassLoader[]
+            {
+            Base.getContextClassLoader(),
+            MetricsRegistryAdapter.class.getClassLoader()   // fallback if context classloader fails
+            };
+
+        for (int i = 0, len = classLoaders.length; i < len; i++)
+            {
+            ClassLoader loader = classLoaders[i];
+            try
+                {
+                ServiceLoader<MetricsRegistryAdapter> serviceLoader =
+                        ServiceLoader.load(MetricsRegistryAdapter.class, loader);
+
+                for (MetricsRegistryAdapter metricsRegistry : serviceLoader)
+                    {
+                    list.add(metricsRegistry);
+                    }
+                break;
+                }
+            catch (Throwable t)
+                {
+                list.clear();
+
+                if (Logger.isEnabled(Logger.WARNING))
+                    {
+                    String msg = "Error loading MetricRegistryAdapter using the %s classloader:";
+                    if (i == 0)
+                        {
+                        Logger.warn(String.format(msg, "context"), t);
+                        Logger.warn("Attempting to load adapters using the fallback classloader.");
+                        }
+                    else
+                        {
+                        Logger.warn(String.format(msg, "fallback"), t);
+                        Logger.warn("Metrics failed to initialize.");
+                        }
+                    }
+                }
+            }
+        return list;
+        }
+
+    /**
+     * Add the tags identifying the local member to the specified map of
+     * metric tags.
+     *
+     * @param mapTag  the {@link Map} of tags to add to
+     */
+    static void addGlobalTags(Map<String, String> mapTag)
+        {
+        addGlobalTags(mapTag, true);
+        }
+
+    /**
+     * Add the tag identifying the cluster and, optionally, the tags
+     * identifying the local member to the specified map of metric tags.
+     *
+     * @param mapTag       the {@link Map} of tags to add to
+     * @param fMemberTags  {@code true} to add the tags identifying the
+     *                     local member
+     */
+    static void addGlobalTags(Map<String, String> mapTag, boolean fMemberTags)
+        {
+        Cluster cluster = CacheFactory.getCluster();
+
+        // these metric tags uniquely
+        // identify metrics per cluster member
+        if (cluster.isRunning())
+            {
+            // Note: a call to getClusterName will ensure the cluster which
+            // is not desired when registering services that do not require
+            // a running cluster (extend clients & LocalCache service)
+            mapTag.put(GLOBAL_TAG_CLUSTER, cluster.getClusterName());
+            }
+
+        if (fMemberTags)
+            {
+            Member member = cluster.getLocalMember();
+
+            mapTag.put(GLOBAL_TAG_SITE,    member.getSiteName());
+            mapTag.put(GLOBAL_TAG_MACHINE, member.getMachineName());
+            mapTag.put(GLOBAL_TAG_MEMBER,  member.getMemberName());
+            mapTag.put(GLOBAL_TAG_ROLE,    member.getRoleName());
+            }
+        }
+
     /**
      * Create an ObjectName from the MBean name.
      *
@@ -856,28 +912,11 @@ public class MetricSupport
                                                  ObjectName          objectName,
                                                  Map<String, String> mapTagAttributes)
         {
-        Map<String, String> mapTag  = new HashMap<>();
-        Cluster             cluster = CacheFactory.getCluster();
-        Member              member  = cluster.getLocalMember();
+        Map<String, String> mapTag = new HashMap<>();
 
-        // these metric tags uniquely
-        // identify metrics per cluster member
-        if (cluster.isRunning())
-            {
-            // Note: a call to getClusterName will ensure the cluster which
-            // is not desired when registering services that do not require
-            // a running cluster (extend clients & LocalCache service)
-            mapTag.put(GLOBAL_TAG_CLUSTER, cluster.getClusterName());
-            }
-
-        if (!sMBeanName.startsWith(Registry.CLUSTER_TYPE)
-            && objectName.getKeyProperty("responsibility") == null)
-            {
-            mapTag.put(GLOBAL_TAG_SITE,    member.getSiteName());
-            mapTag.put(GLOBAL_TAG_MACHINE, member.getMachineName());
-            mapTag.put(GLOBAL_TAG_MEMBER,  member.getMemberName());
-            mapTag.put(GLOBAL_TAG_ROLE,    member.getRoleName());
-            }
+        // cluster-wide and responsibility MBeans are not member specific
+        addGlobalTags(mapTag, !sMBeanName.startsWith(Registry.CLUSTER_TYPE)
+                              && objectName.getKeyProperty("responsibility") == null);
 
         objectName.getKeyPropertyList()
                 .entrySet()
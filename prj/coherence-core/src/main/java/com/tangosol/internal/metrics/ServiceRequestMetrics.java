@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@link DirectMetricRegistry direct metrics} recorded by a service for
+ * the requests it executes, by {@link RequestType request type}.
+ * <p>
+ * For each request type a count of requests and a {@link Histogram} of request
+ * latencies, in nanoseconds, are recorded. The metric names are prefixed by
+ * the role of the service, e.g. {@link #PREFIX_STORAGE} or {@link #PREFIX_PROXY}.
+ *
+ * @since 25.03
+ */
+public class ServiceRequestMetrics
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create and register the request metrics for the specified service.
+     *
+     * @param sPrefix       the metric name prefix
+     * @param sServiceName  the service name
+     */
+    public ServiceRequestMetrics(String sPrefix, String sServiceName)
+        {
+        this(DirectMetricRegistry.getRegistry(), sPrefix, sServiceName);
+        }
+
+    /**
+     * Create and register the request metrics for the specified service with
+     * the specified registry.
+     *
+     * @param registry      the {@link DirectMetricRegistry}
+     * @param sPrefix       the metric name prefix
+     * @param sServiceName  the service name
+     */
+    ServiceRequestMetrics(DirectMetricRegistry registry, String sPrefix, String sServiceName)
+        {
+        RequestType[] aType      = RequestType.values();
+        LongAdder[]   aCounter   = new LongAdder[aType.length];
+        Histogram[]   aHistogram = new Histogram[aType.length];
+
+        for (RequestType type : aType)
+            {
+            Map<String, String> mapTag = getTags(sServiceName, type);
+
+            aCounter[type.ordinal()]   = registry.counter(sPrefix + METRIC_REQUEST_COUNT, mapTag,
+                    "The number of " + type.getTag() + " requests executed by the service");
+            aHistogram[type.ordinal()] = registry.histogram(sPrefix + METRIC_REQUEST_LATENCY, mapTag,
+                    "The latency in nanoseconds of " + type.getTag() + " requests executed by the service");
+            }
+
+        f_registry     = registry;
+        f_sPrefix      = sPrefix;
+        f_sServiceName = sServiceName;
+        f_aCounter     = aCounter;
+        f_aHistogram   = aHistogram;
+        }
+
+    // ----- ServiceRequestMetrics methods ----------------------------------
+
+    /**
+     * Record the execution of a request of the specified type.
+     *
+     * @param type    the request type
+     * @param cNanos  the time taken to execute the request, in nanoseconds
+     */
+    public void onRequest(RequestType type, long cNanos)
+        {
+        int nOrdinal = type.ordinal();
+
+        f_aCounter[nOrdinal].increment();
+        f_aHistogram[nOrdinal].record(cNanos);
+        }
+
+    /**
+     * Return the number of requests of the specified type executed.
+     *
+     * @param type  the request type
+     *
+     * @return the number of requests executed
+     */
+    public long getRequestCount(RequestType type)
+        {
+        return f_aCounter[type.ordinal()].sum();
+        }
+
+    /**
+     * Return the latency {@link Histogram} for requests of the specified type.
+     *
+     * @param type  the request type
+     *
+     * @return the latency histogram
+     */
+    public Histogram getLatency(RequestType type)
+        {
+        return f_aHistogram[type.ordinal()];
+        }
+
+    /**
+     * Remove the metrics from the registry.
+     */
+    public void close()
+        {
+        for (RequestType type : RequestType.values())
+            {
+            Map<String, String> mapTag = getTags(f_sServiceName, type);
+
+            f_registry.remove(f_sPrefix + METRIC_REQUEST_COUNT, mapTag);
+            f_registry.remove(f_sPrefix + METRIC_REQUEST_LATENCY, mapTag);
+            }
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Return the metric tags for the specified service and request type.
+     *
+     * @param sServiceName  the service name
+     * @param type          the request type
+     *
+     * @return the metric tags
+     */
+    protected static Map<String, String> getTags(String sServiceName, RequestType type)
+        {
+        Map<String, String> mapTag = new HashMap<>();
+
+        mapTag.put(TAG_SERVICE, sServiceName);
+        mapTag.put(TAG_TYPE, type.getTag());
+
+        return Collections.unmodifiableMap(mapTag);
+        }
+
+    // ----- inner enum: RequestType ----------------------------------------
+
+    /**
+     * The types of requests recorded.
+     */
+    public enum RequestType
+        {
+        GET, PUT, INVOKE, QUERY, AGGREGATE;
+
+        /**
+         * Return the value of the type tag for this request type.
+         *
+         * @return the tag value
+         */
+        public String getTag()
+            {
+            return name().toLowerCase(Locale.ROOT);
+            }
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The metric name prefix for requests executed by the storage of a
+     * partitioned service.
+     */
+    public static final String PREFIX_STORAGE = "Coherence.Service.Storage";
+
+    /**
+     * The metric name prefix for requests executed by a proxy service.
+     */
+    public static final String PREFIX_PROXY = "Coherence.Service.Proxy";
+
+    /**
+     * The name of the request count metric, following the prefix.
+     */
+    public static final String METRIC_REQUEST_COUNT = "RequestCount";
+
+    /**
+     * The name of the request latency metric, following the prefix.
+     */
+    public static final String METRIC_REQUEST_LATENCY = "RequestLatency";
+
+    /**
+     * The tag holding the service name.
+     */
+    public static final String TAG_SERVICE = "name";
+
+    /**
+     * The tag holding the request type.
+     */
+    public static final String TAG_TYPE = "type";
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The registry the metrics are registered with.
+     */
+    private final DirectMetricRegistry f_registry;
+
+    /**
+     * The metric name prefix.
+     */
+    private final String f_sPrefix;
+
+    /**
+     * The service name.
+     */
+    private final String f_sServiceName;
+
+    /**
+     * The request counters, indexed by request type ordinal.
+     */
+    private final LongAdder[] f_aCounter;
+
+    /**
+     * The request latency histograms, indexed by request type ordinal.
+     */
+    private final Histogram[] f_aHistogram;
+    }
@@ -135,7 +135,7 @@ public class LegacyXmlPartitionedServiceHelper
             }
 
         PartitionAssignmentStrategyBuilder builder = null;
-        if ("simple".equals(sPAS) || sPAS.startsWith("mirror:"))
+        if ("simple".equals(sPAS) || "load-aware".equals(sPAS) || sPAS.startsWith("mirror:"))
             {
             builder = new PartitionAssignmentStrategyBuilder(sPAS, xmlPAS);
             }
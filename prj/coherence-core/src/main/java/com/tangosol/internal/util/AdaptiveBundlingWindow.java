@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.util;
+
+/**
+ * AdaptiveBundlingWindow tracks the traffic to a single destination of a
+ * bundling queue and computes how long the head of the queue for that
+ * destination may be deferred in order to bundle more items into it.
+ * <p>
+ * The window follows the reasoning of Nagle's algorithm, but with an upper
+ * bound on the added latency: deferring only pays off if another item is
+ * likely to arrive before the window expires, so the window is sized to the
+ * observed inter-arrival time of the destination and is closed entirely if
+ * that time exceeds the cap. The cap is the configured deferral threshold,
+ * further limited to a fraction of the observed acknowledgement latency of
+ * the destination so that bundling never dominates the delivery latency.
+ * Deferrals that expire without bundling anything back the window off
+ * exponentially, and successful deferrals restore it.
+ * <p>
+ * This class is not thread-safe; concurrent updates may lose samples, which
+ * only delays the adaptation.
+ *
+ * @since 25.03
+ */
+public class AdaptiveBundlingWindow
+    {
+    // ----- AdaptiveBundlingWindow methods ---------------------------------
+
+    /**
+     * Record the release of a bundle to the destination.
+     *
+     * @param ldtNanos   the {@link System#nanoTime()} of the release
+     * @param cItems     the number of items in the released bundle
+     * @param fDeferred  true if the bundle was deferred before its release
+     * @param fGained    true if items were bundled while it was deferred
+     */
+    public void onRelease(long ldtNanos, int cItems, boolean fDeferred, boolean fGained)
+        {
+        long ldtLast = m_ldtLastRelease;
+
+        m_ldtLastRelease = ldtNanos;
+
+        if (ldtLast != 0L && cItems > 0)
+            {
+            long cNanos = Math.min(MAX_INTERVAL_NANOS, Math.max(0L, ldtNanos - ldtLast) / cItems);
+            long cAvg   = m_cIntervalNanos;
+
+            m_cIntervalNanos = cAvg == 0L ? cNanos : cAvg + ((cNanos - cAvg) >> SMOOTHING_SHIFT);
+            }
+
+        if (fDeferred)
+            {
+            int nBackoff = m_nBackoff;
+
+            m_nBackoff = fGained ? Math.max(0, nBackoff - 1) : Math.min(MAX_BACKOFF, nBackoff + 1);
+            }
+        }
+
+    /**
+     * Record an acknowledgement latency sample for the destination.
+     *
+     * @param cNanos  the time between the transmission of a packet and the
+     *                receipt of its acknowledgement
+     */
+    public void onAckLatency(long cNanos)
+        {
+        if (cNanos > 0L)
+            {
+            long cAvg = m_cAckNanos;
+
+            m_cAckNanos = cAvg == 0L ? cNanos : cAvg + ((cNanos - cAvg) >> SMOOTHING_SHIFT);
+            }
+        }
+
+    /**
+     * Return the number of nanoseconds the head of the queue may currently be
+     * deferred for.
+     *
+     * @param cMaxNanos    the configured deferral threshold
+     * @param dAggression  the bundling aggression; the window is sized to
+     *                     allow for {@code 1 + dAggression} more arrivals
+     *
+     * @return the deferral window in nanoseconds, or zero if the head should
+     *         not be deferred
+     */
+    public long getWindowNanos(long cMaxNanos, double dAggression)
+        {
+        long cCap = cMaxNanos;
+        long cAck = m_cAckNanos;
+
+        if (cAck > 0L)
+            {
+            cCap = Math.min(cCap, cAck >> ACK_FRACTION_SHIFT);
+            }
+
+        long cInterval = m_cIntervalNanos;
+        long cWindow;
+        if (cInterval == 0L)
+            {
+            // no history yet; behave like the static threshold
+            cWindow = cCap;
+            }
+        else if (cInterval > cCap)
+            {
+            // nothing is expected to arrive in time to be bundled
+            return 0L;
+            }
+        else
+            {
+            cWindow = Math.min(cCap, (long) (cInterval * (1.0 + dAggression)));
+            }
+
+        return cWindow >> m_nBackoff;
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the smoothed inter-arrival time of items for the destination.
+     *
+     * @return the inter-arrival time in nanoseconds, or zero if unknown
+     */
+    public long getIntervalNanos()
+        {
+        return m_cIntervalNanos;
+        }
+
+    /**
+     * Return the smoothed acknowledgement latency of the destination.
+     *
+     * @return the acknowledgement latency in nanoseconds, or zero if unknown
+     */
+    public long getAckLatencyNanos()
+        {
+        return m_cAckNanos;
+        }
+
+    /**
+     * Return the current backoff, i.e. the number of times the window has
+     * been halved because deferrals did not result in any bundling.
+     *
+     * @return the current backoff
+     */
+    public int getBackoff()
+        {
+        return m_nBackoff;
+        }
+
+    // ----- Object methods -------------------------------------------------
+
+    @Override
+    public String toString()
+        {
+        return "AdaptiveBundlingWindow{IntervalNanos=" + m_cIntervalNanos
+               + ", AckLatencyNanos=" + m_cAckNanos
+               + ", Backoff=" + m_nBackoff + '}';
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The weight of a new sample in the smoothed averages, expressed as a
+     * shift (1/8, as used for the TCP round-trip time estimator).
+     */
+    protected static final int SMOOTHING_SHIFT = 3;
+
+    /**
+     * The fraction of the acknowledgement latency that the window may not
+     * exceed, expressed as a shift (1/4).
+     */
+    protected static final int ACK_FRACTION_SHIFT = 2;
+
+    /**
+     * The maximum backoff; the window is never reduced below 1/16 of its
+     * computed size by backing off alone.
+     */
+    protected static final int MAX_BACKOFF = 4;
+
+    /**
+     * The maximum inter-arrival sample, which prevents idle periods from
+     * dominating the smoothed inter-arrival time.
+     */
+    protected static final long MAX_INTERVAL_NANOS = 10_000_000L;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The {@link System#nanoTime()} of the last release, or zero.
+     */
+    private long m_ldtLastRelease;
+
+    /**
+     * The smoothed inter-arrival time in nanoseconds, or zero if unknown.
+     */
+    private long m_cIntervalNanos;
+
+    /**
+     * The smoothed acknowledgement latency in nanoseconds, or zero if unknown.
+     */
+    private long m_cAckNanos;
+
+    /**
+     * The current backoff.
+     */
+    private int m_nBackoff;
+    }
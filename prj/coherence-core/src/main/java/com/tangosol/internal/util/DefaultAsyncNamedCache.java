@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -8,6 +8,8 @@ package com.tangosol.internal.util;
 
 import com.oracle.coherence.common.util.Options;
 
+import com.tangosol.coherence.config.Config;
+
 import com.tangosol.internal.util.processor.CacheProcessors;
 
 import com.tangosol.net.AsyncNamedCache;
@@ -17,6 +19,8 @@ import com.tangosol.net.NamedCache;
 import com.tangosol.net.NamedMap;
 import com.tangosol.net.PartitionedService;
 
+import com.tangosol.net.partition.KeyPartitioningStrategy;
+
 import com.tangosol.util.Filter;
 import com.tangosol.util.InvocableMap;
 import com.tangosol.util.InvocableMap.StreamingAggregator;
@@ -25,14 +29,19 @@ import com.tangosol.util.processor.AsynchronousProcessor;
 import com.tangosol.util.processor.SingleEntryAsynchronousProcessor;
 import com.tangosol.util.processor.StreamingAsynchronousProcessor;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import java.util.concurrent.CompletableFuture;
 
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Function;
+
+import java.util.stream.IntStream;
 
 /**
  * Default implementation of the {@link AsyncNamedCache} API.
@@ -67,6 +76,7 @@ public class DefaultAsyncNamedCache<K, V>
         m_cache    = cache;
         m_options  = Options.from(AsyncNamedCache.Option.class, options);
         f_executor = m_options.get(Complete.class).getExecutor();
+        f_cChunk   = Math.max(1, Config.getInteger(PROPERTY_CHUNK_SIZE, DEFAULT_CHUNK_SIZE));
         }
 
     // ---- AsyncNamedCache interface ---------------------------------------
@@ -85,6 +95,37 @@ public class DefaultAsyncNamedCache<K, V>
         return m_cache;
         }
 
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public CompletableFuture<Map<K, V>> getAll(Collection<? extends K> colKeys)
+        {
+        CacheService service = m_cache.getCacheService();
+        if (service instanceof PartitionedService && colKeys.size() > f_cChunk)
+            {
+            List<List<K>>       listChunk = splitByOwner((PartitionedService) service,
+                                                         (Collection<K>) colKeys, Function.identity());
+            CompletableFuture[] aFuture   = new CompletableFuture[listChunk.size()];
+
+            int i = 0;
+            for (List<K> listKeys : listChunk)
+                {
+                aFuture[i++] = invokeAll(listKeys, CacheProcessors.get());
+                }
+
+            return CompletableFuture.allOf(aFuture).thenApply(nil ->
+                {
+                Map<K, V> mapResult = new HashMap<>();
+                for (CompletableFuture future : aFuture)
+                    {
+                    mapResult.putAll((Map<K, V>) future.join());
+                    }
+                return mapResult;
+                });
+            }
+
+        return AsyncNamedCache.super.getAll(colKeys);
+        }
+
     // ---- AsyncInvocableMap interface -------------------------------------
 
     @Override
@@ -180,30 +221,21 @@ public class DefaultAsyncNamedCache<K, V>
         CacheService service = m_cache.getCacheService();
         if (service instanceof PartitionedService)
             {
-            Map<Member, Map>   mapByOwner = new HashMap<>();
-            PartitionedService svcPart    = (PartitionedService) service;
+            List<List<Map.Entry>> listChunk = splitByOwner((PartitionedService) service,
+                                                           (Collection<Map.Entry>) (Collection) map.entrySet(),
+                                                           Map.Entry::getKey);
+            CompletableFuture[]   aFuture   = new CompletableFuture[listChunk.size()];
 
-            for (Map.Entry entry : map.entrySet())
+            int i = 0;
+            for (List<Map.Entry> listEntry : listChunk)
                 {
-                Object oKey   = entry.getKey();
-                Member member = svcPart.getKeyOwner(oKey);
-
-                // member could be null here, indicating that the owning partition is orphaned
-                Map mapMember = mapByOwner.get(member);
-                if (mapMember == null)
+                Map mapChunk = new HashMap();
+                for (Map.Entry entry : listEntry)
                     {
-                    mapMember = new HashMap();
-                    mapByOwner.put(member, mapMember);
+                    mapChunk.put(entry.getKey(), entry.getValue());
                     }
-                mapMember.put(oKey, entry.getValue());
-                }
 
-            CompletableFuture[] aFuture = new CompletableFuture[mapByOwner.size()];
-
-            int i = 0;
-            for (Map mapMember : mapByOwner.values())
-                {
-                aFuture[i++] = invokeAll(mapMember.keySet(), CacheProcessors.putAll(mapMember));
+                aFuture[i++] = invokeAll(mapChunk.keySet(), CacheProcessors.putAll(mapChunk));
                 }
 
             return CompletableFuture.allOf(aFuture);
@@ -216,6 +248,56 @@ public class DefaultAsyncNamedCache<K, V>
 
     // ---- helper methods --------------------------------------------------
 
+    /**
+     * Split the specified elements into chunks of at most {@link #f_cChunk}
+     * elements whose keys are owned by the same member.
+     * <p>
+     * Calculating the partition of a key serializes it, so for collections
+     * larger than a single chunk the partitions are calculated in parallel.
+     * The chunks are returned in a deterministic order, so that requests for
+     * them can be sent in order from the calling thread.
+     *
+     * @param service  the partitioned service
+     * @param col      the elements to split
+     * @param fnKey    the function returning the key of an element
+     * @param <T>      the type of the elements
+     *
+     * @return the chunks
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> List<List<T>> splitByOwner(PartitionedService service, Collection<T> col, Function<T, ?> fnKey)
+        {
+        Object[]                aElement = col.toArray();
+        int                     cElement = aElement.length;
+        int[]                   anPart   = new int[cElement];
+        int                     cChunk   = f_cChunk;
+        KeyPartitioningStrategy strategy = service.getKeyPartitioningStrategy();
+        IntStream               range    = IntStream.range(0, cElement);
+
+        (cElement > cChunk ? range.parallel() : range)
+                .forEach(i -> anPart[i] = strategy.getKeyPartition(fnKey.apply((T) aElement[i])));
+
+        Map<Member, List<T>> mapByOwner = new HashMap<>();
+        List<List<T>>        listChunk  = new ArrayList<>();
+
+        for (int i = 0; i < cElement; i++)
+            {
+            // owner could be null here, indicating that the owning partition is orphaned
+            Member  owner     = service.getPartitionOwner(anPart[i]);
+            List<T> listOwner = mapByOwner.computeIfAbsent(owner, m -> new ArrayList<>());
+
+            listOwner.add((T) aElement[i]);
+            if (listOwner.size() >= cChunk)
+                {
+                listChunk.add(listOwner);
+                mapByOwner.remove(owner);
+                }
+            }
+        listChunk.addAll(mapByOwner.values());
+
+        return listChunk;
+        }
+
     /**
      * Create and/or configure SingleEntryAsynchronousProcessor that should be
      * executed.
@@ -317,4 +399,25 @@ public class DefaultAsyncNamedCache<K, V>
      * The {@link Executor} to use to complete futures.
      */
     protected final Executor f_executor;
+
+    /**
+     * The maximum number of entries sent to a member in a single bulk
+     * request.
+     */
+    protected final int f_cChunk;
+
+    // ---- constants -------------------------------------------------------
+
+    /**
+     * The system property that configures the maximum number of entries sent
+     * to a member in a single request by {@link #putAll(Map)} and
+     * {@link #getAll(Collection)}.
+     */
+    public static final String PROPERTY_CHUNK_SIZE = "coherence.async.bulk.chunk";
+
+    /**
+     * The default maximum number of entries sent to a member in a single
+     * bulk request.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 10_000;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -7,20 +7,31 @@
 
 package com.tangosol.internal.util;
 
+import com.oracle.coherence.common.base.Logger;
+
 import com.oracle.coherence.common.collections.NullableConcurrentMap;
 import com.oracle.coherence.common.collections.NullableSortedMap;
 
+import com.tangosol.io.ReadBuffer;
+import com.tangosol.io.Serializer;
+import com.tangosol.io.WriteBuffer;
+
 import com.tangosol.net.BackingMapContext;
 import com.tangosol.net.partition.PartitionSet;
 
 import com.tangosol.util.AbstractKeyBasedMap;
 import com.tangosol.util.Base;
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryWriteBuffer;
 import com.tangosol.util.ChainedSet;
 import com.tangosol.util.ClassHelper;
 import com.tangosol.util.MapIndex;
+import com.tangosol.util.TransferableMapIndex;
 import com.tangosol.util.ValueExtractor;
 import com.tangosol.util.comparator.SafeComparator;
 
+import java.io.IOException;
+
 import java.util.AbstractCollection;
 import java.util.AbstractSet;
 import java.util.ArrayList;
@@ -155,6 +166,89 @@ public class PartitionedIndexMap<K, V>
                '}';
         }
 
+    // ---- index state transfer --------------------------------------------
+
+    /**
+     * Write the state of the specified partition index, so that it could be
+     * restored by {@link #readIndexState} on a member that receives the
+     * partition.
+     * <p>
+     * The returned state is prefixed with the class of the index and its
+     * {@link TransferableMapIndex#getStateVersion() state version}, which are
+     * validated before the state is restored.
+     *
+     * @param index       the partition index
+     * @param serializer  the serializer of the indexed cache
+     *
+     * @return the index state, or {@code null} if the index is not able to
+     *         provide its state
+     */
+    public static Binary writeIndexState(MapIndex<?, ?, ?> index, Serializer serializer)
+        {
+        if (index instanceof TransferableMapIndex)
+            {
+            TransferableMapIndex<?, ?, ?> indexXfer = (TransferableMapIndex<?, ?, ?>) index;
+            BinaryWriteBuffer             buf       = new BinaryWriteBuffer(1024);
+            WriteBuffer.BufferOutput      out       = buf.getBufferOutput();
+            try
+                {
+                out.writeInt(STATE_FORMAT);
+                out.writeUTF(index.getClass().getName());
+                out.writeInt(indexXfer.getStateVersion());
+
+                if (indexXfer.writeState(out, serializer))
+                    {
+                    return buf.toBinary();
+                    }
+                }
+            catch (IOException | RuntimeException e)
+                {
+                Logger.finer("Failed to write the state of index " + index.getValueExtractor()
+                             + "; the index will be rebuilt by the recipient: " + e);
+                }
+            }
+        return null;
+        }
+
+    /**
+     * Restore the state of the specified (empty) partition index from the
+     * state written by {@link #writeIndexState}.
+     * <p>
+     * The state is only restored if it was written by an index of the same
+     * class and state version. If this method returns {@code false}, the
+     * index may have been partially populated and must be discarded.
+     *
+     * @param index       the partition index to restore
+     * @param bufState    the index state
+     * @param serializer  the serializer of the indexed cache
+     *
+     * @return true iff the index state has been restored
+     */
+    public static boolean readIndexState(MapIndex<?, ?, ?> index, ReadBuffer bufState, Serializer serializer)
+        {
+        if (index instanceof TransferableMapIndex && bufState != null)
+            {
+            TransferableMapIndex<?, ?, ?> indexXfer = (TransferableMapIndex<?, ?, ?>) index;
+            ReadBuffer.BufferInput        in        = bufState.getBufferInput();
+            try
+                {
+                if (in.readInt() == STATE_FORMAT
+                    && in.readUTF().equals(index.getClass().getName())
+                    && in.readInt() == indexXfer.getStateVersion())
+                    {
+                    indexXfer.readState(in, serializer);
+                    return true;
+                    }
+                }
+            catch (IOException | RuntimeException e)
+                {
+                Logger.finer("Failed to restore the state of index " + index.getValueExtractor()
+                             + "; the index will be rebuilt: " + e);
+                }
+            }
+        return false;
+        }
+
     // ---- inner class: PartitionedIndex -----------------------------------
 
     /**
@@ -904,6 +998,13 @@ public class PartitionedIndexMap<K, V>
         private final Comparator<E> f_comparator;
         }
 
+    // ---- constants -------------------------------------------------------
+
+    /**
+     * The format of the index state envelope written by {@link #writeIndexState}.
+     */
+    protected static final int STATE_FORMAT = 1;
+
     // ---- data members ----------------------------------------------------
 
     /**
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.util;
+
+import com.tangosol.coherence.config.Config;
+
+import com.tangosol.net.ThreadPoolManager;
+import com.tangosol.net.ThreadPoolSizingStrategy;
+
+/**
+ * A {@link ThreadPoolSizingStrategy} that sizes a service thread pool based on
+ * the amount of time tasks spend in the queue awaiting execution, rather than
+ * on the throughput of the pool.
+ * <p>
+ * The pool is grown while the average queue latency exceeds the target
+ * latency and there is a backlog, and is shrunk one thread at a time while
+ * the latency stays well below the target and some of the threads are idle.
+ * <p>
+ * The strategy is used by a dynamically sized service thread pool if the
+ * {@code coherence.daemonpool.sizing} system property is set to
+ * {@code latency}. The target latency can be configured (in milliseconds)
+ * using the {@code coherence.daemonpool.sizing.latency} system property.
+ *
+ * @since 25.03
+ */
+public class QueueLatencySizingStrategy
+        implements ThreadPoolSizingStrategy
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a QueueLatencySizingStrategy with the configured target
+     * latency.
+     */
+    public QueueLatencySizingStrategy()
+        {
+        this(Config.getLong(PROPERTY_LATENCY, DEFAULT_LATENCY_MILLIS));
+        }
+
+    /**
+     * Construct a QueueLatencySizingStrategy with the specified target
+     * latency.
+     *
+     * @param cTargetMillis  the target average queue latency in milliseconds
+     */
+    public QueueLatencySizingStrategy(long cTargetMillis)
+        {
+        if (cTargetMillis <= 0L)
+            {
+            throw new IllegalArgumentException("Invalid target latency: " + cTargetMillis);
+            }
+        m_cTargetMillis = cTargetMillis;
+        }
+
+    // ----- ThreadPoolSizingStrategy interface -----------------------------
+
+    @Override
+    public void init(ThreadPoolManager mgr)
+        {
+        m_manager = mgr;
+        }
+
+    @Override
+    public int adjustPoolSize()
+        {
+        ThreadPoolManager mgr        = m_manager;
+        double            dflLatency = mgr.getAverageQueueMillis();
+        int               cThreads   = mgr.getPoolSize();
+        long              cTarget    = m_cTargetMillis;
+        int               cNew       = cThreads;
+
+        m_dflLastLatency = dflLatency;
+
+        if (dflLatency > cTarget && mgr.getBacklog() > 0)
+            {
+            // grow aggressively, as queued tasks are already late
+            cNew = Math.min(mgr.getMaxPoolSize(), cThreads + Math.max(1, cThreads >> 2));
+            }
+        else if (dflLatency >= 0.0 && dflLatency < cTarget / 4.0 && mgr.getIdleThreadCount() > 1)
+            {
+            // shrink gently to avoid oscillations
+            cNew = Math.max(mgr.getMinPoolSize(), cThreads - 1);
+            }
+
+        return cNew == cThreads ? -1 : cNew;
+        }
+
+    @Override
+    public String getDescription()
+        {
+        return "QueueLatencySizingStrategy{TargetMillis=" + m_cTargetMillis
+               + ", LastLatencyMillis=" + String.format("%.2f", m_dflLastLatency) + '}';
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the target average queue latency in milliseconds.
+     *
+     * @return the target average queue latency
+     */
+    public long getTargetMillis()
+        {
+        return m_cTargetMillis;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The system property used to select the sizing strategy for the
+     * dynamically sized service thread pools.
+     */
+    public static final String PROPERTY_STRATEGY = "coherence.daemonpool.sizing";
+
+    /**
+     * The value of the {@link #PROPERTY_STRATEGY} property that selects this
+     * strategy.
+     */
+    public static final String STRATEGY_LATENCY = "latency";
+
+    /**
+     * The system property used to configure the target latency.
+     */
+    public static final String PROPERTY_LATENCY = "coherence.daemonpool.sizing.latency";
+
+    /**
+     * The default target latency in milliseconds.
+     */
+    public static final long DEFAULT_LATENCY_MILLIS = 10L;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The target average queue latency in milliseconds.
+     */
+    private final long m_cTargetMillis;
+
+    /**
+     * The ThreadPoolManager this strategy is bound to.
+     */
+    private ThreadPoolManager m_manager;
+
+    /**
+     * The average queue latency observed by the last analysis.
+     */
+    private volatile double m_dflLastLatency = -1.0;
+    }
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.util;
+
+import com.tangosol.coherence.config.Config;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A TaskSampler aggregates periodic samples of the tasks being executed by
+ * the threads of a service thread pool into a bounded table of the most
+ * frequently sampled tasks.
+ * <p>
+ * Each sample is a description of the executed task, such as the name of the
+ * request and the class of the entry processor, aggregator or filter it
+ * executes. The table holds at most {@link #getCapacity() capacity} distinct
+ * descriptions; once it is full, a newly sampled description replaces the
+ * least frequently sampled one and inherits its count (the "space saving"
+ * algorithm), so the counts of the most frequent tasks are never
+ * underestimated and the table converges to the top tasks.
+ * <p>
+ * A count inherited on replacement overestimates the samples of the new
+ * task by at most the inherited count, which is recorded as the error of
+ * the entry, so that the number of samples a task is guaranteed to have
+ * (the count minus the error) can be reported alongside the count.
+ * <p>
+ * Sampling is enabled unless the {@code coherence.daemonpool.sampling} system
+ * property is set to {@code false}, and the capacity can be configured using
+ * the {@code coherence.daemonpool.sampling.size} system property.
+ *
+ * @since 25.03
+ */
+public class TaskSampler
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a TaskSampler with the configured capacity.
+     */
+    public TaskSampler()
+        {
+        this(Config.getInteger(PROPERTY_SIZE, DEFAULT_CAPACITY));
+        }
+
+    /**
+     * Construct a TaskSampler with the specified capacity.
+     *
+     * @param cCapacity  the maximum number of distinct tasks to track
+     */
+    public TaskSampler(int cCapacity)
+        {
+        if (cCapacity <= 0)
+            {
+            throw new IllegalArgumentException("Invalid capacity: " + cCapacity);
+            }
+        f_cCapacity = cCapacity;
+        }
+
+    // ----- TaskSampler methods --------------------------------------------
+
+    /**
+     * Return true iff task sampling is enabled.
+     *
+     * @return true iff task sampling is enabled
+     */
+    public static boolean isEnabled()
+        {
+        return Config.getBoolean(PROPERTY_ENABLED, true);
+        }
+
+    /**
+     * Record a sample of a thread.
+     *
+     * @param sTask  the description of the task the thread is executing, or
+     *               null if the thread is idle
+     */
+    public synchronized void sample(String sTask)
+        {
+        ++m_cSamples;
+        if (sTask == null)
+            {
+            ++m_cIdle;
+            return;
+            }
+
+        Map<String, long[]> mapCount = f_mapCount;
+        long[]              alCount  = mapCount.get(sTask);
+        if (alCount == null)
+            {
+            if (mapCount.size() < f_cCapacity)
+                {
+                mapCount.put(sTask, new long[] {1L, 0L});
+                }
+            else
+                {
+                // replace the least frequently sampled task
+                String sMin = null;
+                long   cMin = Long.MAX_VALUE;
+                for (Map.Entry<String, long[]> entry : mapCount.entrySet())
+                    {
+                    long c = entry.getValue()[0];
+                    if (c < cMin)
+                        {
+                        cMin = c;
+                        sMin = entry.getKey();
+                        }
+                    }
+
+                alCount    = mapCount.remove(sMin);
+                alCount[0] = cMin + 1L;
+                alCount[1] = cMin;
+                mapCount.put(sTask, alCount);
+                }
+            }
+        else
+            {
+            ++alCount[0];
+            }
+        }
+
+    /**
+     * Return the total number of samples, including idle samples.
+     *
+     * @return the total number of samples
+     */
+    public synchronized long getSampleCount()
+        {
+        return m_cSamples;
+        }
+
+    /**
+     * Return the number of samples of idle threads.
+     *
+     * @return the number of idle samples
+     */
+    public synchronized long getIdleCount()
+        {
+        return m_cIdle;
+        }
+
+    /**
+     * Return the maximum number of distinct tasks tracked.
+     *
+     * @return the capacity
+     */
+    public int getCapacity()
+        {
+        return f_cCapacity;
+        }
+
+    /**
+     * Return the most frequently sampled tasks, in descending order of their
+     * sample counts.
+     * <p>
+     * The count of a task may overestimate its samples; see
+     * {@link #getGuaranteedCount(String)}.
+     *
+     * @param cMax  the maximum number of tasks to return
+     *
+     * @return a list of task descriptions and their sample counts
+     */
+    public synchronized List<Map.Entry<String, Long>> getTopTasks(int cMax)
+        {
+        Map<String, long[]>           mapCount = f_mapCount;
+        List<Map.Entry<String, Long>> listTop  = new ArrayList<>(mapCount.size());
+        for (Map.Entry<String, long[]> entry : mapCount.entrySet())
+            {
+            listTop.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue()[0]));
+            }
+
+        // break ties in favour of the task with the smaller error
+        listTop.sort((e1, e2) ->
+            {
+            int n = Long.compare(e2.getValue(), e1.getValue());
+            return n == 0 ? Long.compare(mapCount.get(e1.getKey())[1], mapCount.get(e2.getKey())[1]) : n;
+            });
+
+        return listTop.size() > cMax ? new ArrayList<>(listTop.subList(0, cMax)) : listTop;
+        }
+
+    /**
+     * Return the number of samples the specified task is guaranteed to have,
+     * i.e. its count less the count it inherited when it replaced another
+     * task in the table.
+     *
+     * @param sTask  the task description
+     *
+     * @return the guaranteed number of samples, or zero if the task is not
+     *         tracked
+     */
+    public synchronized long getGuaranteedCount(String sTask)
+        {
+        long[] alCount = f_mapCount.get(sTask);
+        return alCount == null ? 0L : alCount[0] - alCount[1];
+        }
+
+    /**
+     * Return a description of the most frequently sampled tasks, one per
+     * element, in descending order of their sample counts.
+     * <p>
+     * Each element holds the task description, its sample count, the
+     * number of samples it is guaranteed to have and the percentage of the
+     * non-idle samples the count represents.
+     *
+     * @param cMax  the maximum number of tasks to describe
+     *
+     * @return the descriptions of the most frequently sampled tasks
+     */
+    public synchronized String[] describeTopTasks(int cMax)
+        {
+        List<Map.Entry<String, Long>> listTop = getTopTasks(cMax);
+        long                          cBusy   = m_cSamples - m_cIdle;
+        String[]                      asTask  = new String[listTop.size()];
+
+        for (int i = 0; i < asTask.length; i++)
+            {
+            Map.Entry<String, Long> entry  = listTop.get(i);
+            long                    cCount = entry.getValue();
+
+            asTask[i] = entry.getKey()
+                        + "{Samples=" + cCount
+                        + ", MinSamples=" + getGuaranteedCount(entry.getKey())
+                        + ", Percent=" + (cBusy == 0L ? 0L : cCount * 100L / cBusy) + '}';
+            }
+
+        return asTask;
+        }
+
+    /**
+     * Discard all samples.
+     */
+    public synchronized void reset()
+        {
+        f_mapCount.clear();
+        m_cSamples = 0L;
+        m_cIdle    = 0L;
+        }
+
+    // ----- Object methods -------------------------------------------------
+
+    @Override
+    public synchronized String toString()
+        {
+        return "TaskSampler(Samples=" + m_cSamples + ", Idle=" + m_cIdle
+               + ", Tasks=" + f_mapCount.size() + '/' + f_cCapacity + ')';
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The system property that enables or disables task sampling.
+     */
+    public static final String PROPERTY_ENABLED = "coherence.daemonpool.sampling";
+
+    /**
+     * The system property that configures the capacity of a TaskSampler.
+     */
+    public static final String PROPERTY_SIZE = "coherence.daemonpool.sampling.size";
+
+    /**
+     * The default capacity.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The maximum number of distinct tasks tracked.
+     */
+    private final int f_cCapacity;
+
+    /**
+     * The sample count of each tracked task, followed by the count it
+     * inherited on replacement (its maximum overestimation), held in an
+     * array so that it can be updated in place.
+     */
+    private final Map<String, long[]> f_mapCount = new HashMap<>();
+
+    /**
+     * The total number of samples.
+     */
+    private long m_cSamples;
+
+    /**
+     * The number of idle samples.
+     */
+    private long m_cIdle;
+    }
@@ -0,0 +1,572 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.internal.util;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.coherence.config.Config;
+
+import com.tangosol.net.PriorityTask;
+
+import com.tangosol.net.management.AnnotatedStandardMBean;
+import com.tangosol.net.management.Registry;
+
+import com.tangosol.util.Base;
+
+import java.util.Queue;
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import java.util.function.Function;
+
+import javax.management.NotCompliantMBeanException;
+
+/**
+ * An {@link Executor} that runs each task on its own virtual thread, bounding
+ * the number of concurrently executing tasks.
+ * <p>
+ * Proxy services dispatch requests to this executor so that blocking cache
+ * calls park a virtual thread rather than occupying a pooled platform thread,
+ * allowing proxy concurrency to be bounded by the configured limit instead of
+ * the daemon pool thread count. Tasks submitted while the limit is reached are
+ * queued (without blocking the submitting thread) and started as in-flight
+ * tasks complete, in submission order.
+ * <p>
+ * As tasks do not run on daemon pool threads, the executor enforces the task
+ * timeout and hung task threshold of the daemon pool it replaces: a periodic
+ * call to {@link #checkTasks()} interrupts tasks which have exceeded their
+ * timeout, and reports tasks running for longer than the hung threshold. A
+ * task which ignores the interrupt keeps running, and keeps its permit.
+ * <p>
+ * The {@link #execute} method never throws; a task for which a thread cannot
+ * be started is handed to its rejection handler instead.
+ *
+ * @since 25.03
+ */
+public class VirtualThreadExecutor
+        implements Executor, VirtualThreadExecutorMBean
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link VirtualThreadExecutor}.
+     *
+     * @param sName            the name of the executor, used to name threads
+     * @param cMaxConcurrency  the maximum number of concurrently executing tasks
+     */
+    public VirtualThreadExecutor(String sName, int cMaxConcurrency)
+        {
+        this(sName, cMaxConcurrency, 0L, 0L);
+        }
+
+    /**
+     * Create a {@link VirtualThreadExecutor}.
+     *
+     * @param sName                 the name of the executor, used to name threads
+     * @param cMaxConcurrency       the maximum number of concurrently executing tasks
+     * @param cTaskTimeoutMillis    the default task timeout, or zero for none
+     * @param cHungThresholdMillis  the time after which a task is considered hung,
+     *                              or zero for none
+     */
+    public VirtualThreadExecutor(String sName, int cMaxConcurrency, long cTaskTimeoutMillis, long cHungThresholdMillis)
+        {
+        if (cMaxConcurrency <= 0)
+            {
+            throw new IllegalArgumentException("Max concurrency must be positive: " + cMaxConcurrency);
+            }
+
+        f_sName                = sName;
+        f_cMaxConcurrency      = cMaxConcurrency;
+        f_cTaskTimeoutMillis   = Math.max(0L, cTaskTimeoutMillis);
+        f_cHungThresholdMillis = Math.max(0L, cHungThresholdMillis);
+        }
+
+    // ----- Executor interface ---------------------------------------------
+
+    @Override
+    public void execute(Runnable task)
+        {
+        execute(task, PriorityTask.TIMEOUT_DEFAULT, null);
+        }
+
+    // ----- VirtualThreadExecutor methods ----------------------------------
+
+    /**
+     * Execute the specified task.
+     *
+     * @param task            the task to execute
+     * @param cTimeoutMillis  the task timeout, one of the
+     *                        {@link PriorityTask#getExecutionTimeoutMillis()}
+     *                        values
+     * @param taskRejected    the task to run, on an arbitrary thread, should a
+     *                        thread not be started for the task; may be null
+     */
+    public void execute(Runnable task, long cTimeoutMillis, Runnable taskRejected)
+        {
+        long cTimeout = cTimeoutMillis == PriorityTask.TIMEOUT_DEFAULT ? f_cTaskTimeoutMillis
+                      : cTimeoutMillis == PriorityTask.TIMEOUT_NONE    ? 0L
+                      : cTimeoutMillis;
+
+        f_queue.add(new Task(task, cTimeout, taskRejected));
+        f_cBacklog.incrementAndGet();
+        drain();
+        }
+
+    /**
+     * Interrupt the tasks which have exceeded their timeout, and update the
+     * hung task statistics.
+     * <p>
+     * This method is expected to be called periodically by the service the
+     * executor runs requests for.
+     */
+    public void checkTasks()
+        {
+        long ldtNow         = Base.getSafeTimeMillis();
+        long cHungThreshold = f_cHungThresholdMillis;
+        int  cHung          = 0;
+        long cHungDuration  = 0L;
+
+        for (Task task : f_setRunning)
+            {
+            long cMillis = ldtNow - task.m_ldtStart;
+
+            if (cHungThreshold > 0L && cMillis > cHungThreshold)
+                {
+                ++cHung;
+                cHungDuration = Math.max(cHungDuration, cMillis);
+                }
+
+            long cTimeout = task.f_cTimeoutMillis;
+            if (cTimeout > 0L && cMillis > cTimeout)
+                {
+                if (!task.m_fTimedOut)
+                    {
+                    task.m_fTimedOut = true;
+                    f_cTimeouts.incrementAndGet();
+                    Logger.warn("A virtual thread of " + f_sName + " has been executing a task for "
+                                + cMillis + "ms, exceeding its timeout of " + cTimeout
+                                + "ms; attempting to interrupt: " + task.m_thread);
+                    }
+
+                // keep interrupting the thread until the task completes
+                task.m_thread.interrupt();
+                }
+            }
+
+        m_cHung         = cHung;
+        m_cHungDuration = cHungDuration;
+        }
+
+    // ----- VirtualThreadExecutorMBean interface ---------------------------
+
+    @Override
+    public int getMaxConcurrency()
+        {
+        return f_cMaxConcurrency;
+        }
+
+    @Override
+    public int getInFlightCount()
+        {
+        return f_cInFlight.get();
+        }
+
+    @Override
+    public int getMaxInFlightCount()
+        {
+        return m_cMaxInFlight;
+        }
+
+    @Override
+    public int getBacklog()
+        {
+        return f_cBacklog.get();
+        }
+
+    @Override
+    public long getTaskCount()
+        {
+        return f_cTasks.get();
+        }
+
+    @Override
+    public long getTimeoutCount()
+        {
+        return f_cTimeouts.get();
+        }
+
+    @Override
+    public int getHungCount()
+        {
+        return m_cHung;
+        }
+
+    @Override
+    public long getHungDuration()
+        {
+        return m_cHungDuration;
+        }
+
+    @Override
+    public void resetStatistics()
+        {
+        f_cTasks.set(0L);
+        f_cTimeouts.set(0L);
+        m_cMaxInFlight = f_cInFlight.get();
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Register an MBean for this executor with the specified {@link Registry}.
+     *
+     * @param registry  the {@link Registry} to register with
+     * @param sName     the MBean name (without the domain)
+     *
+     * @return the global name of the registered MBean
+     */
+    public String registerMBean(Registry registry, String sName)
+        {
+        try
+            {
+            String sGlobalName = registry.ensureGlobalName(sName);
+            registry.register(sGlobalName, new AnnotatedStandardMBean(this, VirtualThreadExecutorMBean.class));
+            return sGlobalName;
+            }
+        catch (NotCompliantMBeanException e)
+            {
+            throw new IllegalStateException(e);
+            }
+        }
+
+    /**
+     * Start as many queued tasks as the concurrency limit allows.
+     */
+    protected void drain()
+        {
+        AtomicInteger cInFlight = f_cInFlight;
+        while (!f_queue.isEmpty())
+            {
+            int c = cInFlight.get();
+            if (c >= f_cMaxConcurrency)
+                {
+                // a completing task will drain the queue
+                return;
+                }
+            if (!cInFlight.compareAndSet(c, c + 1))
+                {
+                continue;
+                }
+
+            Task task = f_queue.poll();
+            if (task == null)
+                {
+                cInFlight.decrementAndGet();
+
+                // another thread may have queued a task after the permit was
+                // taken but before it was released
+                continue;
+                }
+
+            f_cBacklog.decrementAndGet();
+            if (c + 1 > m_cMaxInFlight)
+                {
+                m_cMaxInFlight = c + 1;
+                }
+
+            try
+                {
+                makeThread(() -> run(task), f_sName + ":" + f_cThread.incrementAndGet()).start();
+                }
+            catch (Throwable t)
+                {
+                // never throw, as the caller is typically a service thread
+                cInFlight.decrementAndGet();
+                Logger.err("Failed to start a thread for " + f_sName + "; rejecting the task", t);
+                reject(task);
+                }
+            }
+        }
+
+    /**
+     * Create a virtual thread.
+     *
+     * @param runnable  the runnable the thread runs
+     * @param sName     the thread name
+     *
+     * @return the thread
+     */
+    protected Thread makeThread(Runnable runnable, String sName)
+        {
+        return VirtualThreads.makeThread(null, runnable, sName);
+        }
+
+    /**
+     * Hand the specified task, for which a thread could not be started, to
+     * its rejection handler.
+     *
+     * @param task  the rejected task
+     */
+    protected void reject(Task task)
+        {
+        Runnable taskRejected = task.f_taskRejected;
+        if (taskRejected != null)
+            {
+            try
+                {
+                taskRejected.run();
+                }
+            catch (Throwable t)
+                {
+                Logger.err("Unhandled exception rejecting a task of " + f_sName, t);
+                }
+            }
+        }
+
+    /**
+     * Run the specified task, and then start the next queued task.
+     *
+     * @param task  the task to run
+     */
+    protected void run(Task task)
+        {
+        task.m_thread   = Thread.currentThread();
+        task.m_ldtStart = Base.getSafeTimeMillis();
+        f_setRunning.add(task);
+        try
+            {
+            task.f_task.run();
+            }
+        catch (Throwable t)
+            {
+            Logger.err("Unhandled exception in " + f_sName, t);
+            }
+        finally
+            {
+            f_setRunning.remove(task);
+            if (task.m_fTimedOut)
+                {
+                // clear an interrupt the task has not consumed
+                Thread.interrupted();
+                }
+
+            // release the permit first, so that a task is never counted as
+            // both completed and in flight
+            f_cInFlight.decrementAndGet();
+            f_cTasks.incrementAndGet();
+            drain();
+            }
+        }
+
+    /**
+     * Return {@code true} if requests for the specified proxy service should
+     * be executed on virtual threads by a {@link VirtualThreadExecutor}.
+     *
+     * @param sServiceName  the name of the proxy service
+     *
+     * @return {@code true} if a {@link VirtualThreadExecutor} should be used
+     */
+    public static boolean isEnabled(String sServiceName)
+        {
+        return VirtualThreads.isSupported()
+               && Config.getBoolean(PROPERTY_SERVICE_ENABLED.apply(sServiceName), Config.getBoolean(PROPERTY_ENABLED));
+        }
+
+    /**
+     * Return the maximum number of concurrent requests for the specified
+     * proxy service.
+     *
+     * @param sServiceName  the name of the proxy service
+     *
+     * @return the maximum number of concurrent requests
+     */
+    public static int getConfiguredConcurrency(String sServiceName)
+        {
+        return Config.getInteger(PROPERTY_SERVICE_CONCURRENCY.apply(sServiceName),
+                Config.getInteger(PROPERTY_CONCURRENCY, DEFAULT_MAX_CONCURRENCY));
+        }
+
+    // ----- Object methods -------------------------------------------------
+
+    @Override
+    public String toString()
+        {
+        return "VirtualThreadExecutor(name=" + f_sName
+               + ", maxConcurrency=" + f_cMaxConcurrency
+               + ", inFlight=" + getInFlightCount()
+               + ", backlog=" + getBacklog() + ')';
+        }
+
+    // ----- inner class: Task ----------------------------------------------
+
+    /**
+     * A task submitted to the executor.
+     */
+    protected static class Task
+        {
+        /**
+         * Create a Task.
+         *
+         * @param task            the task to run
+         * @param cTimeoutMillis  the task timeout, or zero for none
+         * @param taskRejected    the task to run if the task is rejected
+         */
+        protected Task(Runnable task, long cTimeoutMillis, Runnable taskRejected)
+            {
+            f_task           = task;
+            f_cTimeoutMillis = cTimeoutMillis;
+            f_taskRejected   = taskRejected;
+            }
+
+        /**
+         * The task to run.
+         */
+        protected final Runnable f_task;
+
+        /**
+         * The task timeout, or zero for none.
+         */
+        protected final long f_cTimeoutMillis;
+
+        /**
+         * The task to run if the task is rejected, or null.
+         */
+        protected final Runnable f_taskRejected;
+
+        /**
+         * The thread running the task.
+         */
+        protected volatile Thread m_thread;
+
+        /**
+         * The time the task started running.
+         */
+        protected volatile long m_ldtStart;
+
+        /**
+         * True once the task has exceeded its timeout.
+         */
+        protected volatile boolean m_fTimedOut;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * Config property used to enable virtual thread request execution for all
+     * proxy services.
+     */
+    public static final String PROPERTY_ENABLED = "coherence.proxy.virtualthreads.enabled";
+
+    /**
+     * Config property used to enable or disable virtual thread request
+     * execution for a specific proxy service.
+     */
+    public static final Function<String, String> PROPERTY_SERVICE_ENABLED =
+            (sServiceName) -> String.format("coherence.proxy.%s.virtualthreads.enabled", sServiceName);
+
+    /**
+     * Config property used to set the maximum request concurrency for all
+     * proxy services.
+     */
+    public static final String PROPERTY_CONCURRENCY = "coherence.proxy.virtualthreads.concurrency";
+
+    /**
+     * Config property used to set the maximum request concurrency for a
+     * specific proxy service.
+     */
+    public static final Function<String, String> PROPERTY_SERVICE_CONCURRENCY =
+            (sServiceName) -> String.format("coherence.proxy.%s.virtualthreads.concurrency", sServiceName);
+
+    /**
+     * The default maximum request concurrency.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 10_000;
+
+    /**
+     * The MBean type used to register proxy request executors.
+     */
+    public static final String MBEAN_TYPE = "type=ProxyRequestExecutor";
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The name of the executor.
+     */
+    private final String f_sName;
+
+    /**
+     * The maximum number of concurrently executing tasks.
+     */
+    private final int f_cMaxConcurrency;
+
+    /**
+     * The default task timeout, or zero for none.
+     */
+    private final long f_cTaskTimeoutMillis;
+
+    /**
+     * The time after which a running task is considered hung, or zero for
+     * none.
+     */
+    private final long f_cHungThresholdMillis;
+
+    /**
+     * The tasks waiting for a permit to execute.
+     */
+    private final Queue<Task> f_queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The tasks currently running.
+     */
+    private final Set<Task> f_setRunning = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The number of queued tasks.
+     */
+    private final AtomicInteger f_cBacklog = new AtomicInteger();
+
+    /**
+     * The number of executing tasks.
+     */
+    private final AtomicInteger f_cInFlight = new AtomicInteger();
+
+    /**
+     * The number of completed tasks.
+     */
+    private final AtomicLong f_cTasks = new AtomicLong();
+
+    /**
+     * The counter used to name threads.
+     */
+    private final AtomicLong f_cThread = new AtomicLong();
+
+    /**
+     * The number of tasks that exceeded their timeout.
+     */
+    private final AtomicLong f_cTimeouts = new AtomicLong();
+
+    /**
+     * The maximum observed number of executing tasks.
+     */
+    private volatile int m_cMaxInFlight;
+
+    /**
+     * The number of hung tasks found by the last check.
+     */
+    private volatile int m_cHung;
+
+    /**
+     * The longest running hung task found by the last check.
+     */
+    private volatile long m_cHungDuration;
+    }
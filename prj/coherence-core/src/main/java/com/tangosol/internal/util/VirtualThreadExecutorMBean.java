@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.internal.util;
+
+import com.tangosol.net.management.annotation.Description;
+
+/**
+ * The management interface of a {@link VirtualThreadExecutor}.
+ *
+ * @since 25.03
+ */
+@Description("Provides statistics for a proxy request executor that runs each request on a virtual thread.")
+public interface VirtualThreadExecutorMBean
+    {
+    /**
+     * Return the maximum number of concurrently executing requests.
+     *
+     * @return the maximum number of concurrently executing requests
+     */
+    @Description("The maximum number of concurrently executing requests")
+    int getMaxConcurrency();
+
+    /**
+     * Return the number of requests currently executing.
+     *
+     * @return the number of requests currently executing
+     */
+    @Description("The number of requests currently executing")
+    int getInFlightCount();
+
+    /**
+     * Return the maximum number of requests executing at the same time since
+     * the statistics were last reset.
+     *
+     * @return the maximum number of concurrently executing requests observed
+     */
+    @Description("The maximum number of requests executing at the same time since the statistics were last reset")
+    int getMaxInFlightCount();
+
+    /**
+     * Return the number of requests waiting for the number of in-flight
+     * requests to fall below the maximum concurrency.
+     *
+     * @return the number of queued requests
+     */
+    @Description("The number of requests waiting for the number of in-flight requests to fall below the maximum concurrency")
+    int getBacklog();
+
+    /**
+     * Return the number of requests executed since the statistics were last
+     * reset.
+     *
+     * @return the number of executed requests
+     */
+    @Description("The number of requests executed since the statistics were last reset")
+    long getTaskCount();
+
+    /**
+     * Return the number of requests which exceeded their timeout, and were
+     * interrupted, since the statistics were last reset.
+     *
+     * @return the number of timed out requests
+     */
+    @Description("The number of requests which exceeded their timeout, and were interrupted, since the statistics were last reset")
+    long getTimeoutCount();
+
+    /**
+     * Return the number of requests executing for longer than the hung
+     * threshold.
+     *
+     * @return the number of hung requests
+     */
+    @Description("The number of requests executing for longer than the hung threshold")
+    int getHungCount();
+
+    /**
+     * Return the execution time of the longest running hung request, in
+     * milliseconds.
+     *
+     * @return the duration of the longest running hung request
+     */
+    @Description("The execution time of the longest running hung request, in milliseconds")
+    long getHungDuration();
+
+    /**
+     * Reset the statistics.
+     */
+    @Description("Reset the statistics")
+    void resetStatistics();
+    }
@@ -0,0 +1,747 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.io.pof;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.io.pof.reflect.Codec;
+import com.tangosol.io.pof.reflect.Codecs;
+
+import com.tangosol.io.pof.reflect.internal.ClassMetadata;
+import com.tangosol.io.pof.reflect.internal.InvocationStrategies;
+import com.tangosol.io.pof.reflect.internal.InvocationStrategy;
+import com.tangosol.io.pof.reflect.internal.TypeMetadata.AttributeMetadata;
+
+import java.io.IOException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.ConstantDynamic;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ACC_SYNTHETIC;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ARETURN;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.H_INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.IFNULL;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.SWAP;
+import static org.objectweb.asm.Opcodes.V17;
+
+/**
+ * A {@link PofAnnotationSerializer} that generates a specialized class to
+ * access the portable properties of the user type on first use, rather than
+ * relying on reflection and per-property {@link Codec} dispatch.
+ * <p>
+ * The generated class is a hidden class that holds a {@link MethodHandle}
+ * for each property accessor as a class data constant, which allows the JIT
+ * compiler to inline property access. Each property is written and read in
+ * index order with straight-line code, and primitive properties that use the
+ * default codec are written and read via the primitive {@link PofWriter} and
+ * {@link PofReader} methods without boxing. The serialized form is identical
+ * to the one produced by {@link PofAnnotationSerializer}.
+ * <p>
+ * If an accessor class cannot be generated for the user type (for example,
+ * because one of its portable properties is a {@code static} field, or the
+ * accessors are not accessible to Coherence), this serializer logs a warning
+ * and falls back to reflection.
+ * <p>
+ * This serializer is used in place of {@link PofAnnotationSerializer} by
+ * {@link ConfigurablePofContext} when the {@value
+ * ConfigurablePofContext#PROPERTY_COMPILE_SERIALIZERS} system property is
+ * set to {@code true}.
+ *
+ * @param <T>  the user type this serializer will (de)serialize
+ *
+ * @since 25.03
+ */
+public class CompiledPofAnnotationSerializer<T>
+        extends PofAnnotationSerializer<T>
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Constructs a CompiledPofAnnotationSerializer.
+     *
+     * @param nTypeId  the POF type id
+     * @param clz      type this serializer is aware of
+     */
+    public CompiledPofAnnotationSerializer(int nTypeId, Class<T> clz)
+        {
+        this(nTypeId, clz, false);
+        }
+
+    /**
+     * Constructs a CompiledPofAnnotationSerializer.
+     *
+     * @param nTypeId     the POF type id
+     * @param clz         type this serializer is aware of
+     * @param fAutoIndex  turns on the auto index feature
+     */
+    public CompiledPofAnnotationSerializer(int nTypeId, Class<T> clz, boolean fAutoIndex)
+        {
+        super(nTypeId, clz, fAutoIndex);
+
+        f_clz = clz;
+        }
+
+    // ----- PofAnnotationSerializer methods --------------------------------
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected T newInstance()
+        {
+        Accessor accessor = ensureAccessor();
+        return accessor == null ? super.newInstance() : (T) accessor.newInstance();
+        }
+
+    @Override
+    protected void writeProperties(PofWriter out, T value) throws IOException
+        {
+        Accessor accessor = ensureAccessor();
+        if (accessor == null)
+            {
+            super.writeProperties(out, value);
+            }
+        else
+            {
+            accessor.writeProperties(out, value);
+            }
+        }
+
+    @Override
+    protected void readProperties(PofReader in, T value) throws IOException
+        {
+        Accessor accessor = ensureAccessor();
+        if (accessor == null)
+            {
+            super.readProperties(in, value);
+            }
+        else
+            {
+            accessor.readProperties(in, value);
+            }
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return {@code true} if this serializer is using a generated accessor
+     * class, generating it if necessary.
+     *
+     * @return {@code true} if this serializer is using a generated accessor
+     *         class, or {@code false} if it has fallen back to reflection
+     */
+    public boolean isCompiled()
+        {
+        return ensureAccessor() != null;
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Return the generated {@link Accessor}, generating it on first use.
+     *
+     * @return the generated accessor, or {@code null} if an accessor could
+     *         not be generated and reflection should be used
+     */
+    protected Accessor ensureAccessor()
+        {
+        Accessor accessor = m_accessor;
+        if (accessor == null && !m_fReflective)
+            {
+            synchronized (this)
+                {
+                accessor = m_accessor;
+                if (accessor == null && !m_fReflective)
+                    {
+                    try
+                        {
+                        m_accessor = accessor = generateAccessor();
+                        }
+                    catch (Exception | LinkageError e)
+                        {
+                        m_fReflective = true;
+                        Logger.warn("Unable to generate a POF serializer for " + f_clz.getName()
+                                    + "; using reflection instead: " + e);
+                        }
+                    }
+                }
+            }
+        return accessor;
+        }
+
+    /**
+     * Generate, define and instantiate the {@link Accessor} class for the
+     * user type.
+     *
+     * @return a new instance of the generated accessor class
+     *
+     * @throws Exception  if the accessor class cannot be generated
+     */
+    protected Accessor generateAccessor()
+            throws Exception
+        {
+        MethodHandles.Lookup lookup   = MethodHandles.lookup();
+        Class<T>             clz      = f_clz;
+        List<Object>         listData = new ArrayList<>();
+        String               sName    = Type.getInternalName(Accessor.class) + '$' + clz.getName().replace('.', '_');
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES)
+            {
+            @Override
+            protected String getCommonSuperClass(String sType1, String sType2)
+                {
+                // only Object references are merged at branch targets, and
+                // the user type must not be loaded via the ASM class loader
+                return TYPE_OBJECT.getInternalName();
+                }
+            };
+
+        cw.visit(V17, ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, sName, null, Type.getInternalName(Accessor.class), null);
+
+        // constructor
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(Accessor.class), "<init>", "()V", false);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        // newInstance()
+        MethodHandle mhCtor = lookup.unreflectConstructor(clz.getDeclaredConstructor())
+                .asType(MethodType.methodType(Object.class));
+
+        mv = cw.visitMethod(ACC_PUBLIC, "newInstance", Type.getMethodDescriptor(TYPE_OBJECT), null, null);
+        mv.visitCode();
+        mv.visitLdcInsn(classData(listData, mhCtor));
+        invokeExact(mv, TYPE_OBJECT);
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        // writeProperties(PofWriter, Object) and readProperties(PofReader, Object)
+        MethodVisitor mvWrite = cw.visitMethod(ACC_PUBLIC, "writeProperties",
+                Type.getMethodDescriptor(Type.VOID_TYPE, TYPE_WRITER, TYPE_OBJECT), null, null);
+        MethodVisitor mvRead  = cw.visitMethod(ACC_PUBLIC, "readProperties",
+                Type.getMethodDescriptor(Type.VOID_TYPE, TYPE_READER, TYPE_OBJECT), null, null);
+        mvWrite.visitCode();
+        mvRead.visitCode();
+
+        for (Iterator<AttributeMetadata<T>> iter = getTypeMetadata().getAttributes(); iter.hasNext(); )
+            {
+            AttributeMetadata<T> attr  = iter.next();
+            int                  iProp = attr.getIndex();
+            Codec                codec = attr.getCodec();
+
+            // resolve the accessors of the attribute
+            MethodHandle mhGet;
+            MethodHandle mhSet;
+            Class<?>     clzGet;
+            Class<?>     clzSet;
+
+            InvocationStrategy<T, Object> strategy = attr instanceof ClassMetadata.ClassAttribute
+                    ? ((ClassMetadata<T>.ClassAttribute) attr).getInvocationStrategy()
+                    : null;
+            if (strategy instanceof InvocationStrategies.FieldInvocationStrategy)
+                {
+                Field field = ((InvocationStrategies.FieldInvocationStrategy<T, Object>) strategy).getField();
+                ensureInstanceMember(field.getModifiers(), field.getName());
+
+                mhGet  = lookup.unreflectGetter(field);
+                mhSet  = lookup.unreflectSetter(field);
+                clzGet = clzSet = field.getType();
+                }
+            else if (strategy instanceof InvocationStrategies.MethodInvocationStrategy)
+                {
+                InvocationStrategies.MethodInvocationStrategy<T, Object> strategyMethod =
+                        (InvocationStrategies.MethodInvocationStrategy<T, Object>) strategy;
+
+                Method methGet = strategyMethod.getGetter();
+                Method methSet = strategyMethod.getSetter();
+                ensureInstanceMember(methGet.getModifiers(), methGet.getName());
+                ensureInstanceMember(methSet.getModifiers(), methSet.getName());
+
+                mhGet  = lookup.unreflect(methGet);
+                mhSet  = lookup.unreflect(methSet);
+                clzGet = methGet.getReturnType();
+                clzSet = methSet.getParameterTypes()[0];
+                }
+            else
+                {
+                throw new UnsupportedOperationException("unsupported accessor for attribute " + attr.getName());
+                }
+
+            boolean fDefault = codec.getClass() == Codecs.DefaultCodec.class;
+            Type    typeGet  = fDefault && clzGet.isPrimitive() ? Type.getType(clzGet) : TYPE_OBJECT;
+            Type    typeSet  = clzSet.isPrimitive() ? Type.getType(clzSet) : TYPE_OBJECT;
+
+            Object oGet   = classData(listData, mhGet.asType(MethodType.methodType(
+                    toClass(typeGet, clzGet), Object.class)));
+            Object oSet   = classData(listData, mhSet.asType(MethodType.methodType(
+                    void.class, Object.class, toClass(typeSet, clzSet))));
+            Object oCodec = fDefault ? null : classData(listData, codec);
+
+            // write the property
+            if (fDefault && clzGet.isPrimitive())
+                {
+                // Accessor.writeXyz(out, iProp, get(value))
+                mvWrite.visitVarInsn(ALOAD, 1);
+                mvWrite.visitLdcInsn(iProp);
+                mvWrite.visitLdcInsn(oGet);
+                mvWrite.visitVarInsn(ALOAD, 2);
+                invokeExact(mvWrite, typeGet, TYPE_OBJECT);
+                mvWrite.visitMethodInsn(INVOKESTATIC, Type.getInternalName(Accessor.class),
+                        "write" + getPrimitiveName(typeGet),
+                        Type.getMethodDescriptor(Type.VOID_TYPE, TYPE_WRITER, Type.INT_TYPE, typeGet), false);
+                }
+            else if (fDefault)
+                {
+                // out.writeObject(iProp, get(value))
+                mvWrite.visitVarInsn(ALOAD, 1);
+                mvWrite.visitLdcInsn(iProp);
+                mvWrite.visitLdcInsn(oGet);
+                mvWrite.visitVarInsn(ALOAD, 2);
+                invokeExact(mvWrite, TYPE_OBJECT, TYPE_OBJECT);
+                mvWrite.visitMethodInsn(INVOKEINTERFACE, TYPE_WRITER.getInternalName(), "writeObject",
+                        Type.getMethodDescriptor(Type.VOID_TYPE, Type.INT_TYPE, TYPE_OBJECT), true);
+                }
+            else
+                {
+                // codec.encode(out, iProp, get(value))
+                mvWrite.visitLdcInsn(oCodec);
+                mvWrite.visitVarInsn(ALOAD, 1);
+                mvWrite.visitLdcInsn(iProp);
+                mvWrite.visitLdcInsn(oGet);
+                mvWrite.visitVarInsn(ALOAD, 2);
+                invokeExact(mvWrite, TYPE_OBJECT, TYPE_OBJECT);
+                mvWrite.visitMethodInsn(INVOKEINTERFACE, TYPE_CODEC.getInternalName(), "encode",
+                        Type.getMethodDescriptor(Type.VOID_TYPE, TYPE_WRITER, Type.INT_TYPE, TYPE_OBJECT), true);
+                }
+
+            // read the property
+            if (fDefault && clzSet.isPrimitive())
+                {
+                // if (Accessor.isPresent(in, iProp)) set(value, in.readXyz(iProp))
+                Label labelSkip = new Label();
+                mvRead.visitVarInsn(ALOAD, 1);
+                mvRead.visitLdcInsn(iProp);
+                mvRead.visitMethodInsn(INVOKESTATIC, Type.getInternalName(Accessor.class), "isPresent",
+                        Type.getMethodDescriptor(Type.BOOLEAN_TYPE, TYPE_READER, Type.INT_TYPE), false);
+                mvRead.visitJumpInsn(IFEQ, labelSkip);
+                mvRead.visitLdcInsn(oSet);
+                mvRead.visitVarInsn(ALOAD, 2);
+                mvRead.visitVarInsn(ALOAD, 1);
+                mvRead.visitLdcInsn(iProp);
+                mvRead.visitMethodInsn(INVOKEINTERFACE, TYPE_READER.getInternalName(),
+                        "read" + getPrimitiveName(typeSet), Type.getMethodDescriptor(typeSet, Type.INT_TYPE), true);
+                invokeExact(mvRead, Type.VOID_TYPE, TYPE_OBJECT, typeSet);
+                mvRead.visitLabel(labelSkip);
+                }
+            else if (clzSet.isPrimitive())
+                {
+                // Object o = codec.decode(in, iProp); if (o != null) set(value, unbox(o))
+                Label labelNull = new Label();
+                Label labelEnd  = new Label();
+                mvRead.visitLdcInsn(oCodec);
+                mvRead.visitVarInsn(ALOAD, 1);
+                mvRead.visitLdcInsn(iProp);
+                mvRead.visitMethodInsn(INVOKEINTERFACE, TYPE_CODEC.getInternalName(), "decode",
+                        Type.getMethodDescriptor(TYPE_OBJECT, TYPE_READER, Type.INT_TYPE), true);
+                mvRead.visitInsn(DUP);
+                mvRead.visitJumpInsn(IFNULL, labelNull);
+                mvRead.visitLdcInsn(oSet);
+                mvRead.visitInsn(SWAP);
+                mvRead.visitVarInsn(ALOAD, 2);
+                mvRead.visitInsn(SWAP);
+                unbox(mvRead, typeSet);
+                invokeExact(mvRead, Type.VOID_TYPE, TYPE_OBJECT, typeSet);
+                mvRead.visitJumpInsn(GOTO, labelEnd);
+                mvRead.visitLabel(labelNull);
+                mvRead.visitInsn(POP);
+                mvRead.visitLabel(labelEnd);
+                }
+            else
+                {
+                // set(value, in.readObject(iProp)) or set(value, codec.decode(in, iProp))
+                mvRead.visitLdcInsn(oSet);
+                mvRead.visitVarInsn(ALOAD, 2);
+                if (fDefault)
+                    {
+                    mvRead.visitVarInsn(ALOAD, 1);
+                    mvRead.visitLdcInsn(iProp);
+                    mvRead.visitMethodInsn(INVOKEINTERFACE, TYPE_READER.getInternalName(), "readObject",
+                            Type.getMethodDescriptor(TYPE_OBJECT, Type.INT_TYPE), true);
+                    }
+                else
+                    {
+                    mvRead.visitLdcInsn(oCodec);
+                    mvRead.visitVarInsn(ALOAD, 1);
+                    mvRead.visitLdcInsn(iProp);
+                    mvRead.visitMethodInsn(INVOKEINTERFACE, TYPE_CODEC.getInternalName(), "decode",
+                            Type.getMethodDescriptor(TYPE_OBJECT, TYPE_READER, Type.INT_TYPE), true);
+                    }
+                invokeExact(mvRead, Type.VOID_TYPE, TYPE_OBJECT, TYPE_OBJECT);
+                }
+            }
+
+        mvWrite.visitInsn(RETURN);
+        mvWrite.visitMaxs(0, 0);
+        mvWrite.visitEnd();
+        mvRead.visitInsn(RETURN);
+        mvRead.visitMaxs(0, 0);
+        mvRead.visitEnd();
+
+        cw.visitEnd();
+
+        Class<?> clzAccessor = lookup.defineHiddenClassWithClassData(cw.toByteArray(), List.copyOf(listData), true)
+                .lookupClass();
+
+        return (Accessor) clzAccessor.getDeclaredConstructor().newInstance();
+        }
+
+    /**
+     * Add the specified value to the class data of the generated class, and
+     * return a dynamic constant that loads it.
+     *
+     * @param listData  the class data
+     * @param oValue    the value to add
+     *
+     * @return the dynamic constant that loads the value
+     */
+    private static ConstantDynamic classData(List<Object> listData, Object oValue)
+        {
+        int    nIndex = listData.size();
+        String sDesc  = oValue instanceof MethodHandle
+                        ? Type.getDescriptor(MethodHandle.class)
+                        : TYPE_CODEC.getDescriptor();
+
+        listData.add(oValue);
+
+        return new ConstantDynamic("_", sDesc, BSM_CLASS_DATA_AT, nIndex);
+        }
+
+    /**
+     * Emit an invocation of {@link MethodHandle#invokeExact} on a method
+     * handle (followed by its arguments) that is on the operand stack.
+     *
+     * @param mv          the method visitor
+     * @param typeReturn  the return type of the method handle
+     * @param aTypeArg    the parameter types of the method handle
+     */
+    private static void invokeExact(MethodVisitor mv, Type typeReturn, Type... aTypeArg)
+        {
+        mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(MethodHandle.class), "invokeExact",
+                Type.getMethodDescriptor(typeReturn, aTypeArg), false);
+        }
+
+    /**
+     * Emit the conversion of the boxed value on top of the operand stack to
+     * the specified primitive type.
+     *
+     * @param mv    the method visitor
+     * @param type  the primitive type
+     */
+    private static void unbox(MethodVisitor mv, Type type)
+        {
+        String sOwner;
+        switch (type.getSort())
+            {
+            case Type.BOOLEAN:
+                sOwner = Type.getInternalName(Boolean.class);
+                break;
+            case Type.CHAR:
+                sOwner = Type.getInternalName(Character.class);
+                break;
+            default:
+                sOwner = Type.getInternalName(Number.class);
+                break;
+            }
+
+        mv.visitTypeInsn(CHECKCAST, sOwner);
+        mv.visitMethodInsn(INVOKEVIRTUAL, sOwner, type.getClassName() + "Value",
+                Type.getMethodDescriptor(type), false);
+        }
+
+    /**
+     * Return the capitalized name of the specified primitive type, as used
+     * by the primitive {@link PofReader} and {@link PofWriter} methods.
+     *
+     * @param type  the primitive type
+     *
+     * @return the capitalized name of the type
+     */
+    private static String getPrimitiveName(Type type)
+        {
+        String sName = type.getClassName();
+        return Character.toUpperCase(sName.charAt(0)) + sName.substring(1);
+        }
+
+    /**
+     * Return the class used in a method handle type for the specified
+     * (possibly erased) type.
+     *
+     * @param type  the erased type
+     * @param clz   the declared class
+     *
+     * @return {@code clz} if {@code type} is primitive, otherwise
+     *         {@code Object.class}
+     */
+    private static Class<?> toClass(Type type, Class<?> clz)
+        {
+        return type.getSort() == Type.OBJECT ? Object.class : clz;
+        }
+
+    /**
+     * Ensure that the specified member can be accessed by a generated
+     * accessor.
+     *
+     * @param nModifiers  the member modifiers
+     * @param sName       the member name
+     *
+     * @throws UnsupportedOperationException  if the member is static
+     */
+    private static void ensureInstanceMember(int nModifiers, String sName)
+        {
+        if (Modifier.isStatic(nModifiers))
+            {
+            throw new UnsupportedOperationException("static portable property " + sName);
+            }
+        }
+
+    // ----- inner class: Accessor ------------------------------------------
+
+    /**
+     * The base class of generated property accessors.
+     */
+    protected abstract static class Accessor
+        {
+        /**
+         * Create a new instance of the user type.
+         *
+         * @return a new instance of the user type
+         */
+        public abstract Object newInstance();
+
+        /**
+         * Write the portable properties of the specified value.
+         *
+         * @param out    the PofWriter to write to
+         * @param value  the value to write the properties of
+         *
+         * @throws IOException  if an I/O error occurs
+         */
+        public abstract void writeProperties(PofWriter out, Object value) throws IOException;
+
+        /**
+         * Read the portable properties of the specified value.
+         *
+         * @param in     the PofReader to read from
+         * @param value  the value to set the properties of
+         *
+         * @throws IOException  if an I/O error occurs
+         */
+        public abstract void readProperties(PofReader in, Object value) throws IOException;
+
+        // ----- helpers ----------------------------------------------------
+
+        /**
+         * Return {@code true} if the specified property is present in the
+         * POF stream.
+         * <p>
+         * Absent primitive properties are left unchanged, consistent with
+         * the reflection based serializer, which reads them as {@code null}.
+         *
+         * @param in     the PofReader to read from
+         * @param iProp  the property index
+         *
+         * @return {@code true} if the property is present
+         *
+         * @throws IOException  if an I/O error occurs
+         */
+        protected static boolean isPresent(PofReader in, int iProp) throws IOException
+            {
+            return !(in instanceof PofBufferReader.UserTypeReader)
+                   || ((PofBufferReader.UserTypeReader) in).advanceTo(iProp);
+            }
+
+        // the primitive writers below encode values exactly as writeObject()
+        // encodes the corresponding boxed value, so that default values are
+        // not skipped and the serialized form matches PofAnnotationSerializer
+
+        protected static void writeBoolean(PofWriter out, int iProp, boolean f) throws IOException
+            {
+            if (out instanceof PofBufferWriter)
+                {
+                ((PofBufferWriter) out).writeBoolean(iProp, f, true);
+                }
+            else
+                {
+                out.writeObject(iProp, f);
+                }
+            }
+
+        protected static void writeByte(PofWriter out, int iProp, byte b) throws IOException
+            {
+            if (out instanceof PofBufferWriter)
+                {
+                ((PofBufferWriter) out).writeByte(iProp, b, true);
+                }
+            else
+                {
+                out.writeObject(iProp, b);
+                }
+            }
+
+        protected static void writeChar(PofWriter out, int iProp, char ch) throws IOException
+            {
+            if (out instanceof PofBufferWriter)
+                {
+                ((PofBufferWriter) out).writeChar(iProp, ch, true);
+                }
+            else
+                {
+                out.writeObject(iProp, ch);
+                }
+            }
+
+        protected static void writeShort(PofWriter out, int iProp, short n) throws IOException
+            {
+            if (out instanceof PofBufferWriter)
+                {
+                ((PofBufferWriter) out).writeShort(iProp, n, true);
+                }
+            else
+                {
+                out.writeObject(iProp, n);
+                }
+            }
+
+        protected static void writeInt(PofWriter out, int iProp, int n) throws IOException
+            {
+            if (out instanceof PofBufferWriter)
+                {
+                ((PofBufferWriter) out).writeInt(iProp, n, true);
+                }
+            else
+                {
+                out.writeObject(iProp, n);
+                }
+            }
+
+        protected static void writeLong(PofWriter out, int iProp, long n) throws IOException
+            {
+            if (out instanceof PofBufferWriter)
+                {
+                ((PofBufferWriter) out).writeLong(iProp, n, true);
+                }
+            else
+                {
+                out.writeObject(iProp, n);
+                }
+            }
+
+        protected static void writeFloat(PofWriter out, int iProp, float fl) throws IOException
+            {
+            if (out instanceof PofBufferWriter)
+                {
+                ((PofBufferWriter) out).writeFloat(iProp, fl, true);
+                }
+            else
+                {
+                out.writeObject(iProp, fl);
+                }
+            }
+
+        protected static void writeDouble(PofWriter out, int iProp, double dfl) throws IOException
+            {
+            if (out instanceof PofBufferWriter)
+                {
+                ((PofBufferWriter) out).writeDouble(iProp, dfl, true);
+                }
+            else
+                {
+                out.writeObject(iProp, dfl);
+                }
+            }
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The Object type.
+     */
+    private static final Type TYPE_OBJECT = Type.getType(Object.class);
+
+    /**
+     * The PofWriter type.
+     */
+    private static final Type TYPE_WRITER = Type.getType(PofWriter.class);
+
+    /**
+     * The PofReader type.
+     */
+    private static final Type TYPE_READER = Type.getType(PofReader.class);
+
+    /**
+     * The Codec type.
+     */
+    private static final Type TYPE_CODEC = Type.getType(Codec.class);
+
+    /**
+     * The bootstrap method used to load class data constants.
+     */
+    private static final Handle BSM_CLASS_DATA_AT = new Handle(H_INVOKESTATIC,
+            Type.getInternalName(MethodHandles.class), "classDataAt",
+            Type.getMethodDescriptor(TYPE_OBJECT, Type.getType(MethodHandles.Lookup.class),
+                    Type.getType(String.class), Type.getType(Class.class), Type.INT_TYPE),
+            false);
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The user type this serializer (de)serializes.
+     */
+    private final Class<T> f_clz;
+
+    /**
+     * The generated accessor, or {@code null} if it has not been generated.
+     */
+    private volatile Accessor m_accessor;
+
+    /**
+     * True if an accessor could not be generated and reflection is used.
+     */
+    private volatile boolean m_fReflective;
+    }
@@ -125,7 +125,10 @@ import java.util.stream.Collectors;
 *     <tt>serializer</tt> is specified, either implement the PortableObject
 *     interface or have a {@link Portable} annotation. If the former, a
 *     {@link PortableObjectSerializer} will be used. If the later, a
-*     {@link PofAnnotationSerializer} will be used.</li>
+*     {@link PofAnnotationSerializer} will be used, or a
+*     {@link CompiledPofAnnotationSerializer} if the
+*     {@link #PROPERTY_COMPILE_SERIALIZERS coherence.pof.serializer.compiled}
+*     system property is set to <tt>true</tt>.</li>
 * </ul>
 * <p>
 * The optional <tt>include</tt> element allows <tt>user-type</tt> elements
@@ -1122,7 +1125,9 @@ public class ConfigurablePofContext
                     }
                 else
                     {
-                    serializer = new PofAnnotationSerializer(nTypeId, clz);
+                    serializer = COMPILE_SERIALIZERS
+                                 ? new CompiledPofAnnotationSerializer(nTypeId, clz)
+                                 : new PofAnnotationSerializer(nTypeId, clz);
                     }
                 }
             else
@@ -1788,6 +1793,27 @@ public class ConfigurablePofContext
     public static final String DEFAULT_RESOURCE =
             Config.getProperty(PROPERTY_CONFIG, "pof-config.xml");
 
+    /**
+    * The name of the system property (<tt>"coherence.pof.serializer.compiled"</tt>)
+    * that can be used to enable runtime generation of serializer code for
+    * user types that are annotated with {@link Portable} and have no
+    * explicitly configured serializer.
+    * <p>
+    * When set to <tt>true</tt> a {@link CompiledPofAnnotationSerializer} is
+    * used for such types instead of a {@link PofAnnotationSerializer}. The
+    * default value is <tt>false</tt>.
+    *
+    * @since 25.03
+    */
+    public static final String PROPERTY_COMPILE_SERIALIZERS = "coherence.pof.serializer.compiled";
+
+    /**
+    * True if serializers for {@link Portable} annotated user types should be
+    * generated at runtime.
+    */
+    protected static final boolean COMPILE_SERIALIZERS =
+            Config.getBoolean(PROPERTY_COMPILE_SERIALIZERS, false);
+
     /**
      * Marker serving as the implicit root class for all lambdas.
      */
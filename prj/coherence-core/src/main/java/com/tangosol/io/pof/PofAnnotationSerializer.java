@@ -122,11 +122,7 @@ public class PofAnnotationSerializer<T>
                     evolvable.getImplVersion()));
             }
 
-        for (Iterator<AttributeMetadata<T>> iter = m_tmd.getAttributes(); iter.hasNext(); )
-            {
-            TypeMetadata.AttributeMetadata<T> attr = iter.next();
-            attr.getCodec().encode(out, attr.getIndex(), attr.get((T) o));
-            }
+        writeProperties(out, (T) o);
 
         // write out any future properties
         Binary binRemainder = null;
@@ -142,8 +138,7 @@ public class PofAnnotationSerializer<T>
      */
     public Object deserialize(PofReader in) throws IOException
         {
-        TypeMetadata<T> tmd = m_tmd;
-        T value = tmd.newInstance();
+        T value = newInstance();
 
         // set the version identifier
         boolean   fEvolvable = value instanceof Evolvable;
@@ -154,11 +149,7 @@ public class PofAnnotationSerializer<T>
             evolvable.setDataVersion(in.getVersionId());
             }
 
-        for (Iterator<TypeMetadata.AttributeMetadata<T>> iter = tmd.getAttributes(); iter.hasNext(); )
-            {
-            TypeMetadata.AttributeMetadata<T> attr = iter.next();
-            attr.set(value, attr.getCodec().decode(in, attr.getIndex()));
-            }
+        readProperties(in, value);
 
         // read any future properties
         Binary binRemainder = in.readRemainder();
@@ -171,6 +162,50 @@ public class PofAnnotationSerializer<T>
 
     // ----- helpers --------------------------------------------------------
 
+    /**
+     * Create a new instance of the class this serializer (de)serializes.
+     *
+     * @return a new instance of the user type
+     */
+    protected T newInstance()
+        {
+        return m_tmd.newInstance();
+        }
+
+    /**
+     * Write the portable properties of the specified value to the POF stream.
+     *
+     * @param out    the PofWriter to write to
+     * @param value  the value to write the properties of
+     *
+     * @throws IOException  if an I/O error occurs
+     */
+    protected void writeProperties(PofWriter out, T value) throws IOException
+        {
+        for (Iterator<AttributeMetadata<T>> iter = m_tmd.getAttributes(); iter.hasNext(); )
+            {
+            AttributeMetadata<T> attr = iter.next();
+            attr.getCodec().encode(out, attr.getIndex(), attr.get(value));
+            }
+        }
+
+    /**
+     * Read the portable properties of the specified value from the POF stream.
+     *
+     * @param in     the PofReader to read from
+     * @param value  the value to set the properties of
+     *
+     * @throws IOException  if an I/O error occurs
+     */
+    protected void readProperties(PofReader in, T value) throws IOException
+        {
+        for (Iterator<AttributeMetadata<T>> iter = m_tmd.getAttributes(); iter.hasNext(); )
+            {
+            AttributeMetadata<T> attr = iter.next();
+            attr.set(value, attr.getCodec().decode(in, attr.getIndex()));
+            }
+        }
+
     /**
      * Return the {@link TypeMetadata} instance that holds structural information
      * regarding the class this serializer (de)serializes.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2021, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -293,7 +293,11 @@ public abstract class AbstractPofValue
     */
     public long getLong()
         {
-        return ((Long) getValue(PofConstants.T_INT64)).longValue();
+        // read an unmodified, non-null value directly from the buffer to
+        // avoid materializing a Long
+        return m_oValue == NO_VALUE && m_nType != PofConstants.V_REFERENCE_NULL
+                ? new PofValueReader().readLongValue()
+                : ((Long) getValue(PofConstants.T_INT64)).longValue();
         }
 
     /**
@@ -309,7 +313,11 @@ public abstract class AbstractPofValue
     */
     public double getDouble()
         {
-        return ((Double) getValue(PofConstants.T_FLOAT64)).doubleValue();
+        // read an unmodified, non-null value directly from the buffer to
+        // avoid materializing a Double
+        return m_oValue == NO_VALUE && m_nType != PofConstants.V_REFERENCE_NULL
+                ? new PofValueReader().readDoubleValue()
+                : ((Double) getValue(PofConstants.T_FLOAT64)).doubleValue();
         }
 
     /**
@@ -707,6 +715,17 @@ public abstract class AbstractPofValue
         return m_cbDirty;
         }
 
+    /**
+    * Get the number of values within this POF value hierarchy that have been
+    * modified.
+    *
+    * @return the number of dirty values
+    */
+    protected int getDirtyValuesCount()
+        {
+        return m_cDirty;
+        }
+
     /**
     * Increment the counter representing the number of values within this POF
     * hierarchy that have been modified.
@@ -769,6 +788,46 @@ public abstract class AbstractPofValue
                 }
             }
 
+        /**
+        * Return the value which this PofValue represents as a <tt>long</tt>,
+        * without boxing it.
+        *
+        * @return the <tt>long</tt> value
+        */
+        public long readLongValue()
+            {
+            try
+                {
+                return isUniformEncoded()
+                        ? PofHelper.readAsLong(m_in, m_nType)
+                        : readLong(0);
+                }
+            catch (IOException e)
+                {
+                throw ensureRuntimeException(e);
+                }
+            }
+
+        /**
+        * Return the value which this PofValue represents as a <tt>double</tt>,
+        * without boxing it.
+        *
+        * @return the <tt>double</tt> value
+        */
+        public double readDoubleValue()
+            {
+            try
+                {
+                return isUniformEncoded()
+                        ? PofHelper.readAsDouble(m_in, m_nType)
+                        : readDouble(0);
+                }
+            catch (IOException e)
+                {
+                throw ensureRuntimeException(e);
+                }
+            }
+
         /**
         * Return the deserialized value which this PofValue represents.
         *
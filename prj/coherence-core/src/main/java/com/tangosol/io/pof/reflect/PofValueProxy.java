@@ -0,0 +1,583 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.io.pof.reflect;
+
+import com.tangosol.io.ReadBuffer;
+
+import com.tangosol.io.pof.PofConstants;
+import com.tangosol.io.pof.PofContext;
+import com.tangosol.io.pof.PofHelper;
+
+import com.tangosol.io.pof.annotation.PortableProperty;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.ClassHelper;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PofValueProxy provides a typed, lazily decoded view of a POF-encoded
+ * user type.
+ * <p>
+ * The view is described by an interface whose accessor methods are annotated
+ * with {@link PortableProperty}, where the annotation value is the index of
+ * the property within the POF stream. A getter decodes only the property it
+ * returns, and a setter records a change to a single property; all other
+ * properties are left in their serialized form. For example, an entry
+ * processor that increments the age of a person can be written as:
+ * <pre>
+ * public interface PersonView
+ *     {
+ *     &#64;PortableProperty(5)
+ *     int getAge();
+ *
+ *     &#64;PortableProperty(5)
+ *     void setAge(int nAge);
+ *     }
+ *
+ * PersonView view = PofValueProxy.create(PersonView.class, binEntry);
+ * view.setAge(view.getAge() + 1);
+ * PofValueProxy.commit(view);
+ * </pre>
+ * The underlying {@link PofValue} is parsed once per {@link Binary}, and the
+ * offsets of the properties that have been accessed are retained, so
+ * accessing several properties of a large value does not deserialize it.
+ * When the view is committed, only the modified properties are written, and
+ * the new value is produced by applying a POF delta to the original binary
+ * (see {@link PofValue#applyChanges()}).
+ * <p>
+ * A getter whose return type is itself a view interface (i.e. an interface
+ * with methods annotated with {@link PortableProperty}) returns a nested view
+ * over the corresponding property, and any changes made through the nested
+ * view are applied when the outermost view is committed. Default methods of
+ * a view interface are invoked as usual.
+ * <p>
+ * A view is not thread-safe, and is intended to be used by a single thread
+ * for the duration of an entry processor or extractor invocation.
+ *
+ * @since 25.03
+ */
+public class PofValueProxy
+        implements InvocationHandler
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a PofValueProxy for the root of a POF value.
+     *
+     * @param clz    the view interface
+     * @param value  the root PofValue
+     * @param ctx    the PofContext
+     * @param entry  the entry the value belongs to, or null
+     */
+    protected PofValueProxy(Class<?> clz, PofValue value, PofContext ctx, BinaryEntry<?, ?> entry)
+        {
+        f_clz     = clz;
+        f_ctx     = ctx;
+        f_entry   = entry;
+        f_parent  = null;
+        f_nIndex  = -1;
+        m_value   = value;
+        }
+
+    /**
+     * Construct a PofValueProxy for a property of another view.
+     *
+     * @param clz     the view interface
+     * @param parent  the PofValueProxy of the parent view
+     * @param nIndex  the index of the property within the parent value
+     */
+    protected PofValueProxy(Class<?> clz, PofValueProxy parent, int nIndex)
+        {
+        f_clz     = clz;
+        f_ctx     = parent.f_ctx;
+        f_entry   = null;
+        f_parent  = parent;
+        f_nIndex  = nIndex;
+        }
+
+    // ----- factory methods ------------------------------------------------
+
+    /**
+     * Create a view of the specified POF-encoded value.
+     *
+     * @param clz  the view interface
+     * @param buf  the buffer containing the POF-encoded value
+     * @param ctx  the PofContext used to encode the value
+     * @param <T>  the type of the view
+     *
+     * @return a view of the specified value
+     */
+    public static <T> T create(Class<T> clz, ReadBuffer buf, PofContext ctx)
+        {
+        return newProxy(clz, new PofValueProxy(clz, PofValueParser.parse(buf, ctx), ctx, null));
+        }
+
+    /**
+     * Create a view of the value of the specified POF-encoded entry.
+     * <p>
+     * Changes made through the returned view are written to the entry by
+     * {@link #commit(Object)}.
+     *
+     * @param clz    the view interface
+     * @param entry  the entry whose value to create a view of
+     * @param <T>    the type of the view
+     *
+     * @return a view of the entry value, or null if the entry is not present
+     *
+     * @throws UnsupportedOperationException  if the entry serializer is not a
+     *         PofContext
+     */
+    public static <T> T create(Class<T> clz, BinaryEntry<?, ?> entry)
+        {
+        if (!(entry.getSerializer() instanceof PofContext))
+            {
+            throw new UnsupportedOperationException(
+                    "PofValueProxy must be used with POF-encoded entries; "
+                    + "the configured Serializer is not a PofContext");
+            }
+
+        Binary binValue = entry.getBinaryValue();
+        if (binValue == null)
+            {
+            return null;
+            }
+
+        PofContext ctx = (PofContext) entry.getSerializer();
+        return newProxy(clz, new PofValueProxy(clz, PofValueParser.parse(binValue, ctx), ctx, entry));
+        }
+
+    // ----- view helpers ---------------------------------------------------
+
+    /**
+     * Return the {@link PofValue} that backs the specified view.
+     *
+     * @param oView  a view created by this class
+     *
+     * @return the PofValue that backs the view
+     */
+    public static PofValue getPofValue(Object oView)
+        {
+        return ensureHandler(oView).getValue();
+        }
+
+    /**
+     * Determine whether any properties have been changed through the
+     * specified view (or any other view of the same root value).
+     *
+     * @param oView  a view created by this class
+     *
+     * @return true if the root value has uncommitted changes
+     */
+    public static boolean isDirty(Object oView)
+        {
+        return ((AbstractPofValue) ensureHandler(oView).getRoot().m_value).getDirtyValuesCount() > 0;
+        }
+
+    /**
+     * Apply the changes made through the specified view (or any other view
+     * of the same root value) and return the resulting value.
+     *
+     * @param oView  a view created by this class
+     *
+     * @return the Binary value with all changes applied
+     */
+    public static Binary applyChanges(Object oView)
+        {
+        return ensureHandler(oView).getRoot().m_value.applyChanges();
+        }
+
+    /**
+     * Write the changes made through the specified view (or any other view
+     * of the same root value) to the entry the view was created for.
+     * <p>
+     * The entry is only updated if there are changes to write, and the view
+     * remains usable after the changes have been committed.
+     *
+     * @param oView  a view created by {@link #create(Class, BinaryEntry)}
+     *
+     * @return true if the entry was updated
+     *
+     * @throws IllegalStateException  if the view was not created for an entry
+     */
+    public static boolean commit(Object oView)
+        {
+        PofValueProxy     root  = ensureHandler(oView).getRoot();
+        BinaryEntry<?, ?> entry = root.f_entry;
+        if (entry == null)
+            {
+            throw new IllegalStateException("The view was not created for a BinaryEntry");
+            }
+
+        PofValue value = root.m_value;
+        if (((AbstractPofValue) value).getDirtyValuesCount() == 0)
+            {
+            return false;
+            }
+
+        Binary binValue = value.applyChanges();
+        entry.updateBinaryValue(binValue);
+
+        // re-parse the new value; nested views resolve their values lazily
+        root.m_value = PofValueParser.parse(binValue, root.f_ctx);
+        return true;
+        }
+
+    // ----- InvocationHandler interface ------------------------------------
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] aoArgs)
+            throws Throwable
+        {
+        if (method.getDeclaringClass() == Object.class)
+            {
+            switch (method.getName())
+                {
+                case "equals":
+                    return proxy == aoArgs[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return toString();
+                }
+            }
+
+        if (method.isDefault())
+            {
+            return InvocationHandler.invokeDefault(proxy, method, aoArgs);
+            }
+
+        Property property = s_mapProperty.get(method.getDeclaringClass()).computeIfAbsent(method, Property::new);
+        if (property.isGetter())
+            {
+            return property.isView()
+                   ? ensureNestedView(property)
+                   : property.get(getValue().getChild(property.getIndex()), f_ctx);
+            }
+
+        getValue().getChild(property.getIndex()).setValue(aoArgs[0]);
+
+        return method.getReturnType().isInstance(proxy) ? proxy : null;
+        }
+
+    // ----- Object methods -------------------------------------------------
+
+    @Override
+    public String toString()
+        {
+        return ClassHelper.getSimpleName(getClass())
+               + "(type=" + f_clz.getName()
+               + (f_parent == null ? "" : ", index=" + f_nIndex) + ')';
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Return the PofValue this view is backed by.
+     *
+     * @return the PofValue this view is backed by
+     */
+    protected PofValue getValue()
+        {
+        PofValueProxy parent = f_parent;
+        return parent == null ? m_value : parent.getValue().getChild(f_nIndex);
+        }
+
+    /**
+     * Return the handler of the outermost view.
+     *
+     * @return the handler of the outermost view
+     */
+    protected PofValueProxy getRoot()
+        {
+        PofValueProxy handler = this;
+        while (handler.f_parent != null)
+            {
+            handler = handler.f_parent;
+            }
+        return handler;
+        }
+
+    /**
+     * Return the nested view for the specified property, creating it if
+     * necessary.
+     *
+     * @param property  the property
+     *
+     * @return the nested view
+     */
+    protected Object ensureNestedView(Property property)
+        {
+        Map<Integer, Object> mapView = m_mapView;
+        if (mapView == null)
+            {
+            m_mapView = mapView = new HashMap<>();
+            }
+
+        return mapView.computeIfAbsent(property.getIndex(), nIndex ->
+                {
+                Class<?> clz = property.getType();
+                return newProxy(clz, new PofValueProxy(clz, this, nIndex));
+                });
+        }
+
+    /**
+     * Create a proxy for the specified view interface.
+     *
+     * @param clz      the view interface
+     * @param handler  the handler for the proxy
+     * @param <T>      the type of the view
+     *
+     * @return a new proxy
+     */
+    @SuppressWarnings("unchecked")
+    protected static <T> T newProxy(Class<T> clz, PofValueProxy handler)
+        {
+        if (!clz.isInterface())
+            {
+            throw new IllegalArgumentException(clz.getName() + " is not an interface");
+            }
+        return (T) Proxy.newProxyInstance(clz.getClassLoader(), new Class<?>[] {clz}, handler);
+        }
+
+    /**
+     * Return the PofValueProxy for the specified view.
+     *
+     * @param oView  a view created by this class
+     *
+     * @return the PofValueProxy for the view
+     *
+     * @throws IllegalArgumentException  if the object is not a view
+     */
+    protected static PofValueProxy ensureHandler(Object oView)
+        {
+        if (oView != null && Proxy.isProxyClass(oView.getClass()))
+            {
+            InvocationHandler handler = Proxy.getInvocationHandler(oView);
+            if (handler instanceof PofValueProxy)
+                {
+                return (PofValueProxy) handler;
+                }
+            }
+        throw new IllegalArgumentException("Not a PofValueProxy view: " + oView);
+        }
+
+    /**
+     * Determine whether the specified class is a view interface.
+     *
+     * @param clz  the class to check
+     *
+     * @return true if the class is an interface that declares methods
+     *         annotated with {@link PortableProperty}
+     */
+    protected static boolean isViewType(Class<?> clz)
+        {
+        if (clz.isInterface())
+            {
+            for (Method method : clz.getMethods())
+                {
+                if (method.isAnnotationPresent(PortableProperty.class))
+                    {
+                    return true;
+                    }
+                }
+            }
+        return false;
+        }
+
+    // ----- inner class: Property ------------------------------------------
+
+    /**
+     * The metadata for a view accessor method.
+     * <p>
+     * The metadata is independent of any PofContext; the POF type identifier
+     * of a user type is resolved using the context of each view, as it may
+     * differ between contexts.
+     */
+    protected static class Property
+        {
+        /**
+         * Construct the Property for the specified accessor method.
+         *
+         * @param method  the accessor method
+         *
+         * @throws UnsupportedOperationException  if the method is not an
+         *         annotated getter or setter
+         */
+        protected Property(Method method)
+            {
+            PortableProperty anno = method.getAnnotation(PortableProperty.class);
+            int              cArg = method.getParameterCount();
+            if (anno == null || cArg > 1 || (cArg == 0 && method.getReturnType() == void.class))
+                {
+                throw new UnsupportedOperationException("Method " + method
+                        + " is not a getter or setter annotated with @PortableProperty");
+                }
+
+            f_nIndex  = anno.value();
+            f_fGetter = cArg == 0;
+            f_clz     = f_fGetter ? method.getReturnType() : method.getParameterTypes()[0];
+            f_fView   = f_fGetter && isViewType(f_clz);
+            }
+
+        /**
+         * Return the property index.
+         *
+         * @return the property index
+         */
+        public int getIndex()
+            {
+            return f_nIndex;
+            }
+
+        /**
+         * Return the property type.
+         *
+         * @return the property type
+         */
+        public Class<?> getType()
+            {
+            return f_clz;
+            }
+
+        /**
+         * Return true if the method is a getter.
+         *
+         * @return true if the method is a getter
+         */
+        public boolean isGetter()
+            {
+            return f_fGetter;
+            }
+
+        /**
+         * Return true if the getter returns a nested view.
+         *
+         * @return true if the getter returns a nested view
+         */
+        public boolean isView()
+            {
+            return f_fView;
+            }
+
+        /**
+         * Decode the property value.
+         *
+         * @param value  the PofValue of the property
+         * @param ctx    the PofContext
+         *
+         * @return the decoded property value
+         */
+        public Object get(PofValue value, PofContext ctx)
+            {
+            Class<?> clz = f_clz;
+            if (clz == Object.class)
+                {
+                return value.getValue();
+                }
+
+            int nType = m_nType;
+            if (nType == PofConstants.T_UNKNOWN)
+                {
+                nType = PofHelper.getPofTypeId(clz, ctx);
+                if (nType < 0)
+                    {
+                    // intrinsic types have the same identifier in any context
+                    m_nType = nType;
+                    }
+                }
+            return value.getValue(nType);
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The property index.
+         */
+        private final int f_nIndex;
+
+        /**
+         * True if the method is a getter.
+         */
+        private final boolean f_fGetter;
+
+        /**
+         * The property type.
+         */
+        private final Class<?> f_clz;
+
+        /**
+         * True if the getter returns a nested view.
+         */
+        private final boolean f_fView;
+
+        /**
+         * The cached POF type identifier of the property type, if it is an
+         * intrinsic type.
+         */
+        private volatile int m_nType = PofConstants.T_UNKNOWN;
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The cache of Property metadata for each view interface, keyed by view
+     * accessor method. The cache is associated with the interface itself,
+     * so that it does not prevent the interface from being unloaded.
+     */
+    private static final ClassValue<Map<Method, Property>> s_mapProperty = new ClassValue<>()
+        {
+        @Override
+        protected Map<Method, Property> computeValue(Class<?> clz)
+            {
+            return new ConcurrentHashMap<>();
+            }
+        };
+
+    /**
+     * The view interface.
+     */
+    private final Class<?> f_clz;
+
+    /**
+     * The PofContext.
+     */
+    private final PofContext f_ctx;
+
+    /**
+     * The entry the outermost view was created for, or null.
+     */
+    private final BinaryEntry<?, ?> f_entry;
+
+    /**
+     * The handler of the parent view, or null for the outermost view.
+     */
+    private final PofValueProxy f_parent;
+
+    /**
+     * The index of the property within the parent value.
+     */
+    private final int f_nIndex;
+
+    /**
+     * The root PofValue (outermost view only).
+     */
+    private PofValue m_value;
+
+    /**
+     * The nested views, keyed by property index.
+     */
+    private Map<Integer, Object> m_mapView;
+    }
@@ -482,6 +482,17 @@ public class ClassMetadata<T>
 
         // ----- accessors --------------------------------------------------
 
+        /**
+         * Return the {@link InvocationStrategy} used to get and set values of
+         * this attribute.
+         *
+         * @return the invocation strategy used to get and set values
+         */
+        public InvocationStrategy<T, Object> getInvocationStrategy()
+            {
+            return m_invocationStrategy;
+            }
+
         /**
          * Specify the attribute name.
          *
@@ -114,6 +114,18 @@ public class InvocationStrategies
                 }
             }
 
+        // ----- accessors --------------------------------------------------
+
+        /**
+         * Return the {@link Field} this strategy uses to get and set values.
+         *
+         * @return the field used to get and set values
+         */
+        public Field getField()
+            {
+            return m_field;
+            }
+
         // ----- data members -----------------------------------------------
 
         /**
@@ -233,6 +245,26 @@ public class InvocationStrategies
             return (Class<T>) m_methGetter.getReturnType();
             }
 
+        /**
+         * Return the {@link Method} this strategy uses to get the value.
+         *
+         * @return the get accessor
+         */
+        public Method getGetter()
+            {
+            return m_methGetter;
+            }
+
+        /**
+         * Return the {@link Method} this strategy uses to set the value.
+         *
+         * @return the set accessor
+         */
+        public Method getSetter()
+            {
+            return m_methSetter;
+            }
+
         // ----- helpers ----------------------------------------------------
 
         /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -61,6 +61,14 @@ public abstract class AbstractPriorityTask
         return m_lRequestTimeout;
         }
 
+    /**
+    * {@inheritDoc}
+    */
+    public int getParallelism()
+        {
+        return m_nParallelism;
+        }
+
     /**
     * {@inheritDoc}
     * <p>
@@ -118,6 +126,29 @@ public abstract class AbstractPriorityTask
         m_lRequestTimeout = lTimeout;
         }
 
+    /**
+    * Specify the maximum number of worker threads a service may concurrently
+    * use to execute this task against a single storage member.
+    * <p>
+    * Note that the parallelism is carried to the storage members by the
+    * request that executes this task; it is only serialized along with the
+    * task in POF form, so that it is also respected for the tasks submitted
+    * by Extend clients.
+    *
+    * @param nParallelism  the maximum degree of parallelism, or
+    *                      {@link #PARALLELISM_DEFAULT}
+    *
+    * @since 25.03
+    */
+    public void setParallelism(int nParallelism)
+        {
+        if (nParallelism < PARALLELISM_DEFAULT)
+            {
+            throw new IllegalArgumentException("Invalid parallelism: " + nParallelism);
+            }
+        m_nParallelism = nParallelism;
+        }
+
 
     // ----- ExternalizableLite interface -----------------------------------
 
@@ -157,6 +188,7 @@ public abstract class AbstractPriorityTask
         m_iSchedulingPriority = in.readInt(0);
         m_lExecutionTimeout   = in.readLong(1);
         m_lRequestTimeout     = in.readLong(2);
+        m_nParallelism        = in.readInt(3);
         }
 
     /**
@@ -170,6 +202,7 @@ public abstract class AbstractPriorityTask
         out.writeInt(0, m_iSchedulingPriority);
         out.writeLong(1, m_lExecutionTimeout);
         out.writeLong(2, m_lRequestTimeout);
+        out.writeInt(3, m_nParallelism);
         }
 
 
@@ -192,4 +225,10 @@ public abstract class AbstractPriorityTask
     */
     @JsonbProperty("requestTimeout")
     private long m_lRequestTimeout = TIMEOUT_DEFAULT;
+
+    /**
+    * The maximum degree of parallelism.
+    */
+    @JsonbProperty("parallelism")
+    private int m_nParallelism = PARALLELISM_DEFAULT;
     }
\ No newline at end of file
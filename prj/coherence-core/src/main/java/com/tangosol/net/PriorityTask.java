@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -142,6 +142,26 @@ public interface PriorityTask
     */
     public void runCanceled(boolean fAbandoned);
 
+    /**
+    * Obtain the maximum number of worker threads a service may concurrently
+    * use to execute this task against a single storage member.
+    * <p>
+    * The value is only a hint, and is currently respected by the partitioned
+    * cache service for synchronous <tt>invokeAll</tt> requests against a key
+    * set, which are split into one job per partition and executed by the
+    * service's worker threads. The value of {@link #PARALLELISM_DEFAULT} allows
+    * the service to use as many worker threads as it sees fit, while a value
+    * of one causes the partitions to be processed one at a time.
+    *
+    * @return the maximum degree of parallelism, or {@link #PARALLELISM_DEFAULT}
+    *
+    * @since 25.03
+    */
+    public default int getParallelism()
+        {
+        return PARALLELISM_DEFAULT;
+        }
+
 
     // ----- constants ------------------------------------------------------
 
@@ -176,4 +196,10 @@ public interface PriorityTask
     * indefinitely.
     */
     public static final long TIMEOUT_NONE   = -1L;
+
+    /**
+    * A special parallelism value to indicate that the corresponding service
+    * is free to choose the degree of parallelism.
+    */
+    public static final int PARALLELISM_DEFAULT = 0;
     }
\ No newline at end of file
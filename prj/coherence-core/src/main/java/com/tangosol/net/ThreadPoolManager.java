@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -70,4 +70,19 @@ public interface ThreadPoolManager
     * @return the time interval for dynamically increasing the size of the thread pool
     */
     public long getThreadIncreaseInterval();
+
+    /**
+    * Return the average amount of time (in milliseconds) that the tasks
+    * executed since the thread pool size was last analyzed have spent in the
+    * queue awaiting execution.
+    *
+    * @return the average queue latency of the thread pool, or -1 if the
+    *         latency is not known
+    *
+    * @since 25.03
+    */
+    public default double getAverageQueueMillis()
+        {
+        return -1.0;
+        }
     }
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.net.events;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A BatchEventInterceptor is an {@link EventInterceptor} that processes
+ * {@link Event}s in batches, off the thread that raised them.
+ * <p>
+ * Events that may not be deferred, i.e. events raised before a mutation
+ * which an interceptor can veto or modify, are delivered synchronously as a
+ * batch of one. All other events are placed on a bounded queue and delivered
+ * by a background thread to {@link #onEvents(List)} in batches of up to
+ * {@link #getMaxBatchSize()} events. Events are queued by partition, across
+ * {@link #getConcurrency()} queues, such that the events for any given
+ * partition are delivered in the order they were raised.
+ * <p>
+ * The entries of a queued event are read-only snapshots taken when the event
+ * was raised, as the entries themselves may only be accessed while the
+ * raising thread holds their locks.
+ * <p>
+ * Should a queue become full, the thread raising an event waits briefly for
+ * space to become available, after which the event is handled according to
+ * the interceptor's {@link #getOverflowPolicy() overflow policy}. By default
+ * the raising thread then {@link OverflowPolicy#BLOCK blocks} until the event
+ * can be queued, applying backpressure to the service while preserving the
+ * order of events.
+ * <p>
+ * As events are delivered asynchronously, a BatchEventInterceptor should not
+ * call {@link Event#nextInterceptor()}, and exceptions thrown by
+ * {@link #onEvents(List)} are logged rather than propagated to the caller.
+ *
+ * @param <E>  the type of {@link Event} this interceptor accepts
+ *
+ * @since 25.03
+ */
+public interface BatchEventInterceptor<E extends Event<? extends Enum>>
+        extends EventInterceptor<E>
+    {
+    /**
+     * Perform necessary processing of the specified {@link Event}s.
+     *
+     * @param listEvents  the Events to be processed, in the order they were
+     *                    raised for each partition
+     */
+    public void onEvents(List<E> listEvents);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public default void onEvent(E event)
+        {
+        onEvents(Collections.singletonList(event));
+        }
+
+    /**
+     * Return the maximum number of events passed to a single call to
+     * {@link #onEvents(List)}.
+     *
+     * @return the maximum batch size
+     */
+    public default int getMaxBatchSize()
+        {
+        return 4096;
+        }
+
+    /**
+     * Return the maximum number of events which may be queued for each
+     * thread delivering events to this interceptor.
+     *
+     * @return the queue capacity
+     */
+    public default int getQueueCapacity()
+        {
+        return 16384;
+        }
+
+    /**
+     * Return the number of threads that may concurrently deliver events to
+     * this interceptor.
+     *
+     * @return the number of delivery threads
+     */
+    public default int getConcurrency()
+        {
+        return 1;
+        }
+
+    /**
+     * Return the {@link OverflowPolicy} applied to an event which cannot be
+     * queued because the queue is full.
+     *
+     * @return the overflow policy, {@link OverflowPolicy#BLOCK} by default
+     */
+    public default OverflowPolicy getOverflowPolicy()
+        {
+        return OverflowPolicy.BLOCK;
+        }
+
+    // ----- inner enum: OverflowPolicy -------------------------------------
+
+    /**
+     * The policies that may be applied to an event which cannot be queued
+     * because the queue is full.
+     */
+    public enum OverflowPolicy
+        {
+        /**
+         * Block the thread that raised the event until the event can be
+         * queued, preserving the order of events for each partition. The
+         * thread raising events is held back for as long as the interceptor
+         * cannot keep up with them.
+         */
+        BLOCK,
+
+        /**
+         * Deliver the event synchronously, as a batch of one, on the thread
+         * that raised it. The event may then be delivered before events for
+         * the same partition that are still queued, and concurrently with
+         * the delivery of those events.
+         */
+        CALLER_RUNS,
+
+        /**
+         * Discard the event, logging the first event discarded while the
+         * queue is full. Discarded events are counted by the
+         * {@code Coherence.EventInterceptor.DroppedEvents} metric.
+         */
+        DROP
+        }
+    }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -10,6 +10,8 @@ import com.tangosol.net.events.annotation.Events;
 import com.tangosol.net.events.annotation.Interceptor;
 import com.tangosol.net.events.annotation.Interceptor.Order;
 
+import com.tangosol.net.events.internal.BatchEventExecutor;
+
 import com.tangosol.net.events.partition.PartitionedServiceDispatcher;
 import com.tangosol.net.events.partition.TransactionEvent;
 import com.tangosol.net.events.partition.TransferEvent;
@@ -172,6 +174,9 @@ public class NamedEventInterceptor<E extends Event<?>>
         m_order          = order;
         m_setEventTypes  = setEventTypes == null || setEventTypes.isEmpty() ? null : setEventTypes;
         m_behavior       = behavior;
+        m_executor       = interceptor instanceof BatchEventInterceptor
+                ? new BatchEventExecutor((BatchEventInterceptor) interceptor, sName)
+                : null;
 
         ensureInitialized();
         }
@@ -269,11 +274,23 @@ public class NamedEventInterceptor<E extends Event<?>>
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Events for a {@link BatchEventInterceptor} that are not vetoable are
+     * queued and delivered to the interceptor in batches on a separate
+     * thread.
      */
     @Override
     public void onEvent(E event)
         {
-        getInterceptor().onEvent(event);
+        BatchEventExecutor executor = m_executor;
+        if (executor == null)
+            {
+            getInterceptor().onEvent(event);
+            }
+        else
+            {
+            executor.onEvent(event);
+            }
         }
 
     // ----- EventDispatcherAwareInterceptor interface ----------------------
@@ -610,6 +627,12 @@ public class NamedEventInterceptor<E extends Event<?>>
      */
     private final Class<? extends EventInterceptor> m_clzInterceptor;
 
+    /**
+     * The executor delivering events to a {@link BatchEventInterceptor}, or
+     * null if the interceptor processes events individually.
+     */
+    private final BatchEventExecutor m_executor;
+
     /**
      * The cache name this {@link EventInterceptor} is concerned with.
      */
@@ -0,0 +1,709 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.net.events.internal;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.internal.metrics.DirectMetricRegistry;
+
+import com.tangosol.net.BackingMapContext;
+
+import com.tangosol.net.cache.BackingMapBinaryEntry;
+
+import com.tangosol.net.events.BatchEventInterceptor;
+import com.tangosol.net.events.Event;
+
+import com.tangosol.net.events.internal.ServiceDispatcher.PartitionedServiceRecoveryEvent;
+import com.tangosol.net.events.internal.ServiceDispatcher.PartitionedServiceTransactionEvent;
+import com.tangosol.net.events.internal.ServiceDispatcher.PartitionedServiceTransferEvent;
+import com.tangosol.net.events.internal.ServiceDispatcher.PartitionedServiceUnsolicitedCommitEvent;
+import com.tangosol.net.events.internal.StorageDispatcher.PartitionedCacheEntryEvent;
+import com.tangosol.net.events.internal.StorageDispatcher.PartitionedCacheInvocationEvent;
+
+import com.tangosol.net.events.partition.TransactionEvent;
+import com.tangosol.net.events.partition.TransferEvent;
+import com.tangosol.net.events.partition.UnsolicitedCommitEvent;
+import com.tangosol.net.events.partition.cache.EntryEvent;
+import com.tangosol.net.events.partition.cache.EntryProcessorEvent;
+
+import com.tangosol.util.Base;
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryEntry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BatchEventExecutor delivers events to a {@link BatchEventInterceptor} in
+ * batches, using a bounded queue and a lazily started thread per lane.
+ * <p>
+ * Events are assigned to a lane by their partition, preserving the order of
+ * events raised for any given partition. Vetoable events, and events which
+ * are not raised by an {@link AbstractEvent}, are delivered synchronously on
+ * the calling thread.
+ * <p>
+ * The entries of a queued event are only valid while the raising thread
+ * holds their locks, so an event is queued as an immutable copy holding a
+ * {@link EntrySnapshot snapshot} of each entry.
+ * <p>
+ * Should a queue remain full for {@link #OFFER_TIMEOUT_MILLIS}, the event is
+ * handled according to the interceptor's
+ * {@link BatchEventInterceptor#getOverflowPolicy() overflow policy}. Events
+ * discarded by the {@link BatchEventInterceptor.OverflowPolicy#DROP DROP}
+ * policy are counted by the {@link #METRIC_DROPPED_EVENTS} metric.
+ *
+ * @see BatchEventInterceptor
+ *
+ * @since 25.03
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class BatchEventExecutor
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a BatchEventExecutor for the specified interceptor.
+     *
+     * @param interceptor  the interceptor to deliver events to
+     * @param sName        the name the interceptor is registered with, used
+     *                     to name the delivery threads and metrics
+     */
+    public BatchEventExecutor(BatchEventInterceptor interceptor, String sName)
+        {
+        int    cLanes    = Math.max(1, interceptor.getConcurrency());
+        int    cCapacity = Math.max(1, interceptor.getQueueCapacity());
+        Lane[] aLane     = new Lane[cLanes];
+
+        if (sName == null)
+            {
+            sName = interceptor.getClass().getName();
+            }
+
+        for (int i = 0; i < cLanes; ++i)
+            {
+            aLane[i] = new Lane(cCapacity, "BatchEventInterceptor:" + sName + ':' + i);
+            }
+
+        BatchEventInterceptor.OverflowPolicy policy = interceptor.getOverflowPolicy();
+
+        f_interceptor = interceptor;
+        f_cMaxBatch   = Math.max(1, interceptor.getMaxBatchSize());
+        f_aLane       = aLane;
+        f_policy      = policy == null ? BatchEventInterceptor.OverflowPolicy.BLOCK : policy;
+        f_cDropped    = f_policy == BatchEventInterceptor.OverflowPolicy.DROP
+                ? ensureDroppedCounter(sName)
+                : new LongAdder();
+        }
+
+    // ----- BatchEventExecutor methods -------------------------------------
+
+    /**
+     * Deliver the specified event to the interceptor, either synchronously
+     * or by queueing a snapshot of it for asynchronous delivery.
+     * <p>
+     * Should the queue the event is assigned to remain full for
+     * {@link #OFFER_TIMEOUT_MILLIS}, the overflow policy is applied.
+     *
+     * @param event  the event
+     */
+    public void onEvent(Event event)
+        {
+        if (isDeferrable(event))
+            {
+            Lane[] aLane      = f_aLane;
+            Event  eventCopy  = snapshot(event);
+            int    nPartition = getPartition(eventCopy);
+
+            aLane[nPartition <= 0 ? 0 : nPartition % aLane.length].add(eventCopy);
+            }
+        else
+            {
+            f_interceptor.onEvent(event);
+            }
+        }
+
+    /**
+     * Return the interceptor events are delivered to.
+     *
+     * @return the interceptor
+     */
+    public BatchEventInterceptor getInterceptor()
+        {
+        return f_interceptor;
+        }
+
+    /**
+     * Return the number of events which could not be queued because the
+     * queue was full, and were handled according to the overflow policy.
+     *
+     * @return the number of overflowed events
+     */
+    public long getOverflowCount()
+        {
+        return f_cOverflow.get();
+        }
+
+    /**
+     * Return the number of events discarded by the
+     * {@link BatchEventInterceptor.OverflowPolicy#DROP DROP} policy.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedCount()
+        {
+        return f_cDropped.sum();
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Return true iff the specified event may be delivered asynchronously.
+     *
+     * @param event  the event
+     *
+     * @return true iff the event may be delivered asynchronously
+     */
+    protected boolean isDeferrable(Event event)
+        {
+        return event instanceof AbstractEvent && !((AbstractEvent) event).isVetoable();
+        }
+
+    /**
+     * Return a copy of the specified event which refers to snapshots of its
+     * entries, and may therefore be processed after the raising thread has
+     * released the entries.
+     *
+     * @param event  the event
+     *
+     * @return the copy of the event, or the event itself if it does not
+     *         refer to any entries
+     */
+    protected Event snapshot(Event event)
+        {
+        if (event instanceof EntryEvent)
+            {
+            EntryEvent<?, ?> evt = (EntryEvent<?, ?>) event;
+            return new PartitionedCacheEntryEvent(evt.getDispatcher(), evt.getType(),
+                    Collections.singleton(new EntrySnapshot(evt.getEntry())));
+            }
+        if (event instanceof EntryProcessorEvent)
+            {
+            EntryProcessorEvent evt = (EntryProcessorEvent) event;
+            return new PartitionedCacheInvocationEvent(evt.getDispatcher(), evt.getType(),
+                    evt.getProcessor(), snapshot(evt.getEntrySet()));
+            }
+        if (event instanceof TransactionEvent)
+            {
+            TransactionEvent evt = (TransactionEvent) event;
+            return new PartitionedServiceTransactionEvent(evt.getDispatcher(), evt.getType(),
+                    snapshot(evt.getEntrySet()));
+            }
+        if (event instanceof UnsolicitedCommitEvent)
+            {
+            UnsolicitedCommitEvent evt = (UnsolicitedCommitEvent) event;
+            return new PartitionedServiceUnsolicitedCommitEvent(evt.getDispatcher(), evt.getType(),
+                    snapshot(evt.getEntrySet()));
+            }
+        if (event instanceof TransferEvent)
+            {
+            TransferEvent                 evt        = (TransferEvent) event;
+            Map<String, Set<BinaryEntry>> mapEntries = new HashMap<>();
+
+            for (Map.Entry<String, Set<BinaryEntry>> entry : evt.getEntries().entrySet())
+                {
+                mapEntries.put(entry.getKey(), snapshot(entry.getValue()));
+                }
+            mapEntries = Collections.unmodifiableMap(mapEntries);
+
+            return event instanceof TransferEvent.RecoveryTransferEvent
+                    ? new PartitionedServiceRecoveryEvent(evt.getDispatcher(), evt.getPartitionId(),
+                            evt.getLocalMember(), evt.getRemoteMember(), mapEntries,
+                            ((TransferEvent.RecoveryTransferEvent) evt).getSnapshotName())
+                    : new PartitionedServiceTransferEvent(evt.getDispatcher(), evt.getType(), evt.getPartitionId(),
+                            evt.getLocalMember(), evt.getRemoteMember(), mapEntries);
+            }
+        return event;
+        }
+
+    /**
+     * Return an immutable set of snapshots of the specified entries.
+     *
+     * @param setEntries  the entries
+     *
+     * @return the snapshots
+     */
+    protected static Set<BinaryEntry> snapshot(Set<BinaryEntry> setEntries)
+        {
+        Set<BinaryEntry> setSnapshot = new LinkedHashSet<>();
+        for (BinaryEntry entry : setEntries)
+            {
+            setSnapshot.add(new EntrySnapshot(entry));
+            }
+        return Collections.unmodifiableSet(setSnapshot);
+        }
+
+    /**
+     * Return the partition the specified event was raised for, or -1 if the
+     * event is not associated with a partition.
+     *
+     * @param event  the event
+     *
+     * @return the partition, or -1
+     */
+    protected int getPartition(Event event)
+        {
+        if (event instanceof EntryEvent)
+            {
+            return ((EntryEvent) event).getEntry().getKeyPartition();
+            }
+        if (event instanceof EntryProcessorEvent)
+            {
+            Iterator<BinaryEntry> iter = ((EntryProcessorEvent) event).getEntrySet().iterator();
+            return iter.hasNext() ? iter.next().getKeyPartition() : -1;
+            }
+        if (event instanceof TransferEvent)
+            {
+            return ((TransferEvent) event).getPartitionId();
+            }
+        return -1;
+        }
+
+    /**
+     * Deliver the specified batch of events to the interceptor.
+     *
+     * @param listEvents  the events
+     */
+    protected void deliver(List<Event> listEvents)
+        {
+        try
+            {
+            f_interceptor.onEvents(listEvents);
+            }
+        catch (Throwable e)
+            {
+            Logger.err("Exception caught while dispatching to \"" + f_interceptor + "\": ", e);
+            }
+        }
+
+    /**
+     * Handle the specified event, which could not be queued, according to
+     * the overflow policy.
+     *
+     * @param event  the event
+     * @param lane   the lane the event could not be queued to
+     */
+    protected void onOverflow(Event event, Lane lane)
+        {
+        f_cOverflow.incrementAndGet();
+        switch (f_policy)
+            {
+            case DROP:
+                f_cDropped.increment();
+                if (!lane.m_fOverflow)
+                    {
+                    lane.m_fOverflow = true;
+                    Logger.warn("The event queue " + lane.f_sThreadName
+                            + " is full; discarding events until it drains");
+                    }
+                break;
+
+            case CALLER_RUNS:
+                deliver(Collections.singletonList(event));
+                break;
+
+            case BLOCK:
+            default:
+                lane.put(event);
+                break;
+            }
+        }
+
+    /**
+     * Return the counter of events dropped by the interceptor with the
+     * specified name, registering it as a metric if necessary.
+     *
+     * @param sName  the interceptor name
+     *
+     * @return the counter
+     */
+    protected static LongAdder ensureDroppedCounter(String sName)
+        {
+        // an interceptor may be wrapped by a number of NamedEventInterceptors,
+        // which share the counter registered for the interceptor's name
+        return s_mapDropped.computeIfAbsent(sName, s -> DirectMetricRegistry.getRegistry().counter(
+                METRIC_DROPPED_EVENTS, Collections.singletonMap(TAG_NAME, s),
+                "The number of events discarded because the interceptor's event queue was full"));
+        }
+
+    // ----- inner class: Lane ----------------------------------------------
+
+    /**
+     * A Lane is a bounded queue of events and the thread draining it. The
+     * thread is started when an event is added, and exits once the queue has
+     * been idle for {@link #IDLE_MILLIS}.
+     */
+    protected class Lane
+            implements Runnable
+        {
+        /**
+         * Construct a Lane.
+         *
+         * @param cCapacity    the capacity of the queue
+         * @param sThreadName  the name of the delivery thread
+         */
+        protected Lane(int cCapacity, String sThreadName)
+            {
+            f_queue       = new ArrayBlockingQueue<>(cCapacity);
+            f_sThreadName = sThreadName;
+            }
+
+        /**
+         * Add the specified event to the queue, waiting at most
+         * {@link #OFFER_TIMEOUT_MILLIS} while the queue is full, and ensure
+         * the delivery thread is running.
+         * <p>
+         * If the event could not be queued, the overflow policy is applied.
+         *
+         * @param event  the event
+         */
+        protected void add(Event event)
+            {
+            boolean fQueued;
+            try
+                {
+                fQueued = f_queue.offer(event)
+                          || f_queue.offer(event, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                }
+            catch (InterruptedException e)
+                {
+                Thread.currentThread().interrupt();
+                fQueued = false;
+                }
+
+            if (fQueued)
+                {
+                m_fOverflow = false;
+                }
+            else
+                {
+                onOverflow(event, this);
+                }
+
+            ensureThread();
+            }
+
+        /**
+         * Add the specified event to the queue, waiting for as long as the
+         * queue is full.
+         * <p>
+         * The event is delivered synchronously if the calling thread is the
+         * delivery thread, or if it is interrupted while waiting.
+         *
+         * @param event  the event
+         */
+        protected void put(Event event)
+            {
+            if (Thread.currentThread() != m_thread)
+                {
+                try
+                    {
+                    f_queue.put(event);
+                    return;
+                    }
+                catch (InterruptedException e)
+                    {
+                    Thread.currentThread().interrupt();
+                    }
+                }
+            deliver(Collections.singletonList(event));
+            }
+
+        /**
+         * Ensure that the delivery thread is running.
+         */
+        protected synchronized void ensureThread()
+            {
+            if (m_thread == null)
+                {
+                Thread thread = Base.makeThread(null, this, f_sThreadName);
+                thread.setDaemon(true);
+                thread.start();
+
+                m_thread = thread;
+                }
+            }
+
+        // ----- Runnable interface -----------------------------------------
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void run()
+            {
+            BlockingQueue<Event> queue     = f_queue;
+            int                  cMaxBatch = f_cMaxBatch;
+
+            while (true)
+                {
+                Event event;
+                try
+                    {
+                    event = queue.poll(IDLE_MILLIS, TimeUnit.MILLISECONDS);
+                    }
+                catch (InterruptedException e)
+                    {
+                    event = null;
+                    }
+
+                if (event == null)
+                    {
+                    // the thread may only exit while holding the monitor,
+                    // as a concurrent add would otherwise not restart it
+                    synchronized (this)
+                        {
+                        if (queue.isEmpty())
+                            {
+                            m_thread = null;
+                            return;
+                            }
+                        }
+                    continue;
+                    }
+
+                List<Event> listEvents = new ArrayList<>(Math.min(cMaxBatch, queue.size() + 1));
+                listEvents.add(event);
+                queue.drainTo(listEvents, cMaxBatch - 1);
+
+                deliver(listEvents);
+                }
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The queued events.
+         */
+        private final BlockingQueue<Event> f_queue;
+
+        /**
+         * The name of the delivery thread.
+         */
+        private final String f_sThreadName;
+
+        /**
+         * The delivery thread, or null if it is not running.
+         */
+        private volatile Thread m_thread;
+
+        /**
+         * True while events are being discarded because the queue is full.
+         */
+        private volatile boolean m_fOverflow;
+        }
+
+    // ----- inner class: EntrySnapshot -------------------------------------
+
+    /**
+     * EntrySnapshot is an immutable copy of the binary key, value and
+     * original value, and the partition of an entry, taken while the entry
+     * is locked by the thread raising an event.
+     */
+    protected static class EntrySnapshot
+            extends BackingMapBinaryEntry
+        {
+        /**
+         * Construct an EntrySnapshot of the specified entry.
+         *
+         * @param entry  the entry
+         */
+        protected EntrySnapshot(BinaryEntry entry)
+            {
+            super(entry.getBinaryKey(), entry.getBinaryValue(), entry.getOriginalBinaryValue(), entry.getContext());
+
+            f_ctxBackingMap = entry.getBackingMapContext();
+            f_nPartition    = entry.getKeyPartition();
+            f_fSynthetic    = entry.isSynthetic();
+            }
+
+        // ----- BinaryEntry interface --------------------------------------
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public BackingMapContext getBackingMapContext()
+            {
+            return f_ctxBackingMap;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getKeyPartition()
+            {
+            return f_nPartition;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isSynthetic()
+            {
+            return f_fSynthetic;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isReadOnly()
+            {
+            return true;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object setValue(Object oValue)
+            {
+            throw new UnsupportedOperationException("the entry of a queued event is read-only");
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void setValue(Object oValue, boolean fSynthetic)
+            {
+            throw new UnsupportedOperationException("the entry of a queued event is read-only");
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void updateBinaryValue(Binary binValue)
+            {
+            throw new UnsupportedOperationException("the entry of a queued event is read-only");
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void updateBinaryValue(Binary binValue, boolean fSynthetic)
+            {
+            throw new UnsupportedOperationException("the entry of a queued event is read-only");
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void expire(long cMillis)
+            {
+            throw new UnsupportedOperationException("the entry of a queued event is read-only");
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The context of the backing map the entry belongs to.
+         */
+        private final BackingMapContext f_ctxBackingMap;
+
+        /**
+         * The partition of the entry.
+         */
+        private final int f_nPartition;
+
+        /**
+         * True if the operation on the entry was synthetic.
+         */
+        private final boolean f_fSynthetic;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The time in milliseconds a delivery thread waits for an event before
+     * exiting.
+     */
+    public static final long IDLE_MILLIS = 1000L;
+
+    /**
+     * The time in milliseconds the calling thread waits for space in a full
+     * queue before applying the overflow policy.
+     */
+    public static final long OFFER_TIMEOUT_MILLIS = 10L;
+
+    /**
+     * The name of the metric counting the events discarded by the
+     * {@link BatchEventInterceptor.OverflowPolicy#DROP DROP} policy.
+     */
+    public static final String METRIC_DROPPED_EVENTS = "Coherence.EventInterceptor.DroppedEvents";
+
+    /**
+     * The metric tag holding the name of the interceptor.
+     */
+    public static final String TAG_NAME = "name";
+
+    /**
+     * The counters of dropped events, keyed by interceptor name.
+     */
+    private static final Map<String, LongAdder> s_mapDropped = new ConcurrentHashMap<>();
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The interceptor events are delivered to.
+     */
+    private final BatchEventInterceptor f_interceptor;
+
+    /**
+     * The maximum number of events delivered in a single batch.
+     */
+    private final int f_cMaxBatch;
+
+    /**
+     * The lanes events are queued to.
+     */
+    private final Lane[] f_aLane;
+
+    /**
+     * The policy applied to events which cannot be queued.
+     */
+    private final BatchEventInterceptor.OverflowPolicy f_policy;
+
+    /**
+     * The number of events which could not be queued.
+     */
+    private final AtomicLong f_cOverflow = new AtomicLong();
+
+    /**
+     * The number of events discarded by the DROP policy.
+     */
+    private final LongAdder f_cDropped;
+    }
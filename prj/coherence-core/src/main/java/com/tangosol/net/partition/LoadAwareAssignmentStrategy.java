@@ -0,0 +1,821 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.net.partition;
+
+
+import com.tangosol.coherence.config.Config;
+
+import com.tangosol.net.Member;
+import com.tangosol.net.PartitionedService;
+
+import com.tangosol.net.management.AnnotatedStandardEmitterMBean;
+import com.tangosol.net.management.Registry;
+
+import com.tangosol.util.Base;
+
+import java.util.Arrays;
+
+import javax.management.NotCompliantMBeanException;
+
+
+/**
+ * LoadAwareAssignmentStrategy is a {@link SimpleAssignmentStrategy} that
+ * balances the primary partitions based on the observed load of each
+ * partition, rather than on the partition count alone.
+ * <p>
+ * The load of a partition is derived from the most recent {@link
+ * PartitionStatistics} collected by the {@link DistributionManager}, and is a
+ * weighted combination of:
+ * <ul>
+ *   <li>a fixed per-partition cost (the "count" weight),</li>
+ *   <li>the partition storage size (the "size" weight),</li>
+ *   <li>the partition request rate (the "requests" weight), and</li>
+ *   <li>the rate at which partition tasks consume execution time (the
+ *       "execution" weight),</li>
+ * </ul>
+ * each expressed relative to the average across all partitions, so that a
+ * partition with an average load has a load of {@link #LOAD_UNIT}. A member is
+ * considered overloaded if its primary load exceeds the average member load by
+ * more than the {@link #getLoadThreshold() load threshold}.
+ * <p>
+ * While the service membership is stable, the number of primary transfers
+ * suggested by a single analysis in order to balance the load is bounded by
+ * {@link #getMaxBalancingTransfers()}, and the partitions with the highest load
+ * are considered first, so that the distribution converges gradually without
+ * a burst of transfers. Transfers required to assign orphaned partitions, to
+ * vacate leaving members or to accommodate joining members are not bounded.
+ * <p>
+ * Backup partitions continue to be balanced by count, as the backup strength
+ * (machine, rack and site safety) is computed against the count-based fair
+ * share.
+ * <p>
+ * The weights, threshold and transfer limit default to the values of the
+ * following system properties:
+ * <ul>
+ *   <li><tt>coherence.distribution.loadaware.weight.count</tt> (default 1)</li>
+ *   <li><tt>coherence.distribution.loadaware.weight.size</tt> (default 1)</li>
+ *   <li><tt>coherence.distribution.loadaware.weight.requests</tt> (default 1)</li>
+ *   <li><tt>coherence.distribution.loadaware.weight.execution</tt> (default 1)</li>
+ *   <li><tt>coherence.distribution.loadaware.threshold</tt> (default 10 percent)</li>
+ *   <li><tt>coherence.distribution.loadaware.transfers</tt> (default 1/32 of
+ *       the partition count)</li>
+ * </ul>
+ * The strategy can be configured in the cache configuration using the
+ * <tt>"load-aware"</tt> partition-assignment-strategy.
+ *
+ * @since 25.03
+ */
+public class LoadAwareAssignmentStrategy
+        extends SimpleAssignmentStrategy
+        implements LoadAwareStrategyMBean
+    {
+    // ----- constructors -------------------------------------------------
+
+    /**
+     * Default constructor.
+     */
+    public LoadAwareAssignmentStrategy()
+        {
+        this(Config.getInteger(PROP_TRANSFERS, 0),
+             Config.getInteger(PROP_THRESHOLD, 10));
+        }
+
+    /**
+     * Construct a LoadAwareAssignmentStrategy.
+     *
+     * @param cMaxTransfers  the maximum number of load-balancing transfers per
+     *                       analysis, or zero for the default
+     * @param nThreshold     the load imbalance threshold (percent)
+     */
+    public LoadAwareAssignmentStrategy(int cMaxTransfers, int nThreshold)
+        {
+        m_cMaxTransfers   = Math.max(0, cMaxTransfers);
+        m_nThreshold      = Math.max(0, nThreshold);
+        m_nWeightCount    = Math.max(0, Config.getInteger(PROP_WEIGHT_COUNT,     1));
+        m_nWeightSize     = Math.max(0, Config.getInteger(PROP_WEIGHT_SIZE,      1));
+        m_nWeightRequests = Math.max(0, Config.getInteger(PROP_WEIGHT_REQUESTS,  1));
+        m_nWeightExec     = Math.max(0, Config.getInteger(PROP_WEIGHT_EXECUTION, 1));
+        }
+
+
+    // ----- accessors ----------------------------------------------------
+
+    /**
+     * Set the weights used to calculate the partition load.
+     * <p>
+     * If all weights are zero, the partition load is count-based.
+     *
+     * @param nWeightCount     the weight of the fixed per-partition cost
+     * @param nWeightSize      the weight of the partition storage size
+     * @param nWeightRequests  the weight of the partition request rate
+     * @param nWeightExec      the weight of the partition execution time
+     *
+     * @return this strategy
+     */
+    public LoadAwareAssignmentStrategy setWeights(int nWeightCount, int nWeightSize,
+                                                  int nWeightRequests, int nWeightExec)
+        {
+        m_nWeightCount    = Math.max(0, nWeightCount);
+        m_nWeightSize     = Math.max(0, nWeightSize);
+        m_nWeightRequests = Math.max(0, nWeightRequests);
+        m_nWeightExec     = Math.max(0, nWeightExec);
+        return this;
+        }
+
+
+    // ----- PartitionAssignmentStrategy methods --------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    public void init(DistributionManager manager)
+        {
+        super.init(manager);
+
+        if (m_cMaxTransfers == 0)
+            {
+            m_cMaxTransfers = Math.max(1, getPartitionCount() >>> 5);
+            }
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getDescription()
+        {
+        StringBuilder sb = new StringBuilder(super.getDescription());
+
+        sb.append(sb.length() == 0 ? "" : ", ")
+          .append("Load-Threshold=").append(getLoadThreshold()).append('%')
+          .append(", Max-Balancing-Transfers=").append(getMaxBalancingTransfers());
+
+        return sb.toString();
+        }
+
+
+    // ----- LoadAwareStrategyMBean interface -----------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    public int getMaxBalancingTransfers()
+        {
+        return m_cMaxTransfers;
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int getLoadThreshold()
+        {
+        return m_nThreshold;
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int getLastBalancingTransferCount()
+        {
+        return m_cLastTransfers;
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isBalancingDeferred()
+        {
+        return m_fLastDeferred;
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int getPrimaryLoadImbalance()
+        {
+        AnalysisContext ctx = getLastAnalysisContext();
+        if (ctx == null)
+            {
+            return 0;
+            }
+
+        Member[] aMember = ctx.getOwnershipMembersList();
+        long     cTotal  = 0L;
+        int      cMax    = 0;
+        for (Member member : aMember)
+            {
+            int cLoad = ctx.getMemberLoad(member, true);
+
+            cTotal += cLoad;
+            cMax    = Math.max(cMax, cLoad);
+            }
+
+        return cTotal == 0L ? 0 : (int) (cMax * 100L * aMember.length / cTotal);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int getMaxPrimaryLoadNodeId()
+        {
+        AnalysisContext ctx = getLastAnalysisContext();
+        if (ctx == null)
+            {
+            return 0;
+            }
+
+        int nMemberMax = 0;
+        int cMax       = -1;
+        for (Member member : ctx.getOwnershipMembersList())
+            {
+            int cLoad = ctx.getMemberLoad(member, true);
+            if (cLoad > cMax)
+                {
+                cMax       = cLoad;
+                nMemberMax = member.getId();
+                }
+            }
+
+        return nMemberMax;
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int getMaxLoadPartitionId()
+        {
+        AnalysisContext ctx = getLastAnalysisContext();
+        if (ctx == null)
+            {
+            return -1;
+            }
+
+        int iPartMax = -1;
+        int cMax     = -1;
+        for (int iPart = 0, cParts = getPartitionCount(); iPart < cParts; iPart++)
+            {
+            int cLoad = ctx.getPartitionLoad(iPart, true);
+            if (cLoad > cMax)
+                {
+                cMax     = cLoad;
+                iPartMax = iPart;
+                }
+            }
+
+        return iPartMax;
+        }
+
+
+    // ----- internal -----------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    protected long analyzeDistribution(AnalysisContext ctx)
+        {
+        LoadAwareAnalysisContext ctxLoad = (LoadAwareAnalysisContext) ctx;
+
+        ctxLoad.setBalancingTransferLimit(isMembershipStable(ctxLoad)
+                ? getMaxBalancingTransfers() : Integer.MAX_VALUE);
+
+        long cDelay = super.analyzeDistribution(ctx);
+
+        m_cLastTransfers = ctxLoad.getBalancingTransferCount();
+        m_fLastDeferred  = ctxLoad.isBalancingDeferred();
+
+        return cDelay;
+        }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the number of load-balancing transfers is bounded, the partitions
+     * are considered in the order of decreasing load, one at a time, until the
+     * limit is reached.
+     */
+    protected int doBalancePrimary(AnalysisContext ctx, Member memberFrom,
+                                   PartitionSet parts, Member[] aMembersTarget)
+        {
+        LoadAwareAnalysisContext ctxLoad = (LoadAwareAnalysisContext) ctx;
+        if (ctxLoad.getBalancingTransferLimit() == Integer.MAX_VALUE)
+            {
+            return super.doBalancePrimary(ctx, memberFrom, parts, aMembersTarget);
+            }
+
+        int[] aiPart = ctxLoad.sortByLoad(parts);
+        int   cParts = aiPart.length;
+        if (cParts == 0)
+            {
+            return 0;
+            }
+
+        PartitionSet partsSingle = new PartitionSet(getPartitionCount());
+        int          cChanges    = 0;
+        for (int i = 0; i < cParts; i++)
+            {
+            if (ctx.getMemberLoad(memberFrom, true) < ctx.getFairShare(true))
+                {
+                break;
+                }
+
+            if (ctxLoad.getBalancingTransferCount() >= ctxLoad.getBalancingTransferLimit())
+                {
+                // leave the remaining imbalance to a subsequent analysis
+                ctxLoad.setBalancingDeferred(true);
+                break;
+                }
+
+            int iPart = aiPart[i];
+
+            partsSingle.add(iPart);
+            cChanges += super.doBalancePrimary(ctx, memberFrom, partsSingle, aMembersTarget);
+            partsSingle.remove(iPart);
+            }
+
+        return cChanges;
+        }
+
+    /**
+     * Return true iff the ownership members are stable, i.e. there are no
+     * leaving members, no orphaned partitions and every ownership member owns
+     * at least one primary partition (which is not the case for members that
+     * have just joined).
+     *
+     * @param ctx  the analysis context
+     *
+     * @return true iff the membership is stable
+     */
+    protected boolean isMembershipStable(AnalysisContext ctx)
+        {
+        if (!ctx.getLeavingOwners().isEmpty() || ctx.getOrphanedPartitions() != null)
+            {
+            return false;
+            }
+
+        for (Member member : ctx.getOwnershipMembersList())
+            {
+            if (ctx.getOwnedPartitions(member, 0).isEmpty())
+                {
+                return false;
+                }
+            }
+        return true;
+        }
+
+    /**
+     * Calculate the load of each partition from the most recently collected
+     * partition statistics.
+     * <p>
+     * A partition with no statistics is assumed to have an average load.
+     *
+     * @return the load of each partition, indexed by partition id
+     */
+    protected int[] calculatePartitionLoads()
+        {
+        int                   cParts     = getPartitionCount();
+        DistributionManager   manager    = getManager();
+        PartitionStatistics[] aStats     = manager.getPartitionStats();
+        long                  cSampleDef = Math.max(1L, manager.getSamplingPeriod());
+        int                   cStats     = aStats == null ? 0 : Math.min(cParts, aStats.length);
+
+        double[] adSize = new double[cParts];
+        double[] adReq  = new double[cParts];
+        double[] adExec = new double[cParts];
+        double   dSize  = 0.0;
+        double   dReq   = 0.0;
+        double   dExec  = 0.0;
+        int      cValid = 0;
+
+        for (int iPart = 0; iPart < cStats; iPart++)
+            {
+            PartitionStatistics stats = aStats[iPart];
+            if (stats == null)
+                {
+                adSize[iPart] = -1.0;
+                continue;
+                }
+
+            long cMillis = stats.getSampleDuration();
+            if (cMillis <= 0L)
+                {
+                cMillis = cSampleDef;
+                }
+
+            dSize += adSize[iPart] = stats.getStorageSize();
+            dReq  += adReq [iPart] = stats.getRequestCount()      * 1000.0 / cMillis;
+            dExec += adExec[iPart] = stats.getTaskExecutionTime() * 1000.0 / cMillis;
+            ++cValid;
+            }
+
+        int   nWeightCount = m_nWeightCount;
+        int   nWeightSize  = m_nWeightSize;
+        int   nWeightReq   = m_nWeightRequests;
+        int   nWeightExec  = m_nWeightExec;
+        int   nWeightTotal = nWeightCount + nWeightSize + nWeightReq + nWeightExec;
+        int[] aLoad        = new int[cParts];
+
+        if (cValid == 0 || nWeightTotal == 0)
+            {
+            Arrays.fill(aLoad, LOAD_UNIT);
+            return aLoad;
+            }
+
+        // calculate the averages over the partitions that have statistics
+        dSize /= cValid;
+        dReq  /= cValid;
+        dExec /= cValid;
+
+        for (int iPart = 0; iPart < cParts; iPart++)
+            {
+            if (iPart >= cStats || adSize[iPart] < 0.0)
+                {
+                aLoad[iPart] = LOAD_UNIT;
+                continue;
+                }
+
+            double dLoad = nWeightCount
+                           + nWeightSize * ratio(adSize[iPart], dSize)
+                           + nWeightReq  * ratio(adReq [iPart], dReq)
+                           + nWeightExec * ratio(adExec[iPart], dExec);
+
+            aLoad[iPart] = Math.max(1, (int) Math.round(LOAD_UNIT * dLoad / nWeightTotal));
+            }
+
+        return aLoad;
+        }
+
+    /**
+     * Return the ratio of the specified value to the average, limited to
+     * {@link #MAX_RATIO}.
+     *
+     * @param dValue    the value
+     * @param dAverage  the average value
+     *
+     * @return the ratio of the value to the average, or 1 if the average is 0
+     */
+    protected static double ratio(double dValue, double dAverage)
+        {
+        return dAverage <= 0.0 ? 1.0 : Math.min(MAX_RATIO, dValue / dAverage);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public LoadCalculator instantiateLoadCalculator(boolean fPrimary)
+        {
+        return fPrimary
+               ? new WeightedLoadCalculator(calculatePartitionLoads())
+               : super.instantiateLoadCalculator(false);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public AnalysisContext instantiateAnalysisContext()
+        {
+        return new LoadAwareAnalysisContext();
+        }
+
+
+    // ----- MBean support ------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation creates and registers a {@link LoadAwareStrategyMBean}.
+     */
+    protected void registerMBean()
+        {
+        PartitionedService service  = getManager().getService();
+        Registry           registry = service.getCluster().getManagement();
+
+        if (registry != null)
+            {
+            try
+                {
+                registry.register(registry.ensureGlobalName(makeMBeanName(service)),
+                        new AnnotatedStandardEmitterMBean(this, LoadAwareStrategyMBean.class));
+                }
+            catch (NotCompliantMBeanException e)
+                {
+                throw Base.ensureRuntimeException(e);
+                }
+            }
+        }
+
+
+    // ----- inner class: WeightedLoadCalculator --------------------------
+
+    /**
+     * WeightedLoadCalculator defines a load based on a pre-calculated load of
+     * each partition.
+     */
+    public static class WeightedLoadCalculator
+            implements LoadCalculator
+        {
+        /**
+         * Construct a WeightedLoadCalculator.
+         *
+         * @param aLoad  the load of each partition, indexed by partition id
+         */
+        public WeightedLoadCalculator(int[] aLoad)
+            {
+            f_aLoad = aLoad;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        public int getLoad(int iPartition)
+            {
+            return f_aLoad[iPartition];
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        public int getLoad(PartitionSet parts)
+            {
+            int[] aLoad = f_aLoad;
+            int   cLoad = 0;
+            for (int iPart = parts.next(0); iPart >= 0; iPart = parts.next(iPart + 1))
+                {
+                cLoad += aLoad[iPart];
+                }
+            return cLoad;
+            }
+
+        // ----- data members ---------------------------------------------
+
+        /**
+         * The load of each partition, indexed by partition id.
+         */
+        protected final int[] f_aLoad;
+        }
+
+
+    // ----- inner class: LoadAwareAnalysisContext ------------------------
+
+    /**
+     * LoadAwareAnalysisContext is an AnalysisContext that applies the load
+     * threshold to the primary fair share, and tracks the load-balancing
+     * transfers made during the analysis.
+     */
+    protected class LoadAwareAnalysisContext
+            extends AnalysisContext
+        {
+        // ----- accessors ------------------------------------------------
+
+        /**
+         * Return the maximum number of load-balancing transfers for this
+         * analysis.
+         *
+         * @return the maximum number of load-balancing transfers
+         */
+        protected int getBalancingTransferLimit()
+            {
+            return m_cTransferLimit;
+            }
+
+        /**
+         * Set the maximum number of load-balancing transfers for this
+         * analysis.
+         *
+         * @param cLimit  the maximum number of load-balancing transfers
+         */
+        protected void setBalancingTransferLimit(int cLimit)
+            {
+            m_cTransferLimit = cLimit;
+            }
+
+        /**
+         * Return the number of load-balancing transfers made by this analysis.
+         *
+         * @return the number of load-balancing transfers
+         */
+        protected int getBalancingTransferCount()
+            {
+            return m_cTransfers;
+            }
+
+        /**
+         * Return true iff this analysis deferred load-balancing transfers
+         * because the transfer limit was reached.
+         *
+         * @return true iff load-balancing transfers were deferred
+         */
+        protected boolean isBalancingDeferred()
+            {
+            return m_fDeferred;
+            }
+
+        /**
+         * Specify whether this analysis deferred load-balancing transfers.
+         *
+         * @param fDeferred  true iff load-balancing transfers were deferred
+         */
+        protected void setBalancingDeferred(boolean fDeferred)
+            {
+            m_fDeferred = fDeferred;
+            }
+
+        // ----- AnalysisContext methods ----------------------------------
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * The primary fair share allows for the {@link #getLoadThreshold()
+         * load threshold} above the average member load.
+         */
+        protected int calculateFairShare(boolean fPrimary)
+            {
+            if (!fPrimary)
+                {
+                return super.calculateFairShare(false);
+                }
+
+            int          cMembers = getOwnershipMembers().size();
+            PartitionSet partsAll = new PartitionSet(getPartitionCount());
+
+            partsAll.fill();
+
+            long cLoadTotal = getPrimaryLoadCalculator().getLoad(partsAll);
+
+            return cMembers <= 1
+                   ? (int) cLoadTotal
+                   : (int) (cLoadTotal * (100 + getLoadThreshold()) / (100L * cMembers)) + 1;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        protected void primeDistribution(Member member1, Member member2)
+            {
+            super.primeDistribution(member1, member2);
+
+            // the primary fair share is expressed in load units
+            m_cFairSharePrimary = calculateFairShare(true);
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        protected void transitionPartition(
+                int iPartition, int iStore, Member memberFrom, Member memberTo)
+            {
+            super.transitionPartition(iPartition, iStore, memberFrom, memberTo);
+
+            if (iStore == 0 && memberFrom != null && memberTo != null
+                && !isMemberLeaving(memberFrom))
+                {
+                m_cTransfers++;
+                }
+            }
+
+        // ----- helpers --------------------------------------------------
+
+        /**
+         * Return the partitions in the specified set, in the order of
+         * decreasing primary load.
+         *
+         * @param parts  the partition set
+         *
+         * @return an array of partition ids in the order of decreasing load
+         */
+        protected int[] sortByLoad(PartitionSet parts)
+            {
+            int     cParts = parts.cardinality();
+            long[]  alPart = new long[cParts];
+            int     i      = 0;
+
+            // encode (load, partition) pairs so that a single primitive sort
+            // orders the partitions by load
+            for (int iPart = parts.next(0); iPart >= 0; iPart = parts.next(iPart + 1))
+                {
+                alPart[i++] = ((long) getPartitionLoad(iPart, true) << 32) | iPart;
+                }
+
+            Arrays.sort(alPart);
+
+            int[] aiPart = new int[cParts];
+            for (i = 0; i < cParts; i++)
+                {
+                aiPart[i] = (int) alPart[cParts - 1 - i];
+                }
+            return aiPart;
+            }
+
+        // ----- data members ---------------------------------------------
+
+        /**
+         * The maximum number of load-balancing transfers for this analysis.
+         */
+        protected int m_cTransferLimit = Integer.MAX_VALUE;
+
+        /**
+         * The number of primary transfers made by this analysis.
+         */
+        protected int m_cTransfers;
+
+        /**
+         * True iff load-balancing transfers were deferred.
+         */
+        protected boolean m_fDeferred;
+        }
+
+
+    // ----- constants ----------------------------------------------------
+
+    /**
+     * The load of a partition with an average load.
+     */
+    public static final int LOAD_UNIT = 100;
+
+    /**
+     * The maximum ratio of any partition metric to its average that
+     * contributes to the partition load.
+     */
+    public static final double MAX_RATIO = 64.0;
+
+    /**
+     * The system property used to configure the maximum number of
+     * load-balancing transfers per analysis.
+     */
+    public static final String PROP_TRANSFERS = "coherence.distribution.loadaware.transfers";
+
+    /**
+     * The system property used to configure the load imbalance threshold.
+     */
+    public static final String PROP_THRESHOLD = "coherence.distribution.loadaware.threshold";
+
+    /**
+     * The system property used to configure the weight of the fixed
+     * per-partition cost.
+     */
+    public static final String PROP_WEIGHT_COUNT = "coherence.distribution.loadaware.weight.count";
+
+    /**
+     * The system property used to configure the weight of the partition
+     * storage size.
+     */
+    public static final String PROP_WEIGHT_SIZE = "coherence.distribution.loadaware.weight.size";
+
+    /**
+     * The system property used to configure the weight of the partition
+     * request rate.
+     */
+    public static final String PROP_WEIGHT_REQUESTS = "coherence.distribution.loadaware.weight.requests";
+
+    /**
+     * The system property used to configure the weight of the partition
+     * execution time.
+     */
+    public static final String PROP_WEIGHT_EXECUTION = "coherence.distribution.loadaware.weight.execution";
+
+
+    // ----- data members -------------------------------------------------
+
+    /**
+     * The maximum number of load-balancing transfers per analysis.
+     */
+    protected int m_cMaxTransfers;
+
+    /**
+     * The load imbalance threshold (percent).
+     */
+    protected int m_nThreshold;
+
+    /**
+     * The weight of the fixed per-partition cost.
+     */
+    protected int m_nWeightCount;
+
+    /**
+     * The weight of the partition storage size.
+     */
+    protected int m_nWeightSize;
+
+    /**
+     * The weight of the partition request rate.
+     */
+    protected int m_nWeightRequests;
+
+    /**
+     * The weight of the partition execution time.
+     */
+    protected int m_nWeightExec;
+
+    /**
+     * The number of load-balancing transfers suggested by the last completed
+     * analysis.
+     */
+    protected volatile int m_cLastTransfers;
+
+    /**
+     * True iff the last completed analysis deferred load-balancing transfers.
+     */
+    protected volatile boolean m_fLastDeferred;
+    }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.net.partition;
+
+import com.tangosol.net.management.annotation.Description;
+import com.tangosol.net.management.annotation.MetricsScope;
+import com.tangosol.net.management.annotation.Notification;
+
+import com.tangosol.net.metrics.MBeanMetric;
+
+/**
+ * Standard MBean interface that exposes management attributes and operations for
+ * a {@link LoadAwareAssignmentStrategy}.
+ * <p>
+ * In addition to the attributes of the {@link SimpleStrategyMBean}, this MBean
+ * exposes the weighted partition load used by the strategy and the
+ * load-balancing decisions made by the last distribution analysis.
+ *
+ * @since 25.03
+ */
+@MetricsScope(MBeanMetric.Scope.VENDOR)
+@Description("Describes the LoadAwareAssignmentStrategy and the current state of " +
+             "partition distribution for the corresponding PartitionedService.")
+@Notification(description = "DistributionCoordinator notifications.",
+              types = SimpleStrategyMBean.NOTIFY_LOST)
+public interface LoadAwareStrategyMBean
+        extends SimpleStrategyMBean
+    {
+    // ----- attributes -----------------------------------------------------
+
+    /**
+     * Get the maximum number of primary partition transfers suggested by a
+     * single analysis to balance the load while the service membership is
+     * stable.
+     *
+     * @return the maximum number of load-balancing transfers per analysis
+     */
+    @Description("The maximum number of primary partition transfers suggested by a " +
+                 "single analysis to balance the load while the service membership " +
+                 "is stable.")
+    public int getMaxBalancingTransfers();
+
+    /**
+     * Get the percentage by which the load of a member may exceed the
+     * average member load before partitions are transferred away from it.
+     *
+     * @return the load imbalance threshold (percent)
+     */
+    @Description("The percentage by which the primary load of a member may exceed " +
+                 "the average member load before partitions are transferred away " +
+                 "from it.")
+    public int getLoadThreshold();
+
+    /**
+     * Get the number of primary partition transfers suggested by the last
+     * analysis in order to balance the load.
+     *
+     * @return the number of load-balancing transfers suggested by the last
+     *         analysis
+     */
+    @Description("The number of primary partition transfers suggested by the last " +
+                 "analysis in order to balance the load.")
+    public int getLastBalancingTransferCount();
+
+    /**
+     * Determine whether the last analysis stopped balancing the load because
+     * it reached the maximum number of load-balancing transfers.
+     *
+     * @return true if further load-balancing transfers were deferred to a
+     *         subsequent analysis
+     */
+    @Description("Indicates whether the last analysis stopped balancing the load " +
+                 "because it reached the maximum number of transfers.")
+    public boolean isBalancingDeferred();
+
+    /**
+     * Get the ratio (in percent) of the highest primary load of any member to
+     * the average primary member load, as of the last analysis.
+     *
+     * @return the primary load imbalance (percent)
+     */
+    @Description("The ratio (in percent) of the highest primary load of any member " +
+                 "to the average primary member load, as of the last analysis.")
+    public int getPrimaryLoadImbalance();
+
+    /**
+     * Get the node id of the member with the highest primary load, as of the
+     * last analysis.
+     *
+     * @return the node id of the member with the highest primary load
+     */
+    @Description("The node id of the member with the highest primary load, " +
+                 "as of the last analysis.")
+    public int getMaxPrimaryLoadNodeId();
+
+    /**
+     * Get the id of the partition with the highest load, as of the last
+     * analysis.
+     *
+     * @return the id of the partition with the highest load, or -1
+     */
+    @Description("The id of the partition with the highest load, as of the " +
+                 "last analysis.")
+    public int getMaxLoadPartitionId();
+    }
@@ -46,6 +46,8 @@ import com.tangosol.io.WrapperOutputStream;
 import com.tangosol.io.WriteBuffer;
 import com.tangosol.io.WriteBuffer.BufferOutput;
 
+import com.tangosol.io.nio.ByteBufferWriteBuffer;
+
 import com.tangosol.io.pof.ConfigurablePofContext;
 import com.tangosol.io.pof.PofContext;
 import com.tangosol.io.pof.PofInputStream;
@@ -180,7 +182,15 @@ public abstract class ExternalizableHelper
         {
         try
             {
-            return serializeInternal(serializer, o, false).toByteArray();
+            WriteBuffer buf = serializeInternal(serializer, o, false);
+            try
+                {
+                return buf.toByteArray();
+                }
+            finally
+                {
+                releaseBuffer(buf);
+                }
             }
         catch (IOException e)
             {
@@ -311,7 +321,15 @@ public abstract class ExternalizableHelper
         {
         try
             {
-            return serializeInternal(serializer, o, true).toBinary();
+            WriteBuffer buf = serializeInternal(serializer, o, true);
+            try
+                {
+                return buf.toBinary();
+                }
+            finally
+                {
+                releaseBuffer(buf);
+                }
             }
         catch (IOException e)
             {
@@ -3370,34 +3388,40 @@ public abstract class ExternalizableHelper
                 throw azzert();
             }
 
+        boolean fPooled = false;
         if (buf == null)
             {
-            // presize a write buffer as efficiently as possible
-            buf = stats == null
-                      ? fBinary
-                        ? new BinaryWriteBuffer(cb)
-                        : new ByteArrayWriteBuffer(cb)
-                      : stats.instantiateBuffer(fBinary);
-            }
-
-        // write out the object
-        BufferOutput out = buf.getBufferOutput();
-        if (fDeco)
-            {
-            out.writeByte(FMT_IDO);
-            out.writePackedInt(nDeco);
+            if (fUser && POOLED_BUFFERS && (stats == null || !stats.isPredictable()))
+                {
+                // the serialized size cannot be predicted; write into pooled
+                // buffers rather than growing (or over-allocating) a buffer,
+                // so that the result is copied out exactly once
+                buf     = new MultiBufferWriteBuffer(stats == null ? s_poolBuffers : stats);
+                fPooled = true;
+                }
+            else
+                {
+                // presize a write buffer as efficiently as possible
+                buf = stats == null
+                          ? fBinary
+                            ? new BinaryWriteBuffer(cb)
+                            : new ByteArrayWriteBuffer(cb)
+                          : stats.instantiateBuffer(fBinary);
+                fPooled = buf instanceof MultiBufferWriteBuffer;
+                }
             }
 
-        out.writeByte(nType);
-
-        // optimize for the most common code path
-        if (nType == FMT_EXT)
+        try
             {
-            serializer.serialize(out, o);
+            writeInternal(serializer, buf, o, nType, fDeco, nDeco);
             }
-        else
+        catch (Throwable e)
             {
-            writeObjectInternal(out, nType, o);
+            if (fPooled)
+                {
+                releaseBuffer(buf);
+                }
+            throw e;
             }
 
         // update stats for values of user types
@@ -3412,6 +3436,10 @@ public abstract class ExternalizableHelper
             DecorationAware decoAware    = (DecorationAware) o;
             ReadBuffer      bufDecorated = decoAware.applyDecorations(buf.getReadBuffer());
             int             cbDecorated  = bufDecorated.length();
+            if (fPooled)
+                {
+                releaseBuffer(buf);
+                }
             buf = fBinary ? new BinaryWriteBuffer(cbDecorated) : new ByteArrayWriteBuffer(cbDecorated);
             bufDecorated.writeTo(buf.getBufferOutput());
             }
@@ -3419,6 +3447,56 @@ public abstract class ExternalizableHelper
         return buf;
         }
 
+    /**
+     * Write the passed object into the specified buffer.
+     *
+     * @param serializer  the serializer to use
+     * @param buf         the WriteBuffer to write into
+     * @param o           the object to write
+     * @param nType       the stream format of the object
+     * @param fDeco       true if the object is int-decorated
+     * @param nDeco       the int decoration
+     *
+     * @throws IOException  if an I/O exception occurs
+     */
+    private static void writeInternal(Serializer serializer, WriteBuffer buf, Object o,
+            int nType, boolean fDeco, int nDeco)
+            throws IOException
+        {
+        BufferOutput out = buf.getBufferOutput();
+        if (fDeco)
+            {
+            out.writeByte(FMT_IDO);
+            out.writePackedInt(nDeco);
+            }
+
+        out.writeByte(nType);
+
+        // optimize for the most common code path
+        if (nType == FMT_EXT)
+            {
+            serializer.serialize(out, o);
+            }
+        else
+            {
+            writeObjectInternal(out, nType, o);
+            }
+        }
+
+    /**
+     * Return the pooled buffers used by a WriteBuffer created by
+     * {@link #serializeInternal} to the buffer pool.
+     *
+     * @param buf  the WriteBuffer that is no longer being used
+     */
+    private static void releaseBuffer(WriteBuffer buf)
+        {
+        if (POOLED_BUFFERS && buf instanceof MultiBufferWriteBuffer)
+            {
+            ((MultiBufferWriteBuffer) buf).dispose();
+            }
+        }
+
     /**
      * Write an object of a known type to the specified BufferOutput. This method
      * is used only by the DefaultSerializer.
@@ -3793,6 +3871,25 @@ public abstract class ExternalizableHelper
                       : new ByteArrayWriteBuffer((cbMax + 0xF) & ~0xF);
             }
 
+        /**
+         * Determine whether a buffer sized for the largest serialized size
+         * would be a good fit for a typical value, i.e. whether the
+         * statistics have not been recently reset and the largest size is
+         * within 1/8 of the average size.
+         *
+         * @return true if the serialized size is predictable
+         */
+        boolean isPredictable()
+            {
+            long lStats = m_lStats;
+            int  cItems = (int) (m_lAccum >>> 48);
+
+            int cbMax = (int) (lStats >>> 32);
+            int cbAvg = (int) (lStats & 0x7fffffffL);
+
+            return cItems > 1 && cbMax <= cbAvg + (cbAvg >>> 3);
+            }
+
         // ----- WriteBufferPool interface ----------------------------------
 
         /**
@@ -3859,7 +3956,9 @@ public abstract class ExternalizableHelper
 
             validateBufferSize(cb + cbPreviousTotal);
 
-            return new BinaryWriteBuffer(cb);
+            return POOLED_BUFFERS && cb <= MAX_POOLED_ALLOC
+                   ? new ByteBufferWriteBuffer(BufferManagers.getHeapManager().acquire(cb))
+                   : new BinaryWriteBuffer(cb);
             }
 
         /**
@@ -3869,6 +3968,10 @@ public abstract class ExternalizableHelper
          */
         public void release(WriteBuffer buffer)
             {
+            if (buffer instanceof ByteBufferWriteBuffer)
+                {
+                BufferManagers.getHeapManager().release(((ByteBufferWriteBuffer) buffer).getByteBuffer());
+                }
             }
 
         // ----- constants --------------------------------------------------
@@ -3883,6 +3986,13 @@ public abstract class ExternalizableHelper
          */
         private static final int MAX_ALLOC = 1 << 20; // 1 MB
 
+        /**
+         * The largest allocation for a MultiBufferWriteBuffer that is taken
+         * from the buffer pool; this matches the largest buffer size pooled
+         * by the default heap BufferManager.
+         */
+        private static final int MAX_POOLED_ALLOC = 1 << 16; // 64 KB
+
         /**
          * The expiry for statistics (in milliseconds).
          */
@@ -7780,6 +7890,21 @@ public abstract class ExternalizableHelper
      */
     private static final Stats[] s_astats = new Stats[6451];
 
+    /**
+     * True if values of user types that have an unpredictable serialized size
+     * should be written into buffers acquired from the heap
+     * {@link BufferManagers#getHeapManager() BufferManager}.
+     */
+    private static final boolean POOLED_BUFFERS = Config.getBoolean("coherence.serialization.pooled", true);
+
+    /**
+     * The WriteBufferPool used for values of user types that have no
+     * serialization statistics.
+     */
+    private static final MultiBufferWriteBuffer.WriteBufferPool s_poolBuffers = POOLED_BUFFERS
+            ? new BufferManagerWriteBufferPool(BufferManagers.getHeapManager())
+            : null;
+
     /**
      * WeakHashMap of Serializers, keyed by ClassLoader.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -65,6 +65,30 @@ public interface MapListener<K, V>
         return new MapListenerSupport.WrapperSynchronousListener(this);
         }
 
+    /**
+     * Make this MapListener conflating.
+     * <p>
+     * While an event for a key is waiting to be delivered to a conflating
+     * MapListener, any subsequent event for the same key replaces the waiting
+     * event rather than being queued behind it. A conflating MapListener is
+     * therefore only guaranteed to observe the most recent event for each
+     * key; it may, for example, receive an update or a delete for an entry
+     * without having observed its insert. Events for different keys may be
+     * delivered in a different order than they were raised.
+     * <p>
+     * This is intended for listeners which only need to track the latest
+     * state of each entry, and which may not keep up with the rate of change
+     * of the cache they observe.
+     *
+     * @return a conflating MapListener
+     *
+     * @see MapListenerSupport.WrapperConflatingListener
+     */
+    public default MapListener<K, V> conflating()
+        {
+        return new MapListenerSupport.WrapperConflatingListener<>(this);
+        }
+
     /**
      * A bit mask representing the set of characteristics of this listener.
      * <p>
@@ -75,6 +99,7 @@ public interface MapListener<K, V>
      * @see #ASYNCHRONOUS
      * @see #SYNCHRONOUS
      * @see #VERSION_AWARE
+     * @see #CONFLATING
      */
     public default int characteristics()
         {
@@ -112,6 +137,19 @@ public interface MapListener<K, V>
         return (characteristics() & VERSION_AWARE) != 0;
         }
 
+    /**
+     * Returns true if pending events for the same key may be conflated
+     * before being delivered to this listener.
+     *
+     * @return true if events for this listener may be conflated
+     *
+     * @see #conflating()
+     */
+    public default boolean isConflating()
+        {
+        return (characteristics() & CONFLATING) != 0;
+        }
+
     // ----- constants ------------------------------------------------------
 
     /**
@@ -129,4 +167,10 @@ public interface MapListener<K, V>
      * missed versions to be replayed if supported by the source of events.
      */
     public static final int VERSION_AWARE  = CollectionListener.VERSION_AWARE;
+
+    /**
+     * A flag that indicates that pending events for the same key may be
+     * conflated before being delivered to this MapListener.
+     */
+    public static final int CONFLATING     = 0x00000004;
     }
\ No newline at end of file
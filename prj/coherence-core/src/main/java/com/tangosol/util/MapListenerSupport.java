@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -27,6 +27,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 
 /**
 * This class provides support for advanced MapListener functionality.
@@ -920,6 +922,35 @@ public class MapListenerSupport
             }
         }
 
+    /**
+    * Return the WrapperConflatingListener that the given listener is or
+    * wraps.
+    *
+    * @param listener  Map listener to check
+    *
+    * @return the WrapperConflatingListener, or null if the listener is not
+    *         and does not wrap a WrapperConflatingListener
+    */
+    public static WrapperConflatingListener getConflatingListener(MapListener listener)
+        {
+        while (true)
+            {
+            if (listener instanceof WrapperConflatingListener)
+                {
+                return (WrapperConflatingListener) listener;
+                }
+
+            if (listener instanceof WrapperListener)
+                {
+                listener = ((WrapperListener) listener).getMapListener();
+                }
+            else
+                {
+                return null;
+                }
+            }
+        }
+
 
     // ----- internal helpers -----------------------------------------------
 
@@ -1623,6 +1654,140 @@ public class MapListenerSupport
             }
         }
 
+    /**
+    * A wrapper class that turns the specified MapListener into a conflating
+    * listener, and tracks the conflation statistics for it.
+    *
+    * @see MapListener#conflating()
+    */
+    public static class WrapperConflatingListener<K, V>
+            extends WrapperListener<K, V>
+        {
+        /**
+        * Construct WrapperConflatingListener.
+        *
+        * @param listener  the wrapped MapListener
+        */
+        public WrapperConflatingListener(MapListener<K, V> listener)
+            {
+            super(listener);
+            }
+
+        /**
+        * {@inheritDoc}
+        */
+        @Override
+        protected void onMapEvent(MapEvent<K, V> evt)
+            {
+            f_cBacklog.decrementAndGet();
+            super.onMapEvent(evt);
+            }
+
+        @Override
+        public int characteristics()
+            {
+            return super.characteristics() | CONFLATING;
+            }
+
+        /**
+        * Record that an event has been raised for this listener.
+        *
+        * @param fConflated  true iff the event replaced an event which was
+        *                    pending delivery
+        */
+        public void onEventRaised(boolean fConflated)
+            {
+            f_cEvents.incrementAndGet();
+            if (fConflated)
+                {
+                f_cConflated.incrementAndGet();
+                }
+            else
+                {
+                f_cBacklog.incrementAndGet();
+                }
+            }
+
+        /**
+        * Record that an event pending delivery to this listener has been
+        * dropped, as the map it was raised by is no longer active.
+        */
+        public void onEventDropped()
+            {
+            f_cBacklog.decrementAndGet();
+            }
+
+        /**
+        * Return the number of events raised for this listener.
+        *
+        * @return the number of events raised
+        */
+        public long getEventCount()
+            {
+            return f_cEvents.get();
+            }
+
+        /**
+        * Return the number of events which replaced an event pending delivery
+        * to this listener, and were therefore never delivered on their own.
+        *
+        * @return the number of conflated events
+        */
+        public long getConflatedCount()
+            {
+            return f_cConflated.get();
+            }
+
+        /**
+        * Return the ratio of conflated events to raised events.
+        *
+        * @return the conflation ratio, between 0.0 and 1.0
+        */
+        public double getConflationRatio()
+            {
+            long cEvents = getEventCount();
+            return cEvents == 0L ? 0.0 : (double) getConflatedCount() / cEvents;
+            }
+
+        /**
+        * Return the number of events pending delivery to this listener.
+        *
+        * @return the number of pending events
+        */
+        public long getBacklog()
+            {
+            return Math.max(0L, f_cBacklog.get());
+            }
+
+        /**
+        * {@inheritDoc}
+        */
+        public String toString()
+            {
+            return ClassHelper.getSimpleName(getClass()) + "{listener=" + f_listener
+                    + ", events=" + getEventCount()
+                    + ", conflated=" + getConflatedCount()
+                    + ", backlog=" + getBacklog() + "}";
+            }
+
+        // ----- data members -------------------------------------------
+
+        /**
+        * The number of events raised for this listener.
+        */
+        protected final AtomicLong f_cEvents = new AtomicLong();
+
+        /**
+        * The number of conflated events.
+        */
+        protected final AtomicLong f_cConflated = new AtomicLong();
+
+        /**
+        * The number of events pending delivery.
+        */
+        protected final AtomicLong f_cBacklog = new AtomicLong();
+        }
+
     /**
     * A wrapper class that turns the specified MapListener into
     * a priming listener.
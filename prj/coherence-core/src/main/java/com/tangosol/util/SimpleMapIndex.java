@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -13,6 +13,10 @@ import com.oracle.coherence.common.collections.ConcurrentHashMap;
 import com.oracle.coherence.common.collections.NullableConcurrentMap;
 import com.oracle.coherence.common.collections.NullableSortedMap;
 
+import com.tangosol.io.ReadBuffer;
+import com.tangosol.io.Serializer;
+import com.tangosol.io.WriteBuffer;
+
 import com.tangosol.net.BackingMapContext;
 
 import com.tangosol.net.cache.ConfigurableCacheMap;
@@ -26,6 +30,8 @@ import com.tangosol.util.extractor.AbstractExtractor;
 import com.tangosol.util.extractor.KeyExtractor;
 import com.tangosol.util.extractor.MultiExtractor;
 
+import java.io.IOException;
+
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -46,7 +52,7 @@ import java.util.Set;
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class SimpleMapIndex
         extends    Base
-        implements MapIndex
+        implements TransferableMapIndex
     {
     // ----- constructors ---------------------------------------------------
 
@@ -194,6 +200,82 @@ public class SimpleMapIndex
         }
 
 
+    // ----- TransferableMapIndex interface ---------------------------------
+
+    /**
+    * {@inheritDoc}
+    */
+    public int getStateVersion()
+        {
+        return 0;
+        }
+
+    /**
+    * {@inheritDoc}
+    * <p>
+    * The state is only provided if this index maintains a forward map, and
+    * only by the SimpleMapIndex class itself; subclasses that keep additional
+    * state must override this method and {@link #readState} to opt in.
+    */
+    public boolean writeState(WriteBuffer.BufferOutput out, Serializer serializer)
+            throws IOException
+        {
+        Map mapForward = m_mapForward;
+        if (mapForward == null || getClass() != SimpleMapIndex.class)
+            {
+            return false;
+            }
+
+        synchronized (this)
+            {
+            ExternalizableHelper.writeInt(out, mapForward.size());
+            for (Iterator iter = mapForward.entrySet().iterator(); iter.hasNext(); )
+                {
+                Map.Entry entry = (Map.Entry) iter.next();
+
+                ExternalizableHelper.writeObject(out, entry.getKey());
+                serializer.serialize(out, entry.getValue());
+                }
+
+            Set setExcluded = m_setKeyExcluded;
+            ExternalizableHelper.writeInt(out, setExcluded.size());
+            for (Iterator iter = setExcluded.iterator(); iter.hasNext(); )
+                {
+                ExternalizableHelper.writeObject(out, iter.next());
+                }
+            }
+        return true;
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void readState(ReadBuffer.BufferInput in, Serializer serializer)
+            throws IOException
+        {
+        azzert(m_mapForward != null && m_mapForward.isEmpty());
+
+        synchronized (this)
+            {
+            for (int i = 0, c = ExternalizableHelper.readInt(in); i < c; i++)
+                {
+                Object oKey     = ExternalizableHelper.readObject(in);
+                Object oIxValue = serializer.deserialize(in);
+
+                // see insertInternal
+                oIxValue = addInverseMapping(oIxValue, oKey);
+
+                addForwardEntry(oKey, oIxValue);
+                }
+
+            for (int i = 0, c = ExternalizableHelper.readInt(in); i < c; i++)
+                {
+                m_setKeyExcluded.add(ExternalizableHelper.readObject(in));
+                }
+            }
+        }
+
+
     // ----- accessors ------------------------------------------------------
 
     /**
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.util;
+
+/**
+* ToDoubleValueExtractor is a {@link ValueExtractor} that extracts a primitive
+* <tt>double</tt> value, which allows aggregators such as {@link
+* com.tangosol.util.aggregator.DoubleSum DoubleSum} to process the extracted
+* values without boxing them.
+* <p>
+* The extracted value is never null; the boxed {@link #extract} method is
+* only provided for the callers that are not aware of this interface.
+* <p>
+* Example:
+* <pre>
+*     cache.aggregate(new DoubleSum&lt;&gt;((ToDoubleValueExtractor&lt;Trade&gt;) Trade::getPrice));
+* </pre>
+*
+* @param <T>  the type of the value to extract from
+*
+* @since 25.03
+*/
+@FunctionalInterface
+public interface ToDoubleValueExtractor<T>
+        extends ValueExtractor<T, Double>
+    {
+    /**
+    * Extract the <tt>double</tt> value from the passed object.
+    *
+    * @param target  the object to extract the value from
+    *
+    * @return the extracted value
+    */
+    @Override
+    public double applyAsDouble(T target);
+
+    /**
+    * {@inheritDoc}
+    */
+    @Override
+    public default Double extract(T target)
+        {
+        return applyAsDouble(target);
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    @Override
+    public default long applyAsLong(T target)
+        {
+        return (long) applyAsDouble(target);
+        }
+    }
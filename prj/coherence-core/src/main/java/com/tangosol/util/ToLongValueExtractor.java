@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.util;
+
+/**
+* ToLongValueExtractor is a {@link ValueExtractor} that extracts a primitive
+* <tt>long</tt> value, which allows aggregators such as {@link
+* com.tangosol.util.aggregator.LongSum LongSum} to process the extracted
+* values without boxing them.
+* <p>
+* The extracted value is never null; the boxed {@link #extract} method is
+* only provided for the callers that are not aware of this interface.
+* <p>
+* Example:
+* <pre>
+*     cache.aggregate(new LongSum&lt;&gt;((ToLongValueExtractor&lt;Trade&gt;) Trade::getQuantity));
+* </pre>
+*
+* @param <T>  the type of the value to extract from
+*
+* @since 25.03
+*/
+@FunctionalInterface
+public interface ToLongValueExtractor<T>
+        extends ValueExtractor<T, Long>
+    {
+    /**
+    * Extract the <tt>long</tt> value from the passed object.
+    *
+    * @param target  the object to extract the value from
+    *
+    * @return the extracted value
+    */
+    @Override
+    public long applyAsLong(T target);
+
+    /**
+    * {@inheritDoc}
+    */
+    @Override
+    public default Long extract(T target)
+        {
+        return applyAsLong(target);
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    @Override
+    public default double applyAsDouble(T target)
+        {
+        return applyAsLong(target);
+        }
+    }
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.util;
+
+import com.tangosol.io.ReadBuffer;
+import com.tangosol.io.Serializer;
+import com.tangosol.io.WriteBuffer;
+
+import java.io.IOException;
+
+/**
+* TransferableMapIndex is a {@link MapIndex} that is able to write its
+* contents for a single partition, and to restore them on another member.
+* <p>
+* When a partition is transferred, the receiving member normally rebuilds
+* every partition index by extracting the indexed value from each entry in
+* the partition. Indexes implementing this interface allow the sending member
+* to ship the index contents along with the partition instead, so that the
+* receiving member can restore the index without re-extracting any values.
+* <p>
+* The state written by {@link #writeState} is only passed to
+* {@link #readState} of an index of the same class that reports the same
+* {@link #getStateVersion() state version}; in any other case, or if the
+* state cannot be written or read, the index is rebuilt as usual.
+*
+* @param <K>  the key type
+* @param <V>  the type of the value from which an extracted value is obtained
+* @param <E>  the type of the extracted value that is being indexed
+*
+* @since 25.03
+*/
+public interface TransferableMapIndex<K, V, E>
+        extends MapIndex<K, V, E>
+    {
+    /**
+    * Return the version of the format written by {@link #writeState}.
+    * <p>
+    * The version must be changed whenever the format changes in a way that
+    * {@link #readState} of a prior version is not able to read.
+    *
+    * @return the version of the state format
+    */
+    public int getStateVersion();
+
+    /**
+    * Write the contents of this index to the specified output.
+    *
+    * @param out         the output to write the state to
+    * @param serializer  the serializer of the indexed cache, which should be
+    *                    used to serialize the extracted values
+    *
+    * @return true if the state was written; false if this index is not able
+    *         to provide its state, in which case it will be rebuilt by the
+    *         receiving member
+    *
+    * @throws IOException  if an I/O error occurs
+    */
+    public boolean writeState(WriteBuffer.BufferOutput out, Serializer serializer)
+            throws IOException;
+
+    /**
+    * Restore the contents of this (empty) index from the specified input.
+    * <p>
+    * If this method throws, the index is discarded and rebuilt.
+    *
+    * @param in          the input to read the state from
+    * @param serializer  the serializer of the indexed cache
+    *
+    * @throws IOException  if an I/O error occurs
+    */
+    public void readState(ReadBuffer.BufferInput in, Serializer serializer)
+            throws IOException;
+    }
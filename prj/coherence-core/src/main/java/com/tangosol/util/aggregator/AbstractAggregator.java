@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -12,23 +12,31 @@ import com.tangosol.internal.util.invoke.Lambdas;
 
 import com.tangosol.io.ExternalizableLite;
 
+import com.tangosol.io.pof.PofContext;
 import com.tangosol.io.pof.PofReader;
 import com.tangosol.io.pof.PofWriter;
 import com.tangosol.io.pof.PortableObject;
 
+import com.tangosol.net.BackingMapContext;
+
+import com.tangosol.util.BinaryEntry;
 import com.tangosol.util.ClassHelper;
 import com.tangosol.util.ExternalizableHelper;
 import com.tangosol.util.InvocableMap;
 import com.tangosol.util.Streamer;
 import com.tangosol.util.ValueExtractor;
 
+import com.tangosol.util.extractor.AbstractExtractor;
 import com.tangosol.util.extractor.ChainedExtractor;
+import com.tangosol.util.extractor.PofExtractor;
 import com.tangosol.util.extractor.ReflectionExtractor;
 
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 
+import java.util.Map;
+
 import jakarta.json.bind.annotation.JsonbProperty;
 
 /**
@@ -190,6 +198,60 @@ public abstract class AbstractAggregator<K, V, T, E, R>
         return m_extractor;
         }
 
+    /**
+     * Determine how the values aggregated by this aggregator can be extracted
+     * from the specified entry.
+     * <p>
+     * The values can be read directly from the serialized form of the entry
+     * if the value extractor is a {@link PofExtractor} of an intrinsic type
+     * and the entry is a POF-encoded {@link BinaryEntry}, or extracted as
+     * primitives if the value extractor implements the specified primitive
+     * extractor interface and targets the entry value. In either case the
+     * extractor must not be backed by an index, as the index already holds
+     * the extracted values.
+     * <p>
+     * The decision is made for the first processed entry and applies to all
+     * subsequently processed entries.
+     *
+     * @param entry         the entry to be processed
+     * @param clzPrimitive  the primitive extractor interface, e.g.
+     *                      {@link com.tangosol.util.ToLongValueExtractor}
+     *
+     * @return one of the EXTRACT_* constants
+     *
+     * @since 25.03
+     */
+    protected int getExtractMode(InvocableMap.Entry<? extends K, ? extends V> entry, Class<?> clzPrimitive)
+        {
+        int nMode = m_nExtractMode;
+        if (nMode == EXTRACT_UNKNOWN)
+            {
+            ValueExtractor extractor = getValueExtractor();
+
+            nMode = EXTRACT_OBJECT;
+            if (extractor instanceof PofExtractor)
+                {
+                Class<?> clz = ((PofExtractor) extractor).getClassExtracted();
+                if ((clz == null || clz.isPrimitive() || clz.getName().startsWith("java.lang.")) &&
+                    entry instanceof BinaryEntry &&
+                    ((BinaryEntry) entry).getSerializer() instanceof PofContext &&
+                    !isIndexed(entry))
+                    {
+                    nMode = EXTRACT_POF;
+                    }
+                }
+            else if (clzPrimitive.isInstance(extractor) &&
+                     extractor.getTarget() == AbstractExtractor.VALUE &&
+                     !isIndexed(entry))
+                {
+                nMode = EXTRACT_PRIMITIVE;
+                }
+
+            m_nExtractMode = nMode;
+            }
+        return nMode;
+        }
+
     /**
      * Initialize the aggregation result.
      *
@@ -231,6 +293,36 @@ public abstract class AbstractAggregator<K, V, T, E, R>
      */
     protected abstract Object finalizeResult(boolean fFinal);
 
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Return true if the value extractor of this aggregator may be backed by
+     * an index in the map that contains the specified entry.
+     *
+     * @param entry  the entry
+     *
+     * @return true if the value extractor may be backed by an index
+     */
+    private boolean isIndexed(InvocableMap.Entry<? extends K, ? extends V> entry)
+        {
+        if (entry instanceof BinaryEntry)
+            {
+            try
+                {
+                BackingMapContext ctx      = ((BinaryEntry) entry).getBackingMapContext();
+                Map               mapIndex = ctx == null ? null : ctx.getIndexMap();
+
+                return mapIndex != null && mapIndex.containsKey(getValueExtractor());
+                }
+            catch (UnsupportedOperationException e)
+                {
+                // unknown; assume the worst
+                return true;
+                }
+            }
+        return false;
+        }
+
     // ----- Object methods -------------------------------------------------
 
     /**
@@ -312,6 +404,30 @@ public abstract class AbstractAggregator<K, V, T, E, R>
         out.writeObject(1, m_extractor);
         }
 
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * Extraction mode: not yet determined.
+     */
+    protected static final int EXTRACT_UNKNOWN   = 0;
+
+    /**
+     * Extraction mode: extract an Object using {@link InvocableMap.Entry#extract}.
+     */
+    protected static final int EXTRACT_OBJECT    = 1;
+
+    /**
+     * Extraction mode: read an intrinsic value directly from the serialized
+     * form of the entry using {@link PofExtractor#extractPofValueFromEntry}.
+     */
+    protected static final int EXTRACT_POF       = 2;
+
+    /**
+     * Extraction mode: extract a primitive from the entry value using a
+     * primitive extractor.
+     */
+    protected static final int EXTRACT_PRIMITIVE = 3;
+
     // ----- data members ---------------------------------------------------
 
     /**
@@ -332,4 +448,9 @@ public abstract class AbstractAggregator<K, V, T, E, R>
      * The flag specifying whether this aggregator has been initialized.
      */
     private transient boolean m_fInit;
+
+    /**
+     * The extraction mode; one of the EXTRACT_* constants.
+     */
+    private transient int m_nExtractMode;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -8,8 +8,14 @@
 package com.tangosol.util.aggregator;
 
 
+import com.tangosol.io.pof.reflect.PofValue;
+
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.ToLongValueExtractor;
 import com.tangosol.util.ValueExtractor;
 
+import com.tangosol.util.extractor.PofExtractor;
+
 
 /**
 * Abstract aggregator that processes numeric values extracted from a set of
@@ -60,6 +66,53 @@ public abstract class AbstractLongAggregator<T>
 
     // ----- AbstractAggregator methods -------------------------------------
 
+    /**
+    * {@inheritDoc}
+    * <p>
+    * Where possible, the value is extracted as a <tt>long</tt> without
+    * boxing it and passed to {@link #processLong}.
+    */
+    @Override
+    protected void processEntry(InvocableMap.Entry<?, ?> entry)
+        {
+        switch (getExtractMode(entry, ToLongValueExtractor.class))
+            {
+            case EXTRACT_POF:
+                {
+                PofValue value = ((PofExtractor) getValueExtractor()).extractPofValueFromEntry(entry);
+                if (value != null)
+                    {
+                    processLong(value.getLong());
+                    }
+                break;
+                }
+
+            case EXTRACT_PRIMITIVE:
+                processLong(((ToLongValueExtractor) getValueExtractor()).applyAsLong(entry.getValue()));
+                break;
+
+            default:
+                super.processEntry(entry);
+                break;
+            }
+        }
+
+    /**
+    * Incorporate one non-null <tt>long</tt> value extracted from an
+    * entry into the result.
+    * <p>
+    * This implementation boxes the value and passes it to {@link #process};
+    * subclasses should override it to avoid that.
+    *
+    * @param l  the value to incorporate into the aggregated result
+    *
+    * @since 25.03
+    */
+    protected void processLong(long l)
+        {
+        process(Long.valueOf(l), false);
+        }
+
     /**
     * {@inheritDoc}
     */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -117,13 +117,21 @@ public class DoubleAverage<T>
                 }
             else
                 {
-                // collect partial results
-                m_count++;
-                m_dflResult += ((Number) o).doubleValue();
+                processDouble(((Number) o).doubleValue());
                 }
             }
         }
 
+    /**
+    * {@inheritDoc}
+    */
+    protected void processDouble(double dfl)
+        {
+        // collect partial results
+        m_count++;
+        m_dflResult += dfl;
+        }
+
     /**
     * {@inheritDoc}
     */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -17,6 +17,7 @@ import com.tangosol.util.ExternalizableHelper;
 import com.tangosol.util.Filter;
 import com.tangosol.util.InvocableMap;
 import com.tangosol.util.LiteMap;
+import com.tangosol.util.OpenHashMap;
 import com.tangosol.util.ValueExtractor;
 
 import com.tangosol.util.extractor.ChainedExtractor;
@@ -144,10 +145,7 @@ public class GroupAggregator<K, V, T, E, R>
             // add the entry to the corresponding group
             if (isDelegateStreaming())
                 {
-                InvocableMap.StreamingAggregator<? super K, ? super V, Object, R> aggregator =
-                        (InvocableMap.StreamingAggregator<? super K, ? super V, Object, R>)
-                                m_mapResults.computeIfAbsent(groupKey, k -> streaming(m_aggregator).supply());
-                aggregator.accumulate(entry);
+                ensureGroupAggregator(groupKey).accumulate(entry);
                 }
             else
                 {
@@ -172,10 +170,7 @@ public class GroupAggregator<K, V, T, E, R>
 
             if (isDelegateStreaming())
                 {
-                InvocableMap.StreamingAggregator<? super K, ? super V, Object, R> aggregator =
-                        (InvocableMap.StreamingAggregator<? super K, ? super V, Object, R>)
-                                m_mapResults.computeIfAbsent(groupKey, k -> streaming(m_aggregator).supply());
-                aggregator.combine(part.getValue());
+                ensureGroupAggregator(groupKey).combine(part.getValue());
                 }
             else if (isDelegateParallel())
                 {
@@ -292,18 +287,42 @@ public class GroupAggregator<K, V, T, E, R>
         {
         if (!m_fInit)
             {
-            m_mapResults = new LiteMap<>();
-
             m_fStreaming = m_aggregator instanceof InvocableMap.StreamingAggregator;
             if (!m_fStreaming)
                 {
                 m_fParallel = m_aggregator instanceof InvocableMap.ParallelAwareAggregator;
                 }
 
+            // the per-group streaming aggregators are looked up for every
+            // entry, and are never returned as-is; keep them in an open hash
+            // map to avoid allocating an Entry object per group
+            m_mapResults = m_fStreaming ? new OpenHashMap<>() : new LiteMap<>();
+
             m_fInit = true;
             }
         }
 
+    /**
+     * Return the streaming aggregator for the specified group, creating it
+     * if necessary.
+     *
+     * @param groupKey  the group key
+     *
+     * @return the streaming aggregator for the group
+     */
+    protected InvocableMap.StreamingAggregator<? super K, ? super V, Object, R> ensureGroupAggregator(E groupKey)
+        {
+        Map<E, Object> mapResults = m_mapResults;
+
+        InvocableMap.StreamingAggregator<? super K, ? super V, Object, R> aggregator =
+                (InvocableMap.StreamingAggregator<? super K, ? super V, Object, R>) mapResults.get(groupKey);
+        if (aggregator == null)
+            {
+            mapResults.put(groupKey, aggregator = streaming(m_aggregator).supply());
+            }
+        return aggregator;
+        }
+
     /**
      * Convert the specified aggregator to StreamingAggregator.
      *
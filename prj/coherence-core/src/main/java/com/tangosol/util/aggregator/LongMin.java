@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2020, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -90,8 +90,16 @@ public class LongMin<T>
         {
         if (o != null)
             {
-            m_lResult = Math.min(m_lResult, ((Number) o).longValue());
-            m_count++;
+            processLong(((Number) o).longValue());
             }
         }
+
+    /**
+    * {@inheritDoc}
+    */
+    protected void processLong(long l)
+        {
+        m_lResult = Math.min(m_lResult, l);
+        m_count++;
+        }
     }
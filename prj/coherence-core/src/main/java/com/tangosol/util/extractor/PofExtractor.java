@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -223,10 +223,62 @@ public class PofExtractor<T, E>
         return extractInternal(entry, m_nTarget == KEY ? KEY : -1);
         }
 
+    /**
+    * Navigate to the POF value that this extractor targets within the
+    * serialized form of the passed Entry object, without deserializing it.
+    * <p>
+    * This allows intrinsic values to be read directly from the POF stream
+    * without boxing them, for example using {@link PofValue#getLong()} or
+    * {@link PofValue#getDouble()}.
+    *
+    * @param entry  an Entry object to extract the value from
+    *
+    * @return the targeted PofValue, or null if {@link #extractFromEntry}
+    *         would return null
+    *
+    * @throws UnsupportedOperationException if the specified Entry is not
+    *         a POF-encoded {@link BinaryEntry} or the serializer is not
+    *         a PofContext
+    *
+    * @since 25.03
+    */
+    public PofValue extractPofValueFromEntry(Map.Entry entry)
+        {
+        PofValue valueTarget = navigateInternal(entry, m_nTarget);
+        if (valueTarget != null)
+            {
+            switch (valueTarget.getTypeId())
+                {
+                case PofConstants.V_REFERENCE_NULL:
+                    return null;
+
+                case PofConstants.T_UNKNOWN:
+                    // a value missing from the POF stream, which defaults
+                    // to zero only if the extracted type is intrinsic
+                    return valueTarget.getValue(getPofTypeId(
+                            (PofContext) ((BinaryEntry) entry).getSerializer())) == null
+                            ? null : valueTarget;
+                }
+            }
+        return valueTarget;
+        }
+
     /**
     * Implementation of the extract* methods.
     */
     private E extractInternal(Map.Entry entry, int nTarget)
+        {
+        PofValue valueTarget = navigateInternal(entry, nTarget);
+
+        // be tolerant to a missing target (similar to ReflectionExtractor)
+        return (E) (valueTarget == null ? null : valueTarget.getValue(
+                getPofTypeId((PofContext) ((BinaryEntry) entry).getSerializer())));
+        }
+
+    /**
+    * Navigate to the targeted POF value of the passed Entry object.
+    */
+    private PofValue navigateInternal(Map.Entry entry, int nTarget)
         {
         BinaryEntry binEntry;
         PofContext  ctx;
@@ -265,11 +317,7 @@ public class PofExtractor<T, E>
             return null;
             }
 
-        PofValue valueRoot   = PofValueParser.parse(binTarget, ctx);
-        PofValue valueTarget = m_navigator.navigate(valueRoot);
-
-        // be tolerant to a missing target (similar to ReflectionExtractor)
-        return (E) (valueTarget == null ? null : valueTarget.getValue(getPofTypeId(ctx)));
+        return m_navigator.navigate(PofValueParser.parse(binTarget, ctx));
         }
 
     @Override
@@ -18,6 +18,7 @@ import com.tangosol.coherence.config.scheme.ServiceScheme;
 import com.tangosol.internal.net.ConfigurableCacheFactorySession;
 
 import com.tangosol.internal.util.DefaultDaemonPoolDependencies;
+import com.tangosol.internal.util.VirtualThreadExecutor;
 import com.tangosol.internal.util.collection.ConvertingNamedCache;
 
 import com.tangosol.io.NamedSerializerFactory;
@@ -92,6 +93,12 @@ public class BaseGrpcServiceImpl
 
         f_metrics = new GrpcProxyMetrics(sMBeanName, management);
         f_metrics.registerMBean(registry);
+
+        if (f_executor instanceof VirtualThreadExecutor && registry != null)
+            {
+            ((VirtualThreadExecutor) f_executor).registerMBean(registry,
+                    VirtualThreadExecutor.MBEAN_TYPE + ",name=" + sPoolName);
+            }
         }
 
     // ----- accessors ------------------------------------------------------
@@ -328,11 +335,20 @@ public class BaseGrpcServiceImpl
 
     /**
      * Create the default {@link Executor}.
+     * <p>
+     * If virtual thread request execution is enabled for the pool name a
+     * {@link VirtualThreadExecutor} is returned, otherwise a
+     * {@link DaemonPoolExecutor}.
      *
      * @return  the default {@link Executor}
      */
     protected static Executor createDefaultExecutor(String sName)
         {
+        if (VirtualThreadExecutor.isEnabled(sName))
+            {
+            return new VirtualThreadExecutor(sName, VirtualThreadExecutor.getConfiguredConcurrency(sName));
+            }
+
         DefaultDaemonPoolDependencies deps = new DefaultDaemonPoolDependencies();
         deps.setName(sName);
         deps.setThreadCountMin(1);
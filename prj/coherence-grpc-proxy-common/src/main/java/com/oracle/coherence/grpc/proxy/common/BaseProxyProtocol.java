@@ -19,6 +19,7 @@ import com.oracle.coherence.grpc.BinaryHelper;
 import com.oracle.coherence.grpc.GrpcService;
 
 import com.oracle.coherence.grpc.GrpcServiceProtocol;
+import com.oracle.coherence.grpc.SafeStreamObserver;
 import com.oracle.coherence.grpc.messages.common.v1.BinaryKeyAndValue;
 import com.oracle.coherence.grpc.messages.proxy.v1.InitRequest;
 import com.tangosol.application.ContainerContext;
@@ -31,11 +32,15 @@ import com.tangosol.net.ExtensibleConfigurableCacheFactory;
 import com.tangosol.net.messaging.Response;
 import com.tangosol.util.Binary;
 import com.tangosol.util.UUID;
+import io.grpc.stub.CallStreamObserver;
 import io.grpc.stub.StreamObserver;
 
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -87,27 +92,92 @@ public abstract class BaseProxyProtocol<Req extends Message, Resp extends Messag
     @Override
     public void onRequest(Req request, StreamObserver<Resp> observer)
         {
-        // If we are inside a container (i.e. WLS Managed Coherence) then we must run
-        // inside the correct container context
+        runInContext(() -> onRequestInternal(request, observer));
+        }
+
+    protected abstract void onRequestInternal(Req request, StreamObserver<Resp> observer);
+
+    @Override
+    public void close()
+        {
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Run the specified task in this protocol's container context.
+     * <p>
+     * If we are inside a container (i.e. WLS Managed Coherence) then
+     * we must run inside the correct container context.
+     *
+     * @param task  the task to run
+     */
+    protected void runInContext(Runnable task)
+        {
         ContainerContext containerContext = m_context == null ? null : m_context.getContainerContext();
         if (containerContext != null)
             {
-            containerContext.runInDomainPartitionContext(() -> onRequestInternal(request, observer));
+            containerContext.runInDomainPartitionContext(task);
             }
         else
             {
-            onRequestInternal(request, observer);
+            task.run();
             }
         }
 
-    protected abstract void onRequestInternal(Req request, StreamObserver<Resp> observer);
+    /**
+     * Return the {@link Executor} to use to resume flow-controlled
+     * response streams.
+     *
+     * @return the {@link Executor} to use to resume response streams
+     */
+    protected Executor getExecutor()
+        {
+        GrpcService service = m_service;
+        return service instanceof BaseGrpcServiceImpl
+                ? ((BaseGrpcServiceImpl) service).getExecutor()
+                : Runnable::run;
+        }
 
-    @Override
-    public void close()
+    /**
+     * Stream chunks of responses to a {@link StreamObserver}, honouring
+     * the gRPC flow-control signals of the underlying call, and then
+     * complete the observer.
+     * <p>
+     * Each chunk is only obtained from the iterator when the underlying call
+     * is ready to send more messages, so the proxy never holds more than a
+     * single chunk of responses. If the call is not ready the stream is
+     * suspended and resumed on the {@link #getExecutor() executor} when
+     * gRPC signals that the call is ready again.
+     *
+     * @param iterChunks  the iterator that lazily produces each chunk of responses
+     * @param observer    the {@link StreamObserver} to send the responses to
+     */
+    protected void streamChunks(Iterator<? extends Iterable<? extends Resp>> iterChunks, StreamObserver<Resp> observer)
         {
+        new FlowControlledStream(iterChunks, observer).start();
         }
 
-    // ----- helper methods -------------------------------------------------
+    /**
+     * Return the {@link CallStreamObserver} that the specified observer
+     * delegates to, or {@code null} if the observer does not support flow
+     * control.
+     *
+     * @param observer  the {@link StreamObserver}
+     * @param <T>       the type of the observer
+     *
+     * @return the {@link CallStreamObserver} or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    protected static <T> CallStreamObserver<T> getCallObserver(StreamObserver<T> observer)
+        {
+        StreamObserver<?> delegate = observer;
+        while (delegate instanceof SafeStreamObserver)
+            {
+            delegate = ((SafeStreamObserver<?>) delegate).delegate();
+            }
+        return delegate instanceof CallStreamObserver ? (CallStreamObserver<T>) delegate : null;
+        }
 
     /**
      * Send a response containing a {@link BoolValue} to
@@ -336,7 +406,7 @@ public abstract class BaseProxyProtocol<Req extends Message, Resp extends Messag
         }
 
     protected abstract Any getMessage(Req request);
-    
+
     /**
      * Deserialize a {@link Binary} value using this proxy's serializer.
      *
@@ -392,6 +462,131 @@ public abstract class BaseProxyProtocol<Req extends Message, Resp extends Messag
         return  oResult == null ? defaultValue : oResult;
         }
 
+    // ----- inner class: FlowControlledStream ------------------------------
+
+    /**
+     * A stream of response chunks that is only advanced while the
+     * underlying gRPC call is ready to send.
+     */
+    protected class FlowControlledStream
+            implements Runnable
+        {
+        /**
+         * Create a {@link FlowControlledStream}.
+         *
+         * @param iterChunks  the iterator that lazily produces each chunk of responses
+         * @param observer    the {@link StreamObserver} to send the responses to
+         */
+        protected FlowControlledStream(Iterator<? extends Iterable<? extends Resp>> iterChunks, StreamObserver<Resp> observer)
+            {
+            f_iterChunks   = iterChunks;
+            f_observer     = observer;
+            f_callObserver = getCallObserver(observer);
+            f_executor     = getExecutor();
+            }
+
+        /**
+         * Start streaming on the calling thread.
+         */
+        public void start()
+            {
+            f_fScheduled.set(true);
+            if (f_callObserver != null)
+                {
+                f_callObserver.setOnReadyHandler(this::onReady);
+                }
+            run();
+            }
+
+        /**
+         * Called when the underlying call becomes ready to resume streaming.
+         */
+        protected void onReady()
+            {
+            if (f_fScheduled.compareAndSet(false, true))
+                {
+                f_executor.execute(() -> runInContext(this));
+                }
+            }
+
+        @Override
+        public void run()
+            {
+            try
+                {
+                while (true)
+                    {
+                    if (!isReady())
+                        {
+                        f_fScheduled.set(false);
+
+                        // re-check, the call may have become ready before the
+                        // flag was cleared, in which case the on-ready
+                        // notification would have been ignored
+                        if (isReady() && f_fScheduled.compareAndSet(false, true))
+                            {
+                            continue;
+                            }
+                        return;
+                        }
+
+                    if (!f_iterChunks.hasNext())
+                        {
+                        f_observer.onCompleted();
+                        return;
+                        }
+
+                    for (Resp response : f_iterChunks.next())
+                        {
+                        f_observer.onNext(response);
+                        }
+                    }
+                }
+            catch (Throwable t)
+                {
+                f_observer.onError(t);
+                }
+            }
+
+        /**
+         * Returns {@code true} if the underlying call is ready to send.
+         *
+         * @return {@code true} if the underlying call is ready to send
+         */
+        protected boolean isReady()
+            {
+            return f_callObserver == null || f_callObserver.isReady();
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The iterator that lazily produces each chunk of responses.
+         */
+        private final Iterator<? extends Iterable<? extends Resp>> f_iterChunks;
+
+        /**
+         * The {@link StreamObserver} to send the responses to.
+         */
+        private final StreamObserver<Resp> f_observer;
+
+        /**
+         * The flow-controlled observer, or {@code null} if flow control
+         * is not supported.
+         */
+        private final CallStreamObserver<Resp> f_callObserver;
+
+        /**
+         * The {@link Executor} used to resume the stream.
+         */
+        private final Executor f_executor;
+
+        /**
+         * A flag indicating whether the stream is running or scheduled to run.
+         */
+        private final AtomicBoolean f_fScheduled = new AtomicBoolean();
+        }
+
     // ----- data members ---------------------------------------------------
 
     /**
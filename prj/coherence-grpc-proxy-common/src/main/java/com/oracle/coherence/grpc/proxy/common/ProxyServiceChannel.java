@@ -39,16 +39,21 @@ import io.grpc.Status;
 
 import io.grpc.StatusException;
 import io.grpc.StatusRuntimeException;
+
+import io.grpc.stub.CallStreamObserver;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 
 import java.util.Comparator;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
 
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
@@ -86,6 +91,19 @@ public class ProxyServiceChannel
         f_service        = service;
         f_observer       = SafeStreamObserver.ensureSafeObserver(LockingStreamObserver.ensureLockingObserver(observer));
         f_memberSupplier = Objects.requireNonNullElse(memberSupplier, () -> CacheFactory.getCluster().getLocalMember());
+
+        if (observer instanceof ServerCallStreamObserver)
+            {
+            // the on-ready handler must be registered before the service
+            // method returns, i.e. while this channel is being created
+            ServerCallStreamObserver<ProxyResponse> callObserver = (ServerCallStreamObserver<ProxyResponse>) observer;
+            callObserver.setOnReadyHandler(this::onReady);
+            f_callObserver = callObserver;
+            }
+        else
+            {
+            f_callObserver = null;
+            }
         }
 
     // ----- StreamObserver methods -----------------------------------------
@@ -239,6 +257,38 @@ public class ProxyServiceChannel
             }
         }
 
+    /**
+     * Returns {@code true} if the underlying gRPC call can accept more
+     * response messages without excessive buffering.
+     *
+     * @return {@code true} if the underlying gRPC call is ready to send
+     */
+    protected boolean isReady()
+        {
+        CallStreamObserver<ProxyResponse> callObserver = f_callObserver;
+        return callObserver == null || callObserver.isReady();
+        }
+
+    /**
+     * Called by gRPC when the underlying call transitions to a ready state,
+     * to notify any requests that are waiting for the outbound flow-control
+     * window to open.
+     */
+    protected void onReady()
+        {
+        for (Runnable handler : f_mapReadyHandler.values())
+            {
+            try
+                {
+                handler.run();
+                }
+            catch (Throwable t)
+                {
+                Logger.err(t);
+                }
+            }
+        }
+
     /**
      * Create a client {@link UUID}.
      *
@@ -454,7 +504,7 @@ public class ProxyServiceChannel
      * @param <Resp> the type of the protocol responses
      */
     protected class ForwardingStreamObserver<Resp extends Message>
-            implements StreamObserver<Resp>
+            extends CallStreamObserver<Resp>
         {
         /**
          * Create a {@link ForwardingStreamObserver}.
@@ -478,18 +528,66 @@ public class ProxyServiceChannel
         @Override
         public void onError(Throwable t)
             {
+            f_mapReadyHandler.remove(m_nId);
             sendError(m_nId, t);
             }
 
         @Override
         public void onCompleted()
             {
+            f_mapReadyHandler.remove(m_nId);
             f_observer.onNext(ProxyResponse.newBuilder()
                     .setId(m_nId)
                     .setComplete(Complete.getDefaultInstance())
                     .build());
             }
 
+        // ----- CallStreamObserver methods ---------------------------------
+
+        @Override
+        public boolean isReady()
+            {
+            return ProxyServiceChannel.this.isReady();
+            }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * All requests share the single bidirectional gRPC call owned by the
+         * channel, so the handler is registered with the channel and invoked
+         * whenever the call becomes ready, until this request completes.
+         */
+        @Override
+        public void setOnReadyHandler(Runnable onReadyHandler)
+            {
+            if (onReadyHandler == null)
+                {
+                f_mapReadyHandler.remove(m_nId);
+                }
+            else
+                {
+                f_mapReadyHandler.put(m_nId, onReadyHandler);
+                }
+            }
+
+        @Override
+        public void disableAutoInboundFlowControl()
+            {
+            // inbound flow control is shared by all requests on the channel
+            }
+
+        @Override
+        public void request(int count)
+            {
+            // inbound flow control is shared by all requests on the channel
+            }
+
+        @Override
+        public void setMessageCompression(boolean enable)
+            {
+            // compression is controlled by the channel
+            }
+
         // ----- data members -----------------------------------------------
 
         /**
@@ -515,6 +613,17 @@ public class ProxyServiceChannel
      */
     private final StreamObserver<ProxyResponse> f_observer;
 
+    /**
+     * The underlying gRPC {@link ServerCallStreamObserver}, used for outbound
+     * flow control, or {@code null} if the channel was not created by gRPC.
+     */
+    private final ServerCallStreamObserver<ProxyResponse> f_callObserver;
+
+    /**
+     * The on-ready handlers of in-flight requests, keyed by request identifier.
+     */
+    private final Map<Long, Runnable> f_mapReadyHandler = new ConcurrentHashMap<>();
+
     /**
      * The {@link Supplier} tp use to obtain the local {@link Member}.
      */
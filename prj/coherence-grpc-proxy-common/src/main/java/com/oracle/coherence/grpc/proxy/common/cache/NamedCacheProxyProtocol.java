@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -51,11 +51,16 @@ import com.tangosol.internal.util.processor.CacheProcessors;
 import com.tangosol.io.Serializer;
 
 import com.tangosol.net.AsyncNamedCache;
+import com.tangosol.net.CacheService;
 import com.tangosol.net.NamedCache;
+import com.tangosol.net.PartitionedService;
 
 import com.tangosol.net.cache.CacheMap;
 
 import com.tangosol.net.messaging.ConnectionManager;
+
+import com.tangosol.net.partition.PartitionSet;
+
 import com.tangosol.util.Base;
 import com.tangosol.util.Binary;
 import com.tangosol.util.ExternalizableHelper;
@@ -72,12 +77,16 @@ import com.tangosol.util.ValueExtractor;
 import com.tangosol.util.filter.AlwaysFilter;
 
 import com.tangosol.util.filter.InKeySetFilter;
+import com.tangosol.util.filter.PartitionedFilter;
 import io.grpc.stub.StreamObserver;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -120,6 +129,7 @@ public class NamedCacheProxyProtocol
     @Override
     protected void initInternal(GrpcService service, InitRequest request, int nVersion, UUID clientUUID)
         {
+        m_nVersion = nVersion;
         }
 
     @Override
@@ -245,6 +255,11 @@ public class NamedCacheProxyProtocol
                 case Size:
                     onSize(proxy, observer);
                     break;
+                case StreamEntries:
+                case StreamKeys:
+                case StreamValues:
+                    onStream(proxy, request, observer);
+                    break;
                 case Truncate:
                     onTruncate(proxy, observer);
                     break;
@@ -856,6 +871,36 @@ public class NamedCacheProxyProtocol
         complete(proxy.size(), proxy.getCacheId(), observer);
         }
 
+    /**
+     * Stream the entries, keys or values of a cache partition by partition,
+     * honouring the flow control of the underlying gRPC call.
+     *
+     * @param proxy     the {@link NamedCacheProxy} to stream
+     * @param request   the {@link NamedCacheRequest}
+     * @param observer  the {@link StreamObserver} to send the responses to
+     */
+    protected void onStream(NamedCacheProxy proxy, NamedCacheRequest request, StreamObserver<NamedCacheResponse> observer)
+        {
+        if (m_nVersion < STREAMING_VERSION)
+            {
+            throw new UnsupportedOperationException("Request " + request.getType()
+                    + " requires protocol version " + STREAMING_VERSION
+                    + " or later, the negotiated version is " + m_nVersion);
+            }
+
+        QueryRequest query = request.hasMessage()
+                ? unpack(request, QueryRequest.class) : QueryRequest.getDefaultInstance();
+
+        if (query.hasComparator())
+            {
+            throw new IllegalArgumentException("A comparator is not supported for request " + request.getType());
+            }
+
+        Filter<?> filter = query.hasFilter() ? fromByteString(query.getFilter()) : AlwaysFilter.INSTANCE();
+
+        streamChunks(new PartitionStream(proxy, filter, request.getType()), observer);
+        }
+
     protected void onTruncate(NamedCacheProxy proxy, StreamObserver<NamedCacheResponse> observer)
         {
         proxy.truncate();
@@ -929,6 +974,119 @@ public class NamedCacheProxyProtocol
         return BinaryHelper.toBinary(binaryValue.getValue());
         }
 
+    // ----- inner class: PartitionStream -----------------------------------
+
+    /**
+     * An {@link Iterator} that lazily queries a cache one partition at a
+     * time, producing the responses for each partition.
+     */
+    protected class PartitionStream
+            implements Iterator<List<NamedCacheResponse>>
+        {
+        /**
+         * Create a {@link PartitionStream}.
+         *
+         * @param proxy        the {@link NamedCacheProxy} to query
+         * @param filter       the {@link Filter} to apply
+         * @param requestType  the type of stream request
+         */
+        public PartitionStream(NamedCacheProxy proxy, Filter<?> filter, NamedCacheRequestType requestType)
+            {
+            CacheService service = proxy.getCacheService();
+
+            f_proxy       = proxy;
+            f_filter      = filter;
+            f_requestType = requestType;
+            f_cPartitions = service instanceof PartitionedService
+                    ? ((PartitionedService) service).getPartitionCount() : 0;
+            }
+
+        @Override
+        public boolean hasNext()
+            {
+            // a non-partitioned cache is streamed as a single chunk
+            return f_cPartitions == 0 ? m_nPartition == 0 : m_nPartition < f_cPartitions;
+            }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public List<NamedCacheResponse> next()
+            {
+            if (!hasNext())
+                {
+                throw new NoSuchElementException();
+                }
+
+            Filter filter = f_filter;
+            if (f_cPartitions > 0)
+                {
+                PartitionSet parts = new PartitionSet(f_cPartitions);
+                parts.add(m_nPartition);
+                filter = new PartitionedFilter<>(filter, parts);
+                }
+            m_nPartition++;
+
+            int                      cacheId = f_proxy.getCacheId();
+            List<NamedCacheResponse> list    = new ArrayList<>();
+            if (f_requestType == NamedCacheRequestType.StreamKeys)
+                {
+                for (Binary binKey : (Set<Binary>) f_proxy.keySet(filter))
+                    {
+                    list.add(response(cacheId)
+                            .setType(ResponseType.Message)
+                            .setMessage(Any.pack(BinaryHelper.toBytesValue(binKey)))
+                            .build());
+                    }
+                }
+            else
+                {
+                boolean fValues = f_requestType == NamedCacheRequestType.StreamValues;
+                for (Map.Entry<Binary, Binary> entry : (Set<Map.Entry<Binary, Binary>>) f_proxy.entrySet(filter))
+                    {
+                    Any any = fValues
+                            ? Any.pack(BinaryHelper.toBytesValue(entry.getValue()))
+                            : Any.pack(BinaryKeyAndValue.newBuilder()
+                                    .setKey(BinaryHelper.toByteString(entry.getKey()))
+                                    .setValue(BinaryHelper.toByteString(entry.getValue()))
+                                    .build());
+
+                    list.add(response(cacheId)
+                            .setType(ResponseType.Message)
+                            .setMessage(any)
+                            .build());
+                    }
+                }
+            return list;
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The {@link NamedCacheProxy} to query.
+         */
+        private final NamedCacheProxy f_proxy;
+
+        /**
+         * The {@link Filter} to apply.
+         */
+        private final Filter<?> f_filter;
+
+        /**
+         * The type of stream request.
+         */
+        private final NamedCacheRequestType f_requestType;
+
+        /**
+         * The partition count, or zero if the cache is not partitioned.
+         */
+        private final int f_cPartitions;
+
+        /**
+         * The next partition to query.
+         */
+        private int m_nPartition;
+        }
+
     // ----- inner class: ChannelStub ---------------------------------------
 
     /**
@@ -1144,4 +1302,9 @@ public class NamedCacheProxyProtocol
      * An array of {@link NamedCacheProxy} instances indexed by the cache identifier.
      */
     protected final LongArray<NamedCacheProxy> m_aProxy = new SparseArray<>();
+
+    /**
+     * The protocol version negotiated with the client.
+     */
+    protected int m_nVersion;
     }
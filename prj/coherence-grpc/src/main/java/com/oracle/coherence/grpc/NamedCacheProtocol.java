@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -45,8 +45,17 @@ public interface NamedCacheProtocol<Req extends Message, Resp extends Message>
 
     /**
      * The current protocol version.
+     * <p>
+     * Version 2 added the {@code StreamEntries}, {@code StreamKeys} and
+     * {@code StreamValues} request types.
      */
-    int VERSION = 1;
+    int VERSION = 2;
+
+    /**
+     * The minimum protocol version that supports the {@code StreamEntries},
+     * {@code StreamKeys} and {@code StreamValues} request types.
+     */
+    int STREAMING_VERSION = 2;
 
     /**
      * The minimum supported protocol version.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -15,17 +15,22 @@ import com.tangosol.util.Filter;
 import com.tangosol.util.InvocableMap;
 
 import com.tangosol.util.NullImplementation;
+import com.tangosol.util.aggregator.Count;
 import com.tangosol.util.aggregator.DoubleSum;
+import com.tangosol.util.aggregator.GroupAggregator;
 import com.tangosol.util.extractor.IdentityExtractor;
 import com.tangosol.util.extractor.ReflectionExtractor;
 import com.tangosol.util.filter.AlwaysFilter;
 import com.tangosol.util.filter.EqualsFilter;
 import data.Trade;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 
@@ -190,6 +195,47 @@ public class DistEntryAggregatorTests
         AbstractFunctionalTest._startup();
         }
 
+    /**
+    * Test the fork-join execution of PARALLEL aggregators that are not
+    * BY_PARTITION.
+    */
+    @Test
+    public void testParallelSplit()
+        {
+        AbstractFunctionalTest._shutdown();
+        System.setProperty("coherence.distributed.aggregate.splitthreshold", "0");
+        AbstractFunctionalTest._startup();
+
+        try
+            {
+            NamedCache cache = getNamedCache();
+            cache.clear();
+
+            Map mapData = new HashMap();
+            for (int i = 1; i <= NENTRIES; ++i)
+                {
+                mapData.put(String.valueOf(i), new Trade(i, PRICE, i % 2 == 0 ? "IBM" : "ORCL", 100));
+                }
+            cache.putAll(mapData);
+
+            assertEquals(NENTRIES, cache.aggregate(AlwaysFilter.INSTANCE, new Count()));
+            assertTrue(equals(cache.aggregate(AlwaysFilter.INSTANCE, new DoubleSum("getPrice")), NENTRIES * PRICE));
+
+            Map mapGroup = (Map) cache.aggregate(AlwaysFilter.INSTANCE,
+                    GroupAggregator.createInstance("getSymbol", new Count()));
+            assertEquals(NENTRIES / 2, mapGroup.get("IBM"));
+            assertEquals(NENTRIES / 2, mapGroup.get("ORCL"));
+
+            cache.clear();
+            }
+        finally
+            {
+            AbstractFunctionalTest._shutdown();
+            System.clearProperty("coherence.distributed.aggregate.splitthreshold");
+            AbstractFunctionalTest._startup();
+            }
+        }
+
     protected void doAggregate(NamedCache cache, DoubleSum agent)
         {
         Object oResult = cache.aggregate(new EqualsFilter("getSymbol", "IBM"), agent);
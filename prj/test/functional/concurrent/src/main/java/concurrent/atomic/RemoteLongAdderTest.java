@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package concurrent.atomic;
+
+import com.oracle.coherence.concurrent.atomic.Atomics;
+import com.oracle.coherence.concurrent.atomic.RemoteAtomicLong;
+import com.oracle.coherence.concurrent.atomic.RemoteLongAdder;
+
+import com.tangosol.net.Coherence;
+
+import concurrent.ConcurrentHelper;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link RemoteLongAdder}.
+ */
+public class RemoteLongAdderTest
+    {
+    // ----- test lifecycle -------------------------------------------------
+
+    @BeforeAll
+    static void startUp()
+        {
+        Coherence.clusterMember().start().join();
+        }
+
+    @AfterAll
+    static void shutDown()
+        {
+        ConcurrentHelper.resetAtomics();
+        Coherence.closeAll();
+        }
+
+    // ----- test methods ---------------------------------------------------
+
+    @Test
+    void shouldAddAndSum()
+        {
+        RemoteLongAdder adder = Atomics.remoteLongAdder("add");
+
+        assertThat(adder.sum(), is(0L));
+        adder.increment();
+        adder.add(5L);
+        adder.decrement();
+        assertThat(adder.sum(), is(5L));
+        assertThat(adder.longValue(), is(5L));
+        assertThat(adder.toString(), is("5"));
+        }
+
+    @Test
+    void shouldSumThenReset()
+        {
+        RemoteLongAdder adder = Atomics.remoteLongAdder("reset", 4);
+
+        assertThat(adder.getStripeCount(), is(4));
+        adder.add(10L);
+        assertThat(adder.sumThenReset(), is(10L));
+        assertThat(adder.sum(), is(0L));
+        assertThat(adder.sumThenReset(), is(0L));
+
+        adder.add(3L);
+        adder.reset();
+        assertThat(adder.sum(), is(0L));
+        }
+
+    @Test
+    void shouldCountConcurrentIncrementsExactly() throws InterruptedException
+        {
+        RemoteLongAdder adder    = Atomics.remoteLongAdder("concurrent");
+        ExecutorService e        = Executors.newFixedThreadPool(16);
+        int             cTasks   = 64;
+        int             cPerTask = 500;
+
+        for (int i = 0; i < cTasks; i++)
+            {
+            e.submit(() ->
+                    {
+                    for (int j = 0; j < cPerTask; j++)
+                        {
+                        adder.increment();
+                        }
+                    });
+            }
+
+        e.shutdown();
+        assertThat(e.awaitTermination(60, TimeUnit.SECONDS), is(true));
+        assertThat(adder.sum(), is((long) cTasks * cPerTask));
+        assertThat(adder.sumThenReset(), is((long) cTasks * cPerTask));
+        }
+
+    @Test
+    @Disabled("only run manually to compare throughput with RemoteAtomicLong")
+    void benchmarkIncrementThroughput() throws InterruptedException
+        {
+        RemoteAtomicLong atomic = Atomics.remoteAtomicLong("bench");
+        RemoteLongAdder  adder  = Atomics.remoteLongAdder("bench");
+
+        for (int cThreads : new int[] {1, 8, 64})
+            {
+            long cAtomic = measure(cThreads, atomic::incrementAndGet);
+            long cAdder  = measure(cThreads, adder::increment);
+
+            System.out.println("Threads=" + cThreads
+                               + ", RemoteAtomicLong increments/s=" + cAtomic
+                               + ", RemoteLongAdder increments/s=" + cAdder);
+            }
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Return the number of times per second the specified task is executed
+     * by the specified number of threads, measured over five seconds.
+     *
+     * @param cThreads  the number of threads
+     * @param task      the task
+     *
+     * @return the number of executions per second
+     */
+    protected long measure(int cThreads, Runnable task) throws InterruptedException
+        {
+        LongAdder       counter = new LongAdder();
+        ExecutorService e       = Executors.newFixedThreadPool(cThreads);
+        long            ldtEnd  = System.currentTimeMillis() + 5_000L;
+
+        for (int i = 0; i < cThreads; i++)
+            {
+            e.submit(() ->
+                    {
+                    while (System.currentTimeMillis() < ldtEnd)
+                        {
+                        task.run();
+                        counter.increment();
+                        }
+                    });
+            }
+
+        e.shutdown();
+        assertThat(e.awaitTermination(30, TimeUnit.SECONDS), is(true));
+
+        return counter.sum() / 5;
+        }
+    }
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package concurrent.locks;
+
+import com.oracle.bedrock.junit.CoherenceClusterExtension;
+
+import com.oracle.bedrock.runtime.LocalPlatform;
+
+import com.oracle.bedrock.runtime.coherence.CoherenceCluster;
+import com.oracle.bedrock.runtime.coherence.CoherenceClusterMember;
+import com.oracle.bedrock.runtime.coherence.options.ClusterPort;
+import com.oracle.bedrock.runtime.coherence.options.LocalHost;
+import com.oracle.bedrock.runtime.coherence.options.LocalStorage;
+import com.oracle.bedrock.runtime.coherence.options.Logging;
+import com.oracle.bedrock.runtime.coherence.options.Multicast;
+import com.oracle.bedrock.runtime.coherence.options.RoleName;
+
+import com.oracle.bedrock.runtime.concurrent.RemoteCallable;
+
+import com.oracle.bedrock.runtime.java.options.ClassName;
+import com.oracle.bedrock.runtime.java.options.IPv4Preferred;
+import com.oracle.bedrock.runtime.java.options.SystemProperty;
+
+import com.oracle.bedrock.runtime.options.DisplayName;
+import com.oracle.bedrock.runtime.options.StabilityPredicate;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.oracle.coherence.concurrent.locks.Locks;
+import com.oracle.coherence.concurrent.locks.RemoteLock;
+
+import com.tangosol.net.Coherence;
+
+import org.junit.jupiter.api.Test;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Test that a lock leased by one cluster member is revoked, and acquired, by
+ * another member.
+ */
+public class ClusteredRemoteLockLeaseIT
+    {
+    // ----- test methods ---------------------------------------------------
+
+    @Test
+    void shouldRevokeLeaseHeldByAnotherMember()
+        {
+        CoherenceClusterMember member1   = f_coherenceResource.getCluster().get("storage-1");
+        CoherenceClusterMember member2   = f_coherenceResource.getCluster().get("storage-2");
+        String                 sLockName = "leased";
+
+        // the first member keeps the lease after releasing the lock
+        assertThat(member1.invoke(new LockAndUnlock(sLockName)), is(true));
+        assertThat(member1.invoke(new IsLeased(sLockName)), is(true));
+
+        // the second member's lock() revokes the lease and acquires the lock
+        assertThat(member2.invoke(new LockAndUnlock(sLockName)), is(true));
+        assertThat(member1.invoke(new IsLeased(sLockName)), is(false));
+
+        // and the first member revokes the second member's lease in turn
+        assertThat(member1.invoke(new LockAndUnlock(sLockName)), is(true));
+        assertThat(member2.invoke(new IsLeased(sLockName)), is(false));
+        }
+
+    // ----- inner class: LockAndUnlock -------------------------------------
+
+    /**
+     * A Bedrock remote callable that acquires and releases a lock, and
+     * returns whether the lock was leased while held.
+     */
+    static class LockAndUnlock
+            implements RemoteCallable<Boolean>
+        {
+        /**
+         * Create a {@link LockAndUnlock} callable.
+         *
+         * @param sLockName  the name of the lock to acquire
+         */
+        LockAndUnlock(String sLockName)
+            {
+            f_sLockName = sLockName;
+            }
+
+        @Override
+        public Boolean call()
+            {
+            RemoteLock lock = Locks.remoteLock(f_sLockName);
+            lock.lock();
+            try
+                {
+                Logger.info("Lock " + f_sLockName + " acquired by " + lock.getOwner()
+                            + ", leased=" + lock.isLeased());
+                return lock.isLeased();
+                }
+            finally
+                {
+                lock.unlock();
+                }
+            }
+
+        /**
+         * The name of the lock to acquire.
+         */
+        private final String f_sLockName;
+        }
+
+    // ----- inner class: IsLeased ------------------------------------------
+
+    /**
+     * A Bedrock remote callable that returns whether the member holds the
+     * lease of a lock.
+     */
+    static class IsLeased
+            implements RemoteCallable<Boolean>
+        {
+        /**
+         * Create an {@link IsLeased} callable.
+         *
+         * @param sLockName  the name of the lock
+         */
+        IsLeased(String sLockName)
+            {
+            f_sLockName = sLockName;
+            }
+
+        @Override
+        public Boolean call()
+            {
+            return Locks.remoteLock(f_sLockName).isLeased();
+            }
+
+        /**
+         * The name of the lock.
+         */
+        private final String f_sLockName;
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * A Bedrock utility to capture logs of spawned processes into files
+     * under target/test-output.
+     */
+    static AbstractClusteredRemoteLockIT.TestLogs logs =
+            new AbstractClusteredRemoteLockIT.TestLogs(ClusteredRemoteLockLeaseIT.class);
+
+    /**
+     * A Bedrock JUnit5 extension that starts a Coherence cluster made up of
+     * two storage enabled members that acquire remote locks with a lease.
+     */
+    @RegisterExtension
+    static CoherenceClusterExtension f_coherenceResource =
+            new CoherenceClusterExtension()
+                    .using(LocalPlatform.get())
+                    .with(ClassName.of(Coherence.class),
+                          Logging.at(9),
+                          LocalHost.only(),
+                          Multicast.ttl(0),
+                          IPv4Preferred.yes(),
+                          logs,
+                          ClusterPort.automatic(),
+                          SystemProperty.of("coherence.concurrent.locks.lease", true),
+                          StabilityPredicate.of(CoherenceCluster.Predicates.isCoherenceRunning()))
+                    .include(2,
+                             DisplayName.of("storage"),
+                             RoleName.of("storage"),
+                             LocalStorage.enabled());
+    }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -17,6 +17,8 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
+import java.util.concurrent.atomic.LongAdder;
+
 import java.util.concurrent.locks.Lock;
 
 import org.junit.jupiter.api.AfterAll;
@@ -106,6 +108,46 @@ public class RemoteLockTest
         e.awaitTermination(10, TimeUnit.SECONDS);
         }
 
+    @Test
+    @Disabled("only run manually to measure lock throughput, with and without -Dcoherence.concurrent.locks.lease=true")
+    void benchmarkLockThroughput() throws InterruptedException
+        {
+        // low contention: a single thread re-acquiring the lock;
+        // high contention: eight threads competing for it
+        for (int cThreads : new int[] {1, 8})
+            {
+            RemoteLock      lock    = Locks.remoteLock("bench");
+            LongAdder       counter = new LongAdder();
+            ExecutorService e       = Executors.newFixedThreadPool(cThreads);
+            long            ldtEnd  = System.currentTimeMillis() + 10_000L;
+
+            for (int i = 0; i < cThreads; i++)
+                {
+                e.submit(() ->
+                        {
+                        while (System.currentTimeMillis() < ldtEnd)
+                            {
+                            lock.lock();
+                            try
+                                {
+                                counter.increment();
+                                }
+                            finally
+                                {
+                                lock.unlock();
+                                }
+                            }
+                        });
+                }
+
+            e.shutdown();
+            assertThat(e.awaitTermination(30, TimeUnit.SECONDS), is(true));
+
+            System.out.println("Threads=" + cThreads + ", Leased=" + lock.isLeased()
+                               + ", Acquisitions/s=" + counter.sum() / 10);
+            }
+        }
+
     @Test
     void shouldAcquireAndReleaseLock()
         {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -3038,6 +3038,121 @@ public class NamedCacheProxyProtocolIT
         assertThat(nSize.getValue(), is(cache.size()));
         }
 
+    // ----- Stream ---------------------------------------------------------
+
+    @ParameterizedTest(name = "{index} serializer={0} scope={2}")
+    @MethodSource("serializers")
+    public void shouldStreamEntries(String ignored, Serializer serializer, String sScope) throws Exception
+        {
+        String                      sCacheName = "test-cache";
+        NamedCache<String, Integer> cache      = ensureEmptyCache(sScope, sCacheName);
+        for (int i = 0; i < 1000; i++)
+            {
+            cache.put("key-" + i, i);
+            }
+
+        TestStreamObserver<ProxyResponse> observer = new TestStreamObserver<>();
+        StreamObserver<ProxyRequest>      channel  = openChannel(observer);
+
+        init(channel, observer, serializer, sScope);
+        int cacheId = ensureCache(channel, observer, sCacheName);
+
+        Set<Map.Entry<String, Integer>> expected = cache.entrySet();
+
+        List<NamedCacheResponse> list = sendStreamCacheRequest(channel, observer, cacheId,
+                NamedCacheRequestType.StreamEntries, QueryRequest.getDefaultInstance());
+
+        observer.assertComplete()
+                .assertNoErrors();
+
+        Map<String, Integer> oResult = toMap(list, serializer);
+        assertThat(oResult.entrySet(), is(expected));
+        }
+
+    @ParameterizedTest(name = "{index} serializer={0} scope={2}")
+    @MethodSource("serializers")
+    public void shouldStreamKeysWithFilter(String ignored, Serializer serializer, String sScope) throws Exception
+        {
+        String                      sCacheName = "test-cache";
+        NamedCache<String, Integer> cache      = ensureEmptyCache(sScope, sCacheName);
+        for (int i = 0; i < 1000; i++)
+            {
+            cache.put("key-" + i, i);
+            }
+
+        TestStreamObserver<ProxyResponse> observer = new TestStreamObserver<>();
+        StreamObserver<ProxyRequest>      channel  = openChannel(observer);
+
+        init(channel, observer, serializer, sScope);
+        int cacheId = ensureCache(channel, observer, sCacheName);
+
+        Filter<Integer> filter       = Filters.greater(Extractors.identity(), 500);
+        List<String>    listExpected = new ArrayList<>(cache.keySet(filter));
+        QueryRequest    request      = QueryRequest.newBuilder()
+                                                .setFilter(BinaryHelper.toByteString(filter, serializer))
+                                                .build();
+
+        List<NamedCacheResponse> list = sendStreamCacheRequest(channel, observer, cacheId,
+                NamedCacheRequestType.StreamKeys, request);
+        assertThat(list.size(), is(listExpected.size()));
+
+        List<String> oResult = list.stream()
+                .map(r -> unpack(r.getMessage(), BytesValue.class))
+                .map(v -> (String) BinaryHelper.fromBytesValue(v, serializer))
+                .collect(Collectors.toList());
+
+        assertThat(oResult, containsInAnyOrder(listExpected.toArray()));
+        }
+
+    @ParameterizedTest(name = "{index} serializer={0} scope={2}")
+    @MethodSource("serializers")
+    public void shouldStreamValues(String ignored, Serializer serializer, String sScope) throws Exception
+        {
+        String                      sCacheName = "test-cache";
+        NamedCache<String, Integer> cache      = ensureEmptyCache(sScope, sCacheName);
+        for (int i = 0; i < 1000; i++)
+            {
+            cache.put("key-" + i, i);
+            }
+
+        TestStreamObserver<ProxyResponse> observer = new TestStreamObserver<>();
+        StreamObserver<ProxyRequest>      channel  = openChannel(observer);
+
+        init(channel, observer, serializer, sScope);
+        int cacheId = ensureCache(channel, observer, sCacheName);
+
+        Collection<Integer> expected = cache.values();
+
+        List<NamedCacheResponse> list = sendStreamCacheRequest(channel, observer, cacheId,
+                NamedCacheRequestType.StreamValues, QueryRequest.getDefaultInstance());
+        assertThat(list.size(), is(expected.size()));
+
+        List<Integer> listResult = list.stream()
+                .map(r -> unpack(r.getMessage(), BytesValue.class))
+                .map(bv -> (Integer) BinaryHelper.fromBytesValue(bv, serializer))
+                .toList();
+
+        assertThat(listResult, containsInAnyOrder(expected.toArray()));
+        }
+
+    @ParameterizedTest(name = "{index} serializer={0} scope={2}")
+    @MethodSource("serializers")
+    public void shouldRejectStreamWithVersionOne(String ignored, Serializer serializer, String sScope) throws Exception
+        {
+        String sCacheName = "test-cache";
+        ensureEmptyCache(sScope, sCacheName);
+
+        TestStreamObserver<ProxyResponse> observer = new TestStreamObserver<>();
+        StreamObserver<ProxyRequest>      channel  = openChannel(observer);
+
+        init(channel, observer, serializer, sScope, 1);
+        int cacheId = ensureCache(channel, observer, sCacheName);
+
+        assertThrows(RequestIncompleteException.class,
+                () -> sendStreamCacheRequest(channel, observer, cacheId,
+                        NamedCacheRequestType.StreamEntries, QueryRequest.getDefaultInstance()));
+        }
+
     // ----- Truncate -------------------------------------------------------
 
     @ParameterizedTest(name = "{index} scope={0}")
@@ -3453,9 +3568,15 @@ public class NamedCacheProxyProtocolIT
     protected void init(StreamObserver<ProxyRequest> channel, TestStreamObserver<ProxyResponse> observer,
             Serializer serializer, String sScope) throws Exception
         {
+        init(channel, observer, serializer, sScope, NamedCacheProtocol.VERSION);
+        }
+
+    protected void init(StreamObserver<ProxyRequest> channel, TestStreamObserver<ProxyResponse> observer,
+            Serializer serializer, String sScope, int nVersion) throws Exception
+        {
         InitRequest initRequest = InitRequest.newBuilder()
                 .setProtocol(NamedCacheProtocol.PROTOCOL_NAME)
-                .setProtocolVersion(NamedCacheProtocol.VERSION)
+                .setProtocolVersion(nVersion)
                 .setFormat(serializer.getName())
                 .setScope(sScope)
                 .build();
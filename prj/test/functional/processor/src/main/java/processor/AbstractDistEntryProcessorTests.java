@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -29,6 +29,7 @@ import com.tangosol.io.pof.PortableObject;
 
 import com.tangosol.net.BackingMapContext;
 import com.tangosol.net.NamedCache;
+import com.tangosol.net.PriorityTask;
 
 import com.tangosol.net.cache.ContinuousQueryCache;
 import com.tangosol.util.Base;
@@ -444,6 +445,44 @@ public abstract class AbstractDistEntryProcessorTests
         Eventually.assertDeferred(cache::isEmpty, is(true));
         }
 
+    /**
+     * Test invokeAll with a limited degree of storage-side parallelism.
+     */
+    @Test
+    public void invokeAllParallelism()
+        {
+        NamedCache cache = getNamedCache();
+        cache.clear();
+
+        final int SIZE = 1000;
+        Map<Integer, Integer> mapData = new HashMap<>();
+        for (int i = 0; i < SIZE; i++)
+            {
+            mapData.put(i, i);
+            }
+        cache.putAll(mapData);
+
+        for (int nParallel : new int[] {1, 2, PriorityTask.PARALLELISM_DEFAULT})
+            {
+            com.tangosol.util.processor.PriorityProcessor processor =
+                    new com.tangosol.util.processor.PriorityProcessor(new NumberIncrementor((ValueManipulator) null, 1, false));
+            processor.setParallelism(nParallel);
+
+            Map mapResult = cache.invokeAll(mapData.keySet(), processor);
+
+            assertEquals(SIZE, mapResult.size());
+            for (int i = 0; i < SIZE; i++)
+                {
+                assertEquals(i + 1, mapResult.get(i));
+                }
+
+            mapResult = cache.invokeAll(mapData.keySet(), new NumberIncrementor((ValueManipulator) null, -1, false));
+            assertEquals(SIZE, mapResult.size());
+            }
+
+        cache.clear();
+        }
+
     // ----- inner classes --------------------------------------------------
 
     public static class OptimizedGetAllProcessor
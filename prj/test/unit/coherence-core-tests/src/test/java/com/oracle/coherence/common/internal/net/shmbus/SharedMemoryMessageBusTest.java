@@ -0,0 +1,641 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.common.internal.net.shmbus;
+
+import com.oracle.coherence.common.base.Collector;
+import com.oracle.coherence.common.io.BufferSequence;
+import com.oracle.coherence.common.io.BufferSequenceInputStream;
+import com.oracle.coherence.common.io.SingleBufferSequence;
+import com.oracle.coherence.common.net.InetSocketAddressHasher;
+import com.oracle.coherence.common.net.TcpSocketProvider;
+import com.oracle.coherence.common.net.exabus.EndPoint;
+import com.oracle.coherence.common.net.exabus.Event;
+import com.oracle.coherence.common.net.exabus.MessageBus;
+import com.oracle.coherence.common.net.exabus.util.SimpleEvent;
+import com.oracle.coherence.common.net.exabus.util.UrlEndPoint;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+import java.nio.file.Files;
+
+import java.util.Map;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the shared memory protocol of {@link SharedMemoryMessageBus},
+ * using an in-process delegate bus.
+ */
+public class SharedMemoryMessageBusTest
+    {
+    @Before
+    public void setup()
+            throws IOException
+        {
+        m_dir = Files.createTempDirectory("shmbus").toFile();
+
+        SharedMemoryBusDriver driver = new SharedMemoryBusDriver("smb", "tmb");
+        driver.m_dir    = m_dir;
+        driver.m_cbRing = SharedMemoryRing.MIN_CAPACITY;
+
+        m_delegateA = new LoopbackBus(point("tmb://127.0.0.1:7001"));
+        m_delegateB = new LoopbackBus(point("tmb://127.0.0.1:7002"));
+        m_delegateA.m_peer = m_delegateB;
+        m_delegateB.m_peer = m_delegateA;
+
+        m_busA = new SharedMemoryMessageBus(driver, m_delegateA);
+        m_busB = new SharedMemoryMessageBus(driver, m_delegateB);
+        m_busA.setEventCollector(m_collectorA);
+        m_busB.setEventCollector(m_collectorB);
+        m_busA.open();
+        m_busB.open();
+        }
+
+    @After
+    public void cleanup()
+        {
+        m_busA.close();
+        m_busB.close();
+
+        for (File file : m_dir.listFiles())
+            {
+            file.delete();
+            }
+        m_dir.delete();
+        }
+
+    /**
+     * Test that messages sent before, during and after the handshake are
+     * delivered in order, and that once the sender has switched all
+     * messages are written into the ring.
+     */
+    @Test
+    public void testHandshake()
+            throws InterruptedException
+        {
+        EndPoint       pointB = m_busB.getLocalEndPoint();
+        CountDownLatch latch  = m_delegateB.suspend();
+
+        m_busA.connect(pointB);
+
+        SharedMemoryMessageBus.Peer stateA = m_busA.f_mapPeer.get(m_delegateB.getLocalEndPoint());
+        assertEquals(SharedMemoryMessageBus.STATE_PENDING, stateA.m_nState);
+
+        // the offer is held by the suspended delegate, so these messages
+        // are sent through the delegate while the offer is outstanding
+        for (int i = 0; i < 100; i++)
+            {
+            m_busA.send(pointB, message(i), null);
+            }
+        assertEquals(100, m_delegateA.getDataCount());
+
+        // let the peer accept the offer; the sender then switches to the ring
+        latch.countDown();
+        waitFor(() -> stateA.m_nState == SharedMemoryMessageBus.STATE_SHM);
+        assertNotNull(stateA.m_ringOut);
+
+        for (int i = 100; i < 200; i++)
+            {
+            m_busA.send(pointB, message(i), null);
+            }
+
+        assertMessages(200);
+        assertEquals(100, m_delegateA.getDataCount());
+
+        // the receiver has unlinked the backing file once mapped
+        assertEquals(0, m_dir.listFiles().length);
+        }
+
+    /**
+     * Test that messages sent concurrently with the handshake are delivered
+     * in order.
+     */
+    @Test
+    public void testConcurrentSends()
+            throws InterruptedException
+        {
+        EndPoint pointB    = m_busB.getLocalEndPoint();
+        int      cMessages = 20_000;
+        Thread   thread    = new Thread(() ->
+            {
+            for (int i = 0; i < cMessages; i++)
+                {
+                m_busA.send(pointB, message(i), null);
+                }
+            });
+
+        thread.start();
+        m_busA.connect(pointB);
+        thread.join();
+
+        assertMessages(cMessages);
+        }
+
+    /**
+     * Test that a rejected offer leaves the connection on the delegate bus.
+     */
+    @Test
+    public void testRejectedOffer()
+            throws InterruptedException
+        {
+        EndPoint       pointB = m_busB.getLocalEndPoint();
+        CountDownLatch latch  = m_delegateB.suspend();
+
+        m_busA.connect(pointB);
+
+        // the peer is unable to map the ring, as if it ran on another machine
+        for (File file : m_dir.listFiles())
+            {
+            assertTrue(file.delete());
+            }
+        latch.countDown();
+
+        SharedMemoryMessageBus.Peer stateA = m_busA.f_mapPeer.get(m_delegateB.getLocalEndPoint());
+        waitFor(() -> stateA.m_nState == SharedMemoryMessageBus.STATE_TCP);
+
+        for (int i = 0; i < 100; i++)
+            {
+            m_busA.send(pointB, message(i), null);
+            }
+
+        assertMessages(100);
+        assertEquals(100, m_delegateA.getDataCount());
+        }
+
+    /**
+     * Test that sends to a peer which does not consume its ring do not wait,
+     * and that the queued messages are delivered in order once it resumes.
+     */
+    @Test
+    public void testBacklog()
+            throws InterruptedException
+        {
+        EndPoint                    pointB    = connect();
+        SharedMemoryMessageBus.Peer stateA    = m_busA.f_mapPeer.get(m_delegateB.getLocalEndPoint());
+        CountDownLatch              latch     = m_collectorB.stall();
+        int                         cMessages = 4 * SharedMemoryRing.MIN_CAPACITY / MESSAGE_SIZE;
+
+        try
+            {
+            for (int i = 0; i < cMessages; i++)
+                {
+                m_busA.send(pointB, message(i, MESSAGE_SIZE), i);
+                }
+
+            assertEquals(1, m_collectorA.getCount(Event.Type.BACKLOG_EXCESSIVE));
+            synchronized (stateA)
+                {
+                assertFalse(stateA.f_queueBacklog.isEmpty());
+                }
+            }
+        finally
+            {
+            latch.countDown();
+            }
+
+        assertMessages(cMessages);
+        waitFor(() -> m_collectorA.getCount(Event.Type.RECEIPT) == cMessages);
+        assertEquals(1, m_collectorA.getCount(Event.Type.BACKLOG_NORMAL));
+        }
+
+    /**
+     * Test that a disconnect is processed while messages are queued for a
+     * peer which does not consume its ring.
+     */
+    @Test
+    public void testDisconnectWithBacklog()
+            throws InterruptedException
+        {
+        EndPoint                    pointB    = connect();
+        SharedMemoryMessageBus.Peer stateA    = m_busA.f_mapPeer.get(m_delegateB.getLocalEndPoint());
+        CountDownLatch              latch     = m_collectorB.stall();
+        int                         cMessages = 4 * SharedMemoryRing.MIN_CAPACITY / MESSAGE_SIZE;
+
+        try
+            {
+            for (int i = 0; i < cMessages; i++)
+                {
+                m_busA.send(pointB, message(i, MESSAGE_SIZE), i);
+                }
+            assertEquals(1, m_collectorA.getCount(Event.Type.BACKLOG_EXCESSIVE));
+
+            m_delegateA.deliver(new SimpleEvent(Event.Type.DISCONNECT, m_delegateB.getLocalEndPoint()));
+            waitFor(() -> m_collectorA.getCount(Event.Type.DISCONNECT) == 1);
+
+            // the queued messages are discarded, but all of them are receipted
+            assertEquals(SharedMemoryMessageBus.STATE_TCP, stateA.m_nState);
+            assertEquals(1, m_collectorA.getCount(Event.Type.BACKLOG_NORMAL));
+            waitFor(() -> m_collectorA.getCount(Event.Type.RECEIPT) == cMessages);
+            }
+        finally
+            {
+            latch.countDown();
+            }
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Connect the sending bus to the receiving bus and wait for the switch
+     * to the ring.
+     *
+     * @return the EndPoint of the receiving bus
+     */
+    protected EndPoint connect()
+            throws InterruptedException
+        {
+        EndPoint pointB = m_busB.getLocalEndPoint();
+
+        m_busA.connect(pointB);
+
+        SharedMemoryMessageBus.Peer stateA = m_busA.f_mapPeer.get(m_delegateB.getLocalEndPoint());
+        waitFor(() -> stateA.m_nState == SharedMemoryMessageBus.STATE_SHM);
+        return pointB;
+        }
+
+    /**
+     * Assert that the receiving bus has received the specified number of
+     * messages, in the order they were sent.
+     *
+     * @param cMessages  the number of messages
+     */
+    protected void assertMessages(int cMessages)
+            throws InterruptedException
+        {
+        for (int i = 0; i < cMessages; i++)
+            {
+            Integer n = m_collectorB.f_queue.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            assertNotNull("message " + i + " was not received", n);
+            assertEquals(i, n.intValue());
+            }
+        }
+
+    /**
+     * Wait for the specified condition to be satisfied.
+     *
+     * @param condition  the condition
+     */
+    protected static void waitFor(BooleanSupplier condition)
+            throws InterruptedException
+        {
+        long ldtEnd = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean())
+            {
+            assertTrue("timed out", System.currentTimeMillis() < ldtEnd);
+            Thread.sleep(1);
+            }
+        }
+
+    /**
+     * Return a message holding the specified int.
+     *
+     * @param n  the int
+     *
+     * @return the message
+     */
+    protected static BufferSequence message(int n)
+        {
+        return message(n, 4);
+        }
+
+    /**
+     * Return a message of the specified size starting with the specified int.
+     *
+     * @param n   the int
+     * @param cb  the size of the message
+     *
+     * @return the message
+     */
+    protected static BufferSequence message(int n, int cb)
+        {
+        return new SingleBufferSequence(null, ByteBuffer.allocate(cb).putInt(0, n));
+        }
+
+    /**
+     * Return the EndPoint with the specified name.
+     *
+     * @param sName  the name
+     *
+     * @return the EndPoint
+     */
+    protected static UrlEndPoint point(String sName)
+        {
+        return new UrlEndPoint(sName, TcpSocketProvider.INSTANCE, InetSocketAddressHasher.INSTANCE);
+        }
+
+    // ----- inner class: MessageCollector ----------------------------------
+
+    /**
+     * A Collector which records the int held by each received message, and
+     * the type of all other events.
+     */
+    protected static class MessageCollector
+            implements Collector<Event>
+        {
+        @Override
+        public void add(Event event)
+            {
+            try
+                {
+                if (event.getType() == Event.Type.MESSAGE)
+                    {
+                    CountDownLatch latch = m_latchStall;
+                    if (latch != null)
+                        {
+                        latch.await();
+                        }
+                    f_queue.add(new BufferSequenceInputStream((BufferSequence) event.getContent()).readInt());
+                    }
+                else
+                    {
+                    f_mapCount.computeIfAbsent(event.getType(), t -> new AtomicInteger()).incrementAndGet();
+                    }
+                }
+            catch (IOException e)
+                {
+                throw new IllegalStateException(e);
+                }
+            catch (InterruptedException e)
+                {
+                Thread.currentThread().interrupt();
+                }
+            finally
+                {
+                event.dispose();
+                }
+            }
+
+        @Override
+        public void flush()
+            {
+            }
+
+        /**
+         * Block the delivery of messages until the returned latch is
+         * released.
+         *
+         * @return the latch
+         */
+        protected CountDownLatch stall()
+            {
+            return m_latchStall = new CountDownLatch(1);
+            }
+
+        /**
+         * Return the number of received events of the specified type.
+         *
+         * @param type  the event type
+         *
+         * @return the number of events
+         */
+        protected int getCount(Event.Type type)
+            {
+            AtomicInteger count = f_mapCount.get(type);
+            return count == null ? 0 : count.get();
+            }
+
+        /**
+         * The received ints.
+         */
+        protected final BlockingQueue<Integer> f_queue = new LinkedBlockingQueue<>();
+
+        /**
+         * The number of received events other than messages, by type.
+         */
+        protected final Map<Event.Type, AtomicInteger> f_mapCount = new ConcurrentHashMap<>();
+
+        /**
+         * The latch blocking the delivery of messages, if any.
+         */
+        protected volatile CountDownLatch m_latchStall;
+        }
+
+    // ----- inner class: LoopbackBus ---------------------------------------
+
+    /**
+     * An in-process MessageBus which delivers the messages sent to its peer,
+     * in order, on a thread of the peer.
+     */
+    protected static class LoopbackBus
+            implements MessageBus
+        {
+        /**
+         * Construct a LoopbackBus.
+         *
+         * @param point  the local EndPoint
+         */
+        protected LoopbackBus(UrlEndPoint point)
+            {
+            f_point = point;
+            }
+
+        @Override
+        public EndPoint getLocalEndPoint()
+            {
+            return f_point;
+            }
+
+        @Override
+        public void open()
+            {
+            }
+
+        @Override
+        public void close()
+            {
+            deliver(new SimpleEvent(Event.Type.CLOSE, null));
+            f_executor.shutdown();
+            }
+
+        @Override
+        public void connect(EndPoint peer)
+            {
+            }
+
+        @Override
+        public void disconnect(EndPoint peer)
+            {
+            }
+
+        @Override
+        public void release(EndPoint peer)
+            {
+            }
+
+        @Override
+        public void flush()
+            {
+            }
+
+        @Override
+        public void setEventCollector(Collector<Event> collector)
+            {
+            m_collector = collector;
+            }
+
+        @Override
+        public Collector<Event> getEventCollector()
+            {
+            return m_collector;
+            }
+
+        @Override
+        public void send(EndPoint peer, BufferSequence bufseq, Object receipt)
+            {
+            ByteBuffer buf = ByteBuffer.allocate((int) bufseq.getLength());
+            for (ByteBuffer bufPart : bufseq.getBuffers())
+                {
+                buf.put(bufPart.duplicate());
+                }
+            buf.flip();
+
+            if (buf.get(0) == SharedMemoryMessageBus.MSG_DATA)
+                {
+                f_cData.incrementAndGet();
+                }
+
+            m_peer.deliver(new SimpleEvent(Event.Type.MESSAGE, f_point, new SingleBufferSequence(null, buf)));
+            }
+
+        /**
+         * Deliver the specified event to this bus's collector.
+         *
+         * @param event  the event
+         */
+        protected void deliver(Event event)
+            {
+            f_executor.execute(() -> m_collector.add(event));
+            }
+
+        /**
+         * Suspend the delivery of events to this bus until the returned
+         * latch is released.
+         *
+         * @return the latch
+         */
+        protected CountDownLatch suspend()
+            {
+            CountDownLatch latch = new CountDownLatch(1);
+            f_executor.execute(() ->
+                {
+                try
+                    {
+                    latch.await();
+                    }
+                catch (InterruptedException e)
+                    {
+                    Thread.currentThread().interrupt();
+                    }
+                });
+            return latch;
+            }
+
+        /**
+         * Return the number of application messages sent through this bus.
+         *
+         * @return the number of application messages
+         */
+        protected int getDataCount()
+            {
+            return f_cData.get();
+            }
+
+        /**
+         * The local EndPoint.
+         */
+        protected final UrlEndPoint f_point;
+
+        /**
+         * The thread delivering events to this bus.
+         */
+        protected final ExecutorService f_executor = Executors.newSingleThreadExecutor();
+
+        /**
+         * The number of application messages sent.
+         */
+        protected final AtomicInteger f_cData = new AtomicInteger();
+
+        /**
+         * The peer bus.
+         */
+        protected LoopbackBus m_peer;
+
+        /**
+         * The collector.
+         */
+        protected volatile Collector<Event> m_collector;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The time to wait for the asynchronous steps of the protocol.
+     */
+    protected static final long TIMEOUT_MILLIS = 30_000L;
+
+    /**
+     * The size of the messages used to fill a ring.
+     */
+    protected static final int MESSAGE_SIZE = 4096;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The directory the rings are created in.
+     */
+    protected File m_dir;
+
+    /**
+     * The delegate of the sending bus.
+     */
+    protected LoopbackBus m_delegateA;
+
+    /**
+     * The delegate of the receiving bus.
+     */
+    protected LoopbackBus m_delegateB;
+
+    /**
+     * The sending bus.
+     */
+    protected SharedMemoryMessageBus m_busA;
+
+    /**
+     * The receiving bus.
+     */
+    protected SharedMemoryMessageBus m_busB;
+
+    /**
+     * The collector of the sending bus.
+     */
+    protected final MessageCollector m_collectorA = new MessageCollector();
+
+    /**
+     * The collector of the receiving bus.
+     */
+    protected final MessageCollector m_collectorB = new MessageCollector();
+    }
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.common.internal.net.shmbus;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+import java.nio.file.Files;
+
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link SharedMemoryRing}.
+ */
+public class SharedMemoryRingTest
+    {
+    @Before
+    public void setup()
+            throws IOException
+        {
+        m_dir = Files.createTempDirectory("shmbus").toFile();
+        }
+
+    @After
+    public void cleanup()
+        {
+        for (File file : m_dir.listFiles())
+            {
+            file.delete();
+            }
+        m_dir.delete();
+        }
+
+    @Test
+    public void testOpen()
+            throws IOException
+        {
+        SharedMemoryRing ringOut = SharedMemoryRing.create(m_dir, 1000, 42L);
+        assertEquals(SharedMemoryRing.MIN_CAPACITY, ringOut.getCapacity());
+
+        try
+            {
+            SharedMemoryRing.open(m_dir, ringOut.getPath(), ringOut.getCapacity(), 43L);
+            fail("opened a ring with the wrong nonce");
+            }
+        catch (IOException e)
+            {
+            // expected
+            }
+
+        // a ring which fails verification is left in place
+        assertTrue(new File(ringOut.getPath()).exists());
+
+        ringOut = SharedMemoryRing.create(m_dir, 1000, 42L);
+        SharedMemoryRing ringIn = SharedMemoryRing.open(m_dir, ringOut.getPath(), ringOut.getCapacity(), 42L);
+
+        // the consumer unlinks the file once mapped
+        assertFalse(new File(ringOut.getPath()).exists());
+        assertTrue(ringIn.isEmpty());
+        assertNull(ringIn.poll());
+        }
+
+    @Test
+    public void testOpenIllegalPath()
+            throws IOException
+        {
+        SharedMemoryRing ringOut   = SharedMemoryRing.create(m_dir, 1000, 42L);
+        File             fileOut   = new File(ringOut.getPath());
+        File             fileOther = new File(m_dir, "other.dat");
+        File             dirOther  = Files.createTempDirectory("shmbus").toFile();
+
+        try
+            {
+            assertTrue(fileOther.createNewFile());
+
+            // a ring outside of the ring directory
+            assertOpenFails(dirOther, fileOut.getPath(), ringOut.getCapacity());
+
+            // a path escaping the ring directory
+            File fileEscape = new File(SharedMemoryRing.create(dirOther, 1000, 42L).getPath());
+            assertOpenFails(m_dir, m_dir.getPath() + File.separator + ".." + File.separator
+                    + dirOther.getName() + File.separator + fileEscape.getName(), ringOut.getCapacity());
+            assertTrue(fileEscape.exists());
+
+            // a file which is not a ring
+            assertOpenFails(m_dir, fileOther.getPath(), ringOut.getCapacity());
+
+            // a ring which does not exist is not created
+            File fileMissing = new File(m_dir, "coherence-bus-missing.ring");
+            assertOpenFails(m_dir, fileMissing.getPath(), ringOut.getCapacity());
+            assertFalse(fileMissing.exists());
+
+            // none of the rejected files have been unlinked
+            assertTrue(fileOut.exists());
+            assertTrue(fileOther.exists());
+            }
+        finally
+            {
+            for (File file : dirOther.listFiles())
+                {
+                file.delete();
+                }
+            dirOther.delete();
+            }
+        }
+
+    @Test
+    public void testPermissions()
+            throws IOException
+        {
+        Assume.assumeNotNull(Files.getFileAttributeView(m_dir.toPath(), PosixFileAttributeView.class));
+
+        SharedMemoryRing ring = SharedMemoryRing.create(m_dir, 1000, 42L);
+
+        // only the owner may read or write the messages in the ring
+        assertEquals("rw-------", PosixFilePermissions.toString(
+                Files.getPosixFilePermissions(new File(ring.getPath()).toPath())));
+        }
+
+    @Test
+    public void testMessages()
+            throws IOException
+        {
+        SharedMemoryRing ringOut = SharedMemoryRing.create(m_dir, 0, 1L);
+        SharedMemoryRing ringIn  = SharedMemoryRing.open(m_dir, ringOut.getPath(), ringOut.getCapacity(), 1L);
+
+        assertEquals(0L, ringOut.write(new ByteBuffer[0], 0, 0));
+        assertEquals(5L, ringOut.write(split(bytes(5, 0)), 5, 0));
+        assertFalse(ringIn.isEmpty());
+
+        assertEquals(0, ringIn.poll().remaining());
+        assertEquals(ByteBuffer.wrap(bytes(5, 0)), ringIn.poll());
+        assertNull(ringIn.poll());
+        assertTrue(ringIn.isEmpty());
+        }
+
+    @Test
+    public void testFull()
+            throws IOException
+        {
+        SharedMemoryRing ringOut = SharedMemoryRing.create(m_dir, 0, 1L);
+        SharedMemoryRing ringIn  = SharedMemoryRing.open(m_dir, ringOut.getPath(), ringOut.getCapacity(), 1L);
+        int              cb      = ringOut.getCapacity() * 3;
+        byte[]           ab      = bytes(cb, 7);
+        ByteBuffer[]     aBuffer = split(ab);
+
+        // a message larger than the ring is written in fragments as space is freed
+        long of = ringOut.write(aBuffer, cb, 0);
+        assertTrue(of > 0 && of < cb);
+        assertEquals(-1L, ringOut.write(aBuffer, cb, of));
+
+        while (of < cb)
+            {
+            assertNull(ringIn.poll());
+            of = Math.max(of, ringOut.write(aBuffer, cb, of));
+            }
+
+        assertEquals(ByteBuffer.wrap(ab), ringIn.poll());
+        }
+
+    @Test
+    public void testWrap()
+            throws IOException
+        {
+        SharedMemoryRing ringOut = SharedMemoryRing.create(m_dir, 0, 1L);
+        SharedMemoryRing ringIn  = SharedMemoryRing.open(m_dir, ringOut.getPath(), ringOut.getCapacity(), 1L);
+        Random           rnd     = new Random(42);
+
+        // random sizes force records to wrap and fragment at arbitrary offsets
+        for (int i = 0; i < 10_000; ++i)
+            {
+            int    cb = rnd.nextInt(8) == 0 ? rnd.nextInt(ringOut.getCapacity()) : rnd.nextInt(512);
+            byte[] ab = bytes(cb, i);
+
+            ByteBuffer[] aBuffer = split(ab);
+            for (long of = 0, ofNew = -1; ofNew != cb; )
+                {
+                ofNew = ringOut.write(aBuffer, cb, of);
+                if (ofNew >= 0)
+                    {
+                    of = ofNew;
+                    }
+                if (ofNew != cb)
+                    {
+                    assertNull(ringIn.poll());
+                    }
+                }
+            ByteBuffer buf = ringIn.poll();
+
+            assertEquals("message " + i, ByteBuffer.wrap(ab), buf);
+            }
+        assertTrue(ringIn.isEmpty());
+        }
+
+    @Test
+    public void testConsumerWaiting()
+            throws IOException
+        {
+        SharedMemoryRing ringOut = SharedMemoryRing.create(m_dir, 0, 1L);
+        SharedMemoryRing ringIn  = SharedMemoryRing.open(m_dir, ringOut.getPath(), ringOut.getCapacity(), 1L);
+
+        assertFalse(ringOut.clearConsumerWaiting());
+
+        ringIn.setConsumerWaiting(true);
+        assertTrue(ringOut.clearConsumerWaiting());
+        assertFalse(ringOut.clearConsumerWaiting());
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Return a byte array of the specified length with contents derived from
+     * the specified seed.
+     */
+    protected static byte[] bytes(int cb, int nSeed)
+        {
+        byte[] ab = new byte[cb];
+        for (int i = 0; i < cb; ++i)
+            {
+            ab[i] = (byte) (nSeed + i);
+            }
+        return ab;
+        }
+
+    /**
+     * Return the specified byte array as two buffers.
+     */
+    protected static ByteBuffer[] split(byte[] ab)
+        {
+        int cbHalf = ab.length / 2;
+        return new ByteBuffer[] {ByteBuffer.wrap(ab, 0, cbHalf).slice(),
+                                 ByteBuffer.wrap(ab, cbHalf, ab.length - cbHalf).slice()};
+        }
+
+    /**
+     * Assert that the specified ring cannot be opened.
+     */
+    protected static void assertOpenFails(File dir, String sPath, int cbCapacity)
+        {
+        try
+            {
+            SharedMemoryRing.open(dir, sPath, cbCapacity, 42L);
+            fail("opened " + sPath);
+            }
+        catch (IOException e)
+            {
+            // expected
+            }
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The directory the rings are created in.
+     */
+    private File m_dir;
+    }
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.metrics;
+
+import com.tangosol.net.metrics.MBeanMetric;
+import com.tangosol.net.metrics.MetricsRegistryAdapter;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.hamcrest.CoreMatchers.is;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DirectMetricRegistryTest
+    {
+    @Test
+    public void shouldRegisterAndRemoveCounter()
+        {
+        TestAdapter          adapter  = new TestAdapter();
+        DirectMetricRegistry registry = new DirectMetricRegistry(() -> Collections.singletonList(adapter));
+        Map<String, String>  mapTag   = Collections.singletonMap("name", "test");
+
+        LongAdder counter = registry.counter("Coherence.Test.Count", mapTag, "test");
+        counter.add(3L);
+
+        assertThat(adapter.f_listMetric.size(), is(1));
+
+        MBeanMetric metric = adapter.f_listMetric.get(0);
+        assertThat(metric.getName(), is("Coherence.Test.Count"));
+        assertThat(metric.getIdentifier().getTags().get("name"), is("test"));
+        assertThat(metric.getValue(), is(3L));
+
+        registry.remove("Coherence.Test.Count", mapTag);
+
+        assertThat(adapter.f_listMetric.isEmpty(), is(true));
+        }
+
+    @Test
+    public void shouldRegisterHistogram()
+        {
+        TestAdapter          adapter  = new TestAdapter();
+        DirectMetricRegistry registry = new DirectMetricRegistry(() -> Collections.singletonList(adapter));
+        Map<String, String>  mapTag   = Collections.singletonMap("name", "test");
+
+        Histogram histogram = registry.histogram("Coherence.Test.Latency", mapTag, "test");
+        histogram.record(10L);
+
+        assertThat(adapter.f_listMetric.size(), is(DirectMetricRegistry.QUANTILES.length + 3));
+        for (MBeanMetric metric : adapter.f_listMetric)
+            {
+            if (metric.getName().equals("Coherence.Test.LatencyCount"))
+                {
+                assertThat(metric.getValue(), is(1L));
+                }
+            else if (metric.getName().equals("Coherence.Test.Latency"))
+                {
+                assertThat(metric.getIdentifier().getTags().containsKey(DirectMetricRegistry.TAG_QUANTILE), is(true));
+                assertThat(metric.getValue(), is(10L));
+                }
+            }
+
+        registry.remove("Coherence.Test.Latency", mapTag);
+
+        assertThat(adapter.f_listMetric.isEmpty(), is(true));
+        }
+
+    @Test
+    public void shouldRecordServiceRequests()
+        {
+        TestAdapter           adapter  = new TestAdapter();
+        DirectMetricRegistry  registry = new DirectMetricRegistry(() -> Collections.singletonList(adapter));
+        ServiceRequestMetrics metrics  = new ServiceRequestMetrics(registry, ServiceRequestMetrics.PREFIX_STORAGE, "test");
+
+        metrics.onRequest(ServiceRequestMetrics.RequestType.GET, 1000L);
+        metrics.onRequest(ServiceRequestMetrics.RequestType.GET, 3000L);
+        metrics.onRequest(ServiceRequestMetrics.RequestType.PUT, 2000L);
+
+        assertThat(metrics.getRequestCount(ServiceRequestMetrics.RequestType.GET), is(2L));
+        assertThat(metrics.getRequestCount(ServiceRequestMetrics.RequestType.PUT), is(1L));
+        assertThat(metrics.getLatency(ServiceRequestMetrics.RequestType.GET).getMax(), is(3000L));
+        assertThat(metrics.getLatency(ServiceRequestMetrics.RequestType.PUT).getSum(), is(2000L));
+
+        long cMetrics = adapter.f_listMetric.stream()
+                .filter(metric -> metric.getName().startsWith(ServiceRequestMetrics.PREFIX_STORAGE))
+                .count();
+        assertThat(cMetrics, is((long) adapter.f_listMetric.size()));
+        assertThat(adapter.f_listMetric.size(),
+                is(ServiceRequestMetrics.RequestType.values().length * (DirectMetricRegistry.QUANTILES.length + 4)));
+
+        metrics.close();
+
+        assertThat(adapter.f_listMetric.isEmpty(), is(true));
+        }
+
+    // ----- inner class: TestAdapter ---------------------------------------
+
+    /**
+     * A {@link MetricsRegistryAdapter} that holds the registered metrics.
+     */
+    public static class TestAdapter
+            implements MetricsRegistryAdapter
+        {
+        @Override
+        public void register(MBeanMetric metric)
+            {
+            f_listMetric.add(metric);
+            }
+
+        @Override
+        public void remove(MBeanMetric.Identifier identifier)
+            {
+            f_listMetric.removeIf(metric -> metric.getIdentifier().equals(identifier));
+            }
+
+        protected final List<MBeanMetric> f_listMetric = new ArrayList<>();
+        }
+    }
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.metrics;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class HistogramTest
+    {
+    @Test
+    public void shouldBeEmpty()
+        {
+        Histogram histogram = new Histogram();
+
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getMax(), is(0L));
+        assertThat(histogram.getMean(), is(0.0));
+        assertThat(histogram.getValueAtQuantile(0.99), is(0L));
+        }
+
+    @Test
+    public void shouldRecordSmallValuesExactly()
+        {
+        Histogram histogram = new Histogram();
+
+        for (int i = 0; i < Histogram.SUB_BUCKETS; i++)
+            {
+            histogram.record(i);
+            }
+
+        assertThat(histogram.getCount(), is((long) Histogram.SUB_BUCKETS));
+        assertThat(histogram.getMax(), is((long) Histogram.SUB_BUCKETS - 1));
+        assertThat(histogram.getValueAtQuantile(0.5), is((long) Histogram.SUB_BUCKETS / 2 - 1));
+        assertThat(histogram.getValueAtQuantile(1.0), is((long) Histogram.SUB_BUCKETS - 1));
+        }
+
+    @Test
+    public void shouldReportQuantilesWithinRelativeError()
+        {
+        Histogram histogram = new Histogram();
+
+        for (long i = 1; i <= 100_000; i++)
+            {
+            histogram.record(i);
+            }
+
+        assertThat(histogram.getCount(), is(100_000L));
+        assertThat(histogram.getSum(), is(5_000_050_000L));
+        assertThat(histogram.getMax(), is(100_000L));
+
+        for (double dQuantile : new double[] {0.5, 0.9, 0.99, 0.999})
+            {
+            long lExpected = (long) (dQuantile * 100_000);
+            long lActual   = histogram.getValueAtQuantile(dQuantile);
+
+            assertThat(lActual, is(greaterThanOrEqualTo(lExpected)));
+            assertThat(lActual, is(lessThanOrEqualTo(lExpected + lExpected / Histogram.SUB_BUCKETS)));
+            }
+        }
+
+    @Test
+    public void shouldMapEveryValueToBucket()
+        {
+        for (long lValue : new long[] {0L, 1L, 31L, 32L, 33L, 1023L, 1024L, Integer.MAX_VALUE, Long.MAX_VALUE})
+            {
+            int nIndex = Histogram.indexOf(lValue);
+
+            assertThat(nIndex < Histogram.BUCKETS, is(true));
+            assertThat(Histogram.highestEquivalentValue(nIndex), is(greaterThanOrEqualTo(lValue)));
+            }
+        assertThat(Histogram.highestEquivalentValue(Histogram.BUCKETS - 1), is(Long.MAX_VALUE));
+        }
+
+    @Test
+    public void shouldRecordNegativeValuesAsZero()
+        {
+        Histogram histogram = new Histogram();
+
+        histogram.record(-5L);
+
+        assertThat(histogram.getCount(), is(1L));
+        assertThat(histogram.getSum(), is(0L));
+        }
+
+    @Test
+    public void shouldReset()
+        {
+        Histogram histogram = new Histogram();
+
+        histogram.record(100L);
+        histogram.reset();
+
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getMax(), is(0L));
+        assertThat(histogram.getValueAtQuantile(0.5), is(0L));
+        }
+
+    @Test
+    public void shouldReportRecentQuantiles()
+        {
+        long[]    aldtNow   = {0L};
+        Histogram histogram = new Histogram(1000L)
+            {
+            @Override
+            protected long currentTimeMillis()
+                {
+                return aldtNow[0];
+                }
+            };
+
+        for (int i = 0; i < 10; i++)
+            {
+            histogram.record(1000L);
+            }
+
+        // the first read covers all the values recorded so far
+        assertThat(histogram.getRecentValueAtQuantile(0.99), is(greaterThanOrEqualTo(1000L)));
+
+        aldtNow[0] = 1000L;
+        for (int i = 0; i < 10; i++)
+            {
+            histogram.record(10L);
+            }
+
+        // the values recorded before the previous window are excluded
+        assertThat(histogram.getRecentValueAtQuantile(0.99), is(10L));
+        assertThat(histogram.getValueAtQuantile(0.99), is(greaterThanOrEqualTo(1000L)));
+
+        // still within the same window
+        aldtNow[0] = 1500L;
+        assertThat(histogram.getRecentValueAtQuantile(0.99), is(10L));
+
+        aldtNow[0] = 2000L;
+        assertThat(histogram.getRecentValueAtQuantile(0.99), is(0L));
+        assertThat(histogram.getCount(), is(20L));
+        }
+    }
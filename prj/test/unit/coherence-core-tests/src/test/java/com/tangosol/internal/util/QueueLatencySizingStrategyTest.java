@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.util;
+
+import com.tangosol.net.ThreadPoolManager;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class QueueLatencySizingStrategyTest
+    {
+    @Test
+    public void shouldGrowWhenLatencyExceedsTarget()
+        {
+        Manager                    manager  = new Manager();
+        QueueLatencySizingStrategy strategy = create(manager);
+
+        manager.m_dflLatency = 50.0;
+        manager.m_cBacklog   = 10;
+        manager.m_cThreads   = 8;
+        assertThat(strategy.adjustPoolSize(), is(10));
+
+        manager.m_cThreads = 2;
+        assertThat(strategy.adjustPoolSize(), is(3));
+        }
+
+    @Test
+    public void shouldNotGrowBeyondMaximum()
+        {
+        Manager                    manager  = new Manager();
+        QueueLatencySizingStrategy strategy = create(manager);
+
+        manager.m_dflLatency = 50.0;
+        manager.m_cBacklog   = 10;
+        manager.m_cThreads   = 15;
+        assertThat(strategy.adjustPoolSize(), is(16));
+
+        manager.m_cThreads = 16;
+        assertThat(strategy.adjustPoolSize(), is(-1));
+        }
+
+    @Test
+    public void shouldNotGrowWithoutBacklog()
+        {
+        Manager                    manager  = new Manager();
+        QueueLatencySizingStrategy strategy = create(manager);
+
+        manager.m_dflLatency = 50.0;
+        manager.m_cBacklog   = 0;
+        assertThat(strategy.adjustPoolSize(), is(-1));
+        }
+
+    @Test
+    public void shouldShrinkWhenIdle()
+        {
+        Manager                    manager  = new Manager();
+        QueueLatencySizingStrategy strategy = create(manager);
+
+        manager.m_dflLatency = 1.0;
+        manager.m_cIdle      = 4;
+        manager.m_cThreads   = 8;
+        assertThat(strategy.adjustPoolSize(), is(7));
+
+        manager.m_cThreads = 2;
+        assertThat(strategy.adjustPoolSize(), is(-1));
+        }
+
+    @Test
+    public void shouldNotShrinkWhenBusy()
+        {
+        Manager                    manager  = new Manager();
+        QueueLatencySizingStrategy strategy = create(manager);
+
+        // a single idle thread is not enough
+        manager.m_dflLatency = 1.0;
+        manager.m_cIdle      = 1;
+        assertThat(strategy.adjustPoolSize(), is(-1));
+
+        // latency below the target, but not well below it
+        manager.m_dflLatency = 5.0;
+        manager.m_cIdle      = 4;
+        assertThat(strategy.adjustPoolSize(), is(-1));
+        }
+
+    @Test
+    public void shouldIgnoreUnknownLatency()
+        {
+        Manager                    manager  = new Manager();
+        QueueLatencySizingStrategy strategy = create(manager);
+
+        manager.m_dflLatency = -1.0;
+        manager.m_cIdle      = 4;
+        assertThat(strategy.adjustPoolSize(), is(-1));
+        }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectInvalidTarget()
+        {
+        new QueueLatencySizingStrategy(0L);
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Create a strategy with a 10ms target latency bound to the specified
+     * manager.
+     *
+     * @param manager  the manager
+     *
+     * @return the strategy
+     */
+    protected static QueueLatencySizingStrategy create(Manager manager)
+        {
+        QueueLatencySizingStrategy strategy = new QueueLatencySizingStrategy(10L);
+
+        strategy.init(manager);
+        return strategy;
+        }
+
+    // ----- inner class: Manager -------------------------------------------
+
+    /**
+     * A ThreadPoolManager reporting the values set by a test.
+     */
+    protected static class Manager
+            implements ThreadPoolManager
+        {
+        @Override
+        public int getMinPoolSize()
+            {
+            return 2;
+            }
+
+        @Override
+        public int getMaxPoolSize()
+            {
+            return 16;
+            }
+
+        @Override
+        public int getPoolSize()
+            {
+            return m_cThreads;
+            }
+
+        @Override
+        public int getBacklog()
+            {
+            return m_cBacklog;
+            }
+
+        @Override
+        public int getIdleThreadCount()
+            {
+            return m_cIdle;
+            }
+
+        @Override
+        public long getThreadDecreaseInterval()
+            {
+            return 0L;
+            }
+
+        @Override
+        public long getThreadIncreaseInterval()
+            {
+            return 0L;
+            }
+
+        @Override
+        public double getAverageQueueMillis()
+            {
+            return m_dflLatency;
+            }
+
+        protected int    m_cThreads = 4;
+        protected int    m_cBacklog;
+        protected int    m_cIdle;
+        protected double m_dflLatency;
+        }
+    }
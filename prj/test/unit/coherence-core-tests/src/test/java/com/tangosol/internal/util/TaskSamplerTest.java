@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.util;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TaskSamplerTest
+    {
+    @Test
+    public void shouldCountSamples()
+        {
+        TaskSampler sampler = new TaskSampler(4);
+
+        sampler.sample("a");
+        sampler.sample("b");
+        sampler.sample("a");
+        sampler.sample(null);
+
+        assertThat(sampler.getSampleCount(), is(4L));
+        assertThat(sampler.getIdleCount(), is(1L));
+
+        List<Map.Entry<String, Long>> listTop = sampler.getTopTasks(10);
+        assertThat(listTop.size(), is(2));
+        assertThat(listTop.get(0).getKey(), is("a"));
+        assertThat(listTop.get(0).getValue(), is(2L));
+        assertThat(listTop.get(1).getKey(), is("b"));
+        }
+
+    @Test
+    public void shouldKeepMostFrequentTasks()
+        {
+        TaskSampler sampler = new TaskSampler(2);
+
+        for (int i = 0; i < 100; i++)
+            {
+            sampler.sample("hot");
+            sampler.sample("hot");
+            sampler.sample("cold-" + i);
+            }
+
+        List<Map.Entry<String, Long>> listTop = sampler.getTopTasks(1);
+        assertThat(listTop.size(), is(1));
+        assertThat(listTop.get(0).getKey(), is("hot"));
+        assertThat(listTop.get(0).getValue(), is(200L));
+        assertThat(sampler.getGuaranteedCount("hot"), is(200L));
+
+        // the last cold task inherited the count of its predecessors
+        listTop = sampler.getTopTasks(10);
+        assertThat(listTop.size(), is(2));
+        assertThat(listTop.get(1).getKey(), is("cold-99"));
+        assertThat(listTop.get(1).getValue(), is(100L));
+        assertThat(sampler.getGuaranteedCount("cold-99"), is(1L));
+        assertThat(sampler.getGuaranteedCount("cold-0"), is(0L));
+        }
+
+    @Test
+    public void shouldDescribeTopTasks()
+        {
+        TaskSampler sampler = new TaskSampler(4);
+
+        sampler.sample("a");
+        sampler.sample("a");
+        sampler.sample("a");
+        sampler.sample("b");
+        sampler.sample(null);
+
+        String[] asTask = sampler.describeTopTasks(1);
+        assertThat(asTask.length, is(1));
+        assertThat(asTask[0], is("a{Samples=3, MinSamples=3, Percent=75}"));
+        }
+
+    @Test
+    public void shouldReset()
+        {
+        TaskSampler sampler = new TaskSampler(4);
+
+        sampler.sample("a");
+        sampler.reset();
+
+        assertThat(sampler.getSampleCount(), is(0L));
+        assertThat(sampler.getTopTasks(10).isEmpty(), is(true));
+        }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectInvalidCapacity()
+        {
+        new TaskSampler(0);
+        }
+    }
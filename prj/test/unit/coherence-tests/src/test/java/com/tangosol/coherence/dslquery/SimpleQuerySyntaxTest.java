@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -231,6 +231,14 @@ public class SimpleQuerySyntaxTest
         test("restore cache foo from file 'barney.bkup'", "sqlRestoreCacheNode(from('foo'), file('barney.bkup'))");
         }
 
+    @Test
+    public void testLoadSyntax()
+        {
+        test("load into cache foo from file 'data.csv'", "sqlLoadCacheNode(from('foo'), file('data.csv'))");
+        test("load into 'foo' from 'data.csv' batch 500 threads 2",
+             "sqlLoadCacheNode(from('foo'), file('data.csv'), batch('500'), threads('2'))");
+        }
+
     @Test
     public void testSelectAliasSyntax()
         {
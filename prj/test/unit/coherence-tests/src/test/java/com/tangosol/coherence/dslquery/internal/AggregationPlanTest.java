@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.coherence.dslquery.internal;
+
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.ValueExtractor;
+
+import com.tangosol.util.aggregator.CompositeAggregator;
+import com.tangosol.util.aggregator.Count;
+import com.tangosol.util.aggregator.DoubleSum;
+import com.tangosol.util.aggregator.GroupAggregator;
+import com.tangosol.util.aggregator.ReducerAggregator;
+
+import com.tangosol.util.extractor.KeyExtractor;
+import com.tangosol.util.extractor.MultiExtractor;
+import com.tangosol.util.extractor.PofExtractor;
+import com.tangosol.util.extractor.ReflectionExtractor;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link AggregationPlan}.
+ */
+public class AggregationPlanTest
+    {
+    @Test
+    public void shouldPlanGroupAggregation()
+        {
+        ValueExtractor extractorName   = new ReflectionExtractor("getName");
+        ValueExtractor extractorId     = new KeyExtractor("getId");
+        ValueExtractor extractorAmount = new PofExtractor(null, 1);
+
+        InvocableMap.EntryAggregator aggregator = GroupAggregator.createInstance(
+                new MultiExtractor(new ValueExtractor[] {extractorName, extractorId}),
+                CompositeAggregator.createInstance(new InvocableMap.EntryAggregator[]
+                        {new DoubleSum(extractorAmount), new Count()}));
+
+        AggregationPlan plan = new AggregationPlan(aggregator);
+
+        assertThat(plan.getAggregator(), is(aggregator));
+        assertThat(plan.isParallel(), is(true));
+        assertThat(plan.getGroupBy(), is((ValueExtractor) new MultiExtractor(new ValueExtractor[] {extractorName, extractorId})));
+        assertThat(plan.getAggregators().size(), is(2));
+        assertThat(plan.getExtractors().size(), is(3));
+        assertThat(plan.isDeserializing(), is(true));
+
+        assertThat(AggregationPlan.isDeserializing(extractorName), is(true));
+        assertThat(AggregationPlan.isDeserializing(extractorId), is(false));
+        assertThat(AggregationPlan.isDeserializing(extractorAmount), is(false));
+        }
+
+    @Test
+    public void shouldPlanAggregationWithoutDeserialization()
+        {
+        AggregationPlan plan = new AggregationPlan(GroupAggregator.createInstance(
+                new KeyExtractor("getId"), new DoubleSum(new PofExtractor(null, 1))));
+
+        assertThat(plan.getExtractors().size(), is(2));
+        assertThat(plan.isDeserializing(), is(false));
+        }
+
+    @Test
+    public void shouldPlanReduction()
+        {
+        AggregationPlan plan = new AggregationPlan(new ReducerAggregator(new ReflectionExtractor("getName")));
+
+        assertThat(plan.getGroupBy(), is(nullValue()));
+        assertThat(plan.getAggregators().size(), is(1));
+        assertThat(plan.isDeserializing(), is(true));
+
+        Map<String, Object> mapPlan = plan.describe();
+
+        assertThat(mapPlan.get("Aggregator"), is("ReducerAggregator"));
+        assertThat(mapPlan.containsKey("Group By"), is(false));
+        assertThat(mapPlan.containsKey("Attributes"), is(true));
+        }
+    }
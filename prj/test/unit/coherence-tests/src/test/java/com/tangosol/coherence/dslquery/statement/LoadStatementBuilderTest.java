@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.coherence.dslquery.statement;
+
+import com.tangosol.coherence.dslquery.CohQLException;
+import com.tangosol.coherence.dslquery.ExecutionContext;
+
+import com.tangosol.coherence.dsltools.termtrees.NodeTerm;
+import com.tangosol.coherence.dsltools.termtrees.Terms;
+
+import com.tangosol.net.CacheService;
+import com.tangosol.net.DistributedCacheService;
+import com.tangosol.net.Member;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.Session;
+
+import com.tangosol.net.cache.TypeAssertion;
+import com.tangosol.net.cache.WrapperNamedCache;
+
+import com.tangosol.net.partition.KeyPartitioningStrategy;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.PrintWriter;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import static org.junit.Assert.assertThat;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link LoadStatementBuilder}.
+ */
+public class LoadStatementBuilderTest
+    {
+    @Test
+    public void shouldRealizeQuery()
+            throws Exception
+        {
+        ExecutionContext context = mock(ExecutionContext.class);
+        NodeTerm         term    = (NodeTerm) Terms.create(
+                "sqlLoadCacheNode(from('test'),file('data.csv'),batch('500'),threads('2'))");
+
+        LoadStatementBuilder.LoadStatement query = LoadStatementBuilder.INSTANCE.realize(context, term, null, null);
+
+        assertThat(query.f_sCacheName, is("test"));
+        assertThat(query.f_sFile, is("data.csv"));
+        assertThat(query.f_cBatch, is(500));
+        assertThat(query.f_cThreads, is(2));
+        }
+
+    @Test
+    public void shouldRealizeQueryWithDefaults()
+            throws Exception
+        {
+        ExecutionContext context = mock(ExecutionContext.class);
+        NodeTerm         term    = (NodeTerm) Terms.create("sqlLoadCacheNode(from('test'),file('data.csv'))");
+
+        LoadStatementBuilder.LoadStatement query = LoadStatementBuilder.INSTANCE.realize(context, term, null, null);
+
+        assertThat(query.f_cBatch, is(LoadStatementBuilder.DEFAULT_BATCH_SIZE));
+        assertThat(query.f_cThreads, is(LoadStatementBuilder.DEFAULT_THREADS));
+        }
+
+    @Test
+    public void shouldThrowExceptionIfFileIsMissing()
+            throws Exception
+        {
+        expectedEx.expect(CohQLException.class);
+        expectedEx.expectMessage("File name needed to load cache");
+
+        ExecutionContext context = mock(ExecutionContext.class);
+        NodeTerm         term    = (NodeTerm) Terms.create("sqlLoadCacheNode(from('test'))");
+
+        LoadStatementBuilder.INSTANCE.realize(context, term, null, null);
+        }
+
+    @Test
+    public void shouldThrowExceptionIfCacheIsMissing()
+            throws Exception
+        {
+        expectedEx.expect(CohQLException.class);
+        expectedEx.expectMessage("Cache name needed to load cache");
+
+        ExecutionContext context = mock(ExecutionContext.class);
+        NodeTerm         term    = (NodeTerm) Terms.create("sqlLoadCacheNode(file('data.csv'))");
+
+        LoadStatementBuilder.INSTANCE.realize(context, term, null, null);
+        }
+
+    @Test
+    public void shouldThrowExceptionIfBatchIsInvalid()
+            throws Exception
+        {
+        expectedEx.expect(CohQLException.class);
+        expectedEx.expectMessage("Invalid BATCH value: 0");
+
+        ExecutionContext context = mock(ExecutionContext.class);
+        NodeTerm         term    = (NodeTerm) Terms.create("sqlLoadCacheNode(from('test'),file('data.csv'),batch('0'))");
+
+        LoadStatementBuilder.INSTANCE.realize(context, term, null, null);
+        }
+
+    @Test
+    public void shouldParseLine()
+        {
+        assertThat(LoadStatementBuilder.LoadStatement.parseLine("a,b,,c"), is(Arrays.asList("a", "b", "", "c")));
+        assertThat(LoadStatementBuilder.LoadStatement.parseLine("\"a,b\",\"say \"\"hi\"\"\""),
+                   is(Arrays.asList("a,b", "say \"hi\"")));
+        }
+
+    @Test
+    public void shouldConvertFields()
+        {
+        assertThat(LoadStatementBuilder.LoadStatement.convert(""), is(nullValue()));
+        assertThat(LoadStatementBuilder.LoadStatement.convert("42"), is((Object) 42));
+        assertThat(LoadStatementBuilder.LoadStatement.convert("12345678901"), is((Object) 12345678901L));
+        assertThat(LoadStatementBuilder.LoadStatement.convert("-1.5"), is((Object) (-1.5)));
+        assertThat(LoadStatementBuilder.LoadStatement.convert("TRUE"), is((Object) Boolean.TRUE));
+        assertThat(LoadStatementBuilder.LoadStatement.convert("01234"), is((Object) "01234"));
+        assertThat(LoadStatementBuilder.LoadStatement.convert("foo"), is((Object) "foo"));
+        }
+
+    @Test
+    public void shouldLoadNonDistributedCache()
+            throws Exception
+        {
+        NamedCache cache = new WrapperNamedCache(new ConcurrentHashMap(), "test", mock(CacheService.class));
+
+        execute(cache, 2, 3, 10);
+
+        assertThat(cache.size(), is(10));
+
+        Map mapValue = (Map) cache.get(7);
+        assertThat(mapValue.get("name"), is((Object) "name-7"));
+        assertThat(mapValue.get("age"), is((Object) 27));
+        }
+
+    @Test
+    public void shouldLoadDistributedCache()
+            throws Exception
+        {
+        DistributedCacheService service  = mock(DistributedCacheService.class);
+        KeyPartitioningStrategy strategy = mock(KeyPartitioningStrategy.class);
+        Member                  member1  = mock(Member.class);
+        Member                  member2  = mock(Member.class);
+
+        when(service.getKeyPartitioningStrategy()).thenReturn(strategy);
+        when(strategy.getKeyPartition(any())).thenAnswer(inv -> ((Integer) inv.getArgument(0)) % 2);
+        when(service.getPartitionOwner(anyInt())).thenAnswer(inv -> ((Integer) inv.getArgument(0)) == 0 ? member1 : member2);
+
+        NamedCache cache = new WrapperNamedCache(new ConcurrentHashMap(), "test", service);
+
+        execute(cache, 3, 2, 25);
+
+        assertThat(cache.size(), is(25));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Execute a LoadStatement loading the specified number of rows into the
+     * specified cache.
+     */
+    protected void execute(NamedCache cache, int cBatch, int cThreads, int cRows)
+            throws Exception
+        {
+        File          file = temporaryFolder.newFile();
+        StringBuilder sb   = new StringBuilder("id,name,age\n");
+
+        for (int i = 0; i < cRows; i++)
+            {
+            sb.append(i).append(",name-").append(i).append(',').append(20 + i).append('\n');
+            }
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        Session          session = mock(Session.class);
+        ExecutionContext context = mock(ExecutionContext.class);
+
+        when(context.getSession()).thenReturn(session);
+        when(context.isSilent()).thenReturn(true);
+        when(context.getWriter()).thenReturn(new PrintWriter(System.out));
+        when(session.getCache(eq("test"), any(TypeAssertion.class))).thenReturn(cache);
+
+        new LoadStatementBuilder.LoadStatement("test", file.getAbsolutePath(), cBatch, cThreads).execute(context);
+        }
+
+    /**
+     * JUnit rule to use to capture expected exceptions
+     */
+    @Rule
+    public ExpectedException expectedEx = ExpectedException.none();
+
+    /**
+     * JUnit rule to use to create and destroy temporary folders for tests
+     * that use files.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    }
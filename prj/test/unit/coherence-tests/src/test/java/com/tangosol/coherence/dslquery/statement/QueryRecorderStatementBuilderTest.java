@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -22,6 +22,8 @@ import com.tangosol.net.cache.TypeAssertion;
 import com.tangosol.util.Filter;
 import com.tangosol.util.InvocableMap;
 
+import com.tangosol.util.aggregator.DoubleSum;
+import com.tangosol.util.aggregator.GroupAggregator;
 import com.tangosol.util.aggregator.QueryRecorder;
 
 import com.tangosol.util.extractor.ReflectionExtractor;
@@ -35,7 +37,12 @@ import org.junit.rules.ExpectedException;
 
 import org.mockito.ArgumentCaptor;
 
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 
 import static org.junit.Assert.assertThat;
@@ -45,6 +52,7 @@ import static org.mockito.ArgumentMatchers.eq;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -236,6 +244,71 @@ public class QueryRecorderStatementBuilderTest
         assertThat(recorder.getType(), is(QueryRecorder.RecordType.TRACE));
         }
 
+    @Test
+    public void shouldRealizeExplainQueryWithAggregation()
+            throws Exception
+        {
+        String sql = "sqlExplainNode(sqlSelectNode(isDistinct('false'), "
+                     + "fieldList(identifier(bar), callNode(sum(identifier(baz)))), "
+                     + "from('foo'), alias(), whereClause(), groupBy(identifier(bar))))";
+
+        ExecutionContext context = mock(ExecutionContext.class);
+        NodeTerm         term    = (NodeTerm) Terms.create(sql);
+
+        when(context.getCoherenceQueryLanguage()).thenReturn(new CoherenceQueryLanguage());
+
+        QueryRecorderStatementBuilder.QueryRecorderStatement query
+                = QueryRecorderStatementBuilder.EXPLAIN_INSTANCE.realize(context, term, null, null);
+
+        assertThat(query.f_plan, is(notNullValue()));
+        assertThat(query.f_plan.getAggregator(), is(instanceOf(GroupAggregator.class)));
+        }
+
+    @Test
+    public void shouldNotPlanAggregationForSelectStar()
+            throws Exception
+        {
+        String sql = "sqlExplainNode(sqlSelectNode(" + "fieldList('*'), " + "from('foo'), " + "whereClause(), "
+                     + "groupBy()))";
+
+        QueryRecorderStatementBuilder.QueryRecorderStatement query
+                = QueryRecorderStatementBuilder.EXPLAIN_INSTANCE.realize(mock(ExecutionContext.class),
+                        (NodeTerm) Terms.create(sql), null, null);
+
+        assertThat(query.f_plan, is(nullValue()));
+        }
+
+    @Test
+    public void shouldPerformTraceQueryWithAggregation()
+            throws Exception
+        {
+        String                       cacheName  = "test";
+        Filter                       filter     = mock(Filter.class);
+        Session                      session    = mock(Session.class);
+        NamedCache                   cache      = mock(NamedCache.class);
+        ExecutionContext             context    = mock(ExecutionContext.class);
+        InvocableMap.EntryAggregator aggregator = GroupAggregator.createInstance(
+                new ReflectionExtractor("getBar"), new DoubleSum(new ReflectionExtractor("getBaz")));
+
+        when(context.getSession()).thenReturn(session);
+        when(session.getCache(eq(cacheName), any(TypeAssertion.class))).thenReturn(cache);
+        when(cache.aggregate(any(Filter.class), any(InvocableMap.EntryAggregator.class))).thenReturn(new Object());
+
+        QueryRecorderStatementBuilder.QueryRecorderStatement statement
+                = new QueryRecorderStatementBuilder.QueryRecorderStatement(cacheName, filter,
+                        QueryRecorder.RecordType.TRACE, aggregator);
+
+        Map mapResult = (Map) statement.execute(context).getResult();
+
+        assertThat(mapResult.containsKey("Filter Plan (Estimated)"), is(true));
+        assertThat(mapResult.containsKey("Filter Trace (Actual)"), is(true));
+        assertThat(mapResult.containsKey("Aggregation Plan"), is(true));
+        assertThat(mapResult.containsKey("Aggregation (Actual)"), is(true));
+
+        verify(cache).aggregate(filter, aggregator);
+        verify(cache, times(3)).aggregate(eq(filter), any(InvocableMap.EntryAggregator.class));
+        }
+
     /**
      * JUnit rule to use to capture expected exceptions
      */
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.io;
+
+import com.tangosol.io.DefaultSerializer;
+import com.tangosol.io.ReadBuffer;
+import com.tangosol.io.Serializer;
+
+import com.tangosol.io.nio.ByteBufferReadBuffer;
+
+import com.tangosol.io.pof.ConfigurablePofContext;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.ExternalizableHelper;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link ZeroCopyBinaries}.
+ */
+public class ZeroCopyBinariesTest
+    {
+    @Test
+    public void testDefaultSerializer()
+            throws Exception
+        {
+        assertShared(new DefaultSerializer());
+        }
+
+    @Test
+    public void testPof()
+            throws Exception
+        {
+        assertShared(new ConfigurablePofContext("coherence-pof-config.xml"));
+        }
+
+    @Test
+    public void testNull()
+            throws Exception
+        {
+        Serializer serializer = new DefaultSerializer();
+        Binary     binSer     = ExternalizableHelper.toBinary(null, serializer);
+
+        ReadBuffer.BufferInput in = new ByteBufferReadBuffer(ByteBuffer.wrap(binSer.toByteArray())).getBufferInput();
+        assertEquals(ZeroCopyBinaries.NULL, ZeroCopyBinaries.readHeader(in, serializer));
+        }
+
+    @Test
+    public void testUnknown()
+            throws Exception
+        {
+        Serializer serializer = new DefaultSerializer();
+        Binary     binSer     = ExternalizableHelper.toBinary("not a binary", serializer);
+
+        ReadBuffer.BufferInput in = new ByteBufferReadBuffer(ByteBuffer.wrap(binSer.toByteArray())).getBufferInput();
+        assertEquals(ZeroCopyBinaries.UNKNOWN, ZeroCopyBinaries.readHeader(in, serializer));
+        assertEquals(0, in.getOffset());
+        assertEquals("not a binary", serializer.deserialize(in));
+        }
+
+    @Test
+    public void testNotShared()
+            throws Exception
+        {
+        // small values are copied
+        ByteBuffer bufSmall = ByteBuffer.wrap(new byte[64]);
+        assertNull(ZeroCopyBinaries.share(new ByteBufferReadBuffer(bufSmall)));
+
+        // direct buffers cannot back a Binary
+        ByteBuffer bufDirect = ByteBuffer.allocateDirect(4096);
+        assertNull(ZeroCopyBinaries.share(new ByteBufferReadBuffer(bufDirect)));
+
+        // a value that would pin a much larger buffer is copied
+        ByteBuffer bufLarge = ByteBuffer.wrap(new byte[64 * 1024]);
+        bufLarge.limit(4096);
+        assertNull(ZeroCopyBinaries.share(new ByteBufferReadBuffer(bufLarge.slice())));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Assert that a large Binary serialized by the specified Serializer is
+     * read without copying its contents.
+     *
+     * @param serializer  the Serializer
+     */
+    protected void assertShared(Serializer serializer)
+            throws Exception
+        {
+        byte[] ab = new byte[8192];
+        for (int i = 0; i < ab.length; i++)
+            {
+            ab[i] = (byte) i;
+            }
+
+        Binary     bin    = new Binary(ab);
+        Binary     binSer = ExternalizableHelper.toBinary(bin, serializer);
+        ByteBuffer buffer = ByteBuffer.wrap(binSer.toByteArray());
+
+        ReadBuffer.BufferInput in = new ByteBufferReadBuffer(buffer).getBufferInput();
+
+        int cb = ZeroCopyBinaries.readHeader(in, serializer);
+        assertEquals(ab.length, cb);
+
+        Binary binShared = ZeroCopyBinaries.share(in.readBuffer(cb));
+        assertNotNull(binShared);
+        assertEquals(bin, binShared);
+
+        // the Binary shares the memory of the buffer
+        buffer.put(buffer.limit() - 1, (byte) 0x7F);
+        assertEquals(0x7F, binShared.byteAt(cb - 1));
+        }
+    }
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link AdaptiveBundlingWindow}.
+ */
+public class AdaptiveBundlingWindowTest
+    {
+    @Test
+    public void testNoHistory()
+        {
+        AdaptiveBundlingWindow window = new AdaptiveBundlingWindow();
+
+        // without any history the window is the static threshold
+        assertEquals(THRESHOLD, window.getWindowNanos(THRESHOLD, 0.0));
+        }
+
+    @Test
+    public void testHighRate()
+        {
+        AdaptiveBundlingWindow window = new AdaptiveBundlingWindow();
+
+        release(window, 2_000L, 100);
+
+        // items arrive every 2us; wait for about one more arrival
+        assertEquals(2_000L, window.getIntervalNanos());
+        assertEquals(2_000L, window.getWindowNanos(THRESHOLD, 0.0));
+        assertEquals(4_000L, window.getWindowNanos(THRESHOLD, 1.0));
+        }
+
+    @Test
+    public void testLowRate()
+        {
+        AdaptiveBundlingWindow window = new AdaptiveBundlingWindow();
+
+        release(window, 1_000_000L, 100);
+
+        // nothing is expected to arrive within the threshold; never defer
+        assertEquals(0L, window.getWindowNanos(THRESHOLD, 0.0));
+        }
+
+    @Test
+    public void testAckLatencyCap()
+        {
+        AdaptiveBundlingWindow window = new AdaptiveBundlingWindow();
+
+        release(window, 4_000L, 100);
+        assertEquals(8_000L, window.getWindowNanos(THRESHOLD, 1.0));
+
+        // the window may not exceed a quarter of the ack latency
+        window.onAckLatency(24_000L);
+        assertEquals(6_000L, window.getWindowNanos(THRESHOLD, 1.0));
+
+        // once the arrivals are slower than the cap, stop deferring
+        window = new AdaptiveBundlingWindow();
+        release(window, 8_000L, 100);
+        window.onAckLatency(16_000L);
+        assertEquals(0L, window.getWindowNanos(THRESHOLD, 0.0));
+        }
+
+    @Test
+    public void testBackoff()
+        {
+        AdaptiveBundlingWindow window = new AdaptiveBundlingWindow();
+
+        long ldt = release(window, 4_000L, 100);
+        assertEquals(4_000L, window.getWindowNanos(THRESHOLD, 0.0));
+
+        // deferrals that bundle nothing halve the window
+        for (int i = 0; i < 10; i++)
+            {
+            window.onRelease(ldt += 4_000L, 1, true, false);
+            }
+        assertEquals(AdaptiveBundlingWindow.MAX_BACKOFF, window.getBackoff());
+        assertEquals(4_000L >> AdaptiveBundlingWindow.MAX_BACKOFF, window.getWindowNanos(THRESHOLD, 0.0));
+
+        // successful deferrals restore it
+        for (int i = 0; i < 10; i++)
+            {
+            window.onRelease(ldt += 4_000L, 1, true, true);
+            }
+        assertEquals(0, window.getBackoff());
+        assertEquals(4_000L, window.getWindowNanos(THRESHOLD, 0.0));
+        }
+
+    @Test
+    public void testIdleClamp()
+        {
+        AdaptiveBundlingWindow window = new AdaptiveBundlingWindow();
+
+        window.onRelease(1L, 1, false, false);
+        window.onRelease(1L + 60_000_000_000L, 1, false, false);
+
+        // an idle minute does not outweigh the following traffic for long
+        assertEquals(AdaptiveBundlingWindow.MAX_INTERVAL_NANOS, window.getIntervalNanos());
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Release the specified number of single item bundles at the specified
+     * interval.
+     *
+     * @param window     the window
+     * @param cInterval  the interval between releases in nanoseconds
+     * @param cReleases  the number of releases
+     *
+     * @return the time of the last release
+     */
+    protected static long release(AdaptiveBundlingWindow window, long cInterval, int cReleases)
+        {
+        long ldt = 1L;
+        for (int i = 0; i < cReleases; i++)
+            {
+            window.onRelease(ldt += cInterval, 1, false, false);
+            }
+        return ldt;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The deferral threshold used by the tests.
+     */
+    private static final long THRESHOLD = 10_000L;
+    }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.util;
+
+import com.tangosol.net.DistributedCacheService;
+import com.tangosol.net.Member;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.net.partition.KeyPartitioningStrategy;
+
+import com.tangosol.util.InvocableMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link DefaultAsyncNamedCache}.
+ */
+public class DefaultAsyncNamedCacheTest
+    {
+    @Before
+    public void setup()
+        {
+        System.setProperty(DefaultAsyncNamedCache.PROPERTY_CHUNK_SIZE, "5");
+
+        DistributedCacheService service  = mock(DistributedCacheService.class);
+        KeyPartitioningStrategy strategy = mock(KeyPartitioningStrategy.class);
+        Member                  member1  = mock(Member.class);
+        Member                  member2  = mock(Member.class);
+
+        when(service.getKeyPartitioningStrategy()).thenReturn(strategy);
+        when(strategy.getKeyPartition(any())).thenAnswer(inv -> ((Integer) inv.getArgument(0)) % 2);
+        when(service.getPartitionOwner(anyInt())).thenAnswer(inv -> ((Integer) inv.getArgument(0)) == 0 ? member1 : member2);
+
+        m_cache = mock(NamedCache.class);
+        when(m_cache.getCacheService()).thenReturn(service);
+        }
+
+    @After
+    public void cleanup()
+        {
+        System.clearProperty(DefaultAsyncNamedCache.PROPERTY_CHUNK_SIZE);
+        }
+
+    @Test
+    public void shouldSplitPutAllIntoChunksByOwner()
+        {
+        Map<Integer, String> map = new HashMap<>();
+        for (int i = 0; i < 25; i++)
+            {
+            map.put(i, "value-" + i);
+            }
+
+        new DefaultAsyncNamedCache<>(m_cache).putAll(map);
+
+        assertChunks(25);
+        }
+
+    @Test
+    public void shouldSplitGetAllIntoChunksByOwner()
+        {
+        List<Integer> listKeys = new ArrayList<>();
+        for (int i = 0; i < 25; i++)
+            {
+            listKeys.add(i);
+            }
+
+        new DefaultAsyncNamedCache<>(m_cache).getAll(listKeys);
+
+        assertChunks(25);
+        }
+
+    @Test
+    public void shouldNotSplitSmallGetAll()
+        {
+        List<Integer> listKeys = new ArrayList<>();
+        for (int i = 0; i < 5; i++)
+            {
+            listKeys.add(i);
+            }
+
+        new DefaultAsyncNamedCache<>(m_cache).getAll(listKeys);
+
+        verify(m_cache, times(1)).invokeAll(any(Collection.class), any(InvocableMap.EntryProcessor.class));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Assert that the specified number of keys were sent in chunks of at most
+     * five keys, each owned by a single member.
+     */
+    @SuppressWarnings("unchecked")
+    protected void assertChunks(int cKeys)
+        {
+        ArgumentCaptor<Collection> captor = ArgumentCaptor.forClass(Collection.class);
+
+        // 13 even keys in chunks of 5, 5 and 3, and 12 odd keys in chunks of 5, 5 and 2
+        verify(m_cache, times(6)).invokeAll(captor.capture(), any(InvocableMap.EntryProcessor.class));
+
+        Set<Integer> setKeys = new HashSet<>();
+        for (Collection<Integer> colKeys : captor.getAllValues())
+            {
+            assertTrue(colKeys.size() <= 5);
+
+            int nParity = colKeys.iterator().next() % 2;
+            for (Integer nKey : colKeys)
+                {
+                assertThat(nKey % 2, is(nParity));
+                }
+            setKeys.addAll(colKeys);
+            }
+        assertThat(setKeys.size(), is(cKeys));
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The mock cache.
+     */
+    protected NamedCache m_cache;
+    }
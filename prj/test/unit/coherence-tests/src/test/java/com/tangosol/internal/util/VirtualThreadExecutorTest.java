@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.util;
+
+import com.tangosol.net.PriorityTask;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static com.oracle.bedrock.testsupport.deferred.Eventually.assertDeferred;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test of the VirtualThreadExecutor implementation.
+ */
+public class VirtualThreadExecutorTest
+    {
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectInvalidConcurrency()
+        {
+        new VirtualThreadExecutor("test", 0);
+        }
+
+    @Test
+    public void shouldBoundConcurrency()
+            throws Exception
+        {
+        VirtualThreadExecutor executor = new VirtualThreadExecutor("test", 2);
+        CountDownLatch        latch    = new CountDownLatch(1);
+        AtomicInteger         cActive  = new AtomicInteger();
+        AtomicInteger         cMax     = new AtomicInteger();
+
+        for (int i = 0; i < 10; i++)
+            {
+            executor.execute(() ->
+                {
+                cMax.accumulateAndGet(cActive.incrementAndGet(), Math::max);
+                try
+                    {
+                    latch.await(1, TimeUnit.MINUTES);
+                    }
+                catch (InterruptedException e)
+                    {
+                    Thread.currentThread().interrupt();
+                    }
+                cActive.decrementAndGet();
+                });
+            }
+
+        assertDeferred(cActive::get, is(2));
+        assertThat(executor.getInFlightCount(), is(2));
+        assertThat(executor.getBacklog(), is(8));
+
+        latch.countDown();
+
+        assertDeferred(executor::getTaskCount, is(10L));
+        assertDeferred(executor::getInFlightCount, is(0));
+        assertThat(executor.getBacklog(), is(0));
+        assertThat(executor.getMaxInFlightCount(), is(2));
+        assertThat(cMax.get(), lessThanOrEqualTo(2));
+        }
+
+    @Test
+    public void shouldContinueAfterTaskFailure()
+        {
+        VirtualThreadExecutor executor = new VirtualThreadExecutor("test", 1);
+        CountDownLatch        latch    = new CountDownLatch(1);
+
+        executor.execute(() ->
+            {
+            throw new RuntimeException("expected");
+            });
+        executor.execute(latch::countDown);
+
+        assertDeferred(latch::getCount, is(0L));
+        assertDeferred(executor::getTaskCount, is(2L));
+        assertDeferred(executor::getInFlightCount, is(0));
+        }
+
+    @Test
+    public void shouldInterruptTaskExceedingTimeout()
+        {
+        VirtualThreadExecutor executor = new VirtualThreadExecutor("test", 4, 50L, 20L);
+        CountDownLatch        latch    = new CountDownLatch(1);
+
+        executor.execute(() ->
+            {
+            try
+                {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                }
+            catch (InterruptedException e)
+                {
+                latch.countDown();
+                }
+            });
+
+        assertDeferred(() -> checkHungCount(executor), is(1));
+        assertDeferred(() -> checkLatch(executor, latch), is(0L));
+        assertThat(executor.getTimeoutCount(), is(1L));
+        assertDeferred(executor::getInFlightCount, is(0));
+
+        executor.checkTasks();
+        assertThat(executor.getHungCount(), is(0));
+        }
+
+    @Test
+    public void shouldNotTimeOutTaskWithoutTimeout()
+            throws Exception
+        {
+        VirtualThreadExecutor executor = new VirtualThreadExecutor("test", 4, 10L, 0L);
+        CountDownLatch        latch    = new CountDownLatch(1);
+
+        executor.execute(() ->
+            {
+            try
+                {
+                latch.await(1, TimeUnit.MINUTES);
+                }
+            catch (InterruptedException e)
+                {
+                Thread.currentThread().interrupt();
+                }
+            }, PriorityTask.TIMEOUT_NONE, null);
+
+        Thread.sleep(50L);
+        executor.checkTasks();
+        latch.countDown();
+
+        assertDeferred(executor::getTaskCount, is(1L));
+        assertThat(executor.getTimeoutCount(), is(0L));
+        assertThat(executor.getHungCount(), is(0));
+        }
+
+    @Test
+    public void shouldRejectTaskWhenThreadCannotStart()
+        {
+        VirtualThreadExecutor executor = new VirtualThreadExecutor("test", 1)
+            {
+            @Override
+            protected Thread makeThread(Runnable runnable, String sName)
+                {
+                throw new OutOfMemoryError("expected");
+                }
+            };
+        AtomicInteger cRan      = new AtomicInteger();
+        AtomicInteger cRejected = new AtomicInteger();
+
+        executor.execute(cRan::incrementAndGet, PriorityTask.TIMEOUT_DEFAULT, cRejected::incrementAndGet);
+        executor.execute(cRan::incrementAndGet, PriorityTask.TIMEOUT_DEFAULT, cRejected::incrementAndGet);
+
+        assertThat(cRan.get(), is(0));
+        assertThat(cRejected.get(), is(2));
+        assertThat(executor.getInFlightCount(), is(0));
+        assertThat(executor.getBacklog(), is(0));
+        }
+
+    @Test
+    public void shouldResetStatistics()
+        {
+        VirtualThreadExecutor executor = new VirtualThreadExecutor("test", 4);
+
+        executor.execute(() -> {});
+
+        assertDeferred(executor::getTaskCount, is(1L));
+        executor.resetStatistics();
+
+        assertThat(executor.getTaskCount(), is(0L));
+        assertTrue(executor.getMaxInFlightCount() <= executor.getInFlightCount());
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Check the tasks of the specified executor and return its hung count.
+     */
+    protected static int checkHungCount(VirtualThreadExecutor executor)
+        {
+        executor.checkTasks();
+        return executor.getHungCount();
+        }
+
+    /**
+     * Check the tasks of the specified executor and return the latch count.
+     */
+    protected static long checkLatch(VirtualThreadExecutor executor, CountDownLatch latch)
+        {
+        executor.checkTasks();
+        return latch.getCount();
+        }
+    }
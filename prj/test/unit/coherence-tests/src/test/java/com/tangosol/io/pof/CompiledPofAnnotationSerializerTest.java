@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.io.pof;
+
+import com.tangosol.io.pof.annotation.Portable;
+import com.tangosol.io.pof.annotation.PortableProperty;
+
+import com.tangosol.io.pof.reflect.Codec;
+
+import com.tangosol.io.pof.reflect.internal.PofAnnotationSerializerTest.BewilderedPerson;
+import com.tangosol.io.pof.reflect.internal.PofAnnotationSerializerTest.PersonV1;
+import com.tangosol.io.pof.reflect.internal.PofAnnotationSerializerTest.PersonV2;
+import com.tangosol.io.pof.reflect.internal.PofAnnotationSerializerTest.SequenceV1;
+import com.tangosol.io.pof.reflect.internal.PofAnnotationSerializerTest.SequenceV2;
+
+import com.tangosol.util.Binary;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+import static com.tangosol.util.ExternalizableHelper.fromBinary;
+import static com.tangosol.util.ExternalizableHelper.toBinary;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import static org.junit.Assert.assertThat;
+
+/**
+ * {@link CompiledPofAnnotationSerializer} tests.
+ */
+public class CompiledPofAnnotationSerializerTest
+    {
+    @Test
+    public void shouldProduceSameBinaryAsReflection()
+        {
+        Primitives value = new Primitives();
+        value.m_f   = true;
+        value.m_b   = 1;
+        value.m_ch  = 'c';
+        value.m_sh  = 2;
+        value.m_n   = 0;
+        value.m_l   = 4L;
+        value.m_fl  = 5.5f;
+        value.m_dfl = 6.25;
+        value.m_s   = "seven";
+
+        CompiledPofAnnotationSerializer<Primitives> serializer =
+                new CompiledPofAnnotationSerializer<>(1000, Primitives.class);
+
+        Binary binReflect  = toBinary(value, createContext(Primitives.class, new PofAnnotationSerializer<>(1000, Primitives.class)));
+        Binary binCompiled = toBinary(value, createContext(Primitives.class, serializer));
+
+        assertThat(serializer.isCompiled(), is(true));
+        assertThat(binCompiled, is(binReflect));
+
+        Primitives result = (Primitives) fromBinary(binReflect, createContext(Primitives.class, serializer));
+
+        assertThat(result.m_f  , is(true));
+        assertThat(result.m_b  , is((byte) 1));
+        assertThat(result.m_ch , is('c'));
+        assertThat(result.m_sh , is((short) 2));
+        assertThat(result.m_n  , is(0));
+        assertThat(result.m_l  , is(4L));
+        assertThat(result.m_fl , is(5.5f));
+        assertThat(result.m_dfl, is(6.25));
+        assertThat(result.m_s  , is("seven"));
+        assertThat(result.m_boxed, nullValue());
+        }
+
+    @Test
+    public void shouldUseAccessorsAndCodecs()
+        {
+        CompiledPofAnnotationSerializer<Accessors> serializer =
+                new CompiledPofAnnotationSerializer<>(1000, Accessors.class);
+        SimplePofContext ctx = createContext(Accessors.class, serializer);
+
+        Accessors value = new Accessors();
+        value.setCount(42);
+        value.setName("name");
+
+        Accessors result = (Accessors) fromBinary(toBinary(value, ctx), ctx);
+
+        assertThat(serializer.isCompiled(), is(true));
+        assertThat(result.getCount(), is(42));
+        assertThat(result.getName() , is("NAME"));
+        }
+
+    @Test
+    public void shouldSupportInheritance()
+        {
+        SimplePofContext ctx = new SimplePofContext();
+        ctx.registerUserType(1001, PersonV1.class, new CompiledPofAnnotationSerializer<>(1001, PersonV1.class, true));
+        ctx.registerUserType(1005, BewilderedPerson.class,
+                new CompiledPofAnnotationSerializer<>(1005, BewilderedPerson.class, true));
+
+        BewilderedPerson value  = new BewilderedPerson("Frank", "Spencer", 57, "dizzy");
+        BewilderedPerson result = (BewilderedPerson) fromBinary(toBinary(value, ctx), ctx);
+
+        assertThat(result.getImplVersion(), is(0));
+        assertThat(toBinary(result, ctx), is(toBinary(value, ctx)));
+        }
+
+    @Test
+    public void shouldSupportEvolvable()
+        {
+        SimplePofContext ctx1 = new SimplePofContext();
+        ctx1.registerUserType(1001, PersonV1.class, new CompiledPofAnnotationSerializer<>(1001, PersonV1.class, true));
+        SimplePofContext ctx2 = new SimplePofContext();
+        ctx2.registerUserType(1001, PersonV2.class, new PofAnnotationSerializer<>(1001, PersonV2.class, true));
+
+        PersonV2 valueV2 = new PersonV2("Frank", "Spencer", 57, Boolean.TRUE);
+
+        // round trip V2 => V1 => V2 preserves the future data
+        PersonV1 valueV1  = (PersonV1) fromBinary(toBinary(valueV2, ctx2), ctx1);
+        PersonV2 resultV2 = (PersonV2) fromBinary(toBinary(valueV1, ctx1), ctx2);
+
+        assertThat(toBinary(resultV2, ctx2), is(toBinary(valueV2, ctx2)));
+        }
+
+    @Test
+    public void shouldLeaveAbsentPrimitivesUnchanged()
+        {
+        SimplePofContext ctx1 = new SimplePofContext();
+        ctx1.registerUserType(1006, SequenceV1.class, new CompiledPofAnnotationSerializer<>(1006, SequenceV1.class, true));
+        SimplePofContext ctx2 = new SimplePofContext();
+        ctx2.registerUserType(1006, Defaults.class, new CompiledPofAnnotationSerializer<>(1006, Defaults.class, true));
+
+        Defaults result = (Defaults) fromBinary(toBinary(new SequenceV1(1), ctx1), ctx2);
+
+        assertThat(result.m_a, is(1));
+        assertThat(result.m_b, is(-1));
+        }
+
+    @Test
+    public void shouldFallBackToReflection()
+        {
+        CompiledPofAnnotationSerializer<StaticProperty> serializer =
+                new CompiledPofAnnotationSerializer<>(1000, StaticProperty.class);
+        SimplePofContext ctx = createContext(StaticProperty.class, serializer);
+
+        StaticProperty.s_n = 1;
+        Binary bin = toBinary(new StaticProperty(), ctx);
+        StaticProperty.s_n = 0;
+        fromBinary(bin, ctx);
+
+        assertThat(serializer.isCompiled(), is(false));
+        assertThat(StaticProperty.s_n, is(1));
+        }
+
+    @Test
+    public void shouldReadPropertiesWrittenByOlderVersion()
+        {
+        SimplePofContext ctx1 = new SimplePofContext();
+        ctx1.registerUserType(1006, SequenceV2.class, new CompiledPofAnnotationSerializer<>(1006, SequenceV2.class, true));
+        SimplePofContext ctx2 = new SimplePofContext();
+        ctx2.registerUserType(1006, SequenceV1.class, new CompiledPofAnnotationSerializer<>(1006, SequenceV1.class, true));
+
+        SequenceV2 value  = new SequenceV2(1, 2);
+        SequenceV1 result = (SequenceV1) fromBinary(toBinary(value, ctx1), ctx2);
+
+        // the unknown property is preserved as future data
+        assertThat(result.getDataVersion(), is(1));
+        assertThat(toBinary(result, ctx2), is(toBinary(value, ctx1)));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    protected static SimplePofContext createContext(Class<?> clz, PofSerializer serializer)
+        {
+        SimplePofContext ctx = new SimplePofContext();
+        ctx.registerUserType(1000, clz, serializer);
+        return ctx;
+        }
+
+    // ----- inner class: Primitives ----------------------------------------
+
+    @Portable
+    public static class Primitives
+        {
+        @PortableProperty(0)
+        private boolean m_f;
+        @PortableProperty(1)
+        private byte m_b;
+        @PortableProperty(2)
+        private char m_ch;
+        @PortableProperty(3)
+        private short m_sh;
+        @PortableProperty(4)
+        private int m_n = 3;
+        @PortableProperty(5)
+        private long m_l;
+        @PortableProperty(6)
+        private float m_fl;
+        @PortableProperty(7)
+        private double m_dfl;
+        @PortableProperty(8)
+        private String m_s;
+        @PortableProperty(9)
+        private Integer m_boxed;
+        }
+
+    // ----- inner class: Accessors -----------------------------------------
+
+    @Portable
+    public static class Accessors
+        {
+        @PortableProperty(value = 0, codec = LongCodec.class)
+        public int getCount()
+            {
+            return m_nCount;
+            }
+
+        public void setCount(int nCount)
+            {
+            m_nCount = nCount;
+            }
+
+        @PortableProperty(value = 1, codec = UpperCaseCodec.class)
+        public String getName()
+            {
+            return m_sName;
+            }
+
+        public void setName(String sName)
+            {
+            m_sName = sName;
+            }
+
+        private int m_nCount;
+
+        private String m_sName;
+        }
+
+    // ----- inner class: Defaults ------------------------------------------
+
+    @Portable
+    public static class Defaults
+        {
+        @PortableProperty(0)
+        protected int m_a;
+        @PortableProperty(1)
+        protected int m_b = -1;
+        }
+
+    // ----- inner class: StaticProperty ------------------------------------
+
+    @Portable
+    public static class StaticProperty
+        {
+        @PortableProperty(0)
+        private static int s_n;
+        }
+
+    // ----- inner class: LongCodec -----------------------------------------
+
+    /**
+     * Codec that writes an int as a long.
+     */
+    public static class LongCodec
+            implements Codec
+        {
+        @Override
+        public Object decode(PofReader in, int iProp) throws IOException
+            {
+            return in.readLong(iProp);
+            }
+
+        @Override
+        public void encode(PofWriter out, int iProp, Object value) throws IOException
+            {
+            out.writeLong(iProp, ((Number) value).longValue());
+            }
+        }
+
+    // ----- inner class: UpperCaseCodec ------------------------------------
+
+    /**
+     * Codec that upper cases strings on read.
+     */
+    public static class UpperCaseCodec
+            implements Codec
+        {
+        @Override
+        public Object decode(PofReader in, int iProp) throws IOException
+            {
+            String s = in.readString(iProp);
+            return s == null ? null : s.toUpperCase();
+            }
+
+        @Override
+        public void encode(PofWriter out, int iProp, Object value) throws IOException
+            {
+            out.writeString(iProp, (String) value);
+            }
+        }
+    }
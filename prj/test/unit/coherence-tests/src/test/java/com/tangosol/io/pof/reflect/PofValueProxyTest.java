@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.io.pof.reflect;
+
+
+import com.tangosol.io.WriteBuffer;
+
+import com.tangosol.io.pof.PofContext;
+import com.tangosol.io.pof.PortableObjectSerializer;
+import com.tangosol.io.pof.SimplePofContext;
+
+import com.tangosol.io.pof.annotation.PortableProperty;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryWriteBuffer;
+
+import com.tangosol.util.extractor.PofExtractorTest.TestBinaryEntry;
+
+import data.pof.Address;
+import data.pof.PofDataUtils;
+import data.pof.PortablePerson;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * Tests for the PofValueProxy class.
+ */
+public class PofValueProxyTest
+        extends PofDataUtils
+    {
+    // ----- test methods ---------------------------------------------------
+
+    /**
+     * Test reading properties through a view.
+     */
+    @Test
+    public void testGetters()
+            throws IOException
+        {
+        PortablePerson person = PortablePerson.create();
+        PersonView     view   = PofValueProxy.create(PersonView.class,
+                serialize(person, MODE_PLAIN), getPofContext());
+
+        assertEquals(person.getName(), view.getName());
+        assertEquals(person.getAge(), view.getAge());
+        assertEquals(person.getAddress(), view.getAddressObject());
+        assertEquals(person.getAddress().getCity(), view.getAddress().getCity());
+        assertFalse(PofValueProxy.isDirty(view));
+        }
+
+    /**
+     * Test that changes made through a view, including a nested view, are
+     * applied to the serialized value.
+     */
+    @Test
+    public void testApplyChanges()
+            throws IOException
+        {
+        PortablePerson person = PortablePerson.create();
+        PersonView     view   = PofValueProxy.create(PersonView.class,
+                serialize(person, MODE_PLAIN), getPofContext());
+
+        view.setAge(view.getAge() + 1);
+        view.getAddress().setCity("Boston");
+        assertTrue(PofValueProxy.isDirty(view));
+
+        PortablePerson personNew = (PortablePerson) deserialize(PofValueProxy.applyChanges(view));
+
+        assertEquals(person.getAge() + 1, personNew.getAge());
+        assertEquals("Boston", personNew.getAddress().getCity());
+        assertEquals(person.getAddress().getStreet(), personNew.getAddress().getStreet());
+        assertEquals(person.getName(), personNew.getName());
+        assertEquals(person.getSpouse(), personNew.getSpouse());
+        }
+
+    /**
+     * Test committing a view to a BinaryEntry.
+     */
+    @Test
+    public void testCommit()
+            throws IOException
+        {
+        PortablePerson  person = PortablePerson.create();
+        PofContext      ctx    = getPofContext();
+        TestBinaryEntry entry  = new TestBinaryEntry(null, serialize(person, MODE_PLAIN), ctx);
+        Binary          binOld = entry.getBinaryValue();
+
+        PersonView view = PofValueProxy.create(PersonView.class, entry);
+        assertFalse(PofValueProxy.commit(view));
+        assertSame(binOld, entry.getBinaryValue());
+
+        view.setName("Aleks");
+        assertTrue(PofValueProxy.commit(view));
+        assertFalse(PofValueProxy.isDirty(view));
+
+        PortablePerson personNew = (PortablePerson) deserialize(entry.getBinaryValue());
+        assertEquals("Aleks", personNew.getName());
+        assertEquals(person.getAge(), personNew.getAge());
+
+        // the view remains usable after commit
+        assertEquals("Aleks", view.getName());
+        view.getAddress().setZip("02134");
+        assertTrue(PofValueProxy.commit(view));
+
+        personNew = (PortablePerson) deserialize(entry.getBinaryValue());
+        assertEquals("Aleks", personNew.getName());
+        assertEquals("02134", personNew.getAddress().getZip());
+        }
+
+    /**
+     * Test that the same view can be used with contexts that assign different
+     * type identifiers to the same user type.
+     */
+    @Test
+    public void testSeveralContexts()
+            throws IOException
+        {
+        PortablePerson person = PortablePerson.create();
+        PersonView     view   = PofValueProxy.create(PersonView.class,
+                serialize(person, MODE_PLAIN), getPofContext());
+        assertEquals(person.getAddress(), view.getAddressValue());
+
+        SimplePofContext ctx = new SimplePofContext();
+        ctx.registerUserType(11, Address.class, new PortableObjectSerializer(11));
+        ctx.registerUserType(12, PortablePerson.class, new PortableObjectSerializer(12));
+
+        WriteBuffer buf = new BinaryWriteBuffer(1000);
+        ctx.serialize(buf.getBufferOutput(), person);
+
+        view = PofValueProxy.create(PersonView.class, buf.toBinary(), ctx);
+        assertEquals(person.getAddress(), view.getAddressValue());
+        }
+
+    /**
+     * Test that default methods of a view interface are invoked.
+     */
+    @Test
+    public void testDefaultMethod()
+            throws IOException
+        {
+        PortablePerson person = PortablePerson.create();
+        PersonView     view   = PofValueProxy.create(PersonView.class,
+                serialize(person, MODE_PLAIN), getPofContext());
+
+        view.incrementAge(2);
+        assertEquals(person.getAge() + 2, view.getAge());
+        }
+
+    /**
+     * Test that a method that is not an annotated accessor is rejected.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnannotatedMethod()
+            throws IOException
+        {
+        PersonView view = PofValueProxy.create(PersonView.class,
+                serialize(PortablePerson.create(), MODE_PLAIN), getPofContext());
+
+        view.getDescription();
+        }
+
+    /**
+     * Test that a non-view object is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotAView()
+        {
+        PofValueProxy.applyChanges(new Object());
+        }
+
+    // ----- inner interface: PersonView ------------------------------------
+
+    /**
+     * A view of a PortablePerson.
+     */
+    public interface PersonView
+        {
+        @PortableProperty(PortablePerson.NAME)
+        String getName();
+
+        @PortableProperty(PortablePerson.NAME)
+        void setName(String sName);
+
+        @PortableProperty(PortablePerson.AGE)
+        int getAge();
+
+        @PortableProperty(PortablePerson.AGE)
+        void setAge(int nAge);
+
+        @PortableProperty(PortablePerson.ADDRESS)
+        AddressView getAddress();
+
+        @PortableProperty(PortablePerson.ADDRESS)
+        Object getAddressObject();
+
+        @PortableProperty(PortablePerson.ADDRESS)
+        Address getAddressValue();
+
+        String getDescription();
+
+        default void incrementAge(int c)
+            {
+            setAge(getAge() + c);
+            }
+        }
+
+    // ----- inner interface: AddressView -----------------------------------
+
+    /**
+     * A view of an Address.
+     */
+    public interface AddressView
+        {
+        @PortableProperty(Address.CITY)
+        String getCity();
+
+        @PortableProperty(Address.CITY)
+        void setCity(String sCity);
+
+        @PortableProperty(Address.ZIP)
+        void setZip(String sZip);
+        }
+    }
@@ -0,0 +1,407 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.net.events.internal;
+
+import com.tangosol.net.BackingMapManagerContext;
+
+import com.tangosol.net.events.BatchEventInterceptor;
+import com.tangosol.net.events.NamedEventInterceptor;
+
+import com.tangosol.net.events.internal.StorageDispatcher.PartitionedCacheEntryEvent;
+import com.tangosol.net.events.partition.cache.EntryEvent;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.Converter;
+import com.tangosol.util.ExternalizableHelper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link BatchEventExecutor}.
+ */
+public class BatchEventExecutorTest
+    {
+    /**
+     * Test that post events are delivered in batches, on another thread, in
+     * partition order.
+     */
+    @Test
+    public void testAsync()
+            throws InterruptedException
+        {
+        TestInterceptor interceptor = new TestInterceptor(4, 2, 100);
+        BatchEventExecutor executor = new BatchEventExecutor(interceptor, "test");
+
+        for (int i = 0; i < 100; ++i)
+            {
+            executor.onEvent(createEvent(EntryEvent.Type.INSERTED, i % 5, i));
+            }
+
+        interceptor.f_latchStart.countDown();
+        assertTrue(interceptor.f_latchDone.await(1, TimeUnit.MINUTES));
+
+        assertFalse(interceptor.m_fCalledOnCaller);
+        assertTrue(interceptor.m_cMaxBatch <= 4);
+        for (int nPartition = 0; nPartition < 5; ++nPartition)
+            {
+            int nLast = -1;
+            for (int n : interceptor.f_alistValues[nPartition])
+                {
+                assertTrue(n > nLast);
+                nLast = n;
+                }
+            assertEquals(20, interceptor.f_alistValues[nPartition].size());
+            }
+        }
+
+    /**
+     * Test that a queued event refers to a read-only snapshot of its entry,
+     * taken when the event was raised.
+     */
+    @Test
+    public void testSnapshot()
+            throws InterruptedException
+        {
+        TestInterceptor    interceptor = new TestInterceptor(4, 1, 1);
+        BatchEventExecutor executor    = new BatchEventExecutor(interceptor, "test");
+        EntryEvent         event       = createEvent(EntryEvent.Type.UPDATED, 2, 42);
+        BinaryEntry        binEntry    = event.getEntry();
+
+        executor.onEvent(event);
+
+        // the entry is modified once the lock is released
+        when(binEntry.getBinaryValue()).thenReturn(ExternalizableHelper.toBinary(43));
+
+        interceptor.f_latchStart.countDown();
+        assertTrue(interceptor.f_latchDone.await(1, TimeUnit.MINUTES));
+        assertEquals(Collections.singletonList(42), interceptor.f_alistValues[2]);
+
+        BinaryEntry entryQueued = interceptor.m_entryLast;
+        assertNotSame(binEntry, entryQueued);
+        assertTrue(entryQueued.isReadOnly());
+        assertEquals(2, entryQueued.getKeyPartition());
+        try
+            {
+            entryQueued.setValue(44);
+            fail("the queued entry must be read-only");
+            }
+        catch (UnsupportedOperationException e)
+            {
+            // expected
+            }
+        }
+
+    /**
+     * Test that vetoable events are delivered synchronously.
+     */
+    @Test
+    public void testVetoable()
+        {
+        TestInterceptor interceptor = new TestInterceptor(4, 2, 1);
+        BatchEventExecutor executor = new BatchEventExecutor(interceptor, "test");
+
+        interceptor.f_latchStart.countDown();
+        executor.onEvent(createEvent(EntryEvent.Type.INSERTING, 3, 42));
+
+        assertTrue(interceptor.m_fCalledOnCaller);
+        assertEquals(0, interceptor.f_latchDone.getCount());
+        assertEquals(Collections.singletonList(42), interceptor.f_alistValues[3]);
+        }
+
+    /**
+     * Test that a NamedEventInterceptor dispatches through a BatchEventExecutor.
+     */
+    @Test
+    public void testNamedEventInterceptor()
+            throws InterruptedException
+        {
+        TestInterceptor interceptor = new TestInterceptor(4, 1, 1);
+
+        interceptor.f_latchStart.countDown();
+        new NamedEventInterceptor<>("test", interceptor).onEvent(createEvent(EntryEvent.Type.UPDATED, 1, 7));
+
+        assertTrue(interceptor.f_latchDone.await(1, TimeUnit.MINUTES));
+        assertFalse(interceptor.m_fCalledOnCaller);
+        }
+
+    /**
+     * Test that an event raised while the queue is full blocks the calling
+     * thread by default, preserving the order of events.
+     */
+    @Test
+    public void testOverflowBlock()
+            throws InterruptedException
+        {
+        OverflowInterceptor interceptor = new OverflowInterceptor(null);
+        BatchEventExecutor  executor    = new BatchEventExecutor(interceptor, "test");
+
+        Thread thread = new Thread(() ->
+            {
+            for (int i = 0; i < 10; ++i)
+                {
+                executor.onEvent(createEvent(EntryEvent.Type.INSERTED, 0, i));
+                }
+            });
+        thread.start();
+
+        // at most one event is being delivered and two are queued
+        thread.join(500L);
+        assertTrue(thread.isAlive());
+        assertTrue(executor.getOverflowCount() > 0);
+
+        interceptor.f_latchStart.countDown();
+        thread.join(60000L);
+        assertFalse(thread.isAlive());
+        assertTrue(interceptor.f_latchDone.await(1, TimeUnit.MINUTES));
+
+        assertEquals(0, interceptor.f_cCallerEvents.get());
+        assertEquals(0, executor.getDroppedCount());
+        for (int i = 0; i < 10; ++i)
+            {
+            assertEquals(Integer.valueOf(i), interceptor.f_listValues.get(i));
+            }
+        }
+
+    /**
+     * Test that an event raised while the queue is full is delivered on the
+     * calling thread by the CALLER_RUNS policy.
+     */
+    @Test
+    public void testOverflowCallerRuns()
+            throws InterruptedException
+        {
+        OverflowInterceptor interceptor = new OverflowInterceptor(BatchEventInterceptor.OverflowPolicy.CALLER_RUNS);
+        BatchEventExecutor  executor    = new BatchEventExecutor(interceptor, "test");
+
+        for (int i = 0; i < 10; ++i)
+            {
+            executor.onEvent(createEvent(EntryEvent.Type.INSERTED, 0, i));
+            }
+
+        // at most one event is being delivered and two are queued
+        long cOverflow = executor.getOverflowCount();
+        assertTrue(cOverflow >= 7);
+        assertEquals(cOverflow, interceptor.f_cCallerEvents.get());
+
+        interceptor.f_latchStart.countDown();
+        assertTrue(interceptor.f_latchDone.await(1, TimeUnit.MINUTES));
+        assertEquals(10, interceptor.f_listValues.size());
+        }
+
+    /**
+     * Test that an event raised while the queue is full is discarded by the
+     * DROP policy.
+     */
+    @Test
+    public void testOverflowDrop()
+            throws InterruptedException
+        {
+        OverflowInterceptor interceptor = new OverflowInterceptor(BatchEventInterceptor.OverflowPolicy.DROP);
+        BatchEventExecutor  executor    = new BatchEventExecutor(interceptor, "test");
+
+        for (int i = 0; i < 10; ++i)
+            {
+            executor.onEvent(createEvent(EntryEvent.Type.INSERTED, 0, i));
+            }
+
+        long cOverflow = executor.getOverflowCount();
+        assertTrue(cOverflow >= 7);
+        assertEquals(cOverflow, executor.getDroppedCount());
+        assertEquals(0, interceptor.f_cCallerEvents.get());
+
+        interceptor.f_latchStart.countDown();
+        for (int i = 0; i < cOverflow; ++i)
+            {
+            interceptor.f_latchDone.countDown();
+            }
+        assertTrue(interceptor.f_latchDone.await(1, TimeUnit.MINUTES));
+        assertEquals(10 - cOverflow, interceptor.f_listValues.size());
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Create an EntryEvent for an entry with the specified partition and
+     * value.
+     */
+    protected static EntryEvent createEvent(EntryEvent.Type type, int nPartition, int nValue)
+        {
+        Converter<Binary, Object> conv = ExternalizableHelper::fromBinary;
+
+        BackingMapManagerContext ctx = mock(BackingMapManagerContext.class);
+        when(ctx.getKeyFromInternalConverter()).thenReturn(conv);
+        when(ctx.getValueFromInternalConverter()).thenReturn(conv);
+
+        BinaryEntry binEntry = mock(BinaryEntry.class);
+        when(binEntry.getContext()).thenReturn(ctx);
+        when(binEntry.getKeyPartition()).thenReturn(nPartition);
+        when(binEntry.getBinaryKey()).thenReturn(ExternalizableHelper.toBinary(nValue));
+        when(binEntry.getBinaryValue()).thenReturn(ExternalizableHelper.toBinary(nValue));
+        when(binEntry.getValue()).thenReturn(nValue);
+
+        return new PartitionedCacheEntryEvent(null, type, Collections.singleton(binEntry));
+        }
+
+    // ----- inner class: OverflowInterceptor -------------------------------
+
+    /**
+     * BatchEventInterceptor with a single queue of two events, whose
+     * delivery thread blocks until released.
+     */
+    public static class OverflowInterceptor
+            implements BatchEventInterceptor<EntryEvent<Integer, Integer>>
+        {
+        public OverflowInterceptor(OverflowPolicy policy)
+            {
+            f_policy = policy;
+            }
+
+        @Override
+        public void onEvents(List<EntryEvent<Integer, Integer>> listEvents)
+            {
+            if (Thread.currentThread() == f_threadCaller)
+                {
+                f_cCallerEvents.addAndGet(listEvents.size());
+                }
+            else
+                {
+                try
+                    {
+                    f_latchStart.await();
+                    }
+                catch (InterruptedException e)
+                    {
+                    throw new RuntimeException(e);
+                    }
+                }
+
+            for (EntryEvent<Integer, Integer> event : listEvents)
+                {
+                f_listValues.add(event.getValue());
+                f_latchDone.countDown();
+                }
+            }
+
+        @Override
+        public int getQueueCapacity()
+            {
+            return 2;
+            }
+
+        @Override
+        public OverflowPolicy getOverflowPolicy()
+            {
+            return f_policy;
+            }
+
+        protected final OverflowPolicy f_policy;
+
+        protected final Thread f_threadCaller = Thread.currentThread();
+
+        protected final CountDownLatch f_latchStart = new CountDownLatch(1);
+
+        protected final CountDownLatch f_latchDone = new CountDownLatch(10);
+
+        protected final AtomicInteger f_cCallerEvents = new AtomicInteger();
+
+        protected final List<Integer> f_listValues = new CopyOnWriteArrayList<>();
+        }
+
+    // ----- inner class: TestInterceptor -----------------------------------
+
+    /**
+     * BatchEventInterceptor that records the values of the events it
+     * receives by partition.
+     */
+    public static class TestInterceptor
+            implements BatchEventInterceptor<EntryEvent<Integer, Integer>>
+        {
+        public TestInterceptor(int cMaxBatch, int cConcurrency, int cEvents)
+            {
+            f_cMaxBatch    = cMaxBatch;
+            f_cConcurrency = cConcurrency;
+            f_latchDone    = new CountDownLatch(cEvents);
+            }
+
+        @Override
+        public synchronized void onEvents(List<EntryEvent<Integer, Integer>> listEvents)
+            {
+            try
+                {
+                f_latchStart.await();
+                }
+            catch (InterruptedException e)
+                {
+                throw new RuntimeException(e);
+                }
+
+            m_fCalledOnCaller |= Thread.currentThread() == f_threadCaller;
+            m_cMaxBatch        = Math.max(m_cMaxBatch, listEvents.size());
+
+            for (EntryEvent<Integer, Integer> event : listEvents)
+                {
+                f_alistValues[event.getEntry().getKeyPartition()].add(event.getValue());
+                m_entryLast = event.getEntry();
+                f_latchDone.countDown();
+                }
+            }
+
+        @Override
+        public int getMaxBatchSize()
+            {
+            return f_cMaxBatch;
+            }
+
+        @Override
+        public int getQueueCapacity()
+            {
+            return 64;
+            }
+
+        @Override
+        public int getConcurrency()
+            {
+            return f_cConcurrency;
+            }
+
+        protected final int f_cMaxBatch;
+
+        protected final int f_cConcurrency;
+
+        protected final Thread f_threadCaller = Thread.currentThread();
+
+        protected final CountDownLatch f_latchStart = new CountDownLatch(1);
+
+        protected final CountDownLatch f_latchDone;
+
+        protected final List<Integer>[] f_alistValues = new List[]
+            {
+            new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()
+            };
+
+        protected boolean m_fCalledOnCaller;
+
+        protected int m_cMaxBatch;
+
+        protected BinaryEntry m_entryLast;
+        }
+    }
@@ -0,0 +1,472 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.net.partition;
+
+
+import com.tangosol.net.Cluster;
+import com.tangosol.net.Member;
+import com.tangosol.net.PartitionedService;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+
+/**
+ * Unit tests for {@link LoadAwareAssignmentStrategy}, using a simulated
+ * {@link DistributionManager} that enacts the suggested distribution
+ * immediately and replays skewed partition statistics.
+ */
+public class LoadAwareAssignmentStrategyTest
+    {
+    // ----- test methods ---------------------------------------------------
+
+    /**
+     * Test that a uniform load yields a count-balanced distribution.
+     */
+    @Test
+    public void testUniformLoad()
+        {
+        Simulator                   sim      = new Simulator(257, 1, 4);
+        LoadAwareAssignmentStrategy strategy = sim.init(new LoadAwareAssignmentStrategy(0, 10));
+
+        sim.converge(strategy);
+
+        for (Member member : sim.getOwnershipMembers())
+            {
+            int cParts = sim.getOwnedPartitions(member, 0).cardinality();
+            assertTrue("member " + member.getId() + " owns " + cParts, cParts >= 60 && cParts <= 70);
+            }
+        assertEndangered(sim, false);
+        }
+
+    /**
+     * Test that hot partitions that are co-located on a single member are
+     * spread across the cluster, using a bounded number of transfers per
+     * analysis.
+     */
+    @Test
+    public void testSkewedLoad()
+        {
+        Simulator sim = new Simulator(257, 1, 4);
+
+        // count-balanced distribution with all hot partitions on member 1
+        sim.assignRoundRobin();
+        for (int iPart = 0; iPart < 257; iPart += 8)
+            {
+            // partitions 0, 8, 16, ... are all owned by member 1
+            sim.setLoad(iPart, 20L * MB, 2000);
+            }
+
+        // the count-based strategy sees nothing to do
+        SimpleAssignmentStrategy simple = sim.init(new SimpleAssignmentStrategy());
+        assertEquals(0, sim.converge(simple));
+
+        LoadAwareAssignmentStrategy strategy = sim.init(new LoadAwareAssignmentStrategy(4, 10));
+
+        // the first analysis transfers a bounded number of hot partitions
+        sim.resetTransfers();
+        strategy.analyzeDistribution();
+
+        int cImbalanceBefore = strategy.getPrimaryLoadImbalance();
+        assertTrue(sim.getPrimaryTransfers() > 0);
+        assertTrue(sim.getPrimaryTransfers() <= strategy.getMaxBalancingTransfers());
+        assertTrue(strategy.isBalancingDeferred());
+
+        int cAnalysis = 0;
+        do
+            {
+            sim.resetTransfers();
+            strategy.analyzeDistribution();
+
+            assertTrue(sim.getPrimaryTransfers() <= strategy.getMaxBalancingTransfers());
+            assertTrue(strategy.getLastBalancingTransferCount() <= strategy.getMaxBalancingTransfers());
+            assertTrue("failed to converge", ++cAnalysis < 100);
+            }
+        while (sim.getPrimaryTransfers() > 0);
+
+        int cImbalanceAfter = strategy.getPrimaryLoadImbalance();
+        assertTrue(cImbalanceBefore + " -> " + cImbalanceAfter, cImbalanceAfter < cImbalanceBefore);
+        assertTrue("imbalance " + cImbalanceAfter, cImbalanceAfter <= 100 + strategy.getLoadThreshold() + 5);
+        assertFalse(strategy.isBalancingDeferred());
+        assertEquals(0, strategy.getMaxLoadPartitionId() % 8);
+        assertEndangered(sim, false);
+        }
+
+    /**
+     * Test that transfers to a joining member are not bounded.
+     */
+    @Test
+    public void testMemberJoin()
+        {
+        Simulator                   sim      = new Simulator(257, 1, 3);
+        LoadAwareAssignmentStrategy strategy = sim.init(new LoadAwareAssignmentStrategy(2, 10));
+
+        for (int iPart = 0; iPart < 257; iPart += 16)
+            {
+            sim.setLoad(iPart, 10L * MB, 1000);
+            }
+
+        sim.converge(strategy);
+
+        Member memberNew = sim.addMember();
+
+        sim.resetTransfers();
+        sim.converge(strategy);
+
+        assertTrue(sim.getOwnedPartitions(memberNew, 0).cardinality() > strategy.getMaxBalancingTransfers());
+        assertTrue(strategy.getPrimaryLoadImbalance() <= 100 + strategy.getLoadThreshold() + 5);
+        assertEndangered(sim, false);
+        }
+
+    /**
+     * Test the weighted partition load calculation.
+     */
+    @Test
+    public void testPartitionLoads()
+        {
+        Simulator                   sim      = new Simulator(8, 0, 2);
+        LoadAwareAssignmentStrategy strategy = sim.init(new LoadAwareAssignmentStrategy(0, 10));
+
+        for (int iPart = 0; iPart < 8; iPart++)
+            {
+            sim.setLoad(iPart, MB, 10);
+            }
+        sim.setLoad(0, 9L * MB, 10);
+
+        // size only
+        strategy.setWeights(0, 1, 0, 0);
+        int[] aLoad = strategy.calculatePartitionLoads();
+        assertEquals(LoadAwareAssignmentStrategy.LOAD_UNIT * 9 * 8 / 16, aLoad[0]);
+        assertEquals(LoadAwareAssignmentStrategy.LOAD_UNIT * 8 / 16, aLoad[1]);
+
+        // count only
+        strategy.setWeights(1, 0, 0, 0);
+        aLoad = strategy.calculatePartitionLoads();
+        assertEquals(LoadAwareAssignmentStrategy.LOAD_UNIT, aLoad[0]);
+        assertEquals(LoadAwareAssignmentStrategy.LOAD_UNIT, aLoad[1]);
+
+        // no statistics
+        sim.clearStats();
+        strategy.setWeights(1, 1, 1, 1);
+        aLoad = strategy.calculatePartitionLoads();
+        assertEquals(LoadAwareAssignmentStrategy.LOAD_UNIT, aLoad[0]);
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Assert whether any partitions are endangered.
+     *
+     * @param sim          the simulator
+     * @param fEndangered  true if endangered partitions are expected
+     */
+    protected static void assertEndangered(Simulator sim, boolean fEndangered)
+        {
+        boolean fFound = false;
+        for (int iPart = 0; iPart < sim.getService().getPartitionCount(); iPart++)
+            {
+            Ownership owners = sim.getPartitionOwnership(iPart);
+            for (int iStore = 0; iStore <= sim.getService().getBackupCount(); iStore++)
+                {
+                fFound |= owners.getOwner(iStore) == 0;
+                }
+            }
+        assertEquals(fEndangered, fFound);
+        }
+
+    // ----- inner class: Simulator -----------------------------------------
+
+    /**
+     * A DistributionManager that enacts the suggested distribution immediately.
+     */
+    protected static class Simulator
+            implements DistributionManager
+        {
+        /**
+         * Construct a Simulator with all partitions owned by the first member.
+         *
+         * @param cPartitions  the partition count
+         * @param cBackups     the backup count
+         * @param cMembers     the initial number of members
+         */
+        protected Simulator(int cPartitions, int cBackups, int cMembers)
+            {
+            m_cPartitions = cPartitions;
+            m_cBackups    = cBackups;
+            m_aOwners     = new Ownership[cPartitions];
+            m_aStats      = new PartitionStatistics[cPartitions];
+
+            for (int i = 0; i < cMembers; i++)
+                {
+                addMember();
+                }
+
+            Member memberFirst = m_listMembers.get(0);
+            for (int iPart = 0; iPart < cPartitions; iPart++)
+                {
+                m_aOwners[iPart] = new Ownership(cBackups);
+                m_aOwners[iPart].setPrimaryOwner(memberFirst.getId());
+                setLoad(iPart, 0L, 0);
+                }
+
+            Cluster cluster = mock(Cluster.class);
+            when(cluster.getLocalMember()).thenReturn(memberFirst);
+
+            PartitionedService service = mock(PartitionedService.class);
+            when(service.getPartitionCount()).thenReturn(cPartitions);
+            when(service.getBackupCount()).thenReturn(cBackups);
+            when(service.getCluster()).thenReturn(cluster);
+            when(service.getOwnershipEnabledMembers()).thenAnswer(inv -> getOwnershipMembers());
+            when(service.getPartitionOwner(anyInt())).thenAnswer(inv ->
+                    getMember(m_aOwners[(Integer) inv.getArgument(0)].getPrimaryOwner()));
+            when(service.getBackupOwner(anyInt(), anyInt())).thenAnswer(inv ->
+                    getMember(m_aOwners[(Integer) inv.getArgument(0)].getOwner(inv.getArgument(1))));
+
+            m_service = service;
+            }
+
+        /**
+         * Initialize the specified strategy with this simulator.
+         *
+         * @param strategy  the strategy
+         * @param <S>       the strategy type
+         *
+         * @return the strategy
+         */
+        protected <S extends SimpleAssignmentStrategy> S init(S strategy)
+            {
+            strategy.init(this);
+            return strategy;
+            }
+
+        /**
+         * Add a new member to the simulated cluster, on a separate machine.
+         *
+         * @return the new member
+         */
+        protected Member addMember()
+            {
+            int    nId    = m_listMembers.size() + 1;
+            Member member = mock(Member.class);
+            when(member.getId()).thenReturn(nId);
+            when(member.getMachineId()).thenReturn(nId);
+            when(member.getRackName()).thenReturn("rack-" + nId);
+            when(member.getSiteName()).thenReturn("site");
+            when(member.toString()).thenReturn("Member(Id=" + nId + ")");
+
+            m_listMembers.add(member);
+            return member;
+            }
+
+        /**
+         * Assign the primary partitions round-robin, and each backup to the
+         * next member.
+         */
+        protected void assignRoundRobin()
+            {
+            int cMembers = m_listMembers.size();
+            for (int iPart = 0; iPart < m_cPartitions; iPart++)
+                {
+                Ownership owners = new Ownership(m_cBackups);
+                for (int iStore = 0; iStore <= m_cBackups; iStore++)
+                    {
+                    owners.setOwner(iStore, (iPart + iStore) % cMembers + 1);
+                    }
+                m_aOwners[iPart] = owners;
+                }
+            }
+
+        /**
+         * Set the simulated statistics for the specified partition.
+         *
+         * @param iPart      the partition
+         * @param cb         the storage size
+         * @param cRequests  the number of requests, each taking 1ms
+         */
+        protected void setLoad(int iPart, long cb, int cRequests)
+            {
+            PartitionStatistics stats = new PartitionStatistics(iPart, 0L);
+            for (int i = 0; i < cRequests; i++)
+                {
+                stats.recordRequest(0L, 1L);
+                }
+            m_aStats[iPart] = stats.setDirectStorageSize(cb);
+            }
+
+        /**
+         * Discard all partition statistics.
+         */
+        protected void clearStats()
+            {
+            m_aStats = new PartitionStatistics[m_cPartitions];
+            }
+
+        /**
+         * Run the analysis until no more transfers are suggested.
+         *
+         * @param strategy  the strategy
+         *
+         * @return the number of primary transfers
+         */
+        protected int converge(SimpleAssignmentStrategy strategy)
+            {
+            int cTotal = 0;
+            for (int i = 0; i < 100; i++)
+                {
+                int cPrev = m_cTransfersPrimary;
+                int cSuggestPrev = m_cSuggestions;
+
+                strategy.analyzeDistribution();
+
+                cTotal += m_cTransfersPrimary - cPrev;
+                if (m_cSuggestions == cSuggestPrev && i > 1)
+                    {
+                    return cTotal;
+                    }
+                }
+            fail("failed to converge");
+            return cTotal;
+            }
+
+        /**
+         * Reset the transfer counter.
+         */
+        protected void resetTransfers()
+            {
+            m_cTransfersPrimary = 0;
+            }
+
+        /**
+         * Return the number of primary transfers since the last reset.
+         *
+         * @return the number of primary transfers
+         */
+        protected int getPrimaryTransfers()
+            {
+            return m_cTransfersPrimary;
+            }
+
+        // ----- DistributionManager interface ----------------------------
+
+        @Override
+        public PartitionedService getService()
+            {
+            return m_service;
+            }
+
+        @Override
+        public Member getMember(int nMemberId)
+            {
+            return nMemberId <= 0 || nMemberId > m_listMembers.size() ? null : m_listMembers.get(nMemberId - 1);
+            }
+
+        @Override
+        public Set<Member> getOwnershipMembers()
+            {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(m_listMembers));
+            }
+
+        @Override
+        public Set<Member> getOwnershipLeavingMembers()
+            {
+            return Collections.emptySet();
+            }
+
+        @Override
+        public PartitionSet getOwnedPartitions(Member member, int iStore)
+            {
+            PartitionSet parts = new PartitionSet(m_cPartitions);
+            for (int iPart = 0; iPart < m_cPartitions; iPart++)
+                {
+                if (m_aOwners[iPart].getOwner(iStore) == member.getId())
+                    {
+                    parts.add(iPart);
+                    }
+                }
+            return parts;
+            }
+
+        @Override
+        public Ownership getPartitionOwnership(int nPartition)
+            {
+            return (Ownership) m_aOwners[nPartition].clone();
+            }
+
+        @Override
+        public void suggest(PartitionSet parts, Ownership ownership)
+            {
+            for (int iPart = parts.next(0); iPart >= 0; iPart = parts.next(iPart + 1))
+                {
+                if (m_aOwners[iPart].getPrimaryOwner() != ownership.getPrimaryOwner())
+                    {
+                    m_cTransfersPrimary++;
+                    }
+                m_aOwners[iPart] = (Ownership) ownership.clone();
+                }
+            m_cSuggestions++;
+            }
+
+        @Override
+        public PartitionSet getIgnoredAdvice()
+            {
+            return null;
+            }
+
+        @Override
+        public void scheduleNextAnalysis(long cMillis)
+            {
+            }
+
+        @Override
+        public long getSamplingPeriod()
+            {
+            return 1000L;
+            }
+
+        @Override
+        public PartitionStatistics[] getPartitionStats()
+            {
+            return m_aStats;
+            }
+
+        // ----- data members ---------------------------------------------
+
+        protected final int m_cPartitions;
+
+        protected final int m_cBackups;
+
+        protected final PartitionedService m_service;
+
+        protected final List<Member> m_listMembers = new ArrayList<>();
+
+        protected final Ownership[] m_aOwners;
+
+        protected PartitionStatistics[] m_aStats;
+
+        protected int m_cTransfersPrimary;
+
+        protected int m_cSuggestions;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * One megabyte.
+     */
+    protected static final long MB = 1024L * 1024L;
+    }
@@ -47,6 +47,7 @@ import java.sql.Time;
 import java.sql.Timestamp;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -580,6 +581,77 @@ public class ExternalizableHelperTest extends ExternalizableHelper
         new ExternalizableStatsHelper().runPerformanceTest();
         }
 
+    /**
+     * Test that values with an unpredictable serialized size, which are
+     * written into pooled buffers, produce an exact-size Binary that is
+     * identical to the one produced using an unpooled buffer.
+     */
+    @Test
+    public void testVariableSizeSerialization()
+        {
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++)
+            {
+            Payload value    = new Payload(random.nextInt(i % 10 == 0 ? 100_000 : 1_000));
+            Binary  bin      = toBinary(value);
+            Binary  binPlain = toBinary(value, ensureSerializer(null), new BinaryWriteBuffer(64));
+
+            assertEquals(binPlain, bin);
+            assertEquals(value, fromBinary(bin));
+            }
+        }
+
+    /**
+     * Test that serializing values with an unpredictable size allocates
+     * little more than the serialized values themselves.
+     */
+    @Test
+    public void testSerializationAllocation()
+        {
+        java.lang.management.ThreadMXBean bean = java.lang.management.ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean))
+            {
+            return;
+            }
+
+        com.sun.management.ThreadMXBean beanAlloc = (com.sun.management.ThreadMXBean) bean;
+
+        int       cValues = 10_000;
+        Payload[] aValue  = new Payload[cValues];
+        Random    random  = new Random(42);
+        long      cbData  = 0;
+        for (int i = 0; i < cValues; i++)
+            {
+            aValue[i] = new Payload(random.nextInt(i % 10 == 0 ? 100_000 : 1_000));
+            cbData   += aValue[i].m_ab.length;
+            }
+
+        // warm up the statistics and the buffer pool
+        for (Payload value : aValue)
+            {
+            toBinary(value);
+            }
+
+        long nThread = Thread.currentThread().getId();
+        long cbStart = beanAlloc.getThreadAllocatedBytes(nThread);
+        for (Payload value : aValue)
+            {
+            toBinary(value);
+            }
+        long cbAlloc = beanAlloc.getThreadAllocatedBytes(nThread) - cbStart;
+
+        System.out.println("ExternalizableHelperTest.testSerializationAllocation(): "
+                + "allocated " + cbAlloc / cValues + " bytes per value, average value "
+                + cbData / cValues + " bytes");
+
+        // the resulting Binary has to be allocated, but growing a buffer by
+        // copying, or presizing it for the largest value, would allocate
+        // several times the payload
+        long cbLimit = cbData * 2 + cValues * 1024L;
+        assertTrue("allocated " + cbAlloc + " bytes to serialize " + cbData
+                   + " bytes of payload", cbAlloc <= cbLimit);
+        }
+
     /**
      * Test ObjectInputStream without an ObjectInputFilter.
      */
@@ -1241,6 +1313,51 @@ public class ExternalizableHelperTest extends ExternalizableHelper
         private int m_nY;
         }
 
+    // ----- inner class: Payload --------------------------------------------
+
+    /**
+     * An ExternalizableLite value with a variable serialized size.
+     */
+    static public class Payload
+            implements ExternalizableLite
+        {
+        public Payload()
+            {
+            }
+
+        public Payload(int cb)
+            {
+            m_ab = new byte[cb];
+            Arrays.fill(m_ab, (byte) cb);
+            }
+
+        public void readExternal(DataInput in)
+                throws IOException
+            {
+            m_ab = ExternalizableHelper.readByteArray(in);
+            }
+
+        public void writeExternal(DataOutput out)
+                throws IOException
+            {
+            ExternalizableHelper.writeByteArray(out, m_ab);
+            }
+
+        @Override
+        public boolean equals(Object o)
+            {
+            return o instanceof Payload && Arrays.equals(m_ab, ((Payload) o).m_ab);
+            }
+
+        @Override
+        public int hashCode()
+            {
+            return Arrays.hashCode(m_ab);
+            }
+
+        private byte[] m_ab;
+        }
+
     // ----- inner class: Point ----------------------------------------------
 
     /**
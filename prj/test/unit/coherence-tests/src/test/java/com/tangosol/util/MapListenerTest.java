@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * http://oss.oracle.com/licenses/upl.
@@ -8,6 +8,9 @@
 package com.tangosol.util;
 
 
+import com.tangosol.coherence.component.util.CacheEvent;
+import com.tangosol.coherence.component.util.Queue;
+
 import com.tangosol.net.NamedCache;
 
 import com.tangosol.net.cache.LocalCache;
@@ -20,7 +23,9 @@ import com.tangosol.util.listener.SimpleMapListener;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.Assert.*;
@@ -149,6 +154,132 @@ public class MapListenerTest
         assertEquals(0, m_cInserts);
         }
 
+    @Test
+    public void testConflatingListener()
+        {
+        NamedCache     cache      = new WrapperNamedCache(new ObservableHashMap(), "test");
+        List<MapEvent> listEvents = new ArrayList<>();
+        MapListener    listener   = new MultiplexingMapListener()
+            {
+            protected void onMapEvent(MapEvent evt)
+                {
+                listEvents.add(evt);
+                }
+            }.conflating();
+
+        MapListenerSupport.WrapperConflatingListener listenerConflating =
+                MapListenerSupport.getConflatingListener(listener);
+        Listeners listeners = new Listeners();
+        Queue     queue     = new Queue();
+
+        listeners.add(listener);
+        assertTrue(listener.isConflating());
+        assertFalse(listener.isSynchronous());
+
+        CacheEvent.dispatchSafe(new MapEvent(cache, MapEvent.ENTRY_INSERTED, "a", null, 1), listeners, queue);
+        CacheEvent.dispatchSafe(new MapEvent(cache, MapEvent.ENTRY_UPDATED, "a", 1, 2), listeners, queue);
+        CacheEvent.dispatchSafe(new MapEvent(cache, MapEvent.ENTRY_INSERTED, "b", null, 1), listeners, queue);
+        CacheEvent.dispatchSafe(new MapEvent(cache, MapEvent.ENTRY_UPDATED, "a", 2, 3), listeners, queue);
+        CacheEvent.dispatchSafe(new MapEvent(cache, MapEvent.ENTRY_DELETED, "b", 1, null), listeners, queue);
+
+        // only the latest event for each key is queued
+        assertEquals(2, queue.size());
+        assertEquals(5L, listenerConflating.getEventCount());
+        assertEquals(3L, listenerConflating.getConflatedCount());
+        assertEquals(2L, listenerConflating.getBacklog());
+        assertEquals(0.6, listenerConflating.getConflationRatio(), 0.0001);
+
+        for (Runnable task = (Runnable) queue.removeNoWait(); task != null; task = (Runnable) queue.removeNoWait())
+            {
+            task.run();
+            }
+
+        assertEquals(2, listEvents.size());
+        assertEquals("a", listEvents.get(0).getKey());
+        assertEquals(MapEvent.ENTRY_UPDATED, listEvents.get(0).getId());
+        assertEquals(3, listEvents.get(0).getNewValue());
+        assertEquals("b", listEvents.get(1).getKey());
+        assertEquals(MapEvent.ENTRY_DELETED, listEvents.get(1).getId());
+        assertEquals(0L, listenerConflating.getBacklog());
+
+        // events raised after the dispatch are queued again
+        CacheEvent.dispatchSafe(new MapEvent(cache, MapEvent.ENTRY_UPDATED, "a", 3, 4), listeners, queue);
+        assertEquals(1, queue.size());
+        assertEquals(1L, listenerConflating.getBacklog());
+        }
+
+    @Test
+    public void testConflatingListenerOnSeveralCaches()
+        {
+        NamedCache     cacheA     = new WrapperNamedCache(new ObservableHashMap(), "a");
+        NamedCache     cacheB     = new WrapperNamedCache(new ObservableHashMap(), "b");
+        List<MapEvent> listEvents = new ArrayList<>();
+        MapListener    listener   = new MultiplexingMapListener()
+            {
+            protected void onMapEvent(MapEvent evt)
+                {
+                listEvents.add(evt);
+                }
+            }.conflating();
+
+        Listeners listeners = new Listeners();
+        Queue     queue     = new Queue();
+
+        listeners.add(listener);
+
+        // events for the same key of different caches must not be conflated
+        CacheEvent.dispatchSafe(new MapEvent(cacheA, MapEvent.ENTRY_INSERTED, "k", null, 1), listeners, queue);
+        CacheEvent.dispatchSafe(new MapEvent(cacheB, MapEvent.ENTRY_INSERTED, "k", null, 2), listeners, queue);
+        assertEquals(2, queue.size());
+
+        for (Runnable task = (Runnable) queue.removeNoWait(); task != null; task = (Runnable) queue.removeNoWait())
+            {
+            task.run();
+            }
+
+        assertEquals(2, listEvents.size());
+        assertSame(cacheA, listEvents.get(0).getMap());
+        assertSame(cacheB, listEvents.get(1).getMap());
+        }
+
+    @Test
+    public void testConflatingListenerDroppedEvents()
+        {
+        NamedCache cache = new WrapperNamedCache(new ObservableHashMap(), "inactive")
+            {
+            public boolean isActive()
+                {
+                return false;
+                }
+            };
+        MapListener listener = new MultiplexingMapListener()
+            {
+            protected void onMapEvent(MapEvent evt)
+                {
+                fail("unexpected event " + evt);
+                }
+            }.conflating();
+
+        MapListenerSupport.WrapperConflatingListener listenerConflating =
+                MapListenerSupport.getConflatingListener(listener);
+        Listeners listeners = new Listeners();
+        Queue     queue     = new Queue();
+
+        listeners.add(listener);
+
+        CacheEvent.dispatchSafe(new MapEvent(cache, MapEvent.ENTRY_INSERTED, "a", null, 1), listeners, queue);
+        CacheEvent.dispatchSafe(new MapEvent(cache, MapEvent.ENTRY_INSERTED, "b", null, 1), listeners, queue);
+        assertEquals(2L, listenerConflating.getBacklog());
+
+        for (Runnable task = (Runnable) queue.removeNoWait(); task != null; task = (Runnable) queue.removeNoWait())
+            {
+            task.run();
+            }
+
+        // the events for the inactive cache are dropped, and no longer pending
+        assertEquals(0L, listenerConflating.f_cBacklog.get());
+        }
+
     // ----- helper methods -------------------------------------------------
 
     /**
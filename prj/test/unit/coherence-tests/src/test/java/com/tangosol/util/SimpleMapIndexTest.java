@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -9,10 +9,18 @@ package com.tangosol.util;
 import com.oracle.coherence.common.collections.NullableConcurrentMap;
 import com.oracle.coherence.common.collections.NullableSortedMap;
 
+import com.tangosol.internal.util.PartitionedIndexMap;
+
+import com.tangosol.io.DefaultSerializer;
+import com.tangosol.io.ReadBuffer;
+import com.tangosol.io.Serializer;
+import com.tangosol.io.WriteBuffer;
+
 import com.tangosol.util.extractor.AbstractExtractor;
 import com.tangosol.util.extractor.IdentityExtractor;
 
 import org.junit.Test;
+import java.io.IOException;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -511,6 +519,96 @@ public class SimpleMapIndexTest
         insertUpdateWithArray(true);
         }
 
+    /**
+    * Test that the index state written for a partition transfer is restored
+    * into an equivalent index.
+    */
+    @Test
+    public void testTransferState()
+        {
+        Map<String, Integer> map = new HashMap<String, Integer>();
+        map.put("one",   1);
+        map.put("two",   2);
+        map.put("three", 1);
+
+        Serializer     serializer = new DefaultSerializer();
+        ValueExtractor extractor  = new IdentityExtractor();
+        SimpleMapIndex index      = createIndex(map, extractor);
+        Binary         binState   = PartitionedIndexMap.writeIndexState(index, serializer);
+
+        assertNotNull(binState);
+
+        SimpleMapIndex indexNew = new SimpleMapIndex(extractor, false, null, null);
+
+        assertTrue(PartitionedIndexMap.readIndexState(indexNew, binState, serializer));
+        assertEquals(index.getIndexContents(), indexNew.getIndexContents());
+        assertEquals(Integer.valueOf(2), indexNew.get("two"));
+
+        // the state must not be applied to an index of a different class
+        SimpleMapIndex indexOther = new SimpleMapIndex(extractor, false, null, null) {};
+
+        assertFalse(PartitionedIndexMap.readIndexState(indexOther, binState, serializer));
+        assertNull(PartitionedIndexMap.writeIndexState(indexOther, serializer));
+        }
+
+    /**
+    * Test that the keys excluded from an index are restored from the index
+    * state, and are written independently of the cache serializer.
+    */
+    @Test
+    public void testTransferStateWithExcludedKeys()
+        {
+        Map<String, Integer> map = new HashMap<String, Integer>();
+        map.put("one",     1);
+        map.put("two",     2);
+        map.put("corrupt", -1);
+
+        // a serializer that is only able to serialize the extracted values
+        Serializer serializer = new Serializer()
+            {
+            public void serialize(WriteBuffer.BufferOutput out, Object o)
+                    throws IOException
+                {
+                assertTrue(o instanceof Integer);
+                f_serializer.serialize(out, o);
+                }
+
+            public Object deserialize(ReadBuffer.BufferInput in)
+                    throws IOException
+                {
+                return f_serializer.deserialize(in);
+                }
+
+            private final Serializer f_serializer = new DefaultSerializer();
+            };
+
+        ValueExtractor extractor = new AbstractExtractor()
+            {
+            public Object extract(Object o)
+                {
+                if (((Integer) o).intValue() < 0)
+                    {
+                    throw new IllegalArgumentException();
+                    }
+                return o;
+                }
+            };
+
+        SimpleMapIndex index    = createIndex(map, extractor);
+        Binary         binState = PartitionedIndexMap.writeIndexState(index, serializer);
+
+        assertTrue(index.isPartial());
+        assertNotNull(binState);
+
+        SimpleMapIndex indexNew = new SimpleMapIndex(extractor, false, null, null);
+
+        assertTrue(PartitionedIndexMap.readIndexState(indexNew, binState, serializer));
+        assertTrue(indexNew.isPartial());
+        assertTrue(indexNew.isKeyExcluded("corrupt"));
+        assertFalse(indexNew.isKeyExcluded("one"));
+        assertEquals(index.getIndexContents(), indexNew.getIndexContents());
+        }
+
     /**
     * Internal method called by test methods to test insert/update of a
     * Collection in a SimpleMapIndex.  Verify the following :
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.util.aggregator;
+
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.SimpleMapEntry;
+import com.tangosol.util.ToLongValueExtractor;
+
+import com.tangosol.util.extractor.PofExtractor;
+import com.tangosol.util.extractor.PofExtractorTest.TestBinaryEntry;
+
+import data.pof.ObjectWithAllTypes;
+import data.pof.PofDataUtils;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * Unit tests for the primitive extraction paths of the {@link
+ * AbstractLongAggregator} and {@link AbstractDoubleAggregator} subclasses.
+ */
+public class PrimitiveAggregatorTest
+    {
+    /**
+    * Test aggregation using a ToLongValueExtractor.
+    */
+    @Test
+    public void testToLongValueExtractor()
+        {
+        Length extractor = new Length();
+
+        assertEquals(Long.valueOf(9L), aggregate(new LongSum<>(extractor), "a", "bbb", "ccccc"));
+        assertEquals(Long.valueOf(1L), aggregate(new LongMin<>(extractor), "a", "bbb", "ccccc"));
+        assertEquals(Long.valueOf(5L), aggregate(new LongMax<>(extractor), "a", "bbb", "ccccc"));
+        assertEquals(3.0, (Double) aggregate(new DoubleAverage<>(extractor), "a", "bbb", "ccccc"), 0.0);
+        assertNull(aggregate(new LongSum<>(extractor)));
+
+        // the LongSum, LongMin and LongMax values were never boxed
+        assertEquals(12, extractor.m_cPrimitive);
+        assertEquals(3,  extractor.m_cBoxed);
+        }
+
+    /**
+    * Test aggregation using a PofExtractor, which reads the values directly
+    * from the serialized entries.
+    */
+    @Test
+    public void testPofExtractor()
+            throws Exception
+        {
+        ObjectWithAllTypes oAllTypes = new ObjectWithAllTypes();
+        oAllTypes.init();
+
+        Binary      binAllTypes = PofDataUtils.serialize(oAllTypes, PofDataUtils.MODE_PLAIN);
+        BinaryEntry binEntry    = new TestBinaryEntry(null, binAllTypes, PofDataUtils.getPofContext());
+
+        // TestBinaryEntry.extract() always returns null, so any result must
+        // have been read from the POF stream
+        assertEquals(Long.valueOf(66L), aggregate(
+                new LongSum<>(new PofExtractor<>(long.class, ObjectWithAllTypes.P_LONG_22)),
+                binEntry, binEntry, binEntry));
+        assertEquals(Long.valueOf(Integer.MAX_VALUE), aggregate(
+                new LongMax<>(new PofExtractor<>(null, ObjectWithAllTypes.INTEGER)), binEntry));
+        assertEquals(66.0, (Double) aggregate(
+                new DoubleSum<>(new PofExtractor<>(null, ObjectWithAllTypes.P_INT_22)),
+                binEntry, binEntry, binEntry), 0.0);
+        assertEquals(22.0, (Double) aggregate(
+                new DoubleAverage<>(new PofExtractor<>(double.class, ObjectWithAllTypes.P_DOUBLE_22)),
+                binEntry, binEntry), 0.0);
+        assertEquals(Double.MAX_VALUE, (Double) aggregate(
+                new DoubleMin<>(new PofExtractor<>(Double.class, ObjectWithAllTypes.DOUBLE)), binEntry), 0.0);
+
+        // null values are skipped, unless an intrinsic type is specified, in
+        // which case the missing value defaults to zero as for extractFromEntry
+        assertNull(aggregate(new LongSum<>(new PofExtractor<>(null, ObjectWithAllTypes.LONG_NULL)), binEntry));
+        assertEquals(0.0, (Double) aggregate(
+                new DoubleMax<>(new PofExtractor<>(Double.class, ObjectWithAllTypes.DOUBLE_NULL)), binEntry), 0.0);
+        }
+
+    /**
+    * Test a GroupAggregator over a primitive aggregator.
+    */
+    @Test
+    public void testGroupAggregator()
+        {
+        GroupAggregator<Object, Object, String, Long, Long> aggregator =
+                GroupAggregator.createInstance(new Length(), new LongSum<>(new Length()));
+
+        for (String s : new String[] {"a", "b", "ccc", "ddd", "eee", "ffff"})
+            {
+            aggregator.accumulate(new SimpleMapEntry<>(s, s));
+            }
+
+        GroupAggregator<Object, Object, String, Long, Long> aggregatorPart =
+                (GroupAggregator<Object, Object, String, Long, Long>) aggregator.supply();
+
+        aggregatorPart.accumulate(new SimpleMapEntry<>("gg", "gg"));
+        aggregatorPart.accumulate(new SimpleMapEntry<>("h", "h"));
+        aggregator.combine(aggregatorPart.getPartialResult());
+
+        Map<Long, Long> mapResult = aggregator.finalizeResult();
+        assertEquals(4, mapResult.size());
+        assertEquals(Long.valueOf(3L), mapResult.get(1L));
+        assertEquals(Long.valueOf(2L), mapResult.get(2L));
+        assertEquals(Long.valueOf(9L), mapResult.get(3L));
+        assertEquals(Long.valueOf(4L), mapResult.get(4L));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+    * Aggregate the specified values using a copy of the specified aggregator.
+    */
+    protected static Object aggregate(InvocableMap.StreamingAggregator aggregator, Object... aoValue)
+        {
+        aggregator = aggregator.supply();
+        for (Object o : aoValue)
+            {
+            aggregator.accumulate(o instanceof InvocableMap.Entry
+                    ? (InvocableMap.Entry) o : new SimpleMapEntry<>(o, o));
+            }
+
+        InvocableMap.StreamingAggregator aggregatorFinal = aggregator.supply();
+        aggregatorFinal.combine(aggregator.getPartialResult());
+
+        return aggregatorFinal.finalizeResult();
+        }
+
+    // ----- inner class: Length --------------------------------------------
+
+    /**
+    * ToLongValueExtractor that extracts the length of a String.
+    */
+    public static class Length
+            implements ToLongValueExtractor<String>
+        {
+        @Override
+        public long applyAsLong(String s)
+            {
+            m_cPrimitive++;
+            return s.length();
+            }
+
+        @Override
+        public Long extract(String s)
+            {
+            m_cBoxed++;
+            return ToLongValueExtractor.super.extract(s);
+            }
+
+        /**
+        * The number of primitive extractions.
+        */
+        protected int m_cPrimitive;
+
+        /**
+        * The number of boxed extractions.
+        */
+        protected int m_cBoxed;
+        }
+    }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2000, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2000, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -237,6 +237,49 @@ public class PofExtractorTest
         assertEquals(extractor.extractFromEntry(binEntry), Double.MAX_VALUE);
         }
 
+    /**
+    * Test of reading intrinsic values without deserializing them.
+    */
+    @Test
+    public void extractorTestPofValue() throws Exception
+        {
+        ObjectWithAllTypes oAllTypes = new ObjectWithAllTypes();
+
+        oAllTypes.init();
+
+        Binary       binAllTypes = PofDataUtils.serialize(oAllTypes,
+                PofDataUtils.MODE_PLAIN);
+
+        BinaryEntry  binEntry    = new TestBinaryEntry(null, binAllTypes,
+                PofDataUtils.getPofContext());
+
+        PofExtractor extractor = new PofExtractor(long.class, ObjectWithAllTypes.P_LONG);
+        assertEquals(Long.MAX_VALUE, extractor.extractPofValueFromEntry(binEntry).getLong());
+
+        extractor = new PofExtractor(null, ObjectWithAllTypes.P_LONG_22);
+        assertEquals(22L, extractor.extractPofValueFromEntry(binEntry).getLong());
+
+        extractor = new PofExtractor(null, ObjectWithAllTypes.P_INT);
+        assertEquals(Integer.MAX_VALUE, extractor.extractPofValueFromEntry(binEntry).getLong());
+
+        extractor = new PofExtractor(double.class, ObjectWithAllTypes.P_DOUBLE);
+        assertEquals(Double.MAX_VALUE, extractor.extractPofValueFromEntry(binEntry).getDouble(), 0.0);
+
+        extractor = new PofExtractor(null, ObjectWithAllTypes.P_FLOAT_22);
+        assertEquals(22.0, extractor.extractPofValueFromEntry(binEntry).getDouble(), 0.0);
+
+        // a null value is only defaulted for an intrinsic type
+        extractor = new PofExtractor(null, ObjectWithAllTypes.LONG_NULL);
+        assertNull(extractor.extractPofValueFromEntry(binEntry));
+
+        extractor = new PofExtractor(long.class, ObjectWithAllTypes.LONG_NULL);
+        assertEquals(0L, extractor.extractPofValueFromEntry(binEntry).getLong());
+
+        // no value
+        assertNull(extractor.extractPofValueFromEntry(
+                new TestBinaryEntry(null, null, PofDataUtils.getPofContext())));
+        }
+
     /**
     * Test of how the PofIExtractor works with all Pof types.
     */